@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.annotations.table;
+
+import java.lang.annotation.*;
+
+/**
+ * <h2 class="en-US">The annotation of entity class enhanced at build time</h2>
+ * <h2 class="zh-CN">构建时已增强实体类的注解</h2>
+ * <span class="en-US">Added by the entity enhance plugin, the entity manager will not redefine the annotated class at runtime</span>
+ * <span class="zh-CN">由实体增强插件添加，实体管理器在运行时不再重新定义标注的类</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 10:26:38 $
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Enhanced {
+}
@@ -44,4 +44,16 @@ public @interface Options {
      */
     DropOption dropOption() default DropOption.NONE;
 
+    /**
+     * @return <span class="en-US">Compare with the original values to detect modified columns</span>
+     * <span class="zh-CN">与原始值比较以检测修改的列</span>
+     */
+    boolean snapshot() default false;
+
+    /**
+     * @return <span class="en-US">Records materialized from query result are read only and not tracked</span>
+     * <span class="zh-CN">从查询结果实例化的记录为只读且不跟踪状态</span>
+     */
+    boolean readOnly() default false;
+
 }
@@ -17,13 +17,19 @@
 package org.nervousync.database.api;
 
 import jakarta.annotation.Nonnull;
+import org.nervousync.database.commons.DatabaseUtils;
 import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.database.exceptions.operate.RetrieveException;
 import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.query.QueryCursor;
 import org.nervousync.database.query.QueryResult;
 import org.nervousync.database.query.QueryInfo;
 
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * <h2 class="en-US">The interface of database client</h2>
@@ -106,6 +112,51 @@ public interface DatabaseClient {
 	Object lazyColumn(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
 	                  final String identifyKey);
 
+	/**
+	 * <h4 class="en-US">Read lazy loaded column data as input stream</h4>
+	 * <h4 class="zh-CN">以输入流的方式读取懒加载的列数据</h4>
+	 * <span class="en-US">
+	 * The default implementation wraps the column data read by method lazyColumn, implementations should override
+	 * this method to read large object column in chunks, e.g. using the binary stream of JDBC Blob or Clob.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 默认实现包装由 lazyColumn 方法读取的列数据，实现类应重写此方法以分块读取大对象数据列，例如使用 JDBC Blob 或 Clob 的二进制流。
+	 * </span>
+	 *
+	 * @param primaryKeyMap <span class="en-US">Composite primary key map</span>
+	 *                      <span class="zh-CN">联合主键值映射表</span>
+	 * @param entityClass   <span class="en-US">Target entity class</span>
+	 *                      <span class="zh-CN">目标实体类</span>
+	 * @param identifyKey   <span class="en-US">Identify key</span>
+	 *                      <span class="zh-CN">识别代码</span>
+	 * @return <span class="en-US">Column data input stream or null if not found</span>
+	 * <span class="zh-CN">列数据的输入流，如果未找到返回空</span>
+	 */
+	default InputStream lazyStream(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                               final String identifyKey) {
+		return DatabaseUtils.columnStream(this.lazyColumn(primaryKeyMap, entityClass, identifyKey));
+	}
+
+	/**
+	 * <h4 class="en-US">Read lazy loaded column data as readable channel</h4>
+	 * <h4 class="zh-CN">以可读通道的方式读取懒加载的列数据</h4>
+	 *
+	 * @param primaryKeyMap <span class="en-US">Composite primary key map</span>
+	 *                      <span class="zh-CN">联合主键值映射表</span>
+	 * @param entityClass   <span class="en-US">Target entity class</span>
+	 *                      <span class="zh-CN">目标实体类</span>
+	 * @param identifyKey   <span class="en-US">Identify key</span>
+	 *                      <span class="zh-CN">识别代码</span>
+	 * @return <span class="en-US">Column data readable channel or null if not found</span>
+	 * <span class="zh-CN">列数据的可读通道，如果未找到返回空</span>
+	 */
+	default ReadableByteChannel lazyChannel(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                                        final String identifyKey) {
+		return Optional.ofNullable(this.lazyStream(primaryKeyMap, entityClass, identifyKey))
+				.map(Channels::newChannel)
+				.orElse(null);
+	}
+
 	/**
 	 * <h4 class="en-US">Retrieve record from database by given primary key value</h4>
 	 * <h4 class="zh-CN">根据给定的主键值，从数据库中查询唯一记录</h4>
@@ -171,4 +222,26 @@ public interface DatabaseClient {
 	 *                        <span class="zh-CN">如果从数据库中查询记录出现异常</span>
 	 */
 	QueryResult queryList(final QueryInfo queryInfo) throws QueryException;
+
+	/**
+	 * <h4 class="en-US">Open query cursor by given query information</h4>
+	 * <h4 class="zh-CN">根据给定的查询信息打开查询游标</h4>
+	 * <span class="en-US">
+	 * The default implementation reads the query result page by page using method queryList,
+	 * implementations should override this method to read the records from the database cursor by fetch size.
+	 * </span>
+	 * <span class="zh-CN">默认实现使用 queryList 方法逐页读取查询结果，实现类应重写此方法以按照读取大小从数据库游标中读取记录。</span>
+	 *
+	 * @param queryInfo <span class="en-US">Query information instance object</span>
+	 *                  <span class="zh-CN">查询信息实例对象</span>
+	 * @param fetchSize <span class="en-US">Fetch size of each chunk</span>
+	 *                  <span class="zh-CN">每个数据块的读取大小</span>
+	 * @return <span class="en-US">Opened query cursor</span>
+	 * <span class="zh-CN">打开的查询游标</span>
+	 * @throws QueryException <span class="en-US">If an error occurs when open query cursor</span>
+	 *                        <span class="zh-CN">如果打开查询游标时出现异常</span>
+	 */
+	default QueryCursor queryStream(@Nonnull final QueryInfo queryInfo, final int fetchSize) throws QueryException {
+		return QueryCursor.paging(this, queryInfo, fetchSize);
+	}
 }
@@ -24,15 +24,15 @@ import org.nervousync.database.annotations.data.Sensitive;
 import org.nervousync.database.annotations.sequence.SequenceGenerator;
 import org.nervousync.database.annotations.table.GeneratedValue;
 import org.nervousync.database.beans.configs.generator.GeneratorConfig;
+import org.nervousync.database.commons.DatabaseUtils;
 import org.nervousync.database.enumerations.lock.LockOption;
 import org.nervousync.database.enumerations.table.GenerationType;
-import org.nervousync.utils.ConvertUtils;
-import org.nervousync.utils.SecurityUtils;
 import org.nervousync.utils.StringUtils;
 
 import java.io.Serial;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -230,11 +230,11 @@ public final class ColumnConfig extends BeanObject {
     public void setColumnInfo(ColumnInfo columnInfo) {
         if (this.columnInfo != null) {
             this.identifyKeys.remove(this.columnInfo.getColumnName());
-            this.identifyKeys.remove(ConvertUtils.toHex(SecurityUtils.SHA256(this.columnInfo.getColumnName())));
+            this.identifyKeys.remove(DatabaseUtils.tableKey(this.columnInfo.getColumnName()));
         }
         this.columnInfo = columnInfo;
         this.identifyKeys.add(this.columnInfo.getColumnName());
-        this.identifyKeys.add(ConvertUtils.toHex(SecurityUtils.SHA256(this.columnInfo.getColumnName())));
+        this.identifyKeys.add(DatabaseUtils.tableKey(this.columnInfo.getColumnName()));
     }
 
     /**
@@ -258,11 +258,11 @@ public final class ColumnConfig extends BeanObject {
     public void setFieldName(String fieldName) {
         if (StringUtils.notBlank(this.fieldName)) {
             this.identifyKeys.remove(this.fieldName);
-            this.identifyKeys.remove(ConvertUtils.toHex(SecurityUtils.SHA256(this.fieldName)));
+            this.identifyKeys.remove(DatabaseUtils.tableKey(this.fieldName));
         }
         this.fieldName = fieldName;
         this.identifyKeys.add(this.fieldName);
-        this.identifyKeys.add(ConvertUtils.toHex(SecurityUtils.SHA256(this.fieldName)));
+        this.identifyKeys.add(DatabaseUtils.tableKey(this.fieldName));
     }
 
     /**
@@ -507,6 +507,17 @@ public final class ColumnConfig extends BeanObject {
         this.generatorConfig = generatorConfig;
     }
 
+    /**
+     * <span class="en-US">Current column identify keys</span>
+     * <span class="zh-CN">当前列的识别值列表</span>
+     *
+     * @return <span class="en-US">Unmodifiable identify key list</span>
+     * <span class="zh-CN">不可修改的识别值列表</span>
+     */
+    public List<String> identifyKeys() {
+        return Collections.unmodifiableList(this.identifyKeys);
+    }
+
     /**
      * <span class="en-US">Current column name</span>
      * <span class="zh-CN">当前列名</span>
@@ -146,7 +146,7 @@ public final class ColumnInfo extends BeanObject {
         }
         Column column = field.getAnnotation(Column.class);
         String columnName = column.name().isEmpty() ? field.getName() : column.name();
-        int precision = column.precision(), scale = column.scale(), jdbcType, length;
+        int jdbcType;
         Class<?> fieldType = field.getType();
         if (Date.class.equals(fieldType) && field.isAnnotationPresent(Temporal.class)) {
 	        jdbcType = switch (field.getAnnotation(Temporal.class).value()) {
@@ -164,13 +164,40 @@ public final class ColumnInfo extends BeanObject {
         } else {
             jdbcType = DatabaseUtils.jdbcType(fieldType);
         }
-	    length = switch (jdbcType) {
-		    case Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR -> column.length();
+        return newInstance(columnName, jdbcType,
+                (field.isAnnotationPresent(Id.class) ? Boolean.FALSE : column.nullable()),
+                column.length(), column.precision(), column.scale(), defaultValue);
+    }
+
+    /**
+     * <h4 class="en-US">Generate column information instance by given column values</h4>
+     * <h4 class="zh-CN">根据给定的列信息值生成列基本信息实例对象</h4>
+     *
+     * @param columnName   <span class="en-US">Column name</span>
+     *                     <span class="zh-CN">列名</span>
+     * @param jdbcType     <span class="en-US">JDBC data type code</span>
+     *                     <span class="zh-CN">JDBC数据类型代码</span>
+     * @param nullable     <span class="en-US">Column is nullable</span>
+     *                     <span class="zh-CN">列允许为空值</span>
+     * @param length       <span class="en-US">Column length, only effective for character data types</span>
+     *                     <span class="zh-CN">列长度，仅对字符数据类型生效</span>
+     * @param precision    <span class="en-US">Column precision</span>
+     *                     <span class="zh-CN">列精度</span>
+     * @param scale        <span class="en-US">Column scale</span>
+     *                     <span class="zh-CN">列小数位数</span>
+     * @param defaultValue <span class="en-US">Column default value</span>
+     *                     <span class="zh-CN">列默认值</span>
+     * @return <span class="en-US">Generated column information instance</span>
+     * <span class="zh-CN">生成的列基本信息实例对象</span>
+     */
+    public static ColumnInfo newInstance(final String columnName, final int jdbcType, final boolean nullable,
+                                         final int length, final int precision, final int scale,
+                                         final Object defaultValue) {
+	    int columnLength = switch (jdbcType) {
+		    case Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR -> length;
 		    default -> Globals.DEFAULT_VALUE_INT;
 	    };
-        return new ColumnInfo(columnName, jdbcType,
-                (field.isAnnotationPresent(Id.class) ? Boolean.FALSE : column.nullable()),
-                length, precision, scale, defaultValue);
+        return new ColumnInfo(columnName, jdbcType, nullable, columnLength, precision, scale, defaultValue);
     }
 
     /**
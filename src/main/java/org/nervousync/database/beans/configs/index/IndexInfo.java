@@ -86,11 +86,34 @@ public final class IndexInfo extends BeanObject {
      * <span class="zh-CN">生成的列索引配置信息实例对象</span>
      */
     public static IndexInfo newInstance(final Index index, final List<ColumnConfig> columnConfigs) {
-        if (index == null || StringUtils.isEmpty(index.columnList()) || columnConfigs == null) {
+        if (index == null) {
+            return null;
+        }
+        return newInstance(index.name(), index.columnList(), index.unique(), columnConfigs);
+    }
+
+    /**
+     * <h4 class="en-US">Generate column index configure information instance by given index values and column info list</h4>
+     * <h4 class="zh-CN">根据给定的索引信息值和列基本信息列表生成列索引配置信息实例对象</h4>
+     *
+     * @param indexName     <span class="en-US">Index name</span>
+     *                      <span class="zh-CN">索引名称</span>
+     * @param indexColumns  <span class="en-US">Index column identify keys, split by separator</span>
+     *                      <span class="zh-CN">索引列识别代码，使用分隔符分割</span>
+     * @param unique        <span class="en-US">Unique index</span>
+     *                      <span class="zh-CN">唯一索引</span>
+     * @param columnConfigs <span class="en-US">Column info list</span>
+     *                      <span class="zh-CN">列基本信息列表</span>
+     * @return <span class="en-US">Generated column index configure information instance</span>
+     * <span class="zh-CN">生成的列索引配置信息实例对象</span>
+     */
+    public static IndexInfo newInstance(final String indexName, final String indexColumns, final boolean unique,
+                                        final List<ColumnConfig> columnConfigs) {
+        if (StringUtils.isEmpty(indexColumns) || columnConfigs == null) {
             return null;
         }
         List<String> columnList = new ArrayList<>();
-        Arrays.asList(StringUtils.tokenizeToStringArray(index.columnList(), Globals.DEFAULT_SPLIT_SEPARATOR))
+        Arrays.asList(StringUtils.tokenizeToStringArray(indexColumns, Globals.DEFAULT_SPLIT_SEPARATOR))
                 .forEach(identifyKey ->
                         columnConfigs.stream()
                                 .filter(columnConfig -> columnConfig.matchKey(identifyKey))
@@ -101,8 +124,8 @@ public final class IndexInfo extends BeanObject {
             return null;
         }
         IndexInfo indexInfo = new IndexInfo();
-        indexInfo.setIndexName(index.name());
-        indexInfo.setUnique(index.unique());
+        indexInfo.setIndexName(indexName);
+        indexInfo.setUnique(unique);
         indexInfo.setColumnList(columnList);
         return indexInfo;
     }
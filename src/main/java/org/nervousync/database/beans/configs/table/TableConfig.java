@@ -31,7 +31,6 @@ import org.nervousync.database.commons.DatabaseCommons;
 import org.nervousync.database.commons.DatabaseUtils;
 import org.nervousync.database.enumerations.drop.DropOption;
 import org.nervousync.database.enumerations.lock.LockOption;
-import org.nervousync.utils.ClassUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.ReflectionUtils;
 import org.nervousync.utils.StringUtils;
@@ -39,6 +38,8 @@ import org.nervousync.utils.StringUtils;
 import java.io.Serial;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 
 /**
@@ -88,6 +89,18 @@ public final class TableConfig extends BeanObject {
 	 */
 	@XmlElement
 	private boolean cacheable;
+	/**
+	 * <span class="en-US">Compare with the original values to detect modified columns</span>
+	 * <span class="zh-CN">与原始值比较以检测修改的列</span>
+	 */
+	@XmlElement
+	private boolean snapshot;
+	/**
+	 * <span class="en-US">Records materialized from query result are read only and not tracked</span>
+	 * <span class="zh-CN">从查询结果实例化的记录为只读且不跟踪状态</span>
+	 */
+	@XmlElement(name = "read_only")
+	private boolean readOnly;
 	/**
 	 * <span class="en-US">Composite ID</span>
 	 * <span class="zh-CN">联合主键</span>
@@ -134,6 +147,14 @@ public final class TableConfig extends BeanObject {
 	@XmlElement(name = "reference_config")
 	@XmlElementWrapper(name = "reference_config_list")
 	private List<ReferenceConfig<?>> referenceConfigs;
+	/**
+	 * <span class="en-US">
+	 * Lookup index of columns and references, build when lists changed by setter methods,
+	 * or at first lookup if lists were filled by unmarshaller or deserialization
+	 * </span>
+	 * <span class="zh-CN">数据列和外键的查找索引，通过Setter方法变更列表时构建，如果列表由解析器或反序列化填充则在首次查找时构建</span>
+	 */
+	private transient volatile LookupIndex lookupIndex = null;
 
 	/**
 	 * <h4 class="en-US">Constructor method for table configure information</h4>
@@ -161,13 +182,19 @@ public final class TableConfig extends BeanObject {
 
 		LockOption lockOption;
 		DropOption dropOption;
+		boolean snapshot;
+		boolean readOnly;
 		if (clazz.isAnnotationPresent(Options.class)) {
 			Options options = clazz.getAnnotation(Options.class);
 			lockOption = options.lockOption();
 			dropOption = options.dropOption();
+			snapshot = options.snapshot();
+			readOnly = options.readOnly();
 		} else {
 			lockOption = LockOption.NONE;
 			dropOption = DropOption.NONE;
+			snapshot = Boolean.FALSE;
+			readOnly = Boolean.FALSE;
 		}
 
 		List<ColumnConfig> columnConfigs = new ArrayList<>();
@@ -210,11 +237,8 @@ public final class TableConfig extends BeanObject {
 						boolean returnArray = (List.class.isAssignableFrom(field.getType()) || field.getType().isArray());
 
 						if (void.class.equals(referenceClass)) {
-							if (returnArray) {
-								referenceClass = ClassUtils.componentType(field.getType());
-							} else {
-								referenceClass = field.getType();
-							}
+							referenceClass =
+									referenceClass(field.getType(), field.getGenericType(), returnArray);
 						}
 
 						if (referenceClass != null) {
@@ -245,10 +269,14 @@ public final class TableConfig extends BeanObject {
 						cascadeType = new CascadeType[0];
 					}
 
-					if (referenceClass != null) {
-						boolean returnArray = List.class.isAssignableFrom(method.getReturnType())
-								|| method.getReturnType().isArray();
+					boolean returnArray = List.class.isAssignableFrom(method.getReturnType())
+							|| method.getReturnType().isArray();
+					if (void.class.equals(referenceClass)) {
+						referenceClass =
+								referenceClass(method.getReturnType(), method.getGenericReturnType(), returnArray);
+					}
 
+					if (referenceClass != null) {
 						Optional.ofNullable(ReferenceConfig.newInstance(referenceClass,
 										ReflectionUtils.fieldName(method.getName()),
 										lazyLoad, returnArray, cascadeType, joinColumns(method)))
@@ -271,6 +299,8 @@ public final class TableConfig extends BeanObject {
 		tableConfig.setCacheable(Optional.ofNullable(clazz.getAnnotation(Cacheable.class))
 				.map(Cacheable::value)
 				.orElse(Boolean.FALSE));
+		tableConfig.setSnapshot(snapshot);
+		tableConfig.setReadOnly(readOnly);
 		tableConfig.setLockOption(lockOption);
 		tableConfig.setDropOption(dropOption);
 		tableConfig.setTableName(StringUtils.notBlank(table.name()) ? table.name() : clazz.getSimpleName());
@@ -306,7 +336,7 @@ public final class TableConfig extends BeanObject {
 	 * <span class="zh-CN">检查结果</span>
 	 */
 	public boolean containsReference(@Nonnull final Class<?> referenceClass) {
-		return this.referenceConfigs.stream().anyMatch(referenceConfig -> referenceConfig.match(referenceClass));
+		return this.lookupIndex().referenceClasses().containsKey(referenceClass);
 	}
 
 	/**
@@ -375,6 +405,50 @@ public final class TableConfig extends BeanObject {
 		this.cacheable = cacheable;
 	}
 
+	/**
+	 * <h4 class="en-US">Getter method for snapshot mode</h4>
+	 * <h4 class="zh-CN">快照模式的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Compare with the original values to detect modified columns</span>
+	 * <span class="zh-CN">与原始值比较以检测修改的列</span>
+	 */
+	public boolean isSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for snapshot mode</h4>
+	 * <h4 class="zh-CN">快照模式的Setter方法</h4>
+	 *
+	 * @param snapshot <span class="en-US">Compare with the original values to detect modified columns</span>
+	 *                 <span class="zh-CN">与原始值比较以检测修改的列</span>
+	 */
+	public void setSnapshot(boolean snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for read only mode</h4>
+	 * <h4 class="zh-CN">只读模式的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Records materialized from query result are read only and not tracked</span>
+	 * <span class="zh-CN">从查询结果实例化的记录为只读且不跟踪状态</span>
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for read only mode</h4>
+	 * <h4 class="zh-CN">只读模式的Setter方法</h4>
+	 *
+	 * @param readOnly <span class="en-US">Records materialized from query result are read only and not tracked</span>
+	 *                 <span class="zh-CN">从查询结果实例化的记录为只读且不跟踪状态</span>
+	 */
+	public void setReadOnly(boolean readOnly) {
+		this.readOnly = readOnly;
+	}
+
 	/**
 	 * <h4 class="en-US">Getter method for composite ID</h4>
 	 * <h4 class="zh-CN">联合主键的Getter方法</h4>
@@ -483,6 +557,7 @@ public final class TableConfig extends BeanObject {
 	 */
 	public void setColumnConfigs(List<ColumnConfig> columnConfigs) {
 		this.columnConfigs = columnConfigs;
+		this.lookupIndex = LookupIndex.newInstance(this.columnConfigs, this.referenceConfigs);
 	}
 
 	/**
@@ -527,6 +602,7 @@ public final class TableConfig extends BeanObject {
 	 */
 	public void setReferenceConfigs(List<ReferenceConfig<?>> referenceConfigs) {
 		this.referenceConfigs = referenceConfigs;
+		this.lookupIndex = LookupIndex.newInstance(this.columnConfigs, this.referenceConfigs);
 	}
 
 	/**
@@ -554,7 +630,7 @@ public final class TableConfig extends BeanObject {
 	 * <span class="zh-CN">检查结果</span>
 	 */
 	public boolean isColumn(final String identifyKey) {
-		return this.columnConfigs.stream().anyMatch(columnConfig -> columnConfig.matchKey(identifyKey));
+		return this.columnConfig(identifyKey) != null;
 	}
 
 	/**
@@ -567,8 +643,8 @@ public final class TableConfig extends BeanObject {
 	 * <span class="zh-CN">检查结果</span>
 	 */
 	public boolean isSensitive(final String identifyKey) {
-		return this.columnConfigs.stream().anyMatch(columnConfig ->
-				columnConfig.matchKey(identifyKey) && columnConfig.isSensitiveData());
+		ColumnConfig columnConfig = this.columnConfig(identifyKey);
+		return columnConfig != null && columnConfig.isSensitiveData();
 	}
 
 	/**
@@ -584,16 +660,12 @@ public final class TableConfig extends BeanObject {
 		if (StringUtils.isEmpty(identifyKey)) {
 			return Boolean.FALSE;
 		}
-		return this.columnConfigs.stream().filter(columnConfig -> columnConfig.matchKey(identifyKey))
-				.findFirst()
-				.map(ColumnConfig::isLazyLoad)
-				.orElseGet(() ->
-						this.referenceConfigs
-								.stream()
-								.filter(referenceConfig -> match(referenceConfig, identifyKey))
-								.findFirst()
-								.map(ReferenceConfig::isLazyLoad)
-								.orElse(Boolean.FALSE));
+		ColumnConfig columnConfig = this.columnConfig(identifyKey);
+		if (columnConfig != null) {
+			return columnConfig.isLazyLoad();
+		}
+		ReferenceConfig<?> referenceConfig = this.referenceConfig(identifyKey);
+		return referenceConfig != null && referenceConfig.isLazyLoad();
 	}
 
 	/**
@@ -620,10 +692,9 @@ public final class TableConfig extends BeanObject {
 		if (StringUtils.isEmpty(identifyKey)) {
 			return null;
 		}
-		return this.columnConfigs.stream()
-				.filter(columnConfig -> columnConfig.matchKey(identifyKey))
-				.findFirst()
-				.orElse(null);
+		LookupIndex currentIndex = this.lookupIndex();
+		ColumnConfig columnConfig = currentIndex.columns().get(identifyKey);
+		return (columnConfig == null) ? currentIndex.columnsIgnoreCase().get(identifyKey.toUpperCase()) : columnConfig;
 	}
 
 	/**
@@ -634,13 +705,40 @@ public final class TableConfig extends BeanObject {
 	 * <span class="zh-CN">查询到的列配置信息实例，如果未找到返回 <code>null</code></span>
 	 */
 	public Optional<ColumnConfig> versionColumn() {
-		ColumnConfig columnConfig = null;
-		for (ColumnConfig currentColumn : this.columnConfigs) {
-			if (currentColumn.isIdentifyVersion()) {
-				columnConfig = currentColumn;
-			}
-		}
-		return Optional.ofNullable(columnConfig);
+		return Optional.ofNullable(this.lookupIndex().versionColumn());
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the upper case column name of identify version column</h4>
+	 * <h4 class="zh-CN">获取版本识别列的大写列名</h4>
+	 *
+	 * @return <span class="en-US">Upper case column name or <code>null</code> if version column not found</span>
+	 * <span class="zh-CN">大写的列名，如果版本识别列不存在返回 <code>null</code></span>
+	 */
+	public String versionColumnName() {
+		return this.lookupIndex().versionColumnName();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the primary key column configure list</h4>
+	 * <h4 class="zh-CN">获取主键列配置信息列表</h4>
+	 *
+	 * @return <span class="en-US">Unmodifiable primary key column configure list, ordered by column define</span>
+	 * <span class="zh-CN">不可修改的主键列配置信息列表，按照列定义顺序排列</span>
+	 */
+	public List<ColumnConfig> primaryKeyColumns() {
+		return this.lookupIndex().primaryKeys();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the upper case column name list of primary key columns</h4>
+	 * <h4 class="zh-CN">获取主键列的大写列名列表</h4>
+	 *
+	 * @return <span class="en-US">Unmodifiable column name list, same order as method primaryKeyColumns</span>
+	 * <span class="zh-CN">不可修改的列名列表，顺序与primaryKeyColumns方法一致</span>
+	 */
+	public List<String> primaryKeyNames() {
+		return this.lookupIndex().primaryKeyNames();
 	}
 
 	/**
@@ -653,10 +751,10 @@ public final class TableConfig extends BeanObject {
 	 * <span class="zh-CN">查询到的外键配置信息实例，如果未找到返回 <code>null</code></span>
 	 */
 	public ReferenceConfig<?> referenceConfig(final Class<?> referenceClass) {
-		return this.referenceConfigs.stream()
-				.filter(referenceConfig -> referenceConfig.match(referenceClass))
-				.findFirst()
-				.orElse(null);
+		if (referenceClass == null) {
+			return null;
+		}
+		return this.lookupIndex().referenceClasses().get(referenceClass);
 	}
 
 	/**
@@ -669,29 +767,40 @@ public final class TableConfig extends BeanObject {
 	 * <span class="zh-CN">查询到的外键配置信息实例，如果未找到返回 <code>null</code></span>
 	 */
 	public ReferenceConfig<?> referenceConfig(final String identifyKey) {
-		return this.referenceConfigs.stream()
-				.filter(referenceConfig -> match(referenceConfig, identifyKey))
-				.findFirst()
-				.orElse(null);
-	}
-
-	/**
-	 * <h4 class="en-US">Check the given identify key is matched with given reference configure information instance</h4>
-	 * <h4 class="zh-CN">检查给定的识别代码是否匹配给定的外键配置信息实例对象</h4>
-	 *
-	 * @param referenceConfig <span class="en-US">Reference configure information</span>
-	 *                        <span class="zh-CN">外键配置信息</span>
-	 * @param identifyKey     <span class="en-US">Identify key</span>
-	 *                        <span class="zh-CN">识别代码</span>
-	 * @return <span class="en-US">Check result</span>
-	 * <span class="zh-CN">检查结果</span>
-	 */
-	private static boolean match(final ReferenceConfig<?> referenceConfig, final String identifyKey) {
-		if (referenceConfig == null || StringUtils.isEmpty(identifyKey)) {
-			return Boolean.FALSE;
+		if (StringUtils.isEmpty(identifyKey)) {
+			return null;
+		}
+		LookupIndex currentIndex = this.lookupIndex();
+		ReferenceConfig<?> referenceConfig = currentIndex.references().get(identifyKey);
+		return (referenceConfig == null)
+				? currentIndex.referencesIgnoreCase().get(identifyKey.toUpperCase())
+				: referenceConfig;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the lookup index</h4>
+	 * <h4 class="zh-CN">获取查找索引</h4>
+	 * <span class="en-US">
+	 * The index was built by setter methods, build the index only once under lock if the lists were filled
+	 * by unmarshaller or deserialization.
+	 * </span>
+	 * <span class="zh-CN">索引由Setter方法构建，如果列表由解析器或反序列化填充，则在锁保护下仅构建一次索引</span>
+	 *
+	 * @return <span class="en-US">Lookup index instance</span>
+	 * <span class="zh-CN">查找索引实例对象</span>
+	 */
+	private LookupIndex lookupIndex() {
+		LookupIndex currentIndex = this.lookupIndex;
+		if (currentIndex == null) {
+			synchronized (this) {
+				currentIndex = this.lookupIndex;
+				if (currentIndex == null) {
+					currentIndex = LookupIndex.newInstance(this.columnConfigs, this.referenceConfigs);
+					this.lookupIndex = currentIndex;
+				}
+			}
 		}
-		return referenceConfig.getFieldName().equalsIgnoreCase(identifyKey)
-				|| referenceConfig.getReferenceClass().getName().equalsIgnoreCase(identifyKey);
+		return currentIndex;
 	}
 
 	/**
@@ -715,4 +824,139 @@ public final class TableConfig extends BeanObject {
 		}
 		return new JoinColumn[0];
 	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the reference entity class from declared type when target entity was not configured</h4>
+	 * <h4 class="zh-CN">未配置目标实体类时，从声明的类型中获取外键实体类</h4>
+	 * <span class="en-US">
+	 * Using the declared type if not return array, the component type if the declared type is array,
+	 * or the type argument if the declared type is parameterized list, same as the table metadata processor.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 如果不返回数组则使用声明的类型，声明的类型为数组则使用元素类型，声明的类型为参数化列表则使用类型参数，与数据表元数据处理器一致。
+	 * </span>
+	 *
+	 * @param declaredType <span class="en-US">Declared type of field or return type of method</span>
+	 *                     <span class="zh-CN">属性的声明类型或方法的返回类型</span>
+	 * @param genericType  <span class="en-US">Generic type of field or generic return type of method</span>
+	 *                     <span class="zh-CN">属性的泛型类型或方法的泛型返回类型</span>
+	 * @param returnArray  <span class="en-US">Return value is array or list</span>
+	 *                     <span class="zh-CN">返回值是数组或列表</span>
+	 * @return <span class="en-US">Reference entity class or <code>null</code> if type argument not found</span>
+	 * <span class="zh-CN">外键实体类，如果未找到类型参数则返回<code>null</code></span>
+	 */
+	private static Class<?> referenceClass(final Class<?> declaredType, final Type genericType,
+	                                       final boolean returnArray) {
+		if (!returnArray) {
+			return declaredType;
+		}
+		if (declaredType.isArray()) {
+			return declaredType.getComponentType();
+		}
+		if (genericType instanceof ParameterizedType parameterizedType
+				&& parameterizedType.getActualTypeArguments().length == 1
+				&& parameterizedType.getActualTypeArguments()[0] instanceof Class<?> typeClass) {
+			return typeClass;
+		}
+		return null;
+	}
+
+	/**
+	 * <h2 class="en-US">Lookup index of columns and references</h2>
+	 * <h2 class="zh-CN">数据列和外键的查找索引</h2>
+	 * <span class="en-US">
+	 * Exact match mapping will be used first, and case-insensitive mapping keyed by upper case identify key
+	 * will be used if not found, the first configure information wins when identify keys are duplicated,
+	 * same as the list order.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 优先使用精确匹配映射，未找到时使用以大写识别代码为键的忽略大小写映射，识别代码重复时以列表顺序中的第一个配置信息为准
+	 * </span>
+	 *
+	 * @param columns              <span class="en-US">Exact match column mapping</span>
+	 *                             <span class="zh-CN">精确匹配的数据列映射</span>
+	 * @param columnsIgnoreCase    <span class="en-US">Case-insensitive column mapping, keyed by upper case</span>
+	 *                             <span class="zh-CN">忽略大小写的数据列映射，以大写为键</span>
+	 * @param references           <span class="en-US">Exact match reference mapping</span>
+	 *                             <span class="zh-CN">精确匹配的外键映射</span>
+	 * @param referencesIgnoreCase <span class="en-US">Case-insensitive reference mapping, keyed by upper case</span>
+	 *                             <span class="zh-CN">忽略大小写的外键映射，以大写为键</span>
+	 * @param referenceClasses     <span class="en-US">Reference mapping using reference entity class as key</span>
+	 *                             <span class="zh-CN">以外键实体类为键的外键映射</span>
+	 * @param primaryKeys          <span class="en-US">Primary key column configure list</span>
+	 *                             <span class="zh-CN">主键列配置信息列表</span>
+	 * @param primaryKeyNames      <span class="en-US">Upper case column name list of primary key columns</span>
+	 *                             <span class="zh-CN">主键列的大写列名列表</span>
+	 * @param versionColumn        <span class="en-US">Identify version column configure</span>
+	 *                             <span class="zh-CN">版本识别列配置信息</span>
+	 * @param versionColumnName    <span class="en-US">Upper case column name of identify version column</span>
+	 *                             <span class="zh-CN">版本识别列的大写列名</span>
+	 */
+	private record LookupIndex(Map<String, ColumnConfig> columns, Map<String, ColumnConfig> columnsIgnoreCase,
+	                           Map<String, ReferenceConfig<?>> references,
+	                           Map<String, ReferenceConfig<?>> referencesIgnoreCase,
+	                           Map<Class<?>, ReferenceConfig<?>> referenceClasses,
+	                           List<ColumnConfig> primaryKeys, List<String> primaryKeyNames,
+	                           ColumnConfig versionColumn, String versionColumnName) {
+
+		/**
+		 * <h4 class="en-US">Build lookup index by given column and reference configure information list</h4>
+		 * <h4 class="zh-CN">根据给定的数据列和外键配置信息列表构建查找索引</h4>
+		 *
+		 * @param columnConfigs    <span class="en-US">Column configure information list</span>
+		 *                         <span class="zh-CN">数据列配置信息列表</span>
+		 * @param referenceConfigs <span class="en-US">Reference configure information list</span>
+		 *                         <span class="zh-CN">外键配置信息列表</span>
+		 * @return <span class="en-US">Lookup index instance</span>
+		 * <span class="zh-CN">查找索引实例对象</span>
+		 */
+		static LookupIndex newInstance(final List<ColumnConfig> columnConfigs,
+		                               final List<ReferenceConfig<?>> referenceConfigs) {
+			Map<String, ColumnConfig> columns = new HashMap<>();
+			Map<String, ColumnConfig> columnsIgnoreCase = new HashMap<>();
+			List<ColumnConfig> primaryKeys = new ArrayList<>();
+			List<String> primaryKeyNames = new ArrayList<>();
+			ColumnConfig versionColumn = null;
+			if (columnConfigs != null) {
+				for (ColumnConfig columnConfig : columnConfigs) {
+					columnConfig.identifyKeys()
+							.stream()
+							.filter(StringUtils::notBlank)
+							.forEach(identifyKey -> {
+								columns.putIfAbsent(identifyKey, columnConfig);
+								columnsIgnoreCase.putIfAbsent(identifyKey.toUpperCase(), columnConfig);
+							});
+					if (columnConfig.isPrimaryKey()) {
+						primaryKeys.add(columnConfig);
+						primaryKeyNames.add(columnConfig.columnName().toUpperCase());
+					}
+					if (columnConfig.isIdentifyVersion()) {
+						versionColumn = columnConfig;
+					}
+				}
+			}
+			Map<String, ReferenceConfig<?>> references = new HashMap<>();
+			Map<String, ReferenceConfig<?>> referencesIgnoreCase = new HashMap<>();
+			Map<Class<?>, ReferenceConfig<?>> referenceClasses = new HashMap<>();
+			Optional.ofNullable(referenceConfigs)
+					.ifPresent(configs -> configs.forEach(referenceConfig -> {
+						Optional.ofNullable(referenceConfig.getFieldName())
+								.filter(StringUtils::notBlank)
+								.ifPresent(fieldName -> {
+									references.putIfAbsent(fieldName, referenceConfig);
+									referencesIgnoreCase.putIfAbsent(fieldName.toUpperCase(), referenceConfig);
+								});
+						Optional.ofNullable(referenceConfig.getReferenceClass())
+								.ifPresent(referenceClass -> {
+									String className = referenceClass.getName();
+									references.putIfAbsent(className, referenceConfig);
+									referencesIgnoreCase.putIfAbsent(className.toUpperCase(), referenceConfig);
+									referenceClasses.putIfAbsent(referenceClass, referenceConfig);
+								});
+					}));
+			return new LookupIndex(columns, columnsIgnoreCase, references, referencesIgnoreCase, referenceClasses,
+					List.copyOf(primaryKeys), List.copyOf(primaryKeyNames), versionColumn,
+					(versionColumn == null) ? null : versionColumn.columnName().toUpperCase());
+		}
+	}
 }
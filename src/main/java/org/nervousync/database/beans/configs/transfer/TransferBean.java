@@ -20,6 +20,7 @@ package org.nervousync.database.beans.configs.transfer;
 import jakarta.annotation.Nonnull;
 import org.nervousync.commons.Globals;
 import org.nervousync.database.annotations.data.ExcelSheet;
+import org.nervousync.database.entity.FieldAccessor;
 import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.office.excel.SheetWriter;
@@ -131,7 +132,7 @@ public final class TransferBean<T> {
 			}
 			this.fieldMaps.forEach((fieldName, fieldConfig) -> {
 				String string =
-						Optional.ofNullable(fieldConfig.convert(ReflectionUtils.getFieldValue(fieldName, object)))
+						Optional.ofNullable(fieldConfig.convert(FieldAccessor.getFieldValue(fieldName, object)))
 								.filter(fieldValue -> fieldValue instanceof String)
 								.map(fieldValue -> (String) fieldValue)
 								.orElse(Globals.DEFAULT_VALUE_STRING);
@@ -181,7 +182,7 @@ public final class TransferBean<T> {
 			this.fieldMaps.forEach((fieldName, fieldConfig) -> {
 				if (CollectionUtils.contains(fieldNames, fieldName)) {
 					transferMap.put(fieldName,
-							(String) fieldConfig.convert(ReflectionUtils.getFieldValue(fieldName, object)));
+							(String) fieldConfig.convert(FieldAccessor.getFieldValue(fieldName, object)));
 				}
 			});
 		}
@@ -224,7 +225,7 @@ public final class TransferBean<T> {
 		T object = ObjectUtils.newInstance(this.beanClass);
 		dataMap.forEach((key, value) ->
 				Optional.ofNullable(this.fieldMaps.get(key))
-						.ifPresent(transferField -> ReflectionUtils.setField(key, object, transferField.convert(value))));
+						.ifPresent(transferField -> FieldAccessor.setField(key, object, transferField.convert(value))));
 		return object;
 	}
 }
@@ -28,6 +28,7 @@ import org.nervousync.database.beans.task.AbstractTask;
 import org.nervousync.database.beans.task.impl.ExportTask;
 import org.nervousync.database.beans.task.impl.ImportTask;
 import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
 import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.database.enumerations.transactional.Isolation;
 import org.nervousync.database.exceptions.data.DataParseException;
@@ -36,7 +37,9 @@ import org.nervousync.database.exceptions.operate.DropException;
 import org.nervousync.database.exceptions.operate.InsertException;
 import org.nervousync.database.exceptions.operate.UpdateException;
 import org.nervousync.database.providers.data.TaskProvider;
+import org.nervousync.database.query.QueryCursor;
 import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.QueryResult;
 import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.utils.*;
@@ -953,6 +956,11 @@ public final class DataUtils {
 		 * <span class="zh-CN">数据识别代码列表</span>
 		 */
 		private final List<String> recordTypes;
+		/**
+		 * <span class="en-US">Record type index mapping, key is data table name or entity class name</span>
+		 * <span class="zh-CN">记录类型索引映射表，键为数据表名或实体类名</span>
+		 */
+		private final Map<String, Integer> recordIndexes;
 		/**
 		 * <span class="en-US">Total record count</span>
 		 * <span class="zh-CN">总记录数</span>
@@ -976,6 +984,7 @@ public final class DataUtils {
 			}
 			this.tmpFile = new StandardFile(tmpPath, Boolean.TRUE);
 			this.recordTypes = new ArrayList<>();
+			this.recordIndexes = new HashMap<>();
 		}
 
 		/**
@@ -1029,11 +1038,10 @@ public final class DataUtils {
 			if (dataMap.isEmpty()) {
 				return;
 			}
-			String recordType = DatabaseUtils.tableKey(string);
-			if (!CollectionUtils.contains(this.recordTypes, recordType)) {
-				this.recordTypes.add(recordType);
-			}
-			int index = this.recordTypes.indexOf(recordType);
+			int index = this.recordIndexes.computeIfAbsent(string, key -> {
+				this.recordTypes.add(DatabaseUtils.tableKey(key));
+				return this.recordTypes.size() - 1;
+			});
 			String dataContent = StringUtils.objectToString(dataMap, StringUtils.StringType.JSON, Boolean.FALSE);
 			if (StringUtils.isEmpty(dataContent)) {
 				return;
@@ -1319,8 +1327,7 @@ public final class DataUtils {
 						StringUtils.objectToString(dataOperate.primaryKey(), StringUtils.StringType.JSON, Boolean.TRUE),
 						StringUtils.objectToString(dataOperate.dataMap(), StringUtils.StringType.JSON, Boolean.TRUE));
 			}
-			TableConfig tableConfig =
-					EntityManager.tableConfig(ClassUtils.originalClassName(dataOperate.entityClass()));
+			TableConfig tableConfig = EntityManager.tableConfig(dataOperate.entityClass());
 			if (tableConfig == null) {
 				throw new TableConfigException(0x00DB00000001L);
 			}
@@ -1335,16 +1342,16 @@ public final class DataUtils {
 				if (recordObject == null) {
 					recordObject = (BaseObject) ObjectUtils.newInstance(tableConfig.getDefineClass());
 					for (Map.Entry<String, Object> entry : primaryKeyMap.entrySet()) {
-						ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
+						FieldAccessor.setField(entry.getKey(), recordObject, entry.getValue());
 					}
 				}
 				for (Map.Entry<String, Object> entry :
 						EntityManager.unmarshalMap(dataOperate.entityClass(), dataOperate.dataMap()).entrySet()) {
-					ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
+					FieldAccessor.setField(entry.getKey(), recordObject, entry.getValue());
 				}
 				if (newObj) {
 					databaseClient.saveRecords(recordObject);
-				} else {
+				} else if (recordObject.dataModified()) {
 					databaseClient.updateRecords(recordObject);
 				}
 			}
@@ -1424,8 +1431,14 @@ public final class DataUtils {
 				DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
 				if (databaseClient != null) {
 					for (QueryInfo queryInfo : this.queryInfoList) {
-						databaseClient.queryList(queryInfo).getResultList()
-								.forEach(dataExporter::appendData);
+						try (QueryCursor queryCursor =
+								     databaseClient.queryStream(queryInfo, QueryCursor.DEFAULT_FETCH_SIZE)) {
+							QueryResult queryResult = queryCursor.fetch();
+							while (queryResult.size() > 0) {
+								queryResult.getResultList().forEach(dataExporter::appendData);
+								queryResult = queryCursor.fetch();
+							}
+						}
 					}
 					this.hasError = Boolean.FALSE;
 				} else {
@@ -82,5 +82,10 @@ public final class DatabaseCommons {
 	 * The constant RESULT_LIST_KEY.
 	 */
 	public static final String RESULT_LIST_KEY = "NSYC_RESULT_RECORD_LIST";
+	/**
+	 * <span class="en-US">Separator of fetch plan item alias name, between reference field name and column field name</span>
+	 * <span class="zh-CN">预加载计划查询项别名的分隔符，位于外键属性名与数据列属性名之间</span>
+	 */
+	public static final String FETCH_ALIAS_SEPARATOR = "__";
 
 }
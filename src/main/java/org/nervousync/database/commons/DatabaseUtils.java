@@ -10,16 +10,27 @@ import org.nervousync.database.beans.configs.column.ColumnConfig;
 import org.nervousync.database.beans.configs.table.TableConfig;
 import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
 import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
+import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.database.enumerations.lock.LockOption;
 import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.query.cache.ResultCache;
+import org.nervousync.database.query.cache.TinyLfuResultCache;
 import org.nervousync.utils.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.sql.Types;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Database utilities define</h2>
@@ -45,7 +56,17 @@ public final class DatabaseUtils {
 	 * <span class="zh-CN">注册的数据库管理器名称和实现类映射表</span>
 	 */
 	private static final Hashtable<String, Class<?>> REGISTERED_DATABASE_MANAGER_PROVIDERS = new Hashtable<>();
+	/**
+	 * <span class="en-US">Computed data table identification code mapping, key is data table name or entity class name</span>
+	 * <span class="zh-CN">已计算的数据表识别代码映射表，键为数据表名或实体类名</span>
+	 */
+	private static final Map<String, String> TABLE_KEYS = new ConcurrentHashMap<>();
 	private static DatabaseManager DATABASE_MANAGER = null;
+	/**
+	 * <span class="en-US">Query result cache instance, <code>null</code> for disable query result cache</span>
+	 * <span class="zh-CN">查询结果缓存实例对象，<code>null</code> 表示禁用查询结果缓存</span>
+	 */
+	private static volatile ResultCache RESULT_CACHE = new TinyLfuResultCache();
 
 	static {
 		registerDataType(String.class, Types.VARCHAR);
@@ -109,6 +130,11 @@ public final class DatabaseUtils {
 	/**
 	 * <h4 class="en-US">Data table identification code</h4>
 	 * <h4 class="zh-CN">数据表识别代码</h4>
+	 * <span class="en-US">
+	 * The identification code is the SHA-256 hex string which written to the data files,
+	 * each code will be computed once and cached.
+	 * </span>
+	 * <span class="zh-CN">识别代码为写入数据文件的SHA-256十六进制字符串，每个识别代码只计算一次并缓存</span>
 	 *
 	 * @param string <span class="en-US">Data table name or entity class name</span>
 	 *               <span class="zh-CN">数据表名或实体类名</span>
@@ -119,7 +145,7 @@ public final class DatabaseUtils {
 		if (StringUtils.isEmpty(string)) {
 			return Globals.DEFAULT_VALUE_STRING;
 		}
-		return ConvertUtils.toHex(SecurityUtils.SHA256(string));
+		return TABLE_KEYS.computeIfAbsent(string, key -> ConvertUtils.toHex(SecurityUtils.SHA256(key)));
 	}
 
 	/**
@@ -132,7 +158,23 @@ public final class DatabaseUtils {
 	 *                           <span class="zh-CN">如果在数据库初始化数据表时出错</span>
 	 */
 	public static void registerTable(final Class<?>... entityClasses) throws DatabaseException {
-		List<TableConfig> tableConfigs = EntityManager.registerTable(entityClasses);
+		registerTable(Boolean.FALSE, entityClasses);
+	}
+
+	/**
+	 * <h4 class="en-US">Register entity class array</h4>
+	 * <h4 class="zh-CN">注册实体类数组</h4>
+	 *
+	 * @param parallel      <span class="en-US">Register using parallel mode</span>
+	 *                      <span class="zh-CN">使用并行模式注册</span>
+	 * @param entityClasses <span class="en-US">Entity class array</span>
+	 *                      <span class="zh-CN">实体类数组</span>
+	 * @throws DatabaseException <span class="en-US">If an error occurs when initializing the data table in the database</span>
+	 *                           <span class="zh-CN">如果在数据库初始化数据表时出错</span>
+	 */
+	public static void registerTable(final boolean parallel, final Class<?>... entityClasses)
+			throws DatabaseException {
+		List<TableConfig> tableConfigs = EntityManager.registerTable(parallel, entityClasses);
 		if (DATABASE_MANAGER == null) {
 			LOGGER.warn("Table_Initialize_Warning");
 			return;
@@ -150,6 +192,10 @@ public final class DatabaseUtils {
 	public static void truncateTable(final Class<?>... entityClasses) {
 		Optional.ofNullable(DATABASE_MANAGER)
 				.ifPresent(databaseManager -> databaseManager.truncateTable(entityClasses));
+		invalidateCache(Arrays.stream(entityClasses)
+				.map(EntityManager::tableConfig)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList()));
 	}
 
 	/**
@@ -163,6 +209,7 @@ public final class DatabaseUtils {
 	 */
 	public static void dropTable(final Class<?>... entityClasses) throws DatabaseException {
 		List<TableConfig> tableConfigs = EntityManager.removeTable(entityClasses);
+		invalidateCache(tableConfigs);
 		if (DATABASE_MANAGER == null) {
 			LOGGER.warn("Table_Initialize_Warning");
 			return;
@@ -183,9 +230,11 @@ public final class DatabaseUtils {
 		return Optional.ofNullable(DATABASE_MANAGER)
 				.map(databaseManager -> {
 					if (txConfig == null) {
-						return databaseManager.restoreClient();
+						return ResultCacheClient.wrap(databaseManager.restoreClient(), Boolean.FALSE);
 					} else {
-						return databaseManager.generateClient(txConfig, Boolean.TRUE);
+						return ResultCacheClient.wrap(
+								IdentityMapClient.wrap(databaseManager.generateClient(txConfig, Boolean.TRUE)),
+								Boolean.TRUE);
 					}
 				})
 				.orElse(null);
@@ -199,7 +248,10 @@ public final class DatabaseUtils {
 	 * <span class="zh-CN">生成的数据操作客户端实例对象</span>
 	 */
 	public static DatabaseClient readOnlyClient() {
-		return Optional.ofNullable(DATABASE_MANAGER).map(DatabaseManager::readOnlyClient).orElse(null);
+		return Optional.ofNullable(DATABASE_MANAGER)
+				.map(DatabaseManager::readOnlyClient)
+				.map(databaseClient -> ResultCacheClient.wrap(databaseClient, Boolean.FALSE))
+				.orElse(null);
 	}
 
 	/**
@@ -210,7 +262,10 @@ public final class DatabaseUtils {
 	 * <span class="zh-CN">生成的数据操作客户端实例对象</span>
 	 */
 	public static DatabaseClient retrieveClient() {
-		return Optional.ofNullable(DATABASE_MANAGER).map(DatabaseManager::generateClient).orElse(null);
+		return Optional.ofNullable(DATABASE_MANAGER)
+				.map(DatabaseManager::generateClient)
+				.map(databaseClient -> ResultCacheClient.wrap(databaseClient, Boolean.FALSE))
+				.orElse(null);
 	}
 
 	/**
@@ -239,7 +294,12 @@ public final class DatabaseUtils {
 	 */
 	public static DatabaseClient retrieveClient(final TransactionalConfig txConfig) {
 		return Optional.ofNullable(DATABASE_MANAGER)
-				.map(databaseManager -> databaseManager.generateClient(txConfig))
+				.map(databaseManager -> {
+					DatabaseClient databaseClient = databaseManager.generateClient(txConfig);
+					return (txConfig == null)
+							? ResultCacheClient.wrap(databaseClient, Boolean.FALSE)
+							: ResultCacheClient.wrap(IdentityMapClient.wrap(databaseClient), Boolean.TRUE);
+				})
 				.orElse(null);
 	}
 
@@ -258,6 +318,8 @@ public final class DatabaseUtils {
 		}
 		return Optional.ofNullable(DATABASE_MANAGER)
 				.map(databaseManager -> databaseManager.retrieveClient(transactionalCode))
+				.map(IdentityMapClient::wrap)
+				.map(databaseClient -> ResultCacheClient.wrap(databaseClient, Boolean.TRUE))
 				.orElse(null);
 	}
 
@@ -277,6 +339,49 @@ public final class DatabaseUtils {
 		DATA_CONVERT_MAPPING.clear();
 		EntityManager.destroy();
 		DataUtils.destroy();
+		Optional.ofNullable(RESULT_CACHE).ifPresent(ResultCache::clear);
+	}
+
+	/**
+	 * <h4 class="en-US">Register the query result cache instance</h4>
+	 * <h4 class="zh-CN">注册查询结果缓存实例对象</h4>
+	 * <span class="en-US">The previous query result cache will be cleared, <code>null</code> will disable the cache</span>
+	 * <span class="zh-CN">之前的查询结果缓存将被清空，<code>null</code> 将禁用缓存</span>
+	 *
+	 * @param resultCache <span class="en-US">Query result cache instance</span>
+	 *                    <span class="zh-CN">查询结果缓存实例对象</span>
+	 */
+	public static void registerResultCache(final ResultCache resultCache) {
+		ResultCache previous = RESULT_CACHE;
+		RESULT_CACHE = resultCache;
+		if (previous != null && previous != resultCache) {
+			previous.clear();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the registered query result cache instance</h4>
+	 * <h4 class="zh-CN">获取已注册的查询结果缓存实例对象</h4>
+	 *
+	 * @return <span class="en-US">Query result cache instance or <code>null</code> if disabled</span>
+	 * <span class="zh-CN">查询结果缓存实例对象，如果已禁用返回 <code>null</code></span>
+	 */
+	public static ResultCache resultCache() {
+		return RESULT_CACHE;
+	}
+
+	/**
+	 * <h4 class="en-US">Invalidate the cached query results of given data tables</h4>
+	 * <h4 class="zh-CN">使给定数据表的缓存查询结果失效</h4>
+	 *
+	 * @param tableConfigs <span class="en-US">Data table configure information list</span>
+	 *                     <span class="zh-CN">数据表配置信息列表</span>
+	 */
+	private static void invalidateCache(final List<TableConfig> tableConfigs) {
+		ResultCache resultCache = RESULT_CACHE;
+		if (resultCache != null && tableConfigs != null && !tableConfigs.isEmpty()) {
+			resultCache.invalidate(tableConfigs.stream().map(ResultCacheClient::tableKey).toArray(String[]::new));
+		}
 	}
 
 	/**
@@ -321,23 +426,94 @@ public final class DatabaseUtils {
 	 */
 	public static SortedMap<String, Object> primaryKeyMap(final Object object, final boolean forUpdate) {
 		final SortedMap<String, Object> parameterMap = new TreeMap<>();
-		Optional.ofNullable(EntityManager.tableConfig(ClassUtils.originalClassName(object.getClass())))
+		Optional.ofNullable(EntityManager.tableConfig(object.getClass()))
 				.ifPresent(tableConfig -> {
-					tableConfig.getColumnConfigs()
-							.stream()
-							.filter(ColumnConfig::isPrimaryKey)
-							.forEach(columnConfig ->
-									parameterMap.put(columnConfig.columnName().toUpperCase(),
-											ReflectionUtils.getFieldValue(columnConfig.getFieldName(), object)));
+					List<ColumnConfig> primaryKeys = tableConfig.primaryKeyColumns();
+					List<String> primaryKeyNames = tableConfig.primaryKeyNames();
+					for (int i = 0; i < primaryKeys.size(); i++) {
+						parameterMap.put(primaryKeyNames.get(i),
+								FieldAccessor.getFieldValue(primaryKeys.get(i).getFieldName(), object));
+					}
 					if (forUpdate && LockOption.OPTIMISTIC_UPGRADE.equals(tableConfig.getLockOption())) {
 						tableConfig.versionColumn()
-								.ifPresent(columnConfig -> parameterMap.put(columnConfig.columnName().toUpperCase(),
-										ReflectionUtils.getFieldValue(columnConfig.getFieldName(), object)));
+								.ifPresent(columnConfig -> parameterMap.put(tableConfig.versionColumnName(),
+										FieldAccessor.getFieldValue(columnConfig.getFieldName(), object)));
 					}
 				});
 		return parameterMap;
 	}
 
+	/**
+	 * <h4 class="en-US">Open an input stream of the lazy loaded column data of given entity object instance</h4>
+	 * <h4 class="zh-CN">打开给定实体对象实例的懒加载列数据的输入流</h4>
+	 * <span class="en-US">
+	 * If the object is a new object or the field value was loaded, the stream reads the field value,
+	 * otherwise the column data will be streamed by read only database client and the field value will not be loaded.
+	 * </span>
+	 * <span class="zh-CN">如果对象为新对象或属性值已加载，输入流读取属性值，否则使用只读客户端以流的方式读取列数据，且不会加载属性值</span>
+	 *
+	 * @param object    <span class="en-US">Entity object instance</span>
+	 *                  <span class="zh-CN">实体对象实例</span>
+	 * @param fieldName <span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">属性名</span>
+	 * @return <span class="en-US">Opened input stream or null if column data not found</span>
+	 * <span class="zh-CN">打开的输入流，如果列数据未找到返回空</span>
+	 */
+	public static InputStream lazyStream(final Object object, final String fieldName) {
+		if (object == null || StringUtils.isEmpty(fieldName)) {
+			return null;
+		}
+		if (!(object instanceof BaseObject) || ((BaseObject) object).isNewObject()
+				|| ((BaseObject) object).loadedField(fieldName)) {
+			return columnStream(FieldAccessor.getFieldValue(fieldName, object));
+		}
+		return Optional.ofNullable(readOnlyClient())
+				.map(databaseClient -> databaseClient.lazyStream(primaryKeyMap(object), object.getClass(), fieldName))
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Open a readable channel of the lazy loaded column data of given entity object instance</h4>
+	 * <h4 class="zh-CN">打开给定实体对象实例的懒加载列数据的可读通道</h4>
+	 *
+	 * @param object    <span class="en-US">Entity object instance</span>
+	 *                  <span class="zh-CN">实体对象实例</span>
+	 * @param fieldName <span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">属性名</span>
+	 * @return <span class="en-US">Opened readable channel or null if column data not found</span>
+	 * <span class="zh-CN">打开的可读通道，如果列数据未找到返回空</span>
+	 */
+	public static ReadableByteChannel lazyChannel(final Object object, final String fieldName) {
+		return Optional.ofNullable(lazyStream(object, fieldName)).map(Channels::newChannel).orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Convert the given column data to input stream</h4>
+	 * <h4 class="zh-CN">转换给定的列数据为输入流</h4>
+	 * <span class="en-US">Text data will be encoded by UTF-8</span>
+	 * <span class="zh-CN">文本数据将使用UTF-8编码</span>
+	 *
+	 * @param columnData <span class="en-US">Column data</span>
+	 *                   <span class="zh-CN">列数据</span>
+	 * @return <span class="en-US">Converted input stream or null if column data is null</span>
+	 * <span class="zh-CN">转换的输入流，如果列数据为空返回空</span>
+	 */
+	public static InputStream columnStream(final Object columnData) {
+		if (columnData == null) {
+			return null;
+		}
+		if (columnData instanceof InputStream) {
+			return (InputStream) columnData;
+		}
+		if (columnData instanceof byte[]) {
+			return new ByteArrayInputStream((byte[]) columnData);
+		}
+		String textData = (columnData instanceof char[])
+				? new String((char[]) columnData)
+				: columnData.toString();
+		return new ByteArrayInputStream(textData.getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * <h4 class="en-US">Retrieve the mapping JDBC type code by given Java type class</h4>
 	 * <h4 class="zh-CN">通过给定的 Java 类型类检索映射 JDBC 类型代码</h4>
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.commons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.entity.core.PrimaryKey;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.query.QueryCursor;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.QueryResult;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Transactional identity map database client</h2>
+ * <h2 class="zh-CN">事务标识映射数据操作客户端</h2>
+ * <span class="en-US">
+ * Wrap the transactional database client, the records retrieved by primary key will be cached by entity class
+ * and primary key, the repeated retrieves in the same transactional will return the same record instance.
+ * The cached records will be cleared when the transactional finished or rollback. Saving or updating another
+ * record instance with the same primary key evicts the cached record. The cached records are registered by weak
+ * reference of the wrapped database client, and will be released with the wrapped database client when
+ * the transactional was abandoned without finished.
+ * </span>
+ * <span class="zh-CN">
+ * 包装事务数据操作客户端，根据主键查询的记录将按照实体类和主键进行缓存，同一事务中的重复查询将返回相同的记录实例对象。
+ * 事务结束或回滚时将清空缓存的记录。保存或更新主键相同的其他记录实例对象时将移除缓存的记录。
+ * 缓存的记录使用被包装数据操作客户端的弱引用进行注册，事务未结束而被丢弃时，缓存的记录将随被包装的数据操作客户端一同释放。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 16:27:38 $
+ */
+public final class IdentityMapClient implements DatabaseClient {
+
+	/**
+	 * <span class="en-US">
+	 * Registered identity caches, key is the weak reference of wrapped database client instance
+	 * </span>
+	 * <span class="zh-CN">已注册的标识缓存，键为被包装的数据操作客户端实例对象的弱引用</span>
+	 */
+	private static final Map<DatabaseClient, IdentityCache> REGISTERED_CACHES =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * <span class="en-US">Wrapped database client instance</span>
+	 * <span class="zh-CN">被包装的数据操作客户端实例对象</span>
+	 */
+	private final DatabaseClient databaseClient;
+	/**
+	 * <span class="en-US">Identity cache of wrapped database client</span>
+	 * <span class="zh-CN">被包装数据操作客户端的标识缓存</span>
+	 */
+	private final IdentityCache identityCache;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for identity map database client</h4>
+	 * <h4 class="zh-CN">标识映射数据操作客户端的私有构造方法</h4>
+	 *
+	 * @param databaseClient <span class="en-US">Wrapped database client instance</span>
+	 *                       <span class="zh-CN">被包装的数据操作客户端实例对象</span>
+	 * @param identityCache  <span class="en-US">Identity cache of wrapped database client</span>
+	 *                       <span class="zh-CN">被包装数据操作客户端的标识缓存</span>
+	 */
+	private IdentityMapClient(@Nonnull final DatabaseClient databaseClient,
+	                          @Nonnull final IdentityCache identityCache) {
+		this.databaseClient = databaseClient;
+		this.identityCache = identityCache;
+	}
+
+	/**
+	 * <h4 class="en-US">Wrap the given transactional database client</h4>
+	 * <h4 class="zh-CN">包装给定的事务数据操作客户端</h4>
+	 * <span class="en-US">
+	 * The identity map clients of the same database client instance are equal and share the same cached records
+	 * </span>
+	 * <span class="zh-CN">相同数据操作客户端实例对象的标识映射客户端相等，并共享相同的缓存记录</span>
+	 *
+	 * @param databaseClient <span class="en-US">Transactional database client instance</span>
+	 *                       <span class="zh-CN">事务数据操作客户端实例对象</span>
+	 * @return <span class="en-US">Identity map client instance or <code>null</code> if given client is null</span>
+	 * <span class="zh-CN">标识映射客户端实例对象，如果给定的客户端为 <code>null</code> 返回 <code>null</code></span>
+	 */
+	public static DatabaseClient wrap(final DatabaseClient databaseClient) {
+		if (databaseClient == null || databaseClient instanceof IdentityMapClient) {
+			return databaseClient;
+		}
+		return new IdentityMapClient(databaseClient,
+				REGISTERED_CACHES.computeIfAbsent(databaseClient, client -> new IdentityCache()));
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the cache hit count</h4>
+	 * <h4 class="zh-CN">获取缓存命中次数</h4>
+	 *
+	 * @return <span class="en-US">Cache hit count</span>
+	 * <span class="zh-CN">缓存命中次数</span>
+	 */
+	public long hitCount() {
+		return this.identityCache.hitCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the cache miss count</h4>
+	 * <h4 class="zh-CN">获取缓存未命中次数</h4>
+	 *
+	 * @return <span class="en-US">Cache miss count</span>
+	 * <span class="zh-CN">缓存未命中次数</span>
+	 */
+	public long missCount() {
+		return this.identityCache.missCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the cached record count</h4>
+	 * <h4 class="zh-CN">获取缓存的记录数</h4>
+	 *
+	 * @return <span class="en-US">Cached record count</span>
+	 * <span class="zh-CN">缓存的记录数</span>
+	 */
+	public int size() {
+		return this.identityCache.identityMap.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the wrapped database client instance</h4>
+	 * <h4 class="zh-CN">获取被包装的数据操作客户端实例对象</h4>
+	 *
+	 * @return <span class="en-US">Wrapped database client instance</span>
+	 * <span class="zh-CN">被包装的数据操作客户端实例对象</span>
+	 */
+	DatabaseClient databaseClient() {
+		return this.databaseClient;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return Boolean.TRUE;
+		}
+		if (!(o instanceof IdentityMapClient identityMapClient)) {
+			return Boolean.FALSE;
+		}
+		return this.databaseClient.equals(identityMapClient.databaseClient);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.databaseClient.hashCode();
+	}
+
+	@Override
+	public void rollbackTransactional() {
+		try {
+			this.databaseClient.rollbackTransactional();
+		} finally {
+			this.clear();
+		}
+	}
+
+	@Override
+	public void endTransactional() {
+		try {
+			this.databaseClient.endTransactional();
+		} finally {
+			this.clear();
+		}
+	}
+
+	@Override
+	public boolean rollbackException(final Exception e) {
+		return this.databaseClient.rollbackException(e);
+	}
+
+	@Override
+	public void saveRecords(final BaseObject... recordObjects) throws Exception {
+		try {
+			this.databaseClient.saveRecords(recordObjects);
+		} finally {
+			this.evictRecords(recordObjects);
+		}
+	}
+
+	@Override
+	public void updateRecords(final BaseObject... recordObjects) throws Exception {
+		try {
+			this.databaseClient.updateRecords(recordObjects);
+		} finally {
+			this.evictRecords(recordObjects);
+		}
+	}
+
+	@Override
+	public void dropRecords(final BaseObject... recordObjects) throws Exception {
+		try {
+			this.databaseClient.dropRecords(recordObjects);
+		} finally {
+			Arrays.stream(recordObjects)
+					.filter(Objects::nonNull)
+					.map(PrimaryKey::newInstance)
+					.filter(Objects::nonNull)
+					.forEach(this.identityCache.identityMap::remove);
+		}
+	}
+
+	@Override
+	public Object lazyColumn(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                         final String identifyKey) {
+		return this.databaseClient.lazyColumn(primaryKeyMap, entityClass, identifyKey);
+	}
+
+	@Override
+	public InputStream lazyStream(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                              final String identifyKey) {
+		return this.databaseClient.lazyStream(primaryKeyMap, entityClass, identifyKey);
+	}
+
+	@Override
+	public ReadableByteChannel lazyChannel(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                                       final String identifyKey) {
+		return this.databaseClient.lazyChannel(primaryKeyMap, entityClass, identifyKey);
+	}
+
+	@Override
+	public <T> T retrieve(final Object primaryKey, final Class<T> entityClass, final boolean forUpdate)
+			throws RetrieveException {
+		PrimaryKey identifyKey = Optional.ofNullable(EntityManager.tableConfig(entityClass))
+				.map(TableConfig::primaryKeyNames)
+				.filter(primaryKeyNames -> primaryKeyNames.size() == 1)
+				.map(primaryKeyNames -> PrimaryKey.newInstance(entityClass,
+						Collections.singletonMap(primaryKeyNames.get(0), primaryKey)))
+				.orElse(null);
+		T record = this.cachedRecord(identifyKey, entityClass, forUpdate);
+		if (record == null) {
+			record = this.databaseClient.retrieve(primaryKey, entityClass, forUpdate);
+			this.cacheRecord(identifyKey, record);
+		}
+		return record;
+	}
+
+	@Override
+	public <T> T retrieve(final Map<String, Object> primaryKeyMap, final Class<T> entityClass,
+	                      final boolean forUpdate) throws RetrieveException {
+		PrimaryKey identifyKey = this.identifyKey(primaryKeyMap, entityClass);
+		T record = this.cachedRecord(identifyKey, entityClass, forUpdate);
+		if (record == null) {
+			record = this.databaseClient.retrieve(primaryKeyMap, entityClass, forUpdate);
+			this.cacheRecord(identifyKey, record);
+		}
+		return record;
+	}
+
+	@Override
+	public long queryTotal(@Nonnull final QueryInfo queryInfo) throws QueryException {
+		return this.databaseClient.queryTotal(queryInfo);
+	}
+
+	@Override
+	public QueryResult queryList(final QueryInfo queryInfo) throws QueryException {
+		return this.databaseClient.queryList(queryInfo);
+	}
+
+	@Override
+	public QueryCursor queryStream(@Nonnull final QueryInfo queryInfo, final int fetchSize) throws QueryException {
+		return this.databaseClient.queryStream(queryInfo, fetchSize);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate primary key by given data mapping table</h4>
+	 * <h4 class="zh-CN">根据给定的数据映射表生成主键</h4>
+	 * <span class="en-US">
+	 * Only the mapping table which contains exactly all the primary key columns can be used as identify key
+	 * </span>
+	 * <span class="zh-CN">只有恰好包含全部主键列的映射表才能作为识别键使用</span>
+	 *
+	 * @param primaryKeyMap <span class="en-US">Data mapping table</span>
+	 *                      <span class="zh-CN">数据映射表</span>
+	 * @param entityClass   <span class="en-US">Entity class</span>
+	 *                      <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Generated primary key or <code>null</code> if not matched</span>
+	 * <span class="zh-CN">生成的主键，如果不匹配返回 <code>null</code></span>
+	 */
+	private PrimaryKey identifyKey(final Map<String, Object> primaryKeyMap, final Class<?> entityClass) {
+		TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+		if (tableConfig == null || primaryKeyMap == null
+				|| primaryKeyMap.size() != tableConfig.primaryKeyColumns().size()
+				|| !primaryKeyMap.keySet().stream()
+				.map(tableConfig::columnConfig)
+				.allMatch(columnConfig -> columnConfig != null && columnConfig.isPrimaryKey())) {
+			return null;
+		}
+		return PrimaryKey.newInstance(entityClass, primaryKeyMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Read cached record by given primary key</h4>
+	 * <h4 class="zh-CN">根据给定的主键读取缓存的记录</h4>
+	 * <span class="en-US">The record cached without update status will not be returned for update retrieving</span>
+	 * <span class="zh-CN">未以更新状态缓存的记录不会在更新查询时返回</span>
+	 *
+	 * @param <T>         <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param identifyKey <span class="en-US">Primary key</span>
+	 *                    <span class="zh-CN">主键</span>
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param forUpdate   <span class="en-US">Retrieve record for update</span>
+	 *                    <span class="zh-CN">读取记录用于更新操作</span>
+	 * @return <span class="en-US">Cached record or <code>null</code> if not found</span>
+	 * <span class="zh-CN">缓存的记录，如果未找到返回 <code>null</code></span>
+	 */
+	private <T> T cachedRecord(final PrimaryKey identifyKey, final Class<T> entityClass, final boolean forUpdate) {
+		if (identifyKey == null) {
+			return null;
+		}
+		Object record = this.identityCache.identityMap.get(identifyKey);
+		if (entityClass.isInstance(record)
+				&& (!forUpdate || !(record instanceof BaseObject) || ((BaseObject) record).getForUpdate())) {
+			this.identityCache.hitCount.incrementAndGet();
+			return entityClass.cast(record);
+		}
+		this.identityCache.missCount.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * <h4 class="en-US">Cache the given record by given primary key</h4>
+	 * <h4 class="zh-CN">根据给定的主键缓存给定的记录</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Primary key</span>
+	 *                    <span class="zh-CN">主键</span>
+	 * @param record      <span class="en-US">Record instance</span>
+	 *                    <span class="zh-CN">记录实例对象</span>
+	 */
+	private void cacheRecord(final PrimaryKey identifyKey, final Object record) {
+		if (identifyKey != null && record != null) {
+			this.identityCache.identityMap.put(identifyKey, record);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Evict the cached records which primary key same as given records but another instance</h4>
+	 * <h4 class="zh-CN">移除与给定记录主键相同但不是同一实例对象的缓存记录</h4>
+	 *
+	 * @param recordObjects <span class="en-US">Written record instance array</span>
+	 *                      <span class="zh-CN">写入的记录实例对象数组</span>
+	 */
+	private void evictRecords(final BaseObject... recordObjects) {
+		if (recordObjects == null) {
+			return;
+		}
+		for (BaseObject recordObject : recordObjects) {
+			Optional.ofNullable(recordObject)
+					.map(PrimaryKey::newInstance)
+					.filter(primaryKey -> !primaryKey.isEmpty())
+					.ifPresent(primaryKey -> this.identityCache.identityMap.computeIfPresent(primaryKey,
+							(key, cachedRecord) -> (cachedRecord == recordObject) ? cachedRecord : null));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Clear cached records and unregister current client</h4>
+	 * <h4 class="zh-CN">清空缓存的记录并注销当前客户端</h4>
+	 */
+	private void clear() {
+		this.identityCache.identityMap.clear();
+		REGISTERED_CACHES.remove(this.databaseClient, this.identityCache);
+	}
+
+	/**
+	 * <h2 class="en-US">Identity cache of wrapped database client</h2>
+	 * <h2 class="zh-CN">被包装数据操作客户端的标识缓存</h2>
+	 * <span class="en-US">The identity cache does not reference the wrapped database client</span>
+	 * <span class="zh-CN">标识缓存不引用被包装的数据操作客户端</span>
+	 */
+	private static final class IdentityCache {
+
+		/**
+		 * <span class="en-US">Cached record mapping table</span>
+		 * <span class="zh-CN">缓存的记录映射表</span>
+		 */
+		private final Map<PrimaryKey, Object> identityMap = new ConcurrentHashMap<>();
+		/**
+		 * <span class="en-US">Cache hit count</span>
+		 * <span class="zh-CN">缓存命中次数</span>
+		 */
+		private final AtomicLong hitCount = new AtomicLong(0L);
+		/**
+		 * <span class="en-US">Cache miss count</span>
+		 * <span class="zh-CN">缓存未命中次数</span>
+		 */
+		private final AtomicLong missCount = new AtomicLong(0L);
+	}
+}
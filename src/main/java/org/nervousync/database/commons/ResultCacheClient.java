@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.commons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.enumerations.lock.LockOption;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.query.QueryCursor;
+import org.nervousync.database.query.QueryFingerprint;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.query.cache.ResultCache;
+import org.nervousync.database.query.condition.Condition;
+import org.nervousync.database.query.condition.impl.ColumnCondition;
+import org.nervousync.database.query.condition.impl.GroupCondition;
+import org.nervousync.database.query.core.AbstractItem;
+import org.nervousync.database.query.item.FunctionItem;
+import org.nervousync.database.query.item.QueryItem;
+import org.nervousync.database.query.param.AbstractParameter;
+import org.nervousync.database.query.param.impl.FunctionParameter;
+import org.nervousync.database.query.param.impl.QueryParameter;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Query result cache database client</h2>
+ * <h2 class="zh-CN">查询结果缓存数据操作客户端</h2>
+ * <span class="en-US">
+ * Wrap the database client, the query result will be cached when the query information enabled cacheables,
+ * and all data tables which the query reads are cacheable. Saving, updating or dropping records will invalidate
+ * the cached results of the modified data tables. For the transactional client, the modified data tables will be
+ * invalidated again when the transactional finished or rollback, and the queries read the modified data tables
+ * will bypass the cache until then. The modified data tables are registered by weak reference of the underlying
+ * database client, and will be released with the database client when the transactional was abandoned without
+ * finished.
+ * </span>
+ * <span class="zh-CN">
+ * 包装数据操作客户端，当查询信息启用了缓存，并且查询读取的所有数据表均可缓存时，查询结果将被缓存。保存、更新或删除记录将使被修改数据表的缓存结果失效。
+ * 对于事务客户端，事务结束或回滚时将再次使被修改的数据表失效，在此之前读取被修改数据表的查询将绕过缓存。
+ * 被修改的数据表使用底层数据操作客户端的弱引用进行注册，事务未结束而被丢弃时，将随底层数据操作客户端一同释放。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 22:03:16 $
+ */
+public final class ResultCacheClient implements DatabaseClient {
+
+	/**
+	 * <span class="en-US">
+	 * Registered modified data table keys of transactional clients, key is the weak reference of underlying database
+	 * client instance
+	 * </span>
+	 * <span class="zh-CN">已注册的事务客户端被修改数据表键，键为底层数据操作客户端实例对象的弱引用</span>
+	 */
+	private static final Map<DatabaseClient, Set<String>> REGISTERED_TABLES =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * <span class="en-US">Wrapped database client instance</span>
+	 * <span class="zh-CN">被包装的数据操作客户端实例对象</span>
+	 */
+	private final DatabaseClient databaseClient;
+	/**
+	 * <span class="en-US">Underlying database client instance, the registry key of modified data table keys</span>
+	 * <span class="zh-CN">底层数据操作客户端实例对象，被修改数据表键的注册键</span>
+	 */
+	private final DatabaseClient clientKey;
+	/**
+	 * <span class="en-US">Wrapped database client is transactional</span>
+	 * <span class="zh-CN">被包装的数据操作客户端为事务客户端</span>
+	 */
+	private final boolean transactional;
+	/**
+	 * <span class="en-US">Data table keys which modified in current transactional</span>
+	 * <span class="zh-CN">当前事务中修改的数据表键</span>
+	 */
+	private final Set<String> modifiedTables;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for query result cache database client</h4>
+	 * <h4 class="zh-CN">查询结果缓存数据操作客户端的私有构造方法</h4>
+	 *
+	 * @param databaseClient <span class="en-US">Wrapped database client instance</span>
+	 *                       <span class="zh-CN">被包装的数据操作客户端实例对象</span>
+	 * @param clientKey      <span class="en-US">Underlying database client instance</span>
+	 *                       <span class="zh-CN">底层数据操作客户端实例对象</span>
+	 * @param transactional  <span class="en-US">Wrapped database client is transactional</span>
+	 *                       <span class="zh-CN">被包装的数据操作客户端为事务客户端</span>
+	 * @param modifiedTables <span class="en-US">Data table keys which modified in current transactional</span>
+	 *                       <span class="zh-CN">当前事务中修改的数据表键</span>
+	 */
+	private ResultCacheClient(@Nonnull final DatabaseClient databaseClient, @Nonnull final DatabaseClient clientKey,
+	                          final boolean transactional, @Nonnull final Set<String> modifiedTables) {
+		this.databaseClient = databaseClient;
+		this.clientKey = clientKey;
+		this.transactional = transactional;
+		this.modifiedTables = modifiedTables;
+	}
+
+	/**
+	 * <h4 class="en-US">Wrap the given database client</h4>
+	 * <h4 class="zh-CN">包装给定的数据操作客户端</h4>
+	 * <span class="en-US">
+	 * The result cache clients of the same transactional database client instance are equal and share the same
+	 * modified data tables
+	 * </span>
+	 * <span class="zh-CN">相同事务数据操作客户端实例对象的查询结果缓存客户端相等，并共享相同的被修改数据表</span>
+	 *
+	 * @param databaseClient <span class="en-US">Database client instance</span>
+	 *                       <span class="zh-CN">数据操作客户端实例对象</span>
+	 * @param transactional  <span class="en-US">Given database client is transactional</span>
+	 *                       <span class="zh-CN">给定的数据操作客户端为事务客户端</span>
+	 * @return <span class="en-US">Result cache client instance or <code>null</code> if given client is null</span>
+	 * <span class="zh-CN">查询结果缓存客户端实例对象，如果给定的客户端为 <code>null</code> 返回 <code>null</code></span>
+	 */
+	public static DatabaseClient wrap(final DatabaseClient databaseClient, final boolean transactional) {
+		if (databaseClient == null || databaseClient instanceof ResultCacheClient) {
+			return databaseClient;
+		}
+		DatabaseClient clientKey = (databaseClient instanceof IdentityMapClient identityMapClient)
+				? identityMapClient.databaseClient()
+				: databaseClient;
+		if (transactional) {
+			return new ResultCacheClient(databaseClient, clientKey, Boolean.TRUE,
+					REGISTERED_TABLES.computeIfAbsent(clientKey, client -> ConcurrentHashMap.newKeySet()));
+		}
+		return new ResultCacheClient(databaseClient, clientKey, Boolean.FALSE, ConcurrentHashMap.newKeySet());
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return Boolean.TRUE;
+		}
+		if (!(o instanceof ResultCacheClient resultCacheClient)) {
+			return Boolean.FALSE;
+		}
+		return this.transactional == resultCacheClient.transactional
+				&& this.databaseClient.equals(resultCacheClient.databaseClient);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.databaseClient.hashCode();
+	}
+
+	@Override
+	public void rollbackTransactional() {
+		try {
+			this.databaseClient.rollbackTransactional();
+		} finally {
+			this.clear();
+		}
+	}
+
+	@Override
+	public void endTransactional() {
+		try {
+			this.databaseClient.endTransactional();
+		} finally {
+			this.clear();
+		}
+	}
+
+	@Override
+	public boolean rollbackException(final Exception e) {
+		return this.databaseClient.rollbackException(e);
+	}
+
+	@Override
+	public void saveRecords(final BaseObject... recordObjects) throws Exception {
+		try {
+			this.databaseClient.saveRecords(recordObjects);
+		} finally {
+			this.modified(recordObjects);
+		}
+	}
+
+	@Override
+	public void updateRecords(final BaseObject... recordObjects) throws Exception {
+		try {
+			this.databaseClient.updateRecords(recordObjects);
+		} finally {
+			this.modified(recordObjects);
+		}
+	}
+
+	@Override
+	public void dropRecords(final BaseObject... recordObjects) throws Exception {
+		try {
+			this.databaseClient.dropRecords(recordObjects);
+		} finally {
+			this.modified(recordObjects);
+		}
+	}
+
+	@Override
+	public Object lazyColumn(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                         final String identifyKey) {
+		return this.databaseClient.lazyColumn(primaryKeyMap, entityClass, identifyKey);
+	}
+
+	@Override
+	public InputStream lazyStream(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                              final String identifyKey) {
+		return this.databaseClient.lazyStream(primaryKeyMap, entityClass, identifyKey);
+	}
+
+	@Override
+	public ReadableByteChannel lazyChannel(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+	                                       final String identifyKey) {
+		return this.databaseClient.lazyChannel(primaryKeyMap, entityClass, identifyKey);
+	}
+
+	@Override
+	public <T> T retrieve(final Object primaryKey, final Class<T> entityClass, final boolean forUpdate)
+			throws RetrieveException {
+		return this.databaseClient.retrieve(primaryKey, entityClass, forUpdate);
+	}
+
+	@Override
+	public <T> T retrieve(final Map<String, Object> primaryKeyMap, final Class<T> entityClass,
+	                      final boolean forUpdate) throws RetrieveException {
+		return this.databaseClient.retrieve(primaryKeyMap, entityClass, forUpdate);
+	}
+
+	@Override
+	public long queryTotal(@Nonnull final QueryInfo queryInfo) throws QueryException {
+		return this.databaseClient.queryTotal(queryInfo);
+	}
+
+	@Override
+	public QueryResult queryList(final QueryInfo queryInfo) throws QueryException {
+		ResultCache resultCache = DatabaseUtils.resultCache();
+		String[] tableKeys = (resultCache == null || queryInfo == null) ? null : this.cacheTables(queryInfo);
+		if (tableKeys == null) {
+			return this.databaseClient.queryList(queryInfo);
+		}
+		QueryFingerprint cacheKey = queryInfo.fingerprint();
+		QueryResult queryResult =
+				Optional.ofNullable(resultCache.retrieve(cacheKey)).map(QueryResult::parse).orElse(null);
+		if (queryResult == null) {
+			long version = resultCache.version(tableKeys);
+			queryResult = this.databaseClient.queryList(queryInfo);
+			if (queryResult != null) {
+				resultCache.store(cacheKey, queryResult.cacheBuffer(), version, tableKeys);
+			}
+		}
+		return queryResult;
+	}
+
+	@Override
+	public QueryCursor queryStream(@Nonnull final QueryInfo queryInfo, final int fetchSize) throws QueryException {
+		return this.databaseClient.queryStream(queryInfo, fetchSize);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate data table key by given data table configure information</h4>
+	 * <h4 class="zh-CN">根据给定的数据表配置信息生成数据表键</h4>
+	 * <span class="en-US">Using the memoized identification code of data table name</span>
+	 * <span class="zh-CN">使用已缓存的数据表名识别代码</span>
+	 *
+	 * @param tableConfig <span class="en-US">Data table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @return <span class="en-US">Data table key</span>
+	 * <span class="zh-CN">数据表键</span>
+	 */
+	static String tableKey(@Nonnull final TableConfig tableConfig) {
+		return DatabaseUtils.tableKey(tableConfig.getTableName());
+	}
+
+	/**
+	 * <h4 class="en-US">Invalidate the cached results of data tables which the given records belong to</h4>
+	 * <h4 class="zh-CN">使给定记录所属数据表的缓存结果失效</h4>
+	 *
+	 * @param recordObjects <span class="en-US">Modified record instance array</span>
+	 *                      <span class="zh-CN">被修改的记录实例对象数组</span>
+	 */
+	private void modified(final BaseObject... recordObjects) {
+		if (recordObjects == null) {
+			return;
+		}
+		String[] tableKeys = Arrays.stream(recordObjects)
+				.filter(Objects::nonNull)
+				.map(recordObject -> EntityManager.tableConfig(recordObject.getClass()))
+				.filter(Objects::nonNull)
+				.map(ResultCacheClient::tableKey)
+				.distinct()
+				.toArray(String[]::new);
+		if (tableKeys.length == 0) {
+			return;
+		}
+		if (this.transactional) {
+			this.modifiedTables.addAll(Arrays.asList(tableKeys));
+		}
+		Optional.ofNullable(DatabaseUtils.resultCache()).ifPresent(resultCache -> resultCache.invalidate(tableKeys));
+	}
+
+	/**
+	 * <h4 class="en-US">Invalidate the modified data tables and unregister current client</h4>
+	 * <h4 class="zh-CN">使被修改的数据表失效并注销当前客户端</h4>
+	 */
+	private void clear() {
+		if (!this.modifiedTables.isEmpty()) {
+			String[] tableKeys = this.modifiedTables.toArray(new String[0]);
+			Optional.ofNullable(DatabaseUtils.resultCache())
+					.ifPresent(resultCache -> resultCache.invalidate(tableKeys));
+			this.modifiedTables.clear();
+		}
+		if (this.transactional) {
+			REGISTERED_TABLES.remove(this.clientKey, this.modifiedTables);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the data table keys which the given query reads</h4>
+	 * <h4 class="zh-CN">收集给定查询读取的数据表键</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query information instance object</span>
+	 *                  <span class="zh-CN">查询信息实例对象</span>
+	 * @return <span class="en-US">
+	 * Sorted data table keys, or <code>null</code> if the query result can not be cached
+	 * </span>
+	 * <span class="zh-CN">排序后的数据表键，如果查询结果不能缓存则返回 <code>null</code></span>
+	 */
+	private String[] cacheTables(@Nonnull final QueryInfo queryInfo) {
+		if (!queryInfo.isCacheables() || queryInfo.isForUpdate()
+				|| (queryInfo.getLockOption() != null && !LockOption.NONE.equals(queryInfo.getLockOption()))) {
+			return null;
+		}
+		Set<Class<?>> entityClasses = new HashSet<>();
+		collectEntities(queryInfo, entityClasses);
+		Set<String> tableKeys = new TreeSet<>();
+		for (Class<?> entityClass : entityClasses) {
+			TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+			if (tableConfig == null || !tableConfig.isCacheable()) {
+				return null;
+			}
+			String tableKey = tableKey(tableConfig);
+			if (this.modifiedTables.contains(tableKey)) {
+				return null;
+			}
+			tableKeys.add(tableKey);
+		}
+		return tableKeys.isEmpty() ? null : tableKeys.toArray(new String[0]);
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the entity classes which the given query reads, including the sub queries</h4>
+	 * <h4 class="zh-CN">收集给定查询读取的实体类，包括子查询</h4>
+	 *
+	 * @param queryInfo     <span class="en-US">Query information instance object</span>
+	 *                      <span class="zh-CN">查询信息实例对象</span>
+	 * @param entityClasses <span class="en-US">Collected entity classes</span>
+	 *                      <span class="zh-CN">收集的实体类</span>
+	 */
+	private static void collectEntities(final QueryInfo queryInfo, final Set<Class<?>> entityClasses) {
+		if (queryInfo == null) {
+			return;
+		}
+		Optional.ofNullable(queryInfo.getMainEntity()).ifPresent(entityClasses::add);
+		Optional.ofNullable(queryInfo.getQueryJoins())
+				.ifPresent(queryJoins -> queryJoins.forEach(queryJoin -> {
+					Optional.ofNullable(queryJoin.getMainEntity()).ifPresent(entityClasses::add);
+					Optional.ofNullable(queryJoin.getJoinEntity()).ifPresent(entityClasses::add);
+				}));
+		Optional.ofNullable(queryInfo.getItemList())
+				.ifPresent(itemList -> itemList.forEach(item -> collectEntities(item, entityClasses)));
+		Optional.ofNullable(queryInfo.getConditionList())
+				.ifPresent(conditionList ->
+						conditionList.forEach(condition -> collectEntities(condition, entityClasses)));
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the entity classes which the sub queries of given query item read</h4>
+	 * <h4 class="zh-CN">收集给定查询项目的子查询读取的实体类</h4>
+	 *
+	 * @param queryItem     <span class="en-US">Query item instance object</span>
+	 *                      <span class="zh-CN">查询项目实例对象</span>
+	 * @param entityClasses <span class="en-US">Collected entity classes</span>
+	 *                      <span class="zh-CN">收集的实体类</span>
+	 */
+	private static void collectEntities(final AbstractItem queryItem, final Set<Class<?>> entityClasses) {
+		if (queryItem instanceof QueryItem) {
+			collectEntities(((QueryItem) queryItem).getQueryInfo(), entityClasses);
+		} else if (queryItem instanceof FunctionItem) {
+			Optional.ofNullable(((FunctionItem) queryItem).getFunctionParams())
+					.ifPresent(functionParams ->
+							functionParams.forEach(functionParam -> collectEntities(functionParam, entityClasses)));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the entity classes which the sub queries of given query condition read</h4>
+	 * <h4 class="zh-CN">收集给定查询条件的子查询读取的实体类</h4>
+	 *
+	 * @param condition     <span class="en-US">Query condition instance object</span>
+	 *                      <span class="zh-CN">查询条件实例对象</span>
+	 * @param entityClasses <span class="en-US">Collected entity classes</span>
+	 *                      <span class="zh-CN">收集的实体类</span>
+	 */
+	private static void collectEntities(final Condition condition, final Set<Class<?>> entityClasses) {
+		if (condition instanceof ColumnCondition) {
+			collectEntities(((ColumnCondition) condition).getConditionParameter(), entityClasses);
+		} else if (condition instanceof GroupCondition) {
+			Optional.ofNullable(((GroupCondition) condition).getConditionList())
+					.ifPresent(conditionList ->
+							conditionList.forEach(groupCondition -> collectEntities(groupCondition, entityClasses)));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the entity classes which the sub queries of given query parameter read</h4>
+	 * <h4 class="zh-CN">收集给定查询参数的子查询读取的实体类</h4>
+	 *
+	 * @param parameter     <span class="en-US">Query parameter instance object</span>
+	 *                      <span class="zh-CN">查询参数实例对象</span>
+	 * @param entityClasses <span class="en-US">Collected entity classes</span>
+	 *                      <span class="zh-CN">收集的实体类</span>
+	 */
+	private static void collectEntities(final AbstractParameter<?> parameter, final Set<Class<?>> entityClasses) {
+		if (parameter instanceof QueryParameter) {
+			collectEntities(((QueryParameter) parameter).getItemValue(), entityClasses);
+		} else if (parameter instanceof FunctionParameter) {
+			collectEntities(((FunctionParameter) parameter).getItemValue(), entityClasses);
+		}
+	}
+}
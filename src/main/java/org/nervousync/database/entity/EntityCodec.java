@@ -0,0 +1,869 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.entity;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ObjectUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Entity binary codec</h2>
+ * <h2 class="zh-CN">实体二进制编解码器</h2>
+ * <span class="en-US">
+ * Generated for each registered entity class from the column configure list. The record is encoded by column ordinal:
+ * column count and schema hash, null bitmap, then the non-null column values. Integral numbers are encoded as
+ * zigzag varint, strings and binary data are encoded as varint length and bytes.
+ * </span>
+ * <span class="zh-CN">
+ * 根据列配置信息列表为每个已注册的实体类生成。记录按照列序号进行编码：列数和结构哈希值，空值位图，然后是非空的列值。
+ * 整数使用zigzag变长整数编码，字符串和二进制数据使用变长整数长度和字节数据编码。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 19:48:26 $
+ */
+public final class EntityCodec {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(EntityCodec.class);
+	/**
+	 * <span class="en-US">Registered codec mapping, key is entity class</span>
+	 * <span class="zh-CN">已注册的编解码器映射表，键为实体类</span>
+	 */
+	private static final Map<Class<?>, EntityCodec> REGISTERED_CODECS = new ConcurrentHashMap<>();
+
+	/**
+	 * <span class="en-US">Entity class</span>
+	 * <span class="zh-CN">实体类</span>
+	 */
+	private final Class<?> entityClass;
+	/**
+	 * <span class="en-US">Field name array, index is the column ordinal</span>
+	 * <span class="zh-CN">属性名数组，索引为列序号</span>
+	 */
+	private final String[] fieldNames;
+	/**
+	 * <span class="en-US">Field type array, index is the column ordinal</span>
+	 * <span class="zh-CN">属性类型数组，索引为列序号</span>
+	 */
+	private final Class<?>[] fieldTypes;
+	/**
+	 * <span class="en-US">Value type array, index is the column ordinal</span>
+	 * <span class="zh-CN">值类型数组，索引为列序号</span>
+	 */
+	private final ValueType[] valueTypes;
+	/**
+	 * <span class="en-US">Field accessor ordinal array, index is the column ordinal</span>
+	 * <span class="zh-CN">属性访问器序号数组，索引为列序号</span>
+	 */
+	private final int[] ordinals;
+	/**
+	 * <span class="en-US">Column ordinal mapping, key is field name</span>
+	 * <span class="zh-CN">列序号映射表，键为属性名</span>
+	 */
+	private final Map<String, Integer> columnOrdinals;
+	/**
+	 * <span class="en-US">Field accessor of entity class</span>
+	 * <span class="zh-CN">实体类的属性访问器</span>
+	 */
+	private final FieldAccessor fieldAccessor;
+	/**
+	 * <span class="en-US">Schema hash, calculated by field names and field types</span>
+	 * <span class="zh-CN">结构哈希值，由属性名和属性类型计算</span>
+	 */
+	private final int schemaHash;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for entity binary codec</h4>
+	 * <h4 class="zh-CN">实体二进制编解码器的私有构造方法</h4>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 */
+	private EntityCodec(@Nonnull final TableConfig tableConfig) {
+		this.entityClass = tableConfig.getDefineClass();
+		this.fieldAccessor = FieldAccessor.accessor(this.entityClass);
+		List<ColumnConfig> columnConfigs = tableConfig.getColumnConfigs();
+		int columnCount = columnConfigs.size();
+		this.fieldNames = new String[columnCount];
+		this.fieldTypes = new Class<?>[columnCount];
+		this.valueTypes = new ValueType[columnCount];
+		this.ordinals = new int[columnCount];
+		this.columnOrdinals = new HashMap<>();
+		StringBuilder stringBuilder = new StringBuilder();
+		for (int i = 0; i < columnCount; i++) {
+			ColumnConfig columnConfig = columnConfigs.get(i);
+			this.fieldNames[i] = columnConfig.getFieldName();
+			this.fieldTypes[i] = columnConfig.getFieldType();
+			this.valueTypes[i] = ValueType.valueOf(columnConfig.getFieldType());
+			this.ordinals[i] = this.fieldAccessor.ordinal(columnConfig.getFieldName());
+			this.columnOrdinals.put(columnConfig.getFieldName(), i);
+			stringBuilder.append(this.fieldNames[i]).append(':').append(this.fieldTypes[i].getName()).append(';');
+		}
+		this.schemaHash = stringBuilder.toString().hashCode();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the codec of given entity class</h4>
+	 * <h4 class="zh-CN">获取给定实体类的编解码器</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Entity codec or <code>null</code> if entity class not registered</span>
+	 * <span class="zh-CN">实体编解码器，如果实体类未注册返回 <code>null</code></span>
+	 */
+	public static EntityCodec codec(final Class<?> entityClass) {
+		return Optional.ofNullable(EntityManager.tableConfig(entityClass))
+				.map(tableConfig -> REGISTERED_CODECS.computeIfAbsent(tableConfig.getDefineClass(),
+						key -> new EntityCodec(tableConfig)))
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the codec of registered entity</h4>
+	 * <h4 class="zh-CN">生成已注册实体的编解码器</h4>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 */
+	static void register(@Nonnull final TableConfig tableConfig) {
+		REGISTERED_CODECS.put(tableConfig.getDefineClass(), new EntityCodec(tableConfig));
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the codec of given entity class</h4>
+	 * <h4 class="zh-CN">移除给定实体类的编解码器</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 */
+	static void remove(@Nonnull final Class<?> entityClass) {
+		REGISTERED_CODECS.remove(entityClass);
+	}
+
+	/**
+	 * <h4 class="en-US">Encode the given record object</h4>
+	 * <h4 class="zh-CN">编码给定的记录对象</h4>
+	 * <span class="en-US">The field values are read without invoking the getter method, unloaded lazy columns are encoded as null</span>
+	 * <span class="zh-CN">属性值的读取不调用Getter方法，未加载的懒加载数据列编码为空值</span>
+	 *
+	 * @param record <span class="en-US">Record object instance</span>
+	 *               <span class="zh-CN">记录实例对象</span>
+	 * @return <span class="en-US">Encoded binary data</span>
+	 * <span class="zh-CN">编码后的二进制数据</span>
+	 */
+	public byte[] encode(@Nonnull final Object record) {
+		Object[] values = new Object[this.fieldNames.length];
+		for (int i = 0; i < values.length; i++) {
+			if (this.ordinals[i] >= 0) {
+				values[i] = this.fieldAccessor.fieldValue(record, this.ordinals[i]);
+			}
+		}
+		return this.encodeValues(values);
+	}
+
+	/**
+	 * <h4 class="en-US">Encode the given record data mapping table</h4>
+	 * <h4 class="zh-CN">编码给定的记录数据映射表</h4>
+	 *
+	 * @param dataMap <span class="en-US">Record data mapping table, key is field name</span>
+	 *                <span class="zh-CN">记录数据映射表，键为属性名</span>
+	 * @return <span class="en-US">Encoded binary data or <code>null</code> if the mapping table contains unknown key or incompatible value</span>
+	 * <span class="zh-CN">编码后的二进制数据，如果映射表包含未知的键或不兼容的值返回 <code>null</code></span>
+	 */
+	public byte[] encodeMap(@Nonnull final Map<String, Object> dataMap) {
+		Object[] values = new Object[this.fieldNames.length];
+		for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+			Integer index = this.columnOrdinals.get(entry.getKey());
+			if (index == null) {
+				return null;
+			}
+			values[index] = entry.getValue();
+		}
+		try {
+			return this.encodeValues(values);
+		} catch (ClassCastException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Decode the given binary data to record object</h4>
+	 * <h4 class="zh-CN">解码给定的二进制数据为记录对象</h4>
+	 *
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param dataBytes   <span class="en-US">Binary data</span>
+	 *                    <span class="zh-CN">二进制数据</span>
+	 * @param targetClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Decoded record object or <code>null</code> if binary data invalid</span>
+	 * <span class="zh-CN">解码后的记录对象，如果二进制数据非法返回 <code>null</code></span>
+	 */
+	public <T> T decode(final byte[] dataBytes, @Nonnull final Class<T> targetClass) {
+		if (!targetClass.isAssignableFrom(this.entityClass)) {
+			return null;
+		}
+		if (dataBytes == null) {
+			return null;
+		}
+		return Optional.ofNullable(this.decodeValues(dataBytes, 0, dataBytes.length))
+				.map(values -> {
+					T record = targetClass.cast(ObjectUtils.newInstance(this.entityClass));
+					for (int i = 0; i < values.length; i++) {
+						if (values[i] != null && this.ordinals[i] >= 0) {
+							this.fieldAccessor.set(record, this.ordinals[i], values[i]);
+							if (record instanceof BaseObject) {
+								((BaseObject) record).loadField(this.fieldNames[i]);
+							}
+						}
+					}
+					return record;
+				})
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Decode the given binary data to record data mapping table</h4>
+	 * <h4 class="zh-CN">解码给定的二进制数据为记录数据映射表</h4>
+	 *
+	 * @param dataBytes <span class="en-US">Binary data</span>
+	 *                  <span class="zh-CN">二进制数据</span>
+	 * @return <span class="en-US">Decoded data mapping table, key is field name, or <code>null</code> if binary data invalid</span>
+	 * <span class="zh-CN">解码后的数据映射表，键为属性名，如果二进制数据非法返回 <code>null</code></span>
+	 */
+	public Map<String, Object> decodeMap(final byte[] dataBytes) {
+		if (dataBytes == null) {
+			return null;
+		}
+		return this.decodeMap(dataBytes, 0, dataBytes.length);
+	}
+
+	/**
+	 * <h4 class="en-US">Decode the given range of binary data to record data mapping table</h4>
+	 * <h4 class="zh-CN">解码给定范围的二进制数据为记录数据映射表</h4>
+	 * <span class="en-US">The binary data will not be copied, so the record can be decoded from a shared buffer</span>
+	 * <span class="zh-CN">不复制二进制数据，因此可以从共享的缓冲区中解码记录</span>
+	 * <span class="en-US">
+	 * The <code>null</code> values are not contained in the mapping table, same as method decode,
+	 * so the lazy load columns which not loaded when encoding keep lazy loading.
+	 * </span>
+	 * <span class="zh-CN">映射表中不包含<code>null</code>值，与decode方法一致，所以编码时未加载的懒加载列保持懒加载。</span>
+	 *
+	 * @param dataBytes <span class="en-US">Binary data</span>
+	 *                  <span class="zh-CN">二进制数据</span>
+	 * @param offset    <span class="en-US">Begin offset of record data</span>
+	 *                  <span class="zh-CN">记录数据的起始偏移量</span>
+	 * @param length    <span class="en-US">Length of record data</span>
+	 *                  <span class="zh-CN">记录数据的长度</span>
+	 * @return <span class="en-US">Decoded data mapping table, key is field name, or <code>null</code> if binary data invalid</span>
+	 * <span class="zh-CN">解码后的数据映射表，键为属性名，如果二进制数据非法返回 <code>null</code></span>
+	 */
+	public Map<String, Object> decodeMap(@Nonnull final byte[] dataBytes, final int offset, final int length) {
+		return Optional.ofNullable(this.decodeValues(dataBytes, offset, length))
+				.map(values -> {
+					Map<String, Object> dataMap = new LinkedHashMap<>();
+					for (int i = 0; i < values.length; i++) {
+						if (values[i] != null) {
+							dataMap.put(this.fieldNames[i], values[i]);
+						}
+					}
+					return dataMap;
+				})
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Encode the column values</h4>
+	 * <h4 class="zh-CN">编码列值</h4>
+	 *
+	 * @param values <span class="en-US">Column value array, index is the column ordinal</span>
+	 *               <span class="zh-CN">列值数组，索引为列序号</span>
+	 * @return <span class="en-US">Encoded binary data</span>
+	 * <span class="zh-CN">编码后的二进制数据</span>
+	 */
+	private byte[] encodeValues(@Nonnull final Object[] values) {
+		ByteWriter byteWriter = new ByteWriter();
+		byteWriter.writeVarLong(values.length);
+		byteWriter.writeFixedInt(this.schemaHash);
+		byte[] nullBitmap = new byte[(values.length + 7) >>> 3];
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == null) {
+				nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+			}
+		}
+		byteWriter.write(nullBitmap, nullBitmap.length);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				this.valueTypes[i].write(byteWriter, values[i]);
+			}
+		}
+		return byteWriter.toByteArray();
+	}
+
+	/**
+	 * <h4 class="en-US">Decode the column values</h4>
+	 * <h4 class="zh-CN">解码列值</h4>
+	 *
+	 * @param dataBytes <span class="en-US">Binary data</span>
+	 *                  <span class="zh-CN">二进制数据</span>
+	 * @param offset    <span class="en-US">Begin offset of record data</span>
+	 *                  <span class="zh-CN">记录数据的起始偏移量</span>
+	 * @param length    <span class="en-US">Length of record data</span>
+	 *                  <span class="zh-CN">记录数据的长度</span>
+	 * @return <span class="en-US">Column value array or <code>null</code> if binary data invalid</span>
+	 * <span class="zh-CN">列值数组，如果二进制数据非法返回 <code>null</code></span>
+	 */
+	private Object[] decodeValues(@Nonnull final byte[] dataBytes, final int offset, final int length) {
+		if (length <= 0) {
+			return null;
+		}
+		try {
+			ByteReader byteReader = new ByteReader(dataBytes, offset, length);
+			if (byteReader.readVarLong() != this.fieldNames.length || byteReader.readFixedInt() != this.schemaHash) {
+				LOGGER.error("Codec_Schema_Mismatch", this.entityClass.getName());
+				return null;
+			}
+			byte[] nullBitmap = byteReader.read((this.fieldNames.length + 7) >>> 3);
+			Object[] values = new Object[this.fieldNames.length];
+			for (int i = 0; i < values.length; i++) {
+				if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+					values[i] = this.valueTypes[i].read(byteReader, this.fieldTypes[i]);
+				}
+			}
+			return values;
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			LOGGER.error("Codec_Data_Invalid", this.entityClass.getName());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Column value type</h2>
+	 * <h2 class="zh-CN">列值类型</h2>
+	 */
+	private enum ValueType {
+		BOOLEAN {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.write((Boolean) value ? 1 : 0);
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return byteReader.read() != 0;
+			}
+		},
+		BYTE {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.write(((Number) value).byteValue());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return (byte) byteReader.read();
+			}
+		},
+		SHORT {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeZigZag(((Number) value).shortValue());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return (short) byteReader.readZigZag();
+			}
+		},
+		INTEGER {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeZigZag(((Number) value).intValue());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return (int) byteReader.readZigZag();
+			}
+		},
+		LONG {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeZigZag(((Number) value).longValue());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return byteReader.readZigZag();
+			}
+		},
+		FLOAT {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeFixedInt(Float.floatToIntBits(((Number) value).floatValue()));
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return Float.intBitsToFloat(byteReader.readFixedInt());
+			}
+		},
+		DOUBLE {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeFixedLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return Double.longBitsToDouble(byteReader.readFixedLong());
+			}
+		},
+		CHARACTER {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeVarLong((Character) value);
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return (char) byteReader.readVarLong();
+			}
+		},
+		STRING {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return byteReader.readString();
+			}
+		},
+		BINARY {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeBytes((byte[]) value);
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return byteReader.readBytes();
+			}
+		},
+		BIG_DECIMAL {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				BigDecimal bigDecimal = (BigDecimal) value;
+				byteWriter.writeBytes(bigDecimal.unscaledValue().toByteArray());
+				byteWriter.writeZigZag(bigDecimal.scale());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				BigInteger unscaledValue = new BigInteger(byteReader.readBytes());
+				return new BigDecimal(unscaledValue, (int) byteReader.readZigZag());
+			}
+		},
+		BIG_INTEGER {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeBytes(((BigInteger) value).toByteArray());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return new BigInteger(byteReader.readBytes());
+			}
+		},
+		DATE {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeZigZag(((Date) value).getTime());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				long timeMillis = byteReader.readZigZag();
+				if (java.sql.Date.class.equals(fieldType)) {
+					return new java.sql.Date(timeMillis);
+				} else if (Time.class.equals(fieldType)) {
+					return new Time(timeMillis);
+				}
+				return new Date(timeMillis);
+			}
+		},
+		TIMESTAMP {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				Timestamp timestamp = (Timestamp) value;
+				byteWriter.writeZigZag(timestamp.getTime());
+				byteWriter.writeVarLong(timestamp.getNanos());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				Timestamp timestamp = new Timestamp(byteReader.readZigZag());
+				timestamp.setNanos((int) byteReader.readVarLong());
+				return timestamp;
+			}
+		},
+		INSTANT {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				Instant instant = (Instant) value;
+				byteWriter.writeZigZag(instant.getEpochSecond());
+				byteWriter.writeVarLong(instant.getNano());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return Instant.ofEpochSecond(byteReader.readZigZag(), byteReader.readVarLong());
+			}
+		},
+		LOCAL_DATE {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeZigZag(((LocalDate) value).toEpochDay());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return LocalDate.ofEpochDay(byteReader.readZigZag());
+			}
+		},
+		LOCAL_TIME {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeVarLong(((LocalTime) value).toNanoOfDay());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return LocalTime.ofNanoOfDay(byteReader.readVarLong());
+			}
+		},
+		LOCAL_DATE_TIME {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				LocalDateTime localDateTime = (LocalDateTime) value;
+				byteWriter.writeZigZag(localDateTime.toLocalDate().toEpochDay());
+				byteWriter.writeVarLong(localDateTime.toLocalTime().toNanoOfDay());
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return LocalDateTime.of(LocalDate.ofEpochDay(byteReader.readZigZag()),
+						LocalTime.ofNanoOfDay(byteReader.readVarLong()));
+			}
+		},
+		ENUMERATION {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeBytes(((Enum<?>) value).name().getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				String name = byteReader.readString();
+				return Arrays.stream(fieldType.getEnumConstants())
+						.filter(constant -> ((Enum<?>) constant).name().equals(name))
+						.findFirst()
+						.orElseThrow(() -> new IllegalArgumentException(name));
+			}
+		},
+		OBJECT {
+			@Override
+			void write(final ByteWriter byteWriter, final Object value) {
+				byteWriter.writeBytes(StringUtils.objectToString(value, StringUtils.StringType.JSON, Boolean.FALSE)
+						.getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			Object read(final ByteReader byteReader, final Class<?> fieldType) {
+				return StringUtils.stringToObject(byteReader.readString(), fieldType);
+			}
+		};
+
+		/**
+		 * <h4 class="en-US">Write the column value</h4>
+		 * <h4 class="zh-CN">写入列值</h4>
+		 *
+		 * @param byteWriter <span class="en-US">Binary data writer</span>
+		 *                   <span class="zh-CN">二进制数据写入器</span>
+		 * @param value      <span class="en-US">Column value, not null</span>
+		 *                   <span class="zh-CN">列值，非空</span>
+		 */
+		abstract void write(final ByteWriter byteWriter, final Object value);
+
+		/**
+		 * <h4 class="en-US">Read the column value</h4>
+		 * <h4 class="zh-CN">读取列值</h4>
+		 *
+		 * @param byteReader <span class="en-US">Binary data reader</span>
+		 *                   <span class="zh-CN">二进制数据读取器</span>
+		 * @param fieldType  <span class="en-US">Field type</span>
+		 *                   <span class="zh-CN">属性类型</span>
+		 * @return <span class="en-US">Column value</span>
+		 * <span class="zh-CN">列值</span>
+		 */
+		abstract Object read(final ByteReader byteReader, final Class<?> fieldType);
+
+		/**
+		 * <h4 class="en-US">Retrieve the value type of given field type</h4>
+		 * <h4 class="zh-CN">获取给定属性类型的值类型</h4>
+		 *
+		 * @param fieldType <span class="en-US">Field type</span>
+		 *                  <span class="zh-CN">属性类型</span>
+		 * @return <span class="en-US">Value type</span>
+		 * <span class="zh-CN">值类型</span>
+		 */
+		static ValueType valueOf(@Nonnull final Class<?> fieldType) {
+			if (boolean.class.equals(fieldType) || Boolean.class.equals(fieldType)) {
+				return BOOLEAN;
+			} else if (byte.class.equals(fieldType) || Byte.class.equals(fieldType)) {
+				return BYTE;
+			} else if (short.class.equals(fieldType) || Short.class.equals(fieldType)) {
+				return SHORT;
+			} else if (int.class.equals(fieldType) || Integer.class.equals(fieldType)) {
+				return INTEGER;
+			} else if (long.class.equals(fieldType) || Long.class.equals(fieldType)) {
+				return LONG;
+			} else if (float.class.equals(fieldType) || Float.class.equals(fieldType)) {
+				return FLOAT;
+			} else if (double.class.equals(fieldType) || Double.class.equals(fieldType)) {
+				return DOUBLE;
+			} else if (char.class.equals(fieldType) || Character.class.equals(fieldType)) {
+				return CHARACTER;
+			} else if (String.class.equals(fieldType)) {
+				return STRING;
+			} else if (byte[].class.equals(fieldType)) {
+				return BINARY;
+			} else if (BigDecimal.class.equals(fieldType)) {
+				return BIG_DECIMAL;
+			} else if (BigInteger.class.equals(fieldType)) {
+				return BIG_INTEGER;
+			} else if (Timestamp.class.equals(fieldType)) {
+				return TIMESTAMP;
+			} else if (Date.class.isAssignableFrom(fieldType)) {
+				return DATE;
+			} else if (Instant.class.equals(fieldType)) {
+				return INSTANT;
+			} else if (LocalDate.class.equals(fieldType)) {
+				return LOCAL_DATE;
+			} else if (LocalTime.class.equals(fieldType)) {
+				return LOCAL_TIME;
+			} else if (LocalDateTime.class.equals(fieldType)) {
+				return LOCAL_DATE_TIME;
+			} else if (fieldType.isEnum()) {
+				return ENUMERATION;
+			}
+			return OBJECT;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Binary data writer</h2>
+	 * <h2 class="zh-CN">二进制数据写入器</h2>
+	 */
+	private static final class ByteWriter {
+
+		/**
+		 * <span class="en-US">Data buffer</span>
+		 * <span class="zh-CN">数据缓冲区</span>
+		 */
+		private byte[] buffer = new byte[64];
+		/**
+		 * <span class="en-US">Written length</span>
+		 * <span class="zh-CN">已写入的长度</span>
+		 */
+		private int length = 0;
+
+		void write(final int value) {
+			this.ensureCapacity(1);
+			this.buffer[this.length++] = (byte) value;
+		}
+
+		void write(final byte[] dataBytes, final int dataLength) {
+			this.ensureCapacity(dataLength);
+			System.arraycopy(dataBytes, 0, this.buffer, this.length, dataLength);
+			this.length += dataLength;
+		}
+
+		void writeBytes(final byte[] dataBytes) {
+			this.writeVarLong(dataBytes.length);
+			this.write(dataBytes, dataBytes.length);
+		}
+
+		void writeVarLong(final long value) {
+			long current = value;
+			while ((current & ~0x7FL) != 0L) {
+				this.write((int) ((current & 0x7F) | 0x80));
+				current >>>= 7;
+			}
+			this.write((int) current);
+		}
+
+		void writeZigZag(final long value) {
+			this.writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeFixedInt(final int value) {
+			for (int i = 0; i < Integer.BYTES; i++) {
+				this.write(value >>> (i << 3));
+			}
+		}
+
+		void writeFixedLong(final long value) {
+			for (int i = 0; i < Long.BYTES; i++) {
+				this.write((int) (value >>> (i << 3)));
+			}
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(this.buffer, this.length);
+		}
+
+		private void ensureCapacity(final int dataLength) {
+			if (this.length + dataLength > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.length + dataLength));
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Binary data reader</h2>
+	 * <h2 class="zh-CN">二进制数据读取器</h2>
+	 */
+	private static final class ByteReader {
+
+		/**
+		 * <span class="en-US">Binary data</span>
+		 * <span class="zh-CN">二进制数据</span>
+		 */
+		private final byte[] dataBytes;
+		/**
+		 * <span class="en-US">End position of record data</span>
+		 * <span class="zh-CN">记录数据的结束位置</span>
+		 */
+		private final int limit;
+		/**
+		 * <span class="en-US">Read position</span>
+		 * <span class="zh-CN">读取位置</span>
+		 */
+		private int position;
+
+		ByteReader(@Nonnull final byte[] dataBytes, final int offset, final int length) {
+			Objects.checkFromIndexSize(offset, length, dataBytes.length);
+			this.dataBytes = dataBytes;
+			this.position = offset;
+			this.limit = offset + length;
+		}
+
+		int read() {
+			Objects.checkIndex(this.position, this.limit);
+			return this.dataBytes[this.position++] & 0xFF;
+		}
+
+		byte[] read(final int dataLength) {
+			Objects.checkFromIndexSize(this.position, dataLength, this.limit);
+			byte[] readBytes = Arrays.copyOfRange(this.dataBytes, this.position, this.position + dataLength);
+			this.position += dataLength;
+			return readBytes;
+		}
+
+		byte[] readBytes() {
+			return this.read(this.readLength());
+		}
+
+		String readString() {
+			int dataLength = this.readLength();
+			Objects.checkFromIndexSize(this.position, dataLength, this.limit);
+			String string = new String(this.dataBytes, this.position, dataLength, StandardCharsets.UTF_8);
+			this.position += dataLength;
+			return string;
+		}
+
+		private int readLength() {
+			long dataLength = this.readVarLong();
+			if (dataLength < 0L || dataLength > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Invalid length: " + dataLength);
+			}
+			return (int) dataLength;
+		}
+
+		long readVarLong() {
+			long value = 0L;
+			for (int shift = 0; shift < Long.SIZE; shift += 7) {
+				int current = this.read();
+				value |= (long) (current & 0x7F) << shift;
+				if ((current & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed varint");
+		}
+
+		long readZigZag() {
+			long value = this.readVarLong();
+			return (value >>> 1) ^ -(value & 1L);
+		}
+
+		int readFixedInt() {
+			int value = 0;
+			for (int i = 0; i < Integer.BYTES; i++) {
+				value |= this.read() << (i << 3);
+			}
+			return value;
+		}
+
+		long readFixedLong() {
+			long value = 0L;
+			for (int i = 0; i < Long.BYTES; i++) {
+				value |= (long) this.read() << (i << 3);
+			}
+			return value;
+		}
+	}
+}
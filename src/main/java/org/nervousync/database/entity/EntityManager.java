@@ -21,25 +21,27 @@ import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.Table;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.agent.ByteBuddyAgent;
-import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassReloadingStrategy;
-import net.bytebuddy.matcher.ElementMatchers;
 import org.nervousync.commons.Globals;
-import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.annotations.table.Enhanced;
 import org.nervousync.database.beans.configs.reference.JoinConfig;
 import org.nervousync.database.beans.configs.reference.ReferenceConfig;
 import org.nervousync.database.beans.configs.table.TableConfig;
 import org.nervousync.database.beans.configs.transfer.TransferBean;
 import org.nervousync.database.commons.DatabaseUtils;
 import org.nervousync.database.entity.core.BaseObject;
-import org.nervousync.database.interceptors.DataModifyInterceptor;
-import org.nervousync.database.interceptors.LazyLoadInterceptor;
+import org.nervousync.database.interceptors.EntityEnhancePlugin;
+import org.nervousync.database.providers.metadata.TableMetadataProvider;
 import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.utils.*;
 
 import java.lang.reflect.Member;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * <h2 class="en-US">Entity Class Manager</h2>
@@ -58,21 +60,40 @@ public final class EntityManager {
 	 * <span class="en-US">Registered table configure mapping</span>
 	 * <span class="zh-CN">已注册的数据表配置信息映射</span>
 	 */
-	private static final Hashtable<String, TableConfig> REGISTERED_CONFIGS = new Hashtable<>();
+	private static final Map<String, TableConfig> REGISTERED_CONFIGS = new ConcurrentHashMap<>();
 	/**
 	 * <span class="en-US">Registered data transfer configure mapping</span>
 	 * <span class="zh-CN">已注册的数据传输配置信息映射</span>
 	 */
-	private static final Hashtable<String, TransferBean<?>> REGISTERED_TRANSFERS = new Hashtable<>();
+	private static final Map<String, TransferBean<?>> REGISTERED_TRANSFERS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">
+	 * Registered entity information snapshot, using entity class as key.
+	 * The snapshot is immutable and replaced on registration or removal, so read operations need not acquire any lock.
+	 * </span>
+	 * <span class="zh-CN">以实体类为键的已注册实体信息快照，快照不可修改，注册或移除时整体替换，因此读取操作无需加锁</span>
+	 */
+	private static volatile Map<Class<?>, RegisteredEntity> REGISTERED_ENTITIES = Map.of();
+	/**
+	 * <span class="en-US">Original class name cache of entity class or proxy class</span>
+	 * <span class="zh-CN">实体类或代理类的原始类名缓存</span>
+	 */
+	private static final ClassValue<String> ORIGINAL_NAMES = new ClassValue<>() {
+		@Override
+		protected String computeValue(final Class<?> type) {
+			return ClassUtils.originalClassName(type);
+		}
+	};
 	/**
 	 * <span class="en-US">Redefined entity class list</span>
 	 * <span class="zh-CN">重新定义的实体类列表</span>
 	 */
-	private static final List<Class<?>> REDEFINED_CLASSES = new ArrayList<>();
-
-	static {
-		ByteBuddyAgent.install();
-	}
+	private static final Set<Class<?>> REDEFINED_CLASSES = ConcurrentHashMap.newKeySet();
+	/**
+	 * <span class="en-US">Table metadata snapshot, <code>null</code> if snapshot was disabled</span>
+	 * <span class="zh-CN">数据表元数据快照，如果未启用快照则为<code>null</code></span>
+	 */
+	private static volatile MetadataSnapshot METADATA_SNAPSHOT = null;
 
 	/**
 	 * <h4 class="en-US">Private constructor for EntityManager</h4>
@@ -81,6 +102,23 @@ public final class EntityManager {
 	private EntityManager() {
 	}
 
+	/**
+	 * <h4 class="en-US">Configure the file path of table metadata snapshot</h4>
+	 * <h4 class="zh-CN">设置数据表元数据快照的文件路径</h4>
+	 * <span class="en-US">
+	 * The parsed table configure information will be written to the snapshot file after registration,
+	 * and will be loaded from the snapshot at next startup if the bytecode of entity class was not changed.
+	 * Snapshot will be disabled if the given path is empty.
+	 * </span>
+	 * <span class="zh-CN">注册完成后解析的数据表配置信息将写入快照文件，下次启动时如果实体类字节码未发生变化，将从快照中读取。如果给定的路径为空则禁用快照</span>
+	 *
+	 * @param snapshotPath <span class="en-US">Snapshot file path</span>
+	 *                     <span class="zh-CN">快照文件路径</span>
+	 */
+	public static void metadataSnapshot(final String snapshotPath) {
+		METADATA_SNAPSHOT = StringUtils.isEmpty(snapshotPath) ? null : new MetadataSnapshot(Path.of(snapshotPath));
+	}
+
 	/**
 	 * <h4 class="en-US">Parse the given array of entity classes and write the mapping relationship into the mapping table</h4>
 	 * <h4 class="zh-CN">解析给定的实体类数组，并将映射关系写入映射表</h4>
@@ -91,10 +129,65 @@ public final class EntityManager {
 	 * <span class="zh-CN">注册的数据表配置信息实例对象列表</span>
 	 */
 	public static List<TableConfig> registerTable(final Class<?>... entityClasses) {
+		return registerTable(Boolean.FALSE, entityClasses);
+	}
+
+	/**
+	 * <h4 class="en-US">Parse the given array of entity classes and write the mapping relationship into the mapping table</h4>
+	 * <h4 class="zh-CN">解析给定的实体类数组，并将映射关系写入映射表</h4>
+	 * <span class="en-US">
+	 * In parallel mode, the entity metadata is scanned on the fork-join pool,
+	 * and all collected entity classes are redefined by a single batched class reloading operation.
+	 * The elapsed time of each phase will be written to the log.
+	 * </span>
+	 * <span class="zh-CN">并行模式下，实体元数据在ForkJoin线程池中扫描，所有收集到的实体类通过一次批量类重载操作完成重新定义，各阶段的耗时将写入日志</span>
+	 *
+	 * @param parallel      <span class="en-US">Register using parallel mode</span>
+	 *                      <span class="zh-CN">使用并行模式注册</span>
+	 * @param entityClasses <span class="en-US">Entity classes array</span>
+	 *                      <span class="zh-CN">实体类数组</span>
+	 * @return <span class="en-US">Registered TableConfig instance list</span>
+	 * <span class="zh-CN">注册的数据表配置信息实例对象列表</span>
+	 */
+	public static List<TableConfig> registerTable(final boolean parallel, final Class<?>... entityClasses) {
 		List<TableConfig> registeredTables = new ArrayList<>();
-		Arrays.asList(entityClasses).forEach(entityClass ->
-				Optional.ofNullable(TableConfig.newInstance(entityClass))
-						.ifPresent(EntityManager::registerTable));
+		if (!parallel) {
+			Arrays.asList(entityClasses).forEach(entityClass ->
+					Optional.ofNullable(parseConfig(entityClass))
+							.filter(EntityManager::validConfig)
+							.ifPresent(tableConfig -> {
+								registerTable(tableConfig);
+								registeredTables.add(tableConfig);
+							}));
+			Optional.ofNullable(METADATA_SNAPSHOT).ifPresent(MetadataSnapshot::save);
+			return registeredTables;
+		}
+
+		long beginTime = System.currentTimeMillis();
+		List<RegisteredEntity> scannedEntities =
+				Arrays.stream(entityClasses)
+						.parallel()
+						.filter(Objects::nonNull)
+						.map(EntityManager::parseConfig)
+						.filter(Objects::nonNull)
+						.filter(EntityManager::validConfig)
+						.map(tableConfig -> new RegisteredEntity(tableConfig,
+								TransferBean.newInstance(tableConfig.getDefineClass())))
+						.toList();
+		long scanTime = System.currentTimeMillis();
+
+		scannedEntities.forEach(registeredEntity -> {
+			register(registeredEntity.tableConfig(), registeredEntity.transferBean());
+			registeredTables.add(registeredEntity.tableConfig());
+		});
+		long registerTime = System.currentTimeMillis();
+
+		redefineClasses(registeredTables.stream().map(TableConfig::getDefineClass).toList());
+		long redefineTime = System.currentTimeMillis();
+
+		LOGGER.info("Table_Register_Statistics", registeredTables.size(),
+				scanTime - beginTime, registerTime - scanTime, redefineTime - registerTime);
+		Optional.ofNullable(METADATA_SNAPSHOT).ifPresent(MetadataSnapshot::save);
 		return registeredTables;
 	}
 
@@ -106,16 +199,110 @@ public final class EntityManager {
 	 *                    <span class="zh-CN">数据表配置信息实例对象</span>
 	 */
 	public static void registerTable(@Nonnull final TableConfig tableConfig) {
-		if (StringUtils.isEmpty(tableConfig.getSchemaName()) || StringUtils.isEmpty(tableConfig.getTableName())) {
-			return;
+		if (validConfig(tableConfig)) {
+			register(tableConfig, TransferBean.newInstance(tableConfig.getDefineClass()));
+			redefineClass(tableConfig.getDefineClass());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Parse table configure information of given entity class</h4>
+	 * <h4 class="zh-CN">解析给定实体类的数据表配置信息</h4>
+	 * <span class="en-US">
+	 * The metadata provider generated by annotation processor will be used first,
+	 * then the metadata snapshot if enabled, parse the entity class by reflection if both not found.
+	 * </span>
+	 * <span class="zh-CN">优先使用注解处理器生成的元数据适配器，其次使用已启用的元数据快照，如果均未找到，则通过反射解析实体类</span>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Table configure information instance</span>
+	 * <span class="zh-CN">数据表配置信息实例对象</span>
+	 */
+	private static TableConfig parseConfig(@Nonnull final Class<?> entityClass) {
+		TableConfig tableConfig = generatedConfig(entityClass);
+		if (tableConfig != null) {
+			return tableConfig;
+		}
+		MetadataSnapshot metadataSnapshot = METADATA_SNAPSHOT;
+		if (metadataSnapshot == null) {
+			return TableConfig.newInstance(entityClass);
+		}
+		tableConfig = metadataSnapshot.load(entityClass);
+		if (tableConfig == null) {
+			tableConfig = TableConfig.newInstance(entityClass);
+			if (tableConfig != null) {
+				metadataSnapshot.store(entityClass, tableConfig);
+			}
+		} else if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Metadata_Snapshot_Hit", entityClass.getName());
+		}
+		return tableConfig;
+	}
+
+	/**
+	 * <h4 class="en-US">Load table configure information from generated metadata provider</h4>
+	 * <h4 class="zh-CN">从生成的元数据适配器中读取数据表配置信息</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Table configure information instance or <code>null</code> if not generated</span>
+	 * <span class="zh-CN">数据表配置信息实例对象，如果未生成则返回<code>null</code></span>
+	 */
+	private static TableConfig generatedConfig(@Nonnull final Class<?> entityClass) {
+		Class<?> providerClass;
+		try {
+			providerClass = Class.forName(entityClass.getName() + TableMetadataProvider.CLASS_NAME_SUFFIX,
+					Boolean.TRUE, entityClass.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			return null;
 		}
-		String className = ClassUtils.originalClassName(tableConfig.getDefineClass());
+		if (!TableMetadataProvider.class.isAssignableFrom(providerClass)) {
+			return null;
+		}
+		try {
+			return Optional.ofNullable((TableMetadataProvider) ObjectUtils.newInstance(providerClass))
+					.map(TableMetadataProvider::tableConfig)
+					.filter(tableConfig -> entityClass.equals(tableConfig.getDefineClass()))
+					.orElse(null);
+		} catch (Exception e) {
+			LOGGER.warn("Table_Metadata_Load_Error", entityClass.getName());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given data table configuration information contains schema name and table name</h4>
+	 * <h4 class="zh-CN">检查给定的数据表配置信息是否包含数据库名称和数据表名</h4>
+	 *
+	 * @param tableConfig <span class="en-US">TableConfig instance</span>
+	 *                    <span class="zh-CN">数据表配置信息实例对象</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean validConfig(@Nonnull final TableConfig tableConfig) {
+		return StringUtils.notBlank(tableConfig.getSchemaName()) && StringUtils.notBlank(tableConfig.getTableName());
+	}
+
+	/**
+	 * <h4 class="en-US">Write the given data table configuration information and data transfer configuration information into the mapping table</h4>
+	 * <h4 class="zh-CN">将给定的数据表配置信息和数据传输配置信息写入映射表</h4>
+	 *
+	 * @param tableConfig  <span class="en-US">TableConfig instance</span>
+	 *                     <span class="zh-CN">数据表配置信息实例对象</span>
+	 * @param transferBean <span class="en-US">Data transfer configure information</span>
+	 *                     <span class="zh-CN">数据传输配置信息</span>
+	 */
+	private static void register(@Nonnull final TableConfig tableConfig, final TransferBean<?> transferBean) {
+		String className = ORIGINAL_NAMES.get(tableConfig.getDefineClass());
 		if (tableExists(className)) {
 			LOGGER.warn("Table_Config_Override",
 					tableConfig.getDefineClass().getName(), tableConfig.getTableName());
 		}
 		REGISTERED_CONFIGS.put(tableConfig.getTableName(), tableConfig);
-		TransferBean<?> transferBean = TransferBean.newInstance(tableConfig.getDefineClass());
 		REGISTERED_TRANSFERS.put(className, transferBean);
 		Optional.of(DatabaseUtils.tableKey(tableConfig.getTableName()))
 				.filter(StringUtils::notBlank)
@@ -123,11 +310,14 @@ public final class EntityManager {
 					REGISTERED_CONFIGS.put(tableKey, tableConfig);
 					REGISTERED_TRANSFERS.put(tableKey, transferBean);
 				});
-		redefineClass(tableConfig.getDefineClass());
 		REGISTERED_CONFIGS.put(className, tableConfig);
 		Optional.of(DatabaseUtils.tableKey(className))
 				.filter(StringUtils::notBlank)
 				.ifPresent(tableKey -> REGISTERED_CONFIGS.put(tableKey, tableConfig));
+		FieldAccessor.accessor(tableConfig.getDefineClass());
+		EntityCodec.register(tableConfig);
+		updateEntities(registeredEntities ->
+				registeredEntities.put(tableConfig.getDefineClass(), new RegisteredEntity(tableConfig, transferBean)));
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Table_Config_Info", tableConfig.getDefineClass().getName(),
 					tableConfig.getTableName());
@@ -146,12 +336,18 @@ public final class EntityManager {
 	public static List<TableConfig> removeTable(final Class<?>... entityClasses) {
 		List<TableConfig> removedTables = new ArrayList<>();
 		Arrays.stream(entityClasses)
-				.filter(entityClass -> REGISTERED_CONFIGS.containsKey(ClassUtils.originalClassName(entityClass)))
+				.filter(EntityManager::tableExists)
 				.forEach(entityClass -> {
-					String className = ClassUtils.originalClassName(entityClass);
+					String className = ORIGINAL_NAMES.get(entityClass);
 					TableConfig tableConfig = REGISTERED_CONFIGS.get(className);
 					REGISTERED_CONFIGS.remove(tableConfig.getTableName());
+					REGISTERED_CONFIGS.remove(DatabaseUtils.tableKey(tableConfig.getTableName()));
 					REGISTERED_CONFIGS.remove(className);
+					REGISTERED_CONFIGS.remove(DatabaseUtils.tableKey(className));
+					REGISTERED_TRANSFERS.remove(DatabaseUtils.tableKey(tableConfig.getTableName()));
+					REGISTERED_TRANSFERS.remove(className);
+					updateEntities(registeredEntities -> registeredEntities.remove(tableConfig.getDefineClass()));
+					EntityCodec.remove(tableConfig.getDefineClass());
 					removedTables.add(tableConfig);
 				});
 		return removedTables;
@@ -183,10 +379,7 @@ public final class EntityManager {
 	 * <span class="zh-CN">已注册返回 <code>true</code>，未注册返回 <code>false</code></span>
 	 */
 	public static boolean tableExists(final Class<?> defineClass) {
-		if (defineClass == null) {
-			return Boolean.FALSE;
-		}
-		return REGISTERED_CONFIGS.containsKey(ClassUtils.originalClassName(defineClass));
+		return tableConfig(defineClass) != null;
 	}
 
 	/**
@@ -216,7 +409,14 @@ public final class EntityManager {
 	 * <span class="zh-CN">检索到的数据表配置信息实例对象</span>
 	 */
 	public static TableConfig tableConfig(final Class<?> defineClass) {
-		return tableConfig(ClassUtils.originalClassName(defineClass));
+		if (defineClass == null) {
+			return null;
+		}
+		RegisteredEntity registeredEntity = REGISTERED_ENTITIES.get(defineClass);
+		if (registeredEntity == null) {
+			return tableConfig(ORIGINAL_NAMES.get(defineClass));
+		}
+		return registeredEntity.tableConfig();
 	}
 
 	/**
@@ -245,7 +445,9 @@ public final class EntityManager {
 	 * <span class="zh-CN">检索到的数据表名</span>
 	 */
 	public static String tableName(final Class<?> defineClass) {
-		return tableName(ClassUtils.originalClassName(defineClass));
+		return Optional.ofNullable(tableConfig(defineClass))
+				.map(TableConfig::getTableName)
+				.orElse(Globals.DEFAULT_VALUE_STRING);
 	}
 
 	/**
@@ -294,7 +496,9 @@ public final class EntityManager {
 	 * <span class="zh-CN">检索到的数据库名称</span>
 	 */
 	public static String schemaName(final Class<?> defineClass) {
-		return schemaName(ClassUtils.originalClassName(defineClass));
+		return Optional.ofNullable(tableConfig(defineClass))
+				.map(TableConfig::getSchemaName)
+				.orElse(Globals.DEFAULT_VALUE_STRING);
 	}
 
 	/**
@@ -345,7 +549,7 @@ public final class EntityManager {
 	 * <span class="zh-CN">生成的实体类实例对象</span>
 	 */
 	public static <T> T dataMapToObject(final Class<T> entityClass, final Map<String, String> dataMap) {
-		return Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(entityClass)))
+		return Optional.ofNullable(transferBean(entityClass))
 				.map(transferBean -> entityClass.cast(transferBean.convert(dataMap)))
 				.orElse(null);
 	}
@@ -363,7 +567,7 @@ public final class EntityManager {
 	 */
 	public static Map<String, String> parseList(@Nonnull final Class<?> entityClass,
 	                                            @Nonnull final List<String> dataValues) {
-		return Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(entityClass)))
+		return Optional.ofNullable(transferBean(entityClass))
 				.map(transferBean -> transferBean.parseList(dataValues))
 				.orElse(new HashMap<>());
 	}
@@ -381,7 +585,7 @@ public final class EntityManager {
 	 */
 	public static Map<String, Object> unmarshalMap(@Nonnull final Class<?> entityClass,
 	                                               @Nonnull final Map<String, String> transferMap) {
-		return Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(entityClass)))
+		return Optional.ofNullable(transferBean(entityClass))
 				.map(transferBean -> transferBean.unmarshalMap(transferMap))
 				.orElse(new HashMap<>());
 	}
@@ -399,16 +603,14 @@ public final class EntityManager {
 	 */
 	public static Map<String, String> objectToMap(final boolean removeRecord, @Nonnull final BaseObject baseObject) {
 		Map<String, String> dataMap = new HashMap<>();
-		if (tableExists(ClassUtils.originalClassName(baseObject.getClass()))) {
-			Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(baseObject.getClass())))
+		if (tableExists(baseObject.getClass())) {
+			Optional.ofNullable(transferBean(baseObject.getClass()))
 					.ifPresent(transferBean ->
 							Optional.ofNullable(tableConfig(baseObject.getClass()))
 									.ifPresent(tableConfig -> {
 										List<String> fieldNames = new ArrayList<>();
 										if (removeRecord) {
-											tableConfig.getColumnConfigs()
-													.stream()
-													.filter(ColumnConfig::isPrimaryKey)
+											tableConfig.primaryKeyColumns()
 													.forEach(columnConfig -> fieldNames.add(columnConfig.getFieldName()));
 										} else {
 											fieldNames.addAll(baseObject.modifiedColumns());
@@ -433,7 +635,7 @@ public final class EntityManager {
 	 *                    <span class="zh-CN">实体对象实例</span>
 	 */
 	public static void appendToExcel(@Nonnull final ExcelWriter excelWriter, @Nonnull final Object object) {
-		Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(object.getClass())))
+		Optional.ofNullable(transferBean(object.getClass()))
 				.ifPresent(transferBean -> transferBean.appendData(excelWriter, object));
 	}
 
@@ -452,7 +654,7 @@ public final class EntityManager {
 		if (StringUtils.isEmpty(schemaName)) {
 			return Boolean.FALSE;
 		}
-		return Optional.ofNullable(tableConfig(ClassUtils.originalClassName(object.getClass())))
+		return Optional.ofNullable(tableConfig(object.getClass()))
 				.map(tableConfig -> ObjectUtils.nullSafeEquals(tableConfig.getSchemaName(), schemaName))
 				.orElse(Boolean.FALSE);
 	}
@@ -464,6 +666,43 @@ public final class EntityManager {
 	public static void destroy() {
 		REGISTERED_CONFIGS.clear();
 		REGISTERED_TRANSFERS.clear();
+		updateEntities(Map::clear);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the data transfer configure information instance object according to the given entity class</h4>
+	 * <h4 class="zh-CN">根据给定的实体类检索数据传输配置信息实例对象</h4>
+	 *
+	 * @param defineClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Retrieved TransferBean instance or <code>null</code> if not registered</span>
+	 * <span class="zh-CN">检索到的数据传输配置信息实例对象，如果未注册则返回 <code>null</code></span>
+	 */
+	private static TransferBean<?> transferBean(final Class<?> defineClass) {
+		if (defineClass == null) {
+			return null;
+		}
+		RegisteredEntity registeredEntity = REGISTERED_ENTITIES.get(defineClass);
+		if (registeredEntity == null) {
+			return Optional.ofNullable(ORIGINAL_NAMES.get(defineClass))
+					.filter(StringUtils::notBlank)
+					.map(REGISTERED_TRANSFERS::get)
+					.orElse(null);
+		}
+		return registeredEntity.transferBean();
+	}
+
+	/**
+	 * <h4 class="en-US">Replace the registered entity information snapshot by given modifier</h4>
+	 * <h4 class="zh-CN">使用给定的修改器替换已注册实体信息快照</h4>
+	 *
+	 * @param modifier <span class="en-US">Snapshot modifier</span>
+	 *                 <span class="zh-CN">快照修改器</span>
+	 */
+	private static synchronized void updateEntities(final Consumer<Map<Class<?>, RegisteredEntity>> modifier) {
+		Map<Class<?>, RegisteredEntity> registeredEntities = new HashMap<>(REGISTERED_ENTITIES);
+		modifier.accept(registeredEntities);
+		REGISTERED_ENTITIES = Map.copyOf(registeredEntities);
 	}
 
 	/**
@@ -498,24 +737,121 @@ public final class EntityManager {
 			return;
 		}
 		Optional.ofNullable(entityClass.getSuperclass()).ifPresent(EntityManager::redefineClass);
-		if (entityClass.isAnnotationPresent(MappedSuperclass.class) || entityClass.isAnnotationPresent(Table.class)) {
-			DynamicType.Builder<?> byteBuddy = new ByteBuddy().redefine(entityClass)
-					.visit(Advice.to(DataModifyInterceptor.class)
-							.on(ElementMatchers.isSetter().and(ElementMatchers.not(ElementMatchers.isStatic()))));
-			final DynamicType.Unloaded<?> unloaded;
-			if (EntityManager.containsLazyLoad(entityClass)) {
-				unloaded = byteBuddy.visit(Advice.to(LazyLoadInterceptor.class)
-								.on(ElementMatchers.isGetter().and(ElementMatchers.not(ElementMatchers.isStatic()))))
-						.make();
-			} else {
-				unloaded = byteBuddy.make();
-			}
-			try {
-				unloaded.load(entityClass.getClassLoader(), ClassReloadingStrategy.fromInstalledAgent());
-			} finally {
-				IOUtils.closeStream(unloaded);
+		Optional.ofNullable(enhance(entityClass))
+				.ifPresent(unloaded -> {
+					try {
+						unloaded.load(entityClass.getClassLoader(), AgentHolder.RELOADING_STRATEGY);
+					} finally {
+						IOUtils.closeStream(unloaded);
+					}
+				});
+		REDEFINED_CLASSES.add(entityClass);
+	}
+
+	/**
+	 * <h4 class="en-US">Use Bytebuddy to modify the given entity classes, and redefine them in a single batch for each class loader</h4>
+	 * <h4 class="zh-CN">使用Bytebuddy对给定的实体类进行修改，并按类加载器分组批量重新定义</h4>
+	 *
+	 * @param entityClasses <span class="en-US">Entity define class list</span>
+	 *                      <span class="zh-CN">实体类定义列表</span>
+	 */
+	private static void redefineClasses(final List<Class<?>> entityClasses) {
+		Set<Class<?>> pendingClasses = new LinkedHashSet<>();
+		entityClasses.forEach(entityClass -> pendingClasses(entityClass, pendingClasses));
+		if (pendingClasses.isEmpty()) {
+			return;
+		}
+		Map<Class<?>, DynamicType.Unloaded<?>> enhancedTypes = new LinkedHashMap<>();
+		pendingClasses.parallelStream()
+				.map(entityClass -> Optional.ofNullable(enhance(entityClass))
+						.map(unloaded -> Map.<Class<?>, DynamicType.Unloaded<?>>entry(entityClass, unloaded)))
+				.flatMap(Optional::stream)
+				.toList()
+				.forEach(entry -> enhancedTypes.put(entry.getKey(), entry.getValue()));
+		if (enhancedTypes.isEmpty()) {
+			REDEFINED_CLASSES.addAll(pendingClasses);
+			return;
+		}
+		try {
+			Map<ClassLoader, Map<TypeDescription, byte[]>> redefineTypes = new HashMap<>();
+			enhancedTypes.forEach((entityClass, unloaded) ->
+					redefineTypes.computeIfAbsent(entityClass.getClassLoader(), classLoader -> new LinkedHashMap<>())
+							.put(unloaded.getTypeDescription(), unloaded.getBytes()));
+			redefineTypes.forEach(AgentHolder.RELOADING_STRATEGY::load);
+		} finally {
+			enhancedTypes.values().forEach(IOUtils::closeStream);
+		}
+		REDEFINED_CLASSES.addAll(pendingClasses);
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the given entity class and its super classes which not redefined, super classes first</h4>
+	 * <h4 class="zh-CN">收集给定的实体类及其尚未重新定义的父类，父类优先</h4>
+	 *
+	 * @param entityClass    <span class="en-US">Entity define class</span>
+	 *                       <span class="zh-CN">实体类定义</span>
+	 * @param pendingClasses <span class="en-US">Collected class set</span>
+	 *                       <span class="zh-CN">收集的类集合</span>
+	 */
+	private static void pendingClasses(final Class<?> entityClass, final Set<Class<?>> pendingClasses) {
+		if (entityClass == null || REDEFINED_CLASSES.contains(entityClass)) {
+			return;
+		}
+		pendingClasses(entityClass.getSuperclass(), pendingClasses);
+		pendingClasses.add(entityClass);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the modified type of given entity class</h4>
+	 * <h4 class="zh-CN">生成给定实体类修改后的类型</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity define class</span>
+	 *                    <span class="zh-CN">实体类定义</span>
+	 * @return <span class="en-US">Modified type or <code>null</code> if the given class is not an entity class or already enhanced at build time</span>
+	 * <span class="zh-CN">修改后的类型，如果给定的类不是实体类或已在构建时增强则返回 <code>null</code></span>
+	 */
+	private static DynamicType.Unloaded<?> enhance(final Class<?> entityClass) {
+		if (!entityClass.isAnnotationPresent(MappedSuperclass.class) && !entityClass.isAnnotationPresent(Table.class)) {
+			return null;
+		}
+		if (entityClass.isAnnotationPresent(Enhanced.class)) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Entity_Enhanced_Skip", entityClass.getName());
 			}
+			return null;
+		}
+		return EntityEnhancePlugin.enhance(new ByteBuddy().redefine(entityClass),
+				EntityManager.containsLazyLoad(entityClass)).make();
+	}
+
+	/**
+	 * <h2 class="en-US">Registered entity information</h2>
+	 * <h2 class="zh-CN">已注册的实体信息</h2>
+	 *
+	 * @param tableConfig  <span class="en-US">Table configure information</span>
+	 *                     <span class="zh-CN">数据表配置信息</span>
+	 * @param transferBean <span class="en-US">Data transfer configure information</span>
+	 *                     <span class="zh-CN">数据传输配置信息</span>
+	 */
+	private record RegisteredEntity(TableConfig tableConfig, TransferBean<?> transferBean) {
+	}
+
+	/**
+	 * <h2 class="en-US">Byte buddy agent holder</h2>
+	 * <h2 class="zh-CN">Byte buddy代理持有者</h2>
+	 * <span class="en-US">The agent will be attached at the first time of class redefine, entity classes enhanced at build time never trigger it</span>
+	 * <span class="zh-CN">代理在第一次重新定义类时挂载，构建时已增强的实体类不会触发挂载</span>
+	 */
+	private static final class AgentHolder {
+		/**
+		 * <span class="en-US">Class reloading strategy of installed agent</span>
+		 * <span class="zh-CN">已安装代理的类重载策略</span>
+		 */
+		private static final ClassReloadingStrategy RELOADING_STRATEGY;
+
+		static {
+			ByteBuddyAgent.install();
+			RELOADING_STRATEGY = ClassReloadingStrategy.fromInstalledAgent();
 		}
-		REDEFINED_CLASSES.add(entityClass);
 	}
 }
@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.entity;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ReflectionUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * <h2 class="en-US">Field accessor table</h2>
+ * <h2 class="zh-CN">属性访问器表</h2>
+ * <span class="en-US">
+ * Resolve the getter/setter method handles of every field once per class, fields are indexed by ordinal.
+ * The getter/setter methods are preferred, so the data modified and lazy load interceptors still work,
+ * the field handles are used when the getter/setter methods not exists.
+ * </span>
+ * <span class="zh-CN">
+ * 每个类仅解析一次所有属性的Getter/Setter方法句柄，属性按序号索引。
+ * 优先使用Getter/Setter方法，以保证属性修改拦截器和懒加载拦截器正常工作，不存在Getter/Setter方法时使用属性句柄。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 13:42:37 $
+ */
+public final class FieldAccessor {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(FieldAccessor.class);
+	/**
+	 * <span class="en-US">Method type of adapted getter handle</span>
+	 * <span class="zh-CN">适配后的Getter句柄方法类型</span>
+	 */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	/**
+	 * <span class="en-US">Method type of adapted setter handle</span>
+	 * <span class="zh-CN">适配后的Setter句柄方法类型</span>
+	 */
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	/**
+	 * <span class="en-US">Field accessor cache by class</span>
+	 * <span class="zh-CN">按类缓存的属性访问器</span>
+	 */
+	private static final ClassValue<FieldAccessor> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected FieldAccessor computeValue(final Class<?> beanClass) {
+			return new FieldAccessor(beanClass);
+		}
+	};
+
+	/**
+	 * <span class="en-US">Field name array, index is the field ordinal</span>
+	 * <span class="zh-CN">属性名数组，索引为属性序号</span>
+	 */
+	private final String[] fieldNames;
+	/**
+	 * <span class="en-US">Field ordinal mapping, key is field name</span>
+	 * <span class="zh-CN">属性序号映射表，键为属性名</span>
+	 */
+	private final Map<String, Integer> ordinals;
+	/**
+	 * <span class="en-US">Getter handle array, index is the field ordinal</span>
+	 * <span class="zh-CN">Getter句柄数组，索引为属性序号</span>
+	 */
+	private final MethodHandle[] getters;
+	/**
+	 * <span class="en-US">Setter handle array, index is the field ordinal</span>
+	 * <span class="zh-CN">Setter句柄数组，索引为属性序号</span>
+	 */
+	private final MethodHandle[] setters;
+	/**
+	 * <span class="en-US">Field getter handle array which not invoke the getter method, index is the field ordinal</span>
+	 * <span class="zh-CN">不调用Getter方法的属性读取句柄数组，索引为属性序号</span>
+	 */
+	private final MethodHandle[] fieldGetters;
+	/**
+	 * <span class="en-US">Field type is primitive, index is the field ordinal</span>
+	 * <span class="zh-CN">属性类型是否为基本类型，索引为属性序号</span>
+	 */
+	private final boolean[] primitives;
+	/**
+	 * <span class="en-US">Field type array, index is the field ordinal</span>
+	 * <span class="zh-CN">属性类型数组，索引为属性序号</span>
+	 */
+	private final Class<?>[] fieldTypes;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for field accessor</h4>
+	 * <h4 class="zh-CN">属性访问器的私有构造方法</h4>
+	 *
+	 * @param beanClass <span class="en-US">Bean class</span>
+	 *                  <span class="zh-CN">实体类</span>
+	 */
+	private FieldAccessor(@Nonnull final Class<?> beanClass) {
+		Map<String, Field> fieldMap = new LinkedHashMap<>();
+		Class<?> currentClass = beanClass;
+		while (currentClass != null && !Object.class.equals(currentClass)) {
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+					fieldMap.putIfAbsent(field.getName(), field);
+				}
+			}
+			currentClass = currentClass.getSuperclass();
+		}
+		int fieldCount = fieldMap.size();
+		this.fieldNames = new String[fieldCount];
+		this.ordinals = new HashMap<>(fieldCount * 2);
+		this.getters = new MethodHandle[fieldCount];
+		this.setters = new MethodHandle[fieldCount];
+		this.fieldGetters = new MethodHandle[fieldCount];
+		this.primitives = new boolean[fieldCount];
+		this.fieldTypes = new Class<?>[fieldCount];
+		int ordinal = 0;
+		for (Field field : fieldMap.values()) {
+			this.fieldNames[ordinal] = field.getName();
+			this.ordinals.put(field.getName(), ordinal);
+			this.primitives[ordinal] = field.getType().isPrimitive();
+			this.fieldTypes[ordinal] = field.getType();
+			this.getters[ordinal] = getterHandle(beanClass, field);
+			this.fieldGetters[ordinal] = fieldHandle(field);
+			this.setters[ordinal] = Modifier.isFinal(field.getModifiers()) ? null : setterHandle(beanClass, field);
+			ordinal++;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the field accessor of given class</h4>
+	 * <h4 class="zh-CN">获取给定类的属性访问器</h4>
+	 *
+	 * @param beanClass <span class="en-US">Bean class</span>
+	 *                  <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Field accessor instance</span>
+	 * <span class="zh-CN">属性访问器实例对象</span>
+	 */
+	public static FieldAccessor accessor(@Nonnull final Class<?> beanClass) {
+		return ACCESSORS.get(beanClass);
+	}
+
+	/**
+	 * <h4 class="en-US">Read field value from given object instance by field name</h4>
+	 * <h4 class="zh-CN">根据属性名从给定的对象实例读取属性值</h4>
+	 *
+	 * @param fieldName <span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">属性名</span>
+	 * @param target    <span class="en-US">Object instance</span>
+	 *                  <span class="zh-CN">对象实例</span>
+	 * @return <span class="en-US">Field value</span>
+	 * <span class="zh-CN">属性值</span>
+	 */
+	public static Object getFieldValue(final String fieldName, final Object target) {
+		if (target == null || StringUtils.isEmpty(fieldName)) {
+			return null;
+		}
+		FieldAccessor fieldAccessor = accessor(target.getClass());
+		int ordinal = fieldAccessor.ordinal(fieldName);
+		if (ordinal == Globals.DEFAULT_VALUE_INT || fieldAccessor.getters[ordinal] == null) {
+			return ReflectionUtils.getFieldValue(fieldName, target);
+		}
+		return fieldAccessor.get(target, ordinal);
+	}
+
+	/**
+	 * <h4 class="en-US">Write field value to given object instance by field name</h4>
+	 * <h4 class="zh-CN">根据属性名向给定的对象实例写入属性值</h4>
+	 *
+	 * @param fieldName  <span class="en-US">Field name</span>
+	 *                   <span class="zh-CN">属性名</span>
+	 * @param target     <span class="en-US">Object instance</span>
+	 *                   <span class="zh-CN">对象实例</span>
+	 * @param fieldValue <span class="en-US">Field value</span>
+	 *                   <span class="zh-CN">属性值</span>
+	 */
+	public static void setField(final String fieldName, final Object target, final Object fieldValue) {
+		if (target == null || StringUtils.isEmpty(fieldName)) {
+			return;
+		}
+		FieldAccessor fieldAccessor = accessor(target.getClass());
+		int ordinal = fieldAccessor.ordinal(fieldName);
+		if (ordinal == Globals.DEFAULT_VALUE_INT || fieldAccessor.setters[ordinal] == null) {
+			ReflectionUtils.setField(fieldName, target, fieldValue);
+		} else {
+			fieldAccessor.set(target, ordinal, fieldValue);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the field count</h4>
+	 * <h4 class="zh-CN">获取属性数量</h4>
+	 *
+	 * @return <span class="en-US">Field count</span>
+	 * <span class="zh-CN">属性数量</span>
+	 */
+	public int size() {
+		return this.fieldNames.length;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the ordinal of given field name</h4>
+	 * <h4 class="zh-CN">获取给定属性名的序号</h4>
+	 *
+	 * @param fieldName <span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">属性名</span>
+	 * @return <span class="en-US">Field ordinal or -1 if field not found</span>
+	 * <span class="zh-CN">属性序号，属性不存在时返回-1</span>
+	 */
+	public int ordinal(final String fieldName) {
+		if (fieldName == null) {
+			return Globals.DEFAULT_VALUE_INT;
+		}
+		Integer ordinal = this.ordinals.get(fieldName);
+		return (ordinal == null) ? Globals.DEFAULT_VALUE_INT : ordinal;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the field name of given ordinal</h4>
+	 * <h4 class="zh-CN">获取给定序号的属性名</h4>
+	 *
+	 * @param ordinal <span class="en-US">Field ordinal</span>
+	 *                <span class="zh-CN">属性序号</span>
+	 * @return <span class="en-US">Field name</span>
+	 * <span class="zh-CN">属性名</span>
+	 */
+	public String fieldName(final int ordinal) {
+		return this.fieldNames[ordinal];
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the field type of given ordinal</h4>
+	 * <h4 class="zh-CN">获取给定序号的属性类型</h4>
+	 *
+	 * @param ordinal <span class="en-US">Field ordinal</span>
+	 *                <span class="zh-CN">属性序号</span>
+	 * @return <span class="en-US">Field type</span>
+	 * <span class="zh-CN">属性类型</span>
+	 */
+	public Class<?> fieldType(final int ordinal) {
+		return this.fieldTypes[ordinal];
+	}
+
+	/**
+	 * <h4 class="en-US">Read field value from given object instance by field ordinal</h4>
+	 * <h4 class="zh-CN">根据属性序号从给定的对象实例读取属性值</h4>
+	 *
+	 * @param target  <span class="en-US">Object instance</span>
+	 *                <span class="zh-CN">对象实例</span>
+	 * @param ordinal <span class="en-US">Field ordinal</span>
+	 *                <span class="zh-CN">属性序号</span>
+	 * @return <span class="en-US">Field value</span>
+	 * <span class="zh-CN">属性值</span>
+	 */
+	public Object get(@Nonnull final Object target, final int ordinal) {
+		MethodHandle getter = this.getters[ordinal];
+		if (getter == null) {
+			return ReflectionUtils.getFieldValue(this.fieldNames[ordinal], target);
+		}
+		try {
+			return (Object) getter.invokeExact(target);
+		} catch (Throwable e) {
+			LOGGER.error("Field_Access_Error", this.fieldNames[ordinal], target.getClass().getName());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read field value from given object instance by field ordinal without invoking the getter method</h4>
+	 * <h4 class="zh-CN">根据属性序号从给定的对象实例读取属性值，不调用Getter方法</h4>
+	 * <span class="en-US">The lazy load interceptor will not be triggered</span>
+	 * <span class="zh-CN">不会触发懒加载拦截器</span>
+	 *
+	 * @param target  <span class="en-US">Object instance</span>
+	 *                <span class="zh-CN">对象实例</span>
+	 * @param ordinal <span class="en-US">Field ordinal</span>
+	 *                <span class="zh-CN">属性序号</span>
+	 * @return <span class="en-US">Field value</span>
+	 * <span class="zh-CN">属性值</span>
+	 */
+	public Object fieldValue(@Nonnull final Object target, final int ordinal) {
+		MethodHandle fieldGetter = this.fieldGetters[ordinal];
+		if (fieldGetter == null) {
+			return this.get(target, ordinal);
+		}
+		try {
+			return (Object) fieldGetter.invokeExact(target);
+		} catch (Throwable e) {
+			LOGGER.error("Field_Access_Error", this.fieldNames[ordinal], target.getClass().getName());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Write field value to given object instance by field ordinal</h4>
+	 * <h4 class="zh-CN">根据属性序号向给定的对象实例写入属性值</h4>
+	 * <span class="en-US">Null value will be ignored if the field type is primitive</span>
+	 * <span class="zh-CN">属性类型为基本类型时忽略空值</span>
+	 *
+	 * @param target     <span class="en-US">Object instance</span>
+	 *                   <span class="zh-CN">对象实例</span>
+	 * @param ordinal    <span class="en-US">Field ordinal</span>
+	 *                   <span class="zh-CN">属性序号</span>
+	 * @param fieldValue <span class="en-US">Field value</span>
+	 *                   <span class="zh-CN">属性值</span>
+	 */
+	public void set(@Nonnull final Object target, final int ordinal, final Object fieldValue) {
+		MethodHandle setter = this.setters[ordinal];
+		if (setter == null) {
+			ReflectionUtils.setField(this.fieldNames[ordinal], target, fieldValue);
+			return;
+		}
+		if (fieldValue == null && this.primitives[ordinal]) {
+			return;
+		}
+		try {
+			setter.invokeExact(target, fieldValue);
+		} catch (Throwable e) {
+			LOGGER.error("Field_Access_Error", this.fieldNames[ordinal], target.getClass().getName());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Resolve the getter handle of given field</h4>
+	 * <h4 class="zh-CN">解析给定属性的Getter句柄</h4>
+	 *
+	 * @param beanClass <span class="en-US">Bean class</span>
+	 *                  <span class="zh-CN">实体类</span>
+	 * @param field     <span class="en-US">Field instance</span>
+	 *                  <span class="zh-CN">属性实例对象</span>
+	 * @return <span class="en-US">Adapted getter handle or null if resolve failed</span>
+	 * <span class="zh-CN">适配后的Getter句柄，解析失败时返回null</span>
+	 */
+	private static MethodHandle getterHandle(final Class<?> beanClass, final Field field) {
+		String suffix = methodSuffix(field.getName());
+		Method method = publicMethod(beanClass, "get" + suffix);
+		if (method == null && (boolean.class.equals(field.getType()) || Boolean.class.equals(field.getType()))) {
+			method = publicMethod(beanClass, "is" + suffix);
+		}
+		try {
+			if (method != null && !Void.TYPE.equals(method.getReturnType())) {
+				return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+			}
+			return fieldHandle(field);
+		} catch (IllegalAccessException | RuntimeException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Resolve the field getter handle of given field</h4>
+	 * <h4 class="zh-CN">解析给定属性的属性读取句柄</h4>
+	 *
+	 * @param field <span class="en-US">Field instance</span>
+	 *              <span class="zh-CN">属性实例对象</span>
+	 * @return <span class="en-US">Adapted field getter handle or null if resolve failed</span>
+	 * <span class="zh-CN">适配后的属性读取句柄，解析失败时返回null</span>
+	 */
+	private static MethodHandle fieldHandle(final Field field) {
+		try {
+			return privateLookup(field).unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Resolve the setter handle of given field</h4>
+	 * <h4 class="zh-CN">解析给定属性的Setter句柄</h4>
+	 *
+	 * @param beanClass <span class="en-US">Bean class</span>
+	 *                  <span class="zh-CN">实体类</span>
+	 * @param field     <span class="en-US">Field instance</span>
+	 *                  <span class="zh-CN">属性实例对象</span>
+	 * @return <span class="en-US">Adapted setter handle or null if resolve failed</span>
+	 * <span class="zh-CN">适配后的Setter句柄，解析失败时返回null</span>
+	 */
+	private static MethodHandle setterHandle(final Class<?> beanClass, final Field field) {
+		Method method = publicMethod(beanClass, "set" + methodSuffix(field.getName()), field.getType());
+		try {
+			if (method != null) {
+				return MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+			}
+			return privateLookup(field).unreflectSetter(field).asType(SETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the lookup which has private access to the declaring class of given field</h4>
+	 * <h4 class="zh-CN">获取对给定属性的声明类具有私有访问权限的查找器</h4>
+	 *
+	 * @param field <span class="en-US">Field instance</span>
+	 *              <span class="zh-CN">属性实例对象</span>
+	 * @return <span class="en-US">Lookup instance</span>
+	 * <span class="zh-CN">查找器实例对象</span>
+	 * @throws IllegalAccessException <span class="en-US">If the declaring class is not opened to current module</span>
+	 *                                <span class="zh-CN">如果声明类未向当前模块开放</span>
+	 */
+	private static MethodHandles.Lookup privateLookup(final Field field) throws IllegalAccessException {
+		return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the public method of given class</h4>
+	 * <h4 class="zh-CN">获取给定类的公共方法</h4>
+	 *
+	 * @param beanClass      <span class="en-US">Bean class</span>
+	 *                       <span class="zh-CN">实体类</span>
+	 * @param methodName     <span class="en-US">Method name</span>
+	 *                       <span class="zh-CN">方法名</span>
+	 * @param parameterTypes <span class="en-US">Parameter type array</span>
+	 *                       <span class="zh-CN">参数类型数组</span>
+	 * @return <span class="en-US">Method instance or null if not found</span>
+	 * <span class="zh-CN">方法实例对象，未找到时返回null</span>
+	 */
+	private static Method publicMethod(final Class<?> beanClass, final String methodName,
+	                                   final Class<?>... parameterTypes) {
+		try {
+			Method method = beanClass.getMethod(methodName, parameterTypes);
+			return Modifier.isStatic(method.getModifiers()) ? null : method;
+		} catch (NoSuchMethodException | SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Convert field name to the suffix of getter/setter method name</h4>
+	 * <h4 class="zh-CN">将属性名转换为Getter/Setter方法名的后缀</h4>
+	 *
+	 * @param fieldName <span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">属性名</span>
+	 * @return <span class="en-US">Method name suffix</span>
+	 * <span class="zh-CN">方法名后缀</span>
+	 */
+	private static String methodSuffix(final String fieldName) {
+		return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+	}
+}
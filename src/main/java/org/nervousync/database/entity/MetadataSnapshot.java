@@ -0,0 +1,435 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.entity;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.column.ColumnInfo;
+import org.nervousync.database.beans.configs.generator.GeneratorConfig;
+import org.nervousync.database.beans.configs.index.IndexInfo;
+import org.nervousync.database.beans.configs.reference.JoinConfig;
+import org.nervousync.database.beans.configs.reference.ReferenceConfig;
+import org.nervousync.database.beans.configs.sensitive.SensitiveConfig;
+import org.nervousync.database.beans.configs.sequence.SequenceConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.utils.ConvertUtils;
+import org.nervousync.utils.LoggerUtils;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2 class="en-US">Table metadata snapshot</h2>
+ * <h2 class="zh-CN">数据表元数据快照</h2>
+ * <span class="en-US">
+ * Persist the parsed table configure information to local file, using the SHA-256 digest of entity class bytecode
+ * (include super classes) and configure classes bytecode as the version key. The snapshot entry will be ignored
+ * when the entity class or the configure classes were changed. Only the configure classes, the basic classes of
+ * java.base module and the field types of entity class are accepted when deserializing the snapshot entry.
+ * </span>
+ * <span class="zh-CN">
+ * 将解析的数据表配置信息持久化到本地文件，使用实体类字节码（包含父类）和配置信息类字节码的SHA-256摘要作为版本键值，
+ * 实体类或配置信息类发生变化时将忽略快照记录。反序列化快照记录时仅接受配置信息类、java.base模块的基础类和实体类的属性类型。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 11:08:45 $
+ */
+final class MetadataSnapshot {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(MetadataSnapshot.class);
+	/**
+	 * <span class="en-US">Magic number of snapshot file</span>
+	 * <span class="zh-CN">快照文件的魔数</span>
+	 */
+	private static final int SNAPSHOT_MAGIC = 0x4E534D44;
+	/**
+	 * <span class="en-US">Format version of snapshot file</span>
+	 * <span class="zh-CN">快照文件的格式版本</span>
+	 */
+	private static final int SNAPSHOT_VERSION = 4;
+	/**
+	 * <span class="en-US">Configure classes which parse and hold the table configure information</span>
+	 * <span class="zh-CN">解析和保存数据表配置信息的配置信息类</span>
+	 */
+	private static final Class<?>[] CONFIG_CLASSES = {
+			TableConfig.class, ColumnConfig.class, ColumnInfo.class, GeneratorConfig.class, SequenceConfig.class,
+			SensitiveConfig.class, IndexInfo.class, ReferenceConfig.class, JoinConfig.class
+	};
+	/**
+	 * <span class="en-US">Deserialize filter pattern of snapshot entry</span>
+	 * <span class="zh-CN">快照记录的反序列化过滤模式</span>
+	 */
+	private static final String FILTER_PATTERN = "org.nervousync.database.beans.configs.**;"
+			+ "org.nervousync.database.enumerations.**;org.nervousync.beans.core.BeanObject;jakarta.persistence.*;"
+			+ "java.lang.*;java.util.*;java.math.*;java.time.*;!*";
+	/**
+	 * <span class="en-US">Snapshot file path</span>
+	 * <span class="zh-CN">快照文件路径</span>
+	 */
+	private final Path snapshotPath;
+	/**
+	 * <span class="en-US">Snapshot entry mapping, using entity class name as key</span>
+	 * <span class="zh-CN">以实体类名为键的快照记录映射</span>
+	 */
+	private final Map<String, SnapshotEntry> snapshotEntries = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Bytecode digest cache of entity class</span>
+	 * <span class="zh-CN">实体类字节码摘要缓存</span>
+	 */
+	private final Map<Class<?>, String> classDigests = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Bytecode digest of configure classes, <code>null</code> if bytecode not found</span>
+	 * <span class="zh-CN">配置信息类的字节码摘要，如果未找到字节码则为<code>null</code></span>
+	 */
+	private final byte[] configDigest = configDigest();
+	/**
+	 * <span class="en-US">Snapshot entries was modified</span>
+	 * <span class="zh-CN">快照记录已修改</span>
+	 */
+	private final AtomicBoolean modified = new AtomicBoolean(Boolean.FALSE);
+
+	/**
+	 * <h4 class="en-US">Constructor method for table metadata snapshot, read the exists snapshot file</h4>
+	 * <h4 class="zh-CN">数据表元数据快照的构造方法，读取已存在的快照文件</h4>
+	 *
+	 * @param snapshotPath <span class="en-US">Snapshot file path</span>
+	 *                     <span class="zh-CN">快照文件路径</span>
+	 */
+	MetadataSnapshot(@Nonnull final Path snapshotPath) {
+		this.snapshotPath = snapshotPath;
+		if (!Files.isRegularFile(snapshotPath)) {
+			return;
+		}
+		try (DataInputStream inputStream =
+				     new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+			if (inputStream.readInt() != SNAPSHOT_MAGIC || inputStream.readInt() != SNAPSHOT_VERSION) {
+				return;
+			}
+			int entryCount = inputStream.readInt();
+			for (int i = 0; i < entryCount; i++) {
+				String className = inputStream.readUTF();
+				String digest = inputStream.readUTF();
+				byte[] configBytes = new byte[inputStream.readInt()];
+				inputStream.readFully(configBytes);
+				this.snapshotEntries.put(className, new SnapshotEntry(digest, configBytes));
+			}
+		} catch (IOException e) {
+			this.snapshotEntries.clear();
+			LOGGER.warn("Metadata_Snapshot_Load_Error", snapshotPath.toString());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Load table configure information of given entity class from snapshot</h4>
+	 * <h4 class="zh-CN">从快照中读取给定实体类的数据表配置信息</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Table configure information instance or <code>null</code> if not exists or the entity class was changed</span>
+	 * <span class="zh-CN">数据表配置信息实例对象，如果不存在或实体类已变化则返回<code>null</code></span>
+	 */
+	TableConfig load(@Nonnull final Class<?> entityClass) {
+		String digest = this.digest(entityClass);
+		if (digest == null) {
+			return null;
+		}
+		return Optional.ofNullable(this.snapshotEntries.get(entityClass.getName()))
+				.filter(snapshotEntry -> snapshotEntry.digest().equals(digest))
+				.map(snapshotEntry -> this.readConfig(entityClass, snapshotEntry.configBytes()))
+				.filter(tableConfig -> entityClass.equals(tableConfig.getDefineClass()))
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Store table configure information of given entity class into snapshot</h4>
+	 * <h4 class="zh-CN">将给定实体类的数据表配置信息存储到快照</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param tableConfig <span class="en-US">Table configure information instance</span>
+	 *                    <span class="zh-CN">数据表配置信息实例对象</span>
+	 */
+	void store(@Nonnull final Class<?> entityClass, @Nonnull final TableConfig tableConfig) {
+		String digest = this.digest(entityClass);
+		if (digest == null) {
+			return;
+		}
+		try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		     ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(tableConfig);
+			objectOutputStream.flush();
+			this.snapshotEntries.put(entityClass.getName(),
+					new SnapshotEntry(digest, byteArrayOutputStream.toByteArray()));
+			this.modified.set(Boolean.TRUE);
+		} catch (IOException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Write the snapshot entries to the snapshot file if modified</h4>
+	 * <h4 class="zh-CN">如果快照记录已修改，将快照记录写入快照文件</h4>
+	 */
+	void save() {
+		if (!this.modified.compareAndSet(Boolean.TRUE, Boolean.FALSE)) {
+			return;
+		}
+		try {
+			Optional.ofNullable(this.snapshotPath.toAbsolutePath().getParent())
+					.ifPresent(parentPath -> {
+						try {
+							Files.createDirectories(parentPath);
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					});
+			Path tempPath = this.snapshotPath.resolveSibling(this.snapshotPath.getFileName() + ".tmp");
+			Map<String, SnapshotEntry> snapshotEntries = Map.copyOf(this.snapshotEntries);
+			try (DataOutputStream outputStream =
+					     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+				outputStream.writeInt(SNAPSHOT_MAGIC);
+				outputStream.writeInt(SNAPSHOT_VERSION);
+				outputStream.writeInt(snapshotEntries.size());
+				for (Map.Entry<String, SnapshotEntry> entry : snapshotEntries.entrySet()) {
+					outputStream.writeUTF(entry.getKey());
+					outputStream.writeUTF(entry.getValue().digest());
+					outputStream.writeInt(entry.getValue().configBytes().length);
+					outputStream.write(entry.getValue().configBytes());
+				}
+			}
+			Files.move(tempPath, this.snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException | UncheckedIOException e) {
+			LOGGER.warn("Metadata_Snapshot_Save_Error", this.snapshotPath.toString());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Deserialize table configure information using the class loader of given entity class</h4>
+	 * <h4 class="zh-CN">使用给定实体类的类加载器反序列化数据表配置信息</h4>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param configBytes <span class="en-US">Serialized table configure information</span>
+	 *                    <span class="zh-CN">序列化的数据表配置信息</span>
+	 * @return <span class="en-US">Table configure information instance or <code>null</code> if deserialize failed</span>
+	 * <span class="zh-CN">数据表配置信息实例对象，如果反序列化失败则返回<code>null</code></span>
+	 */
+	private TableConfig readConfig(final Class<?> entityClass, final byte[] configBytes) {
+		ClassLoader classLoader = Optional.ofNullable(entityClass.getClassLoader())
+				.orElse(MetadataSnapshot.class.getClassLoader());
+		ObjectInputFilter patternFilter = ObjectInputFilter.Config.createFilter(FILTER_PATTERN);
+		Set<String> fieldTypes = fieldTypes(entityClass);
+		try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(configBytes)) {
+			@Override
+			protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+				try {
+					return Class.forName(desc.getName(), Boolean.FALSE, classLoader);
+				} catch (ClassNotFoundException e) {
+					return super.resolveClass(desc);
+				}
+			}
+		}) {
+			objectInputStream.setObjectInputFilter(filterInfo -> {
+				Class<?> serialClass = filterInfo.serialClass();
+				while (serialClass != null && serialClass.isArray()) {
+					serialClass = serialClass.getComponentType();
+				}
+				if (serialClass != null && (serialClass.isPrimitive() || fieldTypes.contains(serialClass.getName()))) {
+					return ObjectInputFilter.Status.ALLOWED;
+				}
+				return patternFilter.checkInput(filterInfo);
+			});
+			return (objectInputStream.readObject() instanceof TableConfig tableConfig) ? tableConfig : null;
+		} catch (IOException | ClassNotFoundException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Collect the class names of field types of given entity class and its super classes</h4>
+	 * <h4 class="zh-CN">收集给定实体类及其父类的属性类型类名</h4>
+	 * <span class="en-US">
+	 * The entity classes, the component type of arrays and the type arguments of generic fields are included,
+	 * the field types and reference entity classes are stored as class instance in table configure information.
+	 * </span>
+	 * <span class="zh-CN">包含实体类、数组的元素类型和泛型属性的类型参数，属性类型和外键实体类以类实例保存在数据表配置信息中。</span>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Class name set</span>
+	 * <span class="zh-CN">类名集合</span>
+	 */
+	private static Set<String> fieldTypes(final Class<?> entityClass) {
+		Set<String> fieldTypes = new HashSet<>();
+		Class<?> currentClass = entityClass;
+		while (currentClass != null && !Object.class.equals(currentClass)) {
+			fieldTypes.add(currentClass.getName());
+			for (Field field : currentClass.getDeclaredFields()) {
+				appendType(fieldTypes, field.getGenericType());
+			}
+			currentClass = currentClass.getSuperclass();
+		}
+		return fieldTypes;
+	}
+
+	/**
+	 * <h4 class="en-US">Append the class names of given type to the class name set</h4>
+	 * <h4 class="zh-CN">将给定类型的类名添加到类名集合</h4>
+	 *
+	 * @param fieldTypes <span class="en-US">Class name set</span>
+	 *                   <span class="zh-CN">类名集合</span>
+	 * @param type       <span class="en-US">Field type</span>
+	 *                   <span class="zh-CN">属性类型</span>
+	 */
+	private static void appendType(final Set<String> fieldTypes, final Type type) {
+		if (type instanceof Class<?> clazz) {
+			while (clazz.isArray()) {
+				clazz = clazz.getComponentType();
+			}
+			fieldTypes.add(clazz.getName());
+		} else if (type instanceof ParameterizedType parameterizedType) {
+			appendType(fieldTypes, parameterizedType.getRawType());
+			for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+				appendType(fieldTypes, typeArgument);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the SHA-256 digest of bytecode of given entity class and its super classes</h4>
+	 * <h4 class="zh-CN">计算给定实体类及其父类字节码的SHA-256摘要</h4>
+	 * <span class="en-US">The digest of configure classes is included, so the snapshot entries written by other version will be ignored</span>
+	 * <span class="zh-CN">摘要包含配置信息类的摘要，所以其他版本写入的快照记录将被忽略</span>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Digest hex string or <code>null</code> if bytecode not found</span>
+	 * <span class="zh-CN">摘要的十六进制字符串，如果未找到字节码则返回<code>null</code></span>
+	 */
+	private String digest(final Class<?> entityClass) {
+		if (this.configDigest == null) {
+			return null;
+		}
+		String digest = this.classDigests.get(entityClass);
+		if (digest == null) {
+			try {
+				MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+				messageDigest.update(this.configDigest);
+				Class<?> currentClass = entityClass;
+				while (currentClass != null && !Object.class.equals(currentClass)) {
+					if (!updateDigest(messageDigest, currentClass)) {
+						return null;
+					}
+					currentClass = currentClass.getSuperclass();
+				}
+				digest = ConvertUtils.toHex(messageDigest.digest());
+				this.classDigests.put(entityClass, digest);
+			} catch (NoSuchAlgorithmException | IOException e) {
+				return null;
+			}
+		}
+		return digest;
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the SHA-256 digest of bytecode of configure classes</h4>
+	 * <h4 class="zh-CN">计算配置信息类字节码的SHA-256摘要</h4>
+	 *
+	 * @return <span class="en-US">Digest bytes or <code>null</code> if bytecode not found</span>
+	 * <span class="zh-CN">摘要字节数组，如果未找到字节码则返回<code>null</code></span>
+	 */
+	private static byte[] configDigest() {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			for (Class<?> configClass : CONFIG_CLASSES) {
+				if (!updateDigest(messageDigest, configClass)) {
+					return null;
+				}
+			}
+			return messageDigest.digest();
+		} catch (NoSuchAlgorithmException | IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Update the message digest by bytecode of given class</h4>
+	 * <h4 class="zh-CN">使用给定类的字节码更新消息摘要</h4>
+	 *
+	 * @param messageDigest <span class="en-US">Message digest instance</span>
+	 *                      <span class="zh-CN">消息摘要实例对象</span>
+	 * @param clazz         <span class="en-US">Class instance</span>
+	 *                      <span class="zh-CN">类实例</span>
+	 * @return <span class="en-US">Update result, <code>false</code> if bytecode not found</span>
+	 * <span class="zh-CN">更新结果，如果未找到字节码则返回<code>false</code></span>
+	 * @throws IOException <span class="en-US">If read bytecode failed</span>
+	 *                     <span class="zh-CN">如果读取字节码失败</span>
+	 */
+	private static boolean updateDigest(final MessageDigest messageDigest, final Class<?> clazz) throws IOException {
+		String resourceName = clazz.getName().replace('.', '/') + ".class";
+		ClassLoader classLoader = Optional.ofNullable(clazz.getClassLoader())
+				.orElse(ClassLoader.getSystemClassLoader());
+		try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+			if (inputStream == null) {
+				return Boolean.FALSE;
+			}
+			messageDigest.update(inputStream.readAllBytes());
+		}
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h2 class="en-US">Snapshot entry</h2>
+	 * <h2 class="zh-CN">快照记录</h2>
+	 *
+	 * @param digest      <span class="en-US">Bytecode digest of entity class</span>
+	 *                    <span class="zh-CN">实体类字节码摘要</span>
+	 * @param configBytes <span class="en-US">Serialized table configure information</span>
+	 *                    <span class="zh-CN">序列化的数据表配置信息</span>
+	 */
+	private record SnapshotEntry(String digest, byte[] configBytes) {
+	}
+}
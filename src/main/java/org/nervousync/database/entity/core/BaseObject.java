@@ -22,16 +22,17 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import org.nervousync.beans.core.BeanObject;
 import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
 import org.nervousync.database.beans.sensitive.DesensitizedData;
 import org.nervousync.database.entity.EntityManager;
-import org.nervousync.utils.ClassUtils;
-import org.nervousync.utils.ReflectionUtils;
+import org.nervousync.database.entity.FieldAccessor;
 import org.nervousync.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * <h2 class="en-US">Abstract Entity Class</h2>
@@ -48,7 +49,7 @@ public abstract class BaseObject extends BeanObject {
      * <span class="zh-CN">序列化UID</span>
      */
     @Serial
-    private static final long serialVersionUID = -1860456342847902560L;
+    private static final long serialVersionUID = 4637216489154263701L;
     /**
      * <span class="en-US">New record status</span>
      * <span class="zh-CN">新纪录状态</span>
@@ -68,17 +69,55 @@ public abstract class BaseObject extends BeanObject {
     @JsonIgnore
     private Long transactionalCode = null;
     /**
-     * <span class="en-US">Modified column name list</span>
-     * <span class="zh-CN">修改的列名列表</span>
+     * <span class="en-US">Read only record status, the field status will not be tracked</span>
+     * <span class="zh-CN">只读记录状态，不跟踪属性状态</span>
+     */
+    @JsonIgnore
+    private boolean readOnly = Boolean.FALSE;
+    /**
+     * <span class="en-US">
+     * Modified field ordinal set, ordinal from field accessor, created at first modification,
+     * serialized as field names
+     * </span>
+     * <span class="zh-CN">已修改的属性序号集合，序号来自属性访问器，首次修改时创建，以属性名序列化</span>
+     */
+    @JsonIgnore
+    private transient BitSet modifiedFields = null;
+    /**
+     * <span class="en-US">
+     * Loaded field ordinal set, ordinal from field accessor, created at first loading, serialized as field names
+     * </span>
+     * <span class="zh-CN">已加载的属性序号集合，序号来自属性访问器，首次加载时创建，以属性名序列化</span>
+     */
+    @JsonIgnore
+    private transient BitSet loadedFields = null;
+    /**
+     * <span class="en-US">Field accessor of current class</span>
+     * <span class="zh-CN">当前类的属性访问器</span>
+     */
+    @JsonIgnore
+    private transient FieldAccessor fieldAccessor = null;
+    /**
+     * <span class="en-US">
+     * Original field values before modified, index is the field ordinal, only used in snapshot mode,
+     * serialized as field name and value mapping table
+     * </span>
+     * <span class="zh-CN">修改前的原始属性值，索引为属性序号，仅在快照模式下使用，以属性名和值的映射表序列化</span>
+     */
+    @JsonIgnore
+    private transient Object[] originalValues = null;
+    /**
+     * <span class="en-US">Snapshot mode status of entity class</span>
+     * <span class="zh-CN">实体类的快照模式状态</span>
      */
     @JsonIgnore
-    private final List<String> modifiedColumns = new ArrayList<>();
+    private transient Boolean snapshotMode = null;
     /**
-     * <span class="en-US">Loaded field list</span>
-     * <span class="zh-CN">已加载属性名列表</span>
+     * <span class="en-US">Lazy load context shared by the records materialized from the same query</span>
+     * <span class="zh-CN">由同一查询实例化的记录共享的懒加载上下文</span>
      */
     @JsonIgnore
-    private final List<String> loadedFields = new ArrayList<>();
+    private transient LoadContext loadContext = null;
 
     /**
      * <h4 class="en-US">Getter method for new record status</h4>
@@ -140,6 +179,53 @@ public abstract class BaseObject extends BeanObject {
         }
     }
 
+    /**
+     * <h4 class="en-US">Getter method for read only record status</h4>
+     * <h4 class="zh-CN">只读记录状态的Getter方法</h4>
+     *
+     * @return <span class="en-US">Read only record status</span>
+     * <span class="zh-CN">只读记录状态</span>
+     */
+    public final boolean isReadOnly() {
+        return this.readOnly;
+    }
+
+    /**
+     * <h4 class="en-US">Mark current record as read only</h4>
+     * <h4 class="zh-CN">标记当前记录为只读</h4>
+     * <span class="en-US">
+     * Must be invoked before populating the record, the setter interception will not track the field status,
+     * and the record will never be reported as modified.
+     * </span>
+     * <span class="zh-CN">必须在填充记录前调用，Setter拦截不再跟踪属性状态，记录也不会被报告为已修改</span>
+     */
+    public final void markReadOnly() {
+        this.readOnly = Boolean.TRUE;
+        this.newObject = Boolean.FALSE;
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the lazy load context</h4>
+     * <h4 class="zh-CN">获取懒加载上下文</h4>
+     *
+     * @return <span class="en-US">Lazy load context or <code>null</code> if not bound</span>
+     * <span class="zh-CN">懒加载上下文，如果未绑定返回 <code>null</code></span>
+     */
+    public final LoadContext loadContext() {
+        return this.loadContext;
+    }
+
+    /**
+     * <h4 class="en-US">Bind the lazy load context shared with sibling records</h4>
+     * <h4 class="zh-CN">绑定与同级记录共享的懒加载上下文</h4>
+     *
+     * @param loadContext <span class="en-US">Lazy load context</span>
+     *                    <span class="zh-CN">懒加载上下文</span>
+     */
+    public final void bindContext(final LoadContext loadContext) {
+        this.loadContext = loadContext;
+    }
+
     /**
      * <h4 class="en-US">Retrieve the modified columns identify code list</h4>
      * <h4 class="zh-CN">检索已修改的列识别代码列表</h4>
@@ -148,9 +234,49 @@ public abstract class BaseObject extends BeanObject {
      * <span class="zh-CN">修改的列名列表</span>
      */
     public final List<String> modifiedColumns() {
+        if (this.modifiedFields == null) {
+            return new ArrayList<>();
+        }
+        List<String> modifiedColumns = new ArrayList<>(this.modifiedFields.cardinality());
+        FieldAccessor accessor = this.fieldAccessor();
+        for (int ordinal = this.modifiedFields.nextSetBit(0); ordinal >= 0;
+             ordinal = this.modifiedFields.nextSetBit(ordinal + 1)) {
+            if (this.valueChanged(ordinal)) {
+                modifiedColumns.add(accessor.fieldName(ordinal));
+            }
+        }
         return modifiedColumns;
     }
 
+    /**
+     * <h4 class="en-US">Retrieve the modified column ordinal set</h4>
+     * <h4 class="zh-CN">检索已修改的列序号集合</h4>
+     * <span class="en-US">
+     * The ordinal is the index of column configure in the column configure list of table configure,
+     * providers can build the partial update statement by the column configure list directly.
+     * </span>
+     * <span class="zh-CN">序号为列配置信息在数据表配置信息的列配置信息列表中的索引，适配器可以直接根据列配置信息列表构建部分更新语句</span>
+     *
+     * @return <span class="en-US">Modified column ordinal set</span>
+     * <span class="zh-CN">已修改的列序号集合</span>
+     */
+    public final BitSet modifiedOrdinals() {
+        BitSet modifiedOrdinals = new BitSet();
+        TableConfig tableConfig = EntityManager.tableConfig(this.getClass());
+        if (this.modifiedFields == null || tableConfig == null) {
+            return modifiedOrdinals;
+        }
+        FieldAccessor accessor = this.fieldAccessor();
+        List<ColumnConfig> columnConfigs = tableConfig.getColumnConfigs();
+        for (int i = 0; i < columnConfigs.size(); i++) {
+            int ordinal = accessor.ordinal(columnConfigs.get(i).getFieldName());
+            if (ordinal >= 0 && this.modifiedFields.get(ordinal) && this.valueChanged(ordinal)) {
+                modifiedOrdinals.set(i);
+            }
+        }
+        return modifiedOrdinals;
+    }
+
     /**
      * <h4 class="en-US">Check if the data of the current record has been modified</h4>
      * <h4 class="zh-CN">检查当前记录的数据是否被修改</h4>
@@ -159,7 +285,19 @@ public abstract class BaseObject extends BeanObject {
      * <span class="zh-CN">检查结果</span>
      */
     public final boolean dataModified() {
-        return this.isNewObject() || (this.getForUpdate() && !this.modifiedColumns.isEmpty());
+        if (this.isNewObject()) {
+            return Boolean.TRUE;
+        }
+        if (!this.getForUpdate() || this.modifiedFields == null) {
+            return Boolean.FALSE;
+        }
+        for (int ordinal = this.modifiedFields.nextSetBit(0); ordinal >= 0;
+             ordinal = this.modifiedFields.nextSetBit(ordinal + 1)) {
+            if (this.valueChanged(ordinal)) {
+                return Boolean.TRUE;
+            }
+        }
+        return Boolean.FALSE;
     }
 
     /**
@@ -172,7 +310,20 @@ public abstract class BaseObject extends BeanObject {
      * <span class="zh-CN">检查结果</span>
      */
     public final boolean loadedField(final String fieldName) {
-        return this.loadedFields.contains(fieldName);
+        return this.loadedField(this.fieldAccessor().ordinal(fieldName));
+    }
+
+    /**
+     * <h4 class="en-US">Checks if the given field ordinal has been loaded</h4>
+     * <h4 class="zh-CN">检查给定的属性序号是否已经加载</h4>
+     *
+     * @param ordinal <span class="en-US">Field ordinal</span>
+     *                <span class="zh-CN">属性序号</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public final boolean loadedField(final int ordinal) {
+        return ordinal >= 0 && this.loadedFields != null && this.loadedFields.get(ordinal);
     }
 
     /**
@@ -183,10 +334,24 @@ public abstract class BaseObject extends BeanObject {
      *                  <span class="zh-CN">字段识别代码</span>
      */
     public final void loadField(final String fieldName) {
-        if (this.loadedFields.contains(fieldName)) {
+        this.loadField(this.fieldAccessor().ordinal(fieldName));
+    }
+
+    /**
+     * <h4 class="en-US">Mark the field of given ordinal as loaded</h4>
+     * <h4 class="zh-CN">将给定序号的属性标记为已加载</h4>
+     *
+     * @param ordinal <span class="en-US">Field ordinal</span>
+     *                <span class="zh-CN">属性序号</span>
+     */
+    public final void loadField(final int ordinal) {
+        if (ordinal < 0) {
             return;
         }
-        this.loadedFields.add(fieldName);
+        if (this.loadedFields == null) {
+            this.loadedFields = new BitSet();
+        }
+        this.loadedFields.set(ordinal);
     }
 
     /**
@@ -197,10 +362,210 @@ public abstract class BaseObject extends BeanObject {
      *                  <span class="zh-CN">字段识别代码</span>
      */
     public final void modifyField(final String fieldName) {
-        if (this.modifiedColumns.contains(fieldName)) {
+        this.modifyField(this.fieldAccessor().ordinal(fieldName));
+    }
+
+    /**
+     * <h4 class="en-US">Mark the field of given ordinal as modified</h4>
+     * <h4 class="zh-CN">将给定序号的属性标记为已修改</h4>
+     *
+     * @param ordinal <span class="en-US">Field ordinal</span>
+     *                <span class="zh-CN">属性序号</span>
+     */
+    public final void modifyField(final int ordinal) {
+        if (ordinal < 0 || this.readOnly) {
+            return;
+        }
+        if (this.modifiedFields == null) {
+            this.modifiedFields = new BitSet();
+        } else if (this.modifiedFields.get(ordinal)) {
+            return;
+        }
+        if (this.snapshotMode()) {
+            FieldAccessor accessor = this.fieldAccessor();
+            if (this.originalValues == null) {
+                this.originalValues = new Object[accessor.size()];
+            }
+            this.originalValues[ordinal] = accessor.fieldValue(this, ordinal);
+        }
+        this.modifiedFields.set(ordinal);
+    }
+
+    /**
+     * <h4 class="en-US">Update the field status when the field value was set</h4>
+     * <h4 class="zh-CN">设置属性值时更新属性状态</h4>
+     * <span class="en-US">
+     * Mark the field as modified if the field was loaded, otherwise mark the field as loaded,
+     * do nothing if current record is read only.
+     * </span>
+     * <span class="zh-CN">如果属性已加载则标记为已修改，否则标记为已加载，当前记录为只读时不做任何处理</span>
+     *
+     * @param fieldName <span class="en-US">Field identification code</span>
+     *                  <span class="zh-CN">字段识别代码</span>
+     */
+    public final void updateField(final String fieldName) {
+        if (this.readOnly) {
             return;
         }
-        this.modifiedColumns.add(fieldName);
+        int ordinal = this.fieldAccessor().ordinal(fieldName);
+        if (this.loadedField(ordinal)) {
+            this.modifyField(ordinal);
+        } else {
+            this.loadField(ordinal);
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Check the value of given field ordinal was changed</h4>
+     * <h4 class="zh-CN">检查给定属性序号的值是否已改变</h4>
+     * <span class="en-US">Always return true if snapshot mode not enabled</span>
+     * <span class="zh-CN">未启用快照模式时始终返回true</span>
+     *
+     * @param ordinal <span class="en-US">Field ordinal</span>
+     *                <span class="zh-CN">属性序号</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private boolean valueChanged(final int ordinal) {
+        if (!this.snapshotMode() || this.originalValues == null) {
+            return Boolean.TRUE;
+        }
+        return !Objects.deepEquals(this.originalValues[ordinal], this.fieldAccessor().fieldValue(this, ordinal));
+    }
+
+    /**
+     * <h4 class="en-US">Check the snapshot mode was enabled for current class</h4>
+     * <h4 class="zh-CN">检查当前类是否启用快照模式</h4>
+     *
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private boolean snapshotMode() {
+        if (this.snapshotMode == null) {
+            this.snapshotMode = Optional.ofNullable(EntityManager.tableConfig(this.getClass()))
+                    .map(TableConfig::isSnapshot)
+                    .orElse(Boolean.FALSE);
+        }
+        return this.snapshotMode;
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the field accessor of current class</h4>
+     * <h4 class="zh-CN">获取当前类的属性访问器</h4>
+     *
+     * @return <span class="en-US">Field accessor instance</span>
+     * <span class="zh-CN">属性访问器实例对象</span>
+     */
+    private FieldAccessor fieldAccessor() {
+        if (this.fieldAccessor == null) {
+            this.fieldAccessor = FieldAccessor.accessor(this.getClass());
+        }
+        return this.fieldAccessor;
+    }
+
+    /**
+     * <h4 class="en-US">Write the field status as field names</h4>
+     * <h4 class="zh-CN">以属性名写入属性状态</h4>
+     * <span class="en-US">The field ordinal depends on the declared order of fields, which is not stable between builds</span>
+     * <span class="zh-CN">属性序号依赖于属性的声明顺序，在不同的构建之间不稳定</span>
+     *
+     * @param objectOutputStream <span class="en-US">Object output stream</span>
+     *                           <span class="zh-CN">对象输出流</span>
+     * @throws IOException <span class="en-US">If an I/O error occurs</span>
+     *                     <span class="zh-CN">如果出现I/O异常</span>
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+        objectOutputStream.defaultWriteObject();
+        FieldAccessor accessor = this.fieldAccessor();
+        objectOutputStream.writeObject(fieldNames(accessor, this.modifiedFields));
+        objectOutputStream.writeObject(fieldNames(accessor, this.loadedFields));
+        HashMap<String, Object> originalValues = null;
+        if (this.originalValues != null && this.modifiedFields != null) {
+            originalValues = new HashMap<>();
+            for (int ordinal = this.modifiedFields.nextSetBit(0); ordinal >= 0;
+                 ordinal = this.modifiedFields.nextSetBit(ordinal + 1)) {
+                originalValues.put(accessor.fieldName(ordinal), this.originalValues[ordinal]);
+            }
+        }
+        objectOutputStream.writeObject(originalValues);
+    }
+
+    /**
+     * <h4 class="en-US">Read the field status from field names</h4>
+     * <h4 class="zh-CN">从属性名读取属性状态</h4>
+     * <span class="en-US">The field names which not found in current class will be ignored</span>
+     * <span class="zh-CN">当前类中不存在的属性名将被忽略</span>
+     *
+     * @param objectInputStream <span class="en-US">Object input stream</span>
+     *                          <span class="zh-CN">对象输入流</span>
+     * @throws IOException            <span class="en-US">If an I/O error occurs</span>
+     *                                <span class="zh-CN">如果出现I/O异常</span>
+     * @throws ClassNotFoundException <span class="en-US">If the class of serialized object not found</span>
+     *                                <span class="zh-CN">如果序列化对象的类未找到</span>
+     */
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        FieldAccessor accessor = this.fieldAccessor();
+        this.modifiedFields = fieldOrdinals(accessor, (List<String>) objectInputStream.readObject());
+        this.loadedFields = fieldOrdinals(accessor, (List<String>) objectInputStream.readObject());
+        Map<String, Object> originalValues = (Map<String, Object>) objectInputStream.readObject();
+        if (originalValues != null) {
+            this.originalValues = new Object[accessor.size()];
+            originalValues.forEach((fieldName, fieldValue) -> {
+                int ordinal = accessor.ordinal(fieldName);
+                if (ordinal >= 0) {
+                    this.originalValues[ordinal] = fieldValue;
+                }
+            });
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Convert the given field ordinal set to field name list</h4>
+     * <h4 class="zh-CN">转换给定的属性序号集合为属性名列表</h4>
+     *
+     * @param accessor <span class="en-US">Field accessor instance</span>
+     *                 <span class="zh-CN">属性访问器实例对象</span>
+     * @param ordinals <span class="en-US">Field ordinal set</span>
+     *                 <span class="zh-CN">属性序号集合</span>
+     * @return <span class="en-US">Field name list or <code>null</code> if ordinal set is <code>null</code></span>
+     * <span class="zh-CN">属性名列表，如果属性序号集合为 <code>null</code> 返回 <code>null</code></span>
+     */
+    private static ArrayList<String> fieldNames(final FieldAccessor accessor, final BitSet ordinals) {
+        if (ordinals == null) {
+            return null;
+        }
+        ArrayList<String> fieldNames = new ArrayList<>(ordinals.cardinality());
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            fieldNames.add(accessor.fieldName(ordinal));
+        }
+        return fieldNames;
+    }
+
+    /**
+     * <h4 class="en-US">Convert the given field name list to field ordinal set</h4>
+     * <h4 class="zh-CN">转换给定的属性名列表为属性序号集合</h4>
+     *
+     * @param accessor   <span class="en-US">Field accessor instance</span>
+     *                   <span class="zh-CN">属性访问器实例对象</span>
+     * @param fieldNames <span class="en-US">Field name list</span>
+     *                   <span class="zh-CN">属性名列表</span>
+     * @return <span class="en-US">Field ordinal set or <code>null</code> if field name list is <code>null</code></span>
+     * <span class="zh-CN">属性序号集合，如果属性名列表为 <code>null</code> 返回 <code>null</code></span>
+     */
+    private static BitSet fieldOrdinals(final FieldAccessor accessor, final List<String> fieldNames) {
+        if (fieldNames == null) {
+            return null;
+        }
+        BitSet ordinals = new BitSet();
+        fieldNames.stream()
+                .mapToInt(accessor::ordinal)
+                .filter(ordinal -> ordinal >= 0)
+                .forEach(ordinals::set);
+        return ordinals;
     }
 
     /**
@@ -208,19 +573,19 @@ public abstract class BaseObject extends BeanObject {
      * <h4 class="zh-CN">将标注为敏感数据的列数据进行脱敏处理</h4>
      */
     public final void desensitization() {
-        Optional.ofNullable(EntityManager.tableConfig(ClassUtils.originalClassName(this.getClass())))
+        Optional.ofNullable(EntityManager.tableConfig(this.getClass()))
                 .ifPresent(tableConfig -> tableConfig.getColumnConfigs()
                         .stream()
                         .filter(ColumnConfig::isSensitiveData)
                         .forEach(columnConfig -> {
-                            Object fieldValue = ReflectionUtils.getFieldValue(columnConfig.getFieldName(), this);
+                            Object fieldValue = FieldAccessor.getFieldValue(columnConfig.getFieldName(), this);
                             if (fieldValue instanceof String) {
                                 Optional.ofNullable(DesensitizedData.desensitization(columnConfig, (String) fieldValue))
                                         .ifPresent(DesensitizedData -> {
-                                            ReflectionUtils.setField(columnConfig.getFieldName(), this,
+                                            FieldAccessor.setField(columnConfig.getFieldName(), this,
                                                     DesensitizedData.getDesensitizationValue());
                                             if (StringUtils.notBlank(DesensitizedData.getEncryptedValue())) {
-                                                ReflectionUtils.setField(columnConfig.getEncField(), this,
+                                                FieldAccessor.setField(columnConfig.getEncField(), this,
                                                         DesensitizedData.getEncryptedValue());
                                             }
                                         });
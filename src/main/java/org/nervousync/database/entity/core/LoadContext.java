@@ -0,0 +1,697 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.entity.core;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.reference.JoinConfig;
+import org.nervousync.database.beans.configs.reference.ReferenceConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
+import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.query.builder.QueryBuilder;
+import org.nervousync.database.query.condition.Condition;
+import org.nervousync.enumerations.core.ConnectionCode;
+import org.nervousync.exceptions.builder.BuilderException;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ObjectUtils;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * <h2 class="en-US">Lazy load context</h2>
+ * <h2 class="zh-CN">懒加载上下文</h2>
+ * <span class="en-US">
+ * Shared by the entity records materialized from the same query result. The first lazy access of a reference field
+ * loads the field for the unloaded sibling records (up to the batch size) by one query, and distributes the result
+ * records to each sibling record by the join column values.
+ * </span>
+ * <span class="zh-CN">
+ * 由同一查询结果实例化的实体记录共享。首次懒加载外键属性时，使用一次查询为未加载的同级记录（不超过批量大小）加载该属性，
+ * 并按照关联列的值将结果记录分配给每一个同级记录。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 15:42:17 $
+ */
+public final class LoadContext {
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(LoadContext.class);
+    /**
+     * <span class="en-US">Default batch size</span>
+     * <span class="zh-CN">默认批量大小</span>
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    /**
+     * <span class="en-US">Current batch size</span>
+     * <span class="zh-CN">当前批量大小</span>
+     */
+    private static volatile int BATCH_SIZE = DEFAULT_BATCH_SIZE;
+    /**
+     * <span class="en-US">Sibling record list, guarded by itself</span>
+     * <span class="zh-CN">同级记录列表，由自身加锁保护</span>
+     */
+    private final List<BaseObject> records = new ArrayList<>();
+    /**
+     * <span class="en-US">Bound record list which decodes the sibling records on demand, <code>null</code> if not bound</span>
+     * <span class="zh-CN">按需解码同级记录的已绑定记录列表，如果未绑定则为 <code>null</code></span>
+     */
+    private volatile List<?> recordList = null;
+    /**
+     * <span class="en-US">Scan start index of bound record list, key is field name, guarded by current context</span>
+     * <span class="zh-CN">已绑定记录列表的扫描起始索引，键为属性名，由当前上下文加锁保护</span>
+     */
+    private final Map<String, Integer> scanIndexes = new HashMap<>();
+    /**
+     * <span class="en-US">Submitted prefetch tasks, key is field name</span>
+     * <span class="zh-CN">已提交的预取任务，键为属性名</span>
+     */
+    private final Map<String, Future<Map<BaseObject, Object>>> prefetches;
+
+    /**
+     * <h4 class="en-US">Constructor method for lazy load context</h4>
+     * <h4 class="zh-CN">懒加载上下文的构造方法</h4>
+     *
+     * @param records <span class="en-US">Sibling record list</span>
+     *                <span class="zh-CN">同级记录列表</span>
+     */
+    public LoadContext(@Nonnull final List<? extends BaseObject> records) {
+        this();
+        records.forEach(this::attach);
+    }
+
+    /**
+     * <h4 class="en-US">Constructor method for lazy load context without sibling records</h4>
+     * <h4 class="zh-CN">不包含同级记录的懒加载上下文的构造方法</h4>
+     * <span class="en-US">The records are attached when materialized, or pulled from the bound record list</span>
+     * <span class="zh-CN">记录在实例化时附加，或从已绑定的记录列表中获取</span>
+     */
+    public LoadContext() {
+        this.prefetches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <h4 class="en-US">Attach the given record as sibling record and bind current context to it</h4>
+     * <h4 class="zh-CN">附加给定的记录为同级记录，并为其绑定当前上下文</h4>
+     *
+     * @param record <span class="en-US">Record instance</span>
+     *               <span class="zh-CN">记录实例对象</span>
+     */
+    public void attach(@Nonnull final BaseObject record) {
+        synchronized (this.records) {
+            this.records.add(record);
+        }
+        record.bindContext(this);
+    }
+
+    /**
+     * <h4 class="en-US">Bind the record list which decodes the sibling records on demand</h4>
+     * <h4 class="zh-CN">绑定按需解码同级记录的记录列表</h4>
+     * <span class="en-US">
+     * The undecoded records will be decoded when loading the reference field by batch, the decoder of the list
+     * must bind current context to each decoded record.
+     * </span>
+     * <span class="zh-CN">批量加载外键属性时将解码尚未解码的记录，列表的解码器必须为每个解码的记录绑定当前上下文</span>
+     *
+     * @param recordList <span class="en-US">Record list</span>
+     *                   <span class="zh-CN">记录列表</span>
+     */
+    public void bindRecords(@Nonnull final List<?> recordList) {
+        this.recordList = recordList;
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the current batch size</h4>
+     * <h4 class="zh-CN">获取当前批量大小</h4>
+     *
+     * @return <span class="en-US">Current batch size</span>
+     * <span class="zh-CN">当前批量大小</span>
+     */
+    public static int batchSize() {
+        return BATCH_SIZE;
+    }
+
+    /**
+     * <h4 class="en-US">Configure the batch size, invalid value will reset to default batch size</h4>
+     * <h4 class="zh-CN">配置批量大小，无效的值将重置为默认批量大小</h4>
+     *
+     * @param batchSize <span class="en-US">Batch size, 1 means disable batch loading</span>
+     *                  <span class="zh-CN">批量大小，1 表示禁用批量加载</span>
+     */
+    public static void batchSize(final int batchSize) {
+        BATCH_SIZE = (batchSize > 0) ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * <h4 class="en-US">Check the current context can load reference field by batch</h4>
+     * <h4 class="zh-CN">检查当前上下文是否可以批量加载外键属性</h4>
+     *
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public boolean batchable() {
+        List<?> recordList = this.recordList;
+        if (recordList != null) {
+            return recordList.size() > 1 && BATCH_SIZE > 1;
+        }
+        synchronized (this.records) {
+            return this.records.size() > 1 && BATCH_SIZE > 1;
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Submit the prefetch tasks of registered prefetch fields</h4>
+     * <h4 class="zh-CN">提交已注册的预取属性的预取任务</h4>
+     * <span class="en-US">
+     * The primary key and join column values are read in current thread, the field values are loaded in background
+     * threads by read only client, the records for update will not be prefetched. Each query loads the lazy column
+     * or reference for the records up to the batch size.
+     * </span>
+     * <span class="zh-CN">
+     * 主键和关联列的值在当前线程中读取，属性值使用只读客户端在后台线程中加载，用于更新的记录不会被预取。
+     * 每次查询为不超过批量大小的记录加载懒加载数据列或外键。
+     * </span>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     */
+    public void prefetch(@Nonnull final Class<?> entityClass) {
+        Set<String> fieldNames = PrefetchPolicy.fieldNames(entityClass);
+        TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+        if (fieldNames.isEmpty() || tableConfig == null) {
+            return;
+        }
+        List<BaseObject> prefetchRecords = this.siblings().stream()
+                .filter(record -> !record.getForUpdate())
+                .collect(Collectors.toList());
+        if (prefetchRecords.isEmpty()) {
+            return;
+        }
+        FieldAccessor fieldAccessor = FieldAccessor.accessor(entityClass);
+        List<String> keyFields = tableConfig.primaryKeyColumns()
+                .stream()
+                .map(ColumnConfig::getFieldName)
+                .collect(Collectors.toList());
+        Map<List<Object>, List<BaseObject>> primaryKeys = new LinkedHashMap<>();
+        prefetchRecords.forEach(record -> {
+            List<Object> primaryKey = fieldValues(record, keyFields);
+            if (!primaryKey.contains(null)) {
+                primaryKeys.computeIfAbsent(primaryKey, key -> new ArrayList<>()).add(record);
+            }
+        });
+        for (String fieldName : fieldNames) {
+            Callable<Map<BaseObject, Object>> prefetchTask;
+            if (tableConfig.isColumn(fieldName)) {
+                if (primaryKeys.isEmpty()) {
+                    continue;
+                }
+                prefetchTask = () -> {
+                    DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+                    if (databaseClient == null) {
+                        return new IdentityHashMap<>();
+                    }
+                    return columnValues(databaseClient, tableConfig, keyFields, primaryKeys, fieldName);
+                };
+            } else {
+                ReferenceConfig<?> referenceConfig = tableConfig.referenceConfig(fieldName);
+                if (referenceConfig == null) {
+                    continue;
+                }
+                Map<List<Object>, List<BaseObject>> keyRecords =
+                        keyRecords(prefetchRecords, referenceConfig.getJoinColumnList());
+                int ordinal = fieldAccessor.ordinal(fieldName);
+                boolean returnArray = ordinal >= 0 && fieldAccessor.fieldType(ordinal).isArray();
+                prefetchTask = () -> {
+                    DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+                    if (databaseClient == null) {
+                        return new IdentityHashMap<>();
+                    }
+                    return referenceValues(databaseClient, referenceConfig, keyRecords, returnArray, Boolean.FALSE);
+                };
+            }
+            PrefetchPolicy.statistics(tableConfig.getDefineClass(), fieldName).prefetch(prefetchRecords.size());
+            this.prefetches.put(fieldName, PrefetchPolicy.submit(prefetchTask));
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Set the prefetched field value to the given record</h4>
+     * <h4 class="zh-CN">将预取的属性值设置到给定的记录</h4>
+     * <span class="en-US">Wait for the prefetch task if it is not completed</span>
+     * <span class="zh-CN">如果预取任务未完成则等待其完成</span>
+     *
+     * @param record    <span class="en-US">Current record instance</span>
+     *                  <span class="zh-CN">当前记录实例对象</span>
+     * @param fieldName <span class="en-US">Field name</span>
+     *                  <span class="zh-CN">属性名</span>
+     * @return <span class="en-US"><code>true</code> if the field value was set by prefetch result</span>
+     * <span class="zh-CN">如果属性值由预取结果设置返回 <code>true</code></span>
+     */
+    public boolean prefetched(@Nonnull final BaseObject record, @Nonnull final String fieldName) {
+        Future<Map<BaseObject, Object>> future = this.prefetches.get(fieldName);
+        if (future == null) {
+            return Boolean.FALSE;
+        }
+        Map<BaseObject, Object> fieldValues;
+        try {
+            fieldValues = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Boolean.FALSE;
+        } catch (ExecutionException e) {
+            this.prefetches.remove(fieldName, future);
+            LOGGER.error("Lazy_Load_Data_Error");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stack_Message_Error", e);
+            }
+            return Boolean.FALSE;
+        }
+        if (!fieldValues.containsKey(record)) {
+            return Boolean.FALSE;
+        }
+        FieldAccessor.setField(fieldName, record, fieldValues.get(record));
+        record.loadField(fieldName);
+        Optional.ofNullable(EntityManager.tableConfig(record.getClass()))
+                .ifPresent(tableConfig -> PrefetchPolicy.statistics(tableConfig.getDefineClass(), fieldName).hit());
+        return Boolean.TRUE;
+    }
+
+    /**
+     * <h4 class="en-US">Load the reference field for the given record and its unloaded siblings</h4>
+     * <h4 class="zh-CN">为给定的记录及其未加载的同级记录加载外键属性</h4>
+     * <span class="en-US">
+     * The field value of sibling records will be set and marked as loaded,
+     * the field value of the given record will be returned to the caller.
+     * </span>
+     * <span class="zh-CN">同级记录的属性值将被设置并标记为已加载，给定记录的属性值将返回给调用者</span>
+     *
+     * @param <T>             <span class="en-US">Reference entity class</span>
+     *                        <span class="zh-CN">外键实体类</span>
+     * @param databaseClient  <span class="en-US">Database client instance</span>
+     *                        <span class="zh-CN">数据库客户端实例对象</span>
+     * @param referenceConfig <span class="en-US">Reference configure information</span>
+     *                        <span class="zh-CN">外键配置信息</span>
+     * @param record          <span class="en-US">Current record instance</span>
+     *                        <span class="zh-CN">当前记录实例对象</span>
+     * @param fieldName       <span class="en-US">Reference field name</span>
+     *                        <span class="zh-CN">外键属性名</span>
+     * @param returnArray     <span class="en-US">Field type is array</span>
+     *                        <span class="zh-CN">属性类型为数组</span>
+     * @return <span class="en-US">Field value of the given record</span>
+     * <span class="zh-CN">给定记录的属性值</span>
+     * @throws BuilderException <span class="en-US">If generate query condition failed</span>
+     *                          <span class="zh-CN">如果生成查询条件失败</span>
+     * @throws QueryException   <span class="en-US">If execute query failed</span>
+     *                          <span class="zh-CN">如果执行查询失败</span>
+     */
+    public synchronized <T> Object loadReference(@Nonnull final DatabaseClient databaseClient,
+                                                 @Nonnull final ReferenceConfig<T> referenceConfig,
+                                                 @Nonnull final BaseObject record, @Nonnull final String fieldName,
+                                                 final boolean returnArray) throws BuilderException, QueryException {
+        Map<BaseObject, Object> fieldValues = referenceValues(databaseClient, referenceConfig,
+                keyRecords(this.batchRecords(record, fieldName), referenceConfig.getJoinColumnList()),
+                returnArray, record.getForUpdate());
+        Object fieldValue = null;
+        for (Map.Entry<BaseObject, Object> entry : fieldValues.entrySet()) {
+            if (entry.getKey() == record) {
+                fieldValue = entry.getValue();
+            } else {
+                FieldAccessor.setField(fieldName, entry.getKey(), entry.getValue());
+                entry.getKey().loadField(fieldName);
+            }
+        }
+        return fieldValue;
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the given record and its unloaded siblings, up to the batch size</h4>
+     * <h4 class="zh-CN">获取给定的记录及其未加载的同级记录，不超过批量大小</h4>
+     * <span class="en-US">
+     * The siblings in bound record list are scanned from the first index which may be unloaded, the undecoded
+     * siblings will be decoded. The loaded status is never reset, so the scanned index will not be scanned again.
+     * </span>
+     * <span class="zh-CN">
+     * 已绑定记录列表中的同级记录从第一个可能未加载的索引开始扫描，尚未解码的同级记录将被解码。加载状态不会被重置，因此已扫描的索引不会被再次扫描。
+     * </span>
+     *
+     * @param record    <span class="en-US">Current record instance</span>
+     *                  <span class="zh-CN">当前记录实例对象</span>
+     * @param fieldName <span class="en-US">Reference field name</span>
+     *                  <span class="zh-CN">外键属性名</span>
+     * @return <span class="en-US">Batch record list</span>
+     * <span class="zh-CN">批量记录列表</span>
+     */
+    private List<BaseObject> batchRecords(@Nonnull final BaseObject record, @Nonnull final String fieldName) {
+        int batchSize = BATCH_SIZE;
+        List<BaseObject> batchRecords = new ArrayList<>();
+        batchRecords.add(record);
+        List<?> recordList = this.recordList;
+        if (recordList != null) {
+            int index = this.scanIndexes.getOrDefault(fieldName, 0);
+            while (index < recordList.size() && batchRecords.size() < batchSize) {
+                Object sibling = recordList.get(index++);
+                if (sibling instanceof BaseObject && sibling != record
+                        && !((BaseObject) sibling).loadedField(fieldName)) {
+                    batchRecords.add((BaseObject) sibling);
+                }
+            }
+            this.scanIndexes.put(fieldName, index);
+            return batchRecords;
+        }
+        for (BaseObject sibling : this.siblings()) {
+            if (batchRecords.size() >= batchSize) {
+                break;
+            }
+            if (sibling != record && !sibling.loadedField(fieldName)) {
+                batchRecords.add(sibling);
+            }
+        }
+        return batchRecords;
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the snapshot of attached sibling records</h4>
+     * <h4 class="zh-CN">获取已附加的同级记录快照</h4>
+     *
+     * @return <span class="en-US">Sibling record list</span>
+     * <span class="zh-CN">同级记录列表</span>
+     */
+    private List<BaseObject> siblings() {
+        List<?> recordList = this.recordList;
+        if (recordList != null) {
+            return recordList.stream()
+                    .filter(BaseObject.class::isInstance)
+                    .map(BaseObject.class::cast)
+                    .collect(Collectors.toList());
+        }
+        synchronized (this.records) {
+            return List.copyOf(this.records);
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Query the lazy column values and generate field value of each given record</h4>
+     * <h4 class="zh-CN">查询懒加载数据列的值并生成每个给定记录的属性值</h4>
+     * <span class="en-US">
+     * Each query contains the primary key values up to the batch size, the records which not found in query result
+     * will not be contained in the returned mapping table and will be loaded synchronously when accessed
+     * </span>
+     * <span class="zh-CN">每次查询包含的主键值不超过批量大小，查询结果中未找到的记录不会包含在返回的映射表中，并将在访问时同步加载</span>
+     *
+     * @param databaseClient <span class="en-US">Database client instance</span>
+     *                       <span class="zh-CN">数据库客户端实例对象</span>
+     * @param tableConfig    <span class="en-US">Table configure information</span>
+     *                       <span class="zh-CN">数据表配置信息</span>
+     * @param keyFields      <span class="en-US">Primary key field name list</span>
+     *                       <span class="zh-CN">主键属性名列表</span>
+     * @param primaryKeys    <span class="en-US">Grouped record mapping table, key is primary key values</span>
+     *                       <span class="zh-CN">分组后的记录映射表，键为主键的值</span>
+     * @param fieldName      <span class="en-US">Lazy column field name</span>
+     *                       <span class="zh-CN">懒加载数据列的属性名</span>
+     * @return <span class="en-US">Field value mapping table, key is record instance</span>
+     * <span class="zh-CN">属性值映射表，键为记录实例对象</span>
+     * @throws BuilderException <span class="en-US">If generate query condition failed</span>
+     *                          <span class="zh-CN">如果生成查询条件失败</span>
+     * @throws QueryException   <span class="en-US">If execute query failed</span>
+     *                          <span class="zh-CN">如果执行查询失败</span>
+     */
+    private static Map<BaseObject, Object> columnValues(@Nonnull final DatabaseClient databaseClient,
+                                                        @Nonnull final TableConfig tableConfig,
+                                                        @Nonnull final List<String> keyFields,
+                                                        @Nonnull final Map<List<Object>, List<BaseObject>> primaryKeys,
+                                                        @Nonnull final String fieldName)
+            throws BuilderException, QueryException {
+        Class<?> entityClass = tableConfig.getDefineClass();
+        List<List<Object>> keyList = new ArrayList<>(primaryKeys.keySet());
+        Map<List<Object>, Object> resultMap = new HashMap<>();
+        int batchSize = BATCH_SIZE;
+        for (int i = 0; i < keyList.size(); i += batchSize) {
+            List<List<Object>> batchKeys = keyList.subList(i, Math.min(i + batchSize, keyList.size()));
+            QueryBuilder queryBuilder = QueryBuilder.newBuilder(entityClass);
+            if (keyFields.size() == 1) {
+                queryBuilder.in(entityClass, keyFields.get(0),
+                        batchKeys.stream().map(primaryKey -> primaryKey.get(0)).toArray());
+            } else {
+                int sortCode = 0;
+                for (List<Object> primaryKey : batchKeys) {
+                    Condition[] conditions = new Condition[keyFields.size()];
+                    for (int j = 0; j < conditions.length; j++) {
+                        conditions[j] = Condition.equalTo(j, ConnectionCode.AND, entityClass,
+                                keyFields.get(j), primaryKey.get(j));
+                    }
+                    queryBuilder.group(sortCode++, ConnectionCode.OR, conditions);
+                }
+            }
+            QueryResult queryResult = databaseClient.queryList(queryBuilder.fetch(fieldName).confirm());
+            for (int j = 0; j < queryResult.size(); j++) {
+                Optional.ofNullable(queryResult.row(j))
+                        .ifPresent(dataMap -> resultMap.put(fieldValues(dataMap, keyFields), dataMap.get(fieldName)));
+            }
+        }
+        Map<BaseObject, Object> fieldValues = new IdentityHashMap<>();
+        primaryKeys.forEach((primaryKey, records) -> {
+            if (resultMap.containsKey(primaryKey)) {
+                records.forEach(record -> fieldValues.put(record, resultMap.get(primaryKey)));
+            }
+        });
+        return fieldValues;
+    }
+
+    /**
+     * <h4 class="en-US">Read the values of given field names from the given record instance</h4>
+     * <h4 class="zh-CN">从给定的记录实例对象中读取给定属性名的值</h4>
+     *
+     * @param record     <span class="en-US">Record instance</span>
+     *                   <span class="zh-CN">记录实例对象</span>
+     * @param fieldNames <span class="en-US">Field name list</span>
+     *                   <span class="zh-CN">属性名列表</span>
+     * @return <span class="en-US">Field value list</span>
+     * <span class="zh-CN">属性值列表</span>
+     */
+    private static List<Object> fieldValues(@Nonnull final BaseObject record, @Nonnull final List<String> fieldNames) {
+        List<Object> fieldValues = new ArrayList<>(fieldNames.size());
+        fieldNames.forEach(fieldName -> fieldValues.add(FieldAccessor.getFieldValue(fieldName, record)));
+        return fieldValues;
+    }
+
+    /**
+     * <h4 class="en-US">Read the values of given field names from the given data mapping table</h4>
+     * <h4 class="zh-CN">从给定的数据映射表中读取给定属性名的值</h4>
+     *
+     * @param dataMap    <span class="en-US">Data mapping table</span>
+     *                   <span class="zh-CN">数据映射表</span>
+     * @param fieldNames <span class="en-US">Field name list</span>
+     *                   <span class="zh-CN">属性名列表</span>
+     * @return <span class="en-US">Field value list</span>
+     * <span class="zh-CN">属性值列表</span>
+     */
+    private static List<Object> fieldValues(@Nonnull final Map<String, Object> dataMap,
+                                            @Nonnull final List<String> fieldNames) {
+        List<Object> fieldValues = new ArrayList<>(fieldNames.size());
+        fieldNames.forEach(fieldName -> fieldValues.add(dataMap.get(fieldName)));
+        return fieldValues;
+    }
+
+    /**
+     * <h4 class="en-US">Group the given records by join column values</h4>
+     * <h4 class="zh-CN">按照关联列的值对给定的记录进行分组</h4>
+     * <span class="en-US">The records which join column values contains <code>null</code> are grouped by key <code>null</code></span>
+     * <span class="zh-CN">关联列的值包含 <code>null</code> 的记录分组到键 <code>null</code></span>
+     *
+     * @param records     <span class="en-US">Record list</span>
+     *                    <span class="zh-CN">记录列表</span>
+     * @param joinColumns <span class="en-US">Join column configure list</span>
+     *                    <span class="zh-CN">关联列配置信息列表</span>
+     * @return <span class="en-US">Grouped record mapping table, key is join column values</span>
+     * <span class="zh-CN">分组后的记录映射表，键为关联列的值</span>
+     */
+    private static Map<List<Object>, List<BaseObject>> keyRecords(@Nonnull final List<BaseObject> records,
+                                                                  @Nonnull final List<JoinConfig> joinColumns) {
+        Map<List<Object>, List<BaseObject>> keyRecords = new LinkedHashMap<>();
+        records.forEach(record -> {
+            List<Object> joinKey = joinKey(record, joinColumns, Boolean.TRUE);
+            keyRecords.computeIfAbsent(joinKey.contains(null) ? null : joinKey, key -> new ArrayList<>()).add(record);
+        });
+        return keyRecords;
+    }
+
+    /**
+     * <h4 class="en-US">Query the reference records and generate field value of each given record</h4>
+     * <h4 class="zh-CN">查询外键记录并生成每个给定记录的属性值</h4>
+     * <span class="en-US">Each query contains the join column values up to the batch size</span>
+     * <span class="zh-CN">每次查询包含的关联列值不超过批量大小</span>
+     *
+     * @param <T>             <span class="en-US">Reference entity class</span>
+     *                        <span class="zh-CN">外键实体类</span>
+     * @param databaseClient  <span class="en-US">Database client instance</span>
+     *                        <span class="zh-CN">数据库客户端实例对象</span>
+     * @param referenceConfig <span class="en-US">Reference configure information</span>
+     *                        <span class="zh-CN">外键配置信息</span>
+     * @param keyRecords      <span class="en-US">Grouped record mapping table, key is join column values</span>
+     *                        <span class="zh-CN">分组后的记录映射表，键为关联列的值</span>
+     * @param returnArray     <span class="en-US">Field type is array</span>
+     *                        <span class="zh-CN">属性类型为数组</span>
+     * @param forUpdate       <span class="en-US">Query reference records for update</span>
+     *                        <span class="zh-CN">查询外键记录用于更新操作</span>
+     * @return <span class="en-US">Field value mapping table, key is record instance</span>
+     * <span class="zh-CN">属性值映射表，键为记录实例对象</span>
+     * @throws BuilderException <span class="en-US">If generate query condition failed</span>
+     *                          <span class="zh-CN">如果生成查询条件失败</span>
+     * @throws QueryException   <span class="en-US">If execute query failed</span>
+     *                          <span class="zh-CN">如果执行查询失败</span>
+     */
+    private static <T> Map<BaseObject, Object> referenceValues(@Nonnull final DatabaseClient databaseClient,
+                                                               @Nonnull final ReferenceConfig<T> referenceConfig,
+                                                               @Nonnull final Map<List<Object>, List<BaseObject>> keyRecords,
+                                                               final boolean returnArray, final boolean forUpdate)
+            throws BuilderException, QueryException {
+        List<List<Object>> joinKeys = keyRecords.keySet().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<List<Object>, List<T>> resultMap = new HashMap<>();
+        int batchSize = BATCH_SIZE;
+        for (int i = 0; i < joinKeys.size(); i += batchSize) {
+            resultMap.putAll(queryReferences(databaseClient, referenceConfig,
+                    joinKeys.subList(i, Math.min(i + batchSize, joinKeys.size())), forUpdate));
+        }
+        Map<BaseObject, Object> fieldValues = new IdentityHashMap<>();
+        keyRecords.forEach((joinKey, records) -> {
+            List<T> resultList = (joinKey == null)
+                    ? Collections.emptyList()
+                    : resultMap.getOrDefault(joinKey, Collections.emptyList());
+            records.forEach(record -> fieldValues.put(record, fieldValue(referenceConfig, resultList, returnArray)));
+        });
+        return fieldValues;
+    }
+
+    /**
+     * <h4 class="en-US">Query the reference records by given join column values</h4>
+     * <h4 class="zh-CN">根据给定的关联列值查询外键记录</h4>
+     *
+     * @param <T>             <span class="en-US">Reference entity class</span>
+     *                        <span class="zh-CN">外键实体类</span>
+     * @param databaseClient  <span class="en-US">Database client instance</span>
+     *                        <span class="zh-CN">数据库客户端实例对象</span>
+     * @param referenceConfig <span class="en-US">Reference configure information</span>
+     *                        <span class="zh-CN">外键配置信息</span>
+     * @param joinKeys        <span class="en-US">Join column values list</span>
+     *                        <span class="zh-CN">关联列值列表</span>
+     * @param forUpdate       <span class="en-US">Query reference records for update</span>
+     *                        <span class="zh-CN">查询外键记录用于更新操作</span>
+     * @return <span class="en-US">Reference records mapping table, key is join column values</span>
+     * <span class="zh-CN">外键记录映射表，键为关联列的值</span>
+     * @throws BuilderException <span class="en-US">If generate query condition failed</span>
+     *                          <span class="zh-CN">如果生成查询条件失败</span>
+     * @throws QueryException   <span class="en-US">If execute query failed</span>
+     *                          <span class="zh-CN">如果执行查询失败</span>
+     */
+    private static <T> Map<List<Object>, List<T>> queryReferences(@Nonnull final DatabaseClient databaseClient,
+                                                                  @Nonnull final ReferenceConfig<T> referenceConfig,
+                                                                  @Nonnull final List<List<Object>> joinKeys,
+                                                                  final boolean forUpdate)
+            throws BuilderException, QueryException {
+        Map<List<Object>, List<T>> resultMap = new HashMap<>();
+        if (joinKeys.isEmpty()) {
+            return resultMap;
+        }
+        List<JoinConfig> joinColumns = referenceConfig.getJoinColumnList();
+        Class<T> entityClass = referenceConfig.getReferenceClass();
+        List<Condition> conditionList = new ArrayList<>();
+        if (joinColumns.size() == 1) {
+            conditionList.add(Condition.in(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND, entityClass,
+                    joinColumns.get(0).getReferenceField(),
+                    joinKeys.stream().map(joinKey -> joinKey.get(0)).toArray()));
+        } else {
+            int sortCode = 0;
+            for (List<Object> joinKey : joinKeys) {
+                Condition[] conditions = new Condition[joinColumns.size()];
+                for (int i = 0; i < conditions.length; i++) {
+                    conditions[i] = Condition.equalTo(i, ConnectionCode.AND, entityClass,
+                            joinColumns.get(i).getReferenceField(), joinKey.get(i));
+                }
+                conditionList.add(Condition.group(sortCode++, ConnectionCode.OR, conditions));
+            }
+        }
+        databaseClient.queryList(QueryBuilder.newQuery(entityClass, forUpdate, conditionList))
+                .asList(entityClass)
+                .forEach(result ->
+                        resultMap.computeIfAbsent(joinKey(result, joinColumns, Boolean.FALSE),
+                                key -> new ArrayList<>()).add(result));
+        return resultMap;
+    }
+
+    /**
+     * <h4 class="en-US">Read the join column values of the given object instance</h4>
+     * <h4 class="zh-CN">读取给定实例对象的关联列值</h4>
+     *
+     * @param object      <span class="en-US">Object instance</span>
+     *                    <span class="zh-CN">实例对象</span>
+     * @param joinColumns <span class="en-US">Join column configure list</span>
+     *                    <span class="zh-CN">关联列配置信息列表</span>
+     * @param current     <span class="en-US">Read current field (<code>true</code>) or reference field (<code>false</code>)</span>
+     *                    <span class="zh-CN">读取当前属性（<code>true</code>）或外键属性（<code>false</code>）</span>
+     * @return <span class="en-US">Join column value list</span>
+     * <span class="zh-CN">关联列值列表</span>
+     */
+    private static List<Object> joinKey(@Nonnull final Object object, @Nonnull final List<JoinConfig> joinColumns,
+                                        final boolean current) {
+        List<Object> joinKey = new ArrayList<>(joinColumns.size());
+        joinColumns.forEach(joinConfig ->
+                joinKey.add(FieldAccessor.getFieldValue(
+                        current ? joinConfig.getCurrentField() : joinConfig.getReferenceField(), object)));
+        return joinKey;
+    }
+
+    /**
+     * <h4 class="en-US">Generate field value by given matched result list</h4>
+     * <h4 class="zh-CN">根据给定的匹配结果列表生成属性值</h4>
+     *
+     * @param <T>             <span class="en-US">Reference entity class</span>
+     *                        <span class="zh-CN">外键实体类</span>
+     * @param referenceConfig <span class="en-US">Reference configure information</span>
+     *                        <span class="zh-CN">外键配置信息</span>
+     * @param resultList      <span class="en-US">Matched result list</span>
+     *                        <span class="zh-CN">匹配的结果列表</span>
+     * @param returnArray     <span class="en-US">Field type is array</span>
+     *                        <span class="zh-CN">属性类型为数组</span>
+     * @return <span class="en-US">Generated field value</span>
+     * <span class="zh-CN">生成的属性值</span>
+     */
+    private static <T> Object fieldValue(@Nonnull final ReferenceConfig<T> referenceConfig,
+                                         @Nonnull final List<T> resultList, final boolean returnArray) {
+        if (referenceConfig.isReturnArray()) {
+            return returnArray
+                    ? resultList.toArray(ObjectUtils.newArray(referenceConfig.getReferenceClass()))
+                    : new ArrayList<>(resultList);
+        }
+        return resultList.isEmpty() ? null : resultList.get(0);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.entity.core;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Lazy field prefetch policy</h2>
+ * <h2 class="zh-CN">懒加载属性预取策略</h2>
+ * <span class="en-US">
+ * Register the lazy columns or references of entity class which will be loaded in background threads
+ * after the records were materialized from query result, the getter method will wait for the prefetch result
+ * instead of loading the field value synchronously. The access statistics of lazy fields are collected
+ * for tuning the prefetch fields.
+ * </span>
+ * <span class="zh-CN">
+ * 注册实体类中需要预取的懒加载数据列或外键，记录从查询结果实例化后，将在后台线程中加载这些属性，Getter方法将等待预取结果而不再同步加载属性值。
+ * 同时收集懒加载属性的访问统计信息，用于调整预取的属性。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 17:08:44 $
+ */
+public final class PrefetchPolicy {
+
+    /**
+     * <span class="en-US">Registered prefetch field names, key is entity class</span>
+     * <span class="zh-CN">已注册的预取属性名，键为实体类</span>
+     */
+    private static final Map<Class<?>, Set<String>> PREFETCH_FIELDS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Field access statistics, key is entity class</span>
+     * <span class="zh-CN">属性访问统计信息，键为实体类</span>
+     */
+    private static final Map<Class<?>, Map<String, FieldStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Maximum thread count of prefetch executor</span>
+     * <span class="zh-CN">预取执行器的最大线程数</span>
+     */
+    private static final int MAXIMUM_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    /**
+     * <span class="en-US">Maximum waiting task count of prefetch executor</span>
+     * <span class="zh-CN">预取执行器的最大等待任务数</span>
+     */
+    private static final int MAXIMUM_QUEUE_SIZE = 1024;
+    /**
+     * <span class="en-US">
+     * Executor service of prefetch tasks, using bounded daemon threads and task queue,
+     * the idle threads will be terminated after 60 seconds,
+     * the task will be executed in the submitting thread if the task queue is full.
+     * </span>
+     * <span class="zh-CN">
+     * 预取任务的执行器，使用有界的守护线程和任务队列，空闲线程将在60秒后终止，如果任务队列已满，任务将在提交任务的线程中执行。
+     * </span>
+     */
+    private static final ExecutorService EXECUTOR_SERVICE;
+
+    static {
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(MAXIMUM_THREADS, MAXIMUM_THREADS,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(MAXIMUM_QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "LazyPrefetch");
+            thread.setDaemon(Boolean.TRUE);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(Boolean.TRUE);
+        EXECUTOR_SERVICE = threadPoolExecutor;
+    }
+
+    /**
+     * <h4 class="en-US">Private constructor method for lazy field prefetch policy</h4>
+     * <h4 class="zh-CN">懒加载属性预取策略的私有构造方法</h4>
+     */
+    private PrefetchPolicy() {
+    }
+
+    /**
+     * <h4 class="en-US">Register the prefetch fields of given entity class</h4>
+     * <h4 class="zh-CN">注册给定实体类的预取属性</h4>
+     * <span class="en-US">Only the lazy load columns and references will be registered</span>
+     * <span class="zh-CN">仅注册懒加载的数据列和外键</span>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     * @param fieldNames  <span class="en-US">Field name array</span>
+     *                    <span class="zh-CN">属性名数组</span>
+     */
+    public static void register(@Nonnull final Class<?> entityClass, final String... fieldNames) {
+        TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+        if (tableConfig == null) {
+            return;
+        }
+        Set<String> prefetchFields = new LinkedHashSet<>();
+        Arrays.stream(fieldNames)
+                .filter(fieldName -> tableConfig.isColumn(fieldName)
+                        ? tableConfig.lazyLoad(fieldName)
+                        : tableConfig.referenceConfig(fieldName) != null)
+                .forEach(prefetchFields::add);
+        if (prefetchFields.isEmpty()) {
+            PREFETCH_FIELDS.remove(tableConfig.getDefineClass());
+        } else {
+            PREFETCH_FIELDS.put(tableConfig.getDefineClass(), Collections.unmodifiableSet(prefetchFields));
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Remove the prefetch fields of given entity class</h4>
+     * <h4 class="zh-CN">移除给定实体类的预取属性</h4>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     */
+    public static void unregister(@Nonnull final Class<?> entityClass) {
+        Optional.ofNullable(EntityManager.tableConfig(entityClass))
+                .ifPresent(tableConfig -> PREFETCH_FIELDS.remove(tableConfig.getDefineClass()));
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the prefetch field names of given entity class</h4>
+     * <h4 class="zh-CN">获取给定实体类的预取属性名</h4>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     * @return <span class="en-US">Prefetch field name set</span>
+     * <span class="zh-CN">预取属性名集合</span>
+     */
+    public static Set<String> fieldNames(@Nonnull final Class<?> entityClass) {
+        return PREFETCH_FIELDS.getOrDefault(entityClass, Collections.emptySet());
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the access statistics of given lazy field</h4>
+     * <h4 class="zh-CN">获取给定懒加载属性的访问统计信息</h4>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     * @param fieldName   <span class="en-US">Field name</span>
+     *                    <span class="zh-CN">属性名</span>
+     * @return <span class="en-US">Field access statistics</span>
+     * <span class="zh-CN">属性访问统计信息</span>
+     */
+    public static FieldStatistics statistics(@Nonnull final Class<?> entityClass, @Nonnull final String fieldName) {
+        return STATISTICS.computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fieldName, key -> new FieldStatistics());
+    }
+
+    /**
+     * <h4 class="en-US">Record an access of given lazy field which loaded synchronously</h4>
+     * <h4 class="zh-CN">记录一次给定懒加载属性的同步加载访问</h4>
+     * <span class="en-US">Only the entity class which registered prefetch fields will be recorded</span>
+     * <span class="zh-CN">仅记录已注册预取属性的实体类</span>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     * @param fieldName   <span class="en-US">Field name</span>
+     *                    <span class="zh-CN">属性名</span>
+     */
+    public static void miss(@Nonnull final Class<?> entityClass, @Nonnull final String fieldName) {
+        if (PREFETCH_FIELDS.containsKey(entityClass)) {
+            statistics(entityClass, fieldName).miss();
+        }
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the access statistics of all lazy fields of given entity class</h4>
+     * <h4 class="zh-CN">获取给定实体类所有懒加载属性的访问统计信息</h4>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     * @return <span class="en-US">Field access statistics mapping table, key is field name</span>
+     * <span class="zh-CN">属性访问统计信息映射表，键为属性名</span>
+     */
+    public static Map<String, FieldStatistics> statistics(@Nonnull final Class<?> entityClass) {
+        return Collections.unmodifiableMap(STATISTICS.getOrDefault(entityClass, Collections.emptyMap()));
+    }
+
+    /**
+     * <h4 class="en-US">Submit the prefetch task</h4>
+     * <h4 class="zh-CN">提交预取任务</h4>
+     *
+     * @param <T>      <span class="en-US">Task result type</span>
+     *                 <span class="zh-CN">任务结果类型</span>
+     * @param callable <span class="en-US">Prefetch task</span>
+     *                 <span class="zh-CN">预取任务</span>
+     * @return <span class="en-US">Future of the task result</span>
+     * <span class="zh-CN">任务结果的Future实例</span>
+     */
+    static <T> Future<T> submit(@Nonnull final Callable<T> callable) {
+        return EXECUTOR_SERVICE.submit(callable);
+    }
+
+    /**
+     * <h2 class="en-US">Lazy field access statistics</h2>
+     * <h2 class="zh-CN">懒加载属性访问统计信息</h2>
+     */
+    public static final class FieldStatistics {
+
+        /**
+         * <span class="en-US">Prefetched record count</span>
+         * <span class="zh-CN">预取的记录数</span>
+         */
+        private final LongAdder prefetchCount = new LongAdder();
+        /**
+         * <span class="en-US">Access count which served by prefetch result</span>
+         * <span class="zh-CN">由预取结果提供的访问次数</span>
+         */
+        private final LongAdder hitCount = new LongAdder();
+        /**
+         * <span class="en-US">Access count which loaded synchronously</span>
+         * <span class="zh-CN">同步加载的访问次数</span>
+         */
+        private final LongAdder missCount = new LongAdder();
+
+        /**
+         * <h4 class="en-US">Private constructor method for lazy field access statistics</h4>
+         * <h4 class="zh-CN">懒加载属性访问统计信息的私有构造方法</h4>
+         */
+        private FieldStatistics() {
+        }
+
+        /**
+         * <h4 class="en-US">Retrieve the prefetched record count</h4>
+         * <h4 class="zh-CN">获取预取的记录数</h4>
+         *
+         * @return <span class="en-US">Prefetched record count</span>
+         * <span class="zh-CN">预取的记录数</span>
+         */
+        public long prefetchCount() {
+            return this.prefetchCount.sum();
+        }
+
+        /**
+         * <h4 class="en-US">Retrieve the access count which served by prefetch result</h4>
+         * <h4 class="zh-CN">获取由预取结果提供的访问次数</h4>
+         *
+         * @return <span class="en-US">Hit count</span>
+         * <span class="zh-CN">命中次数</span>
+         */
+        public long hitCount() {
+            return this.hitCount.sum();
+        }
+
+        /**
+         * <h4 class="en-US">Retrieve the access count which loaded synchronously</h4>
+         * <h4 class="zh-CN">获取同步加载的访问次数</h4>
+         *
+         * @return <span class="en-US">Miss count</span>
+         * <span class="zh-CN">未命中次数</span>
+         */
+        public long missCount() {
+            return this.missCount.sum();
+        }
+
+        /**
+         * <h4 class="en-US">Record the prefetched record count</h4>
+         * <h4 class="zh-CN">记录预取的记录数</h4>
+         *
+         * @param count <span class="en-US">Prefetched record count</span>
+         *              <span class="zh-CN">预取的记录数</span>
+         */
+        void prefetch(final int count) {
+            this.prefetchCount.add(count);
+        }
+
+        /**
+         * <h4 class="en-US">Record an access which served by prefetch result</h4>
+         * <h4 class="zh-CN">记录一次由预取结果提供的访问</h4>
+         */
+        void hit() {
+            this.hitCount.increment();
+        }
+
+        /**
+         * <h4 class="en-US">Record an access which loaded synchronously</h4>
+         * <h4 class="zh-CN">记录一次同步加载的访问</h4>
+         */
+        void miss() {
+            this.missCount.increment();
+        }
+    }
+}
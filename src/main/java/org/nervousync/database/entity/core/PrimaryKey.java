@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.entity.core;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
+
+import java.util.*;
+
+/**
+ * <h2 class="en-US">Primary key value</h2>
+ * <h2 class="zh-CN">主键值</h2>
+ * <span class="en-US">
+ * Immutable primary key values of an entity record, ordered by the primary key columns of the table configure,
+ * the hash code is computed once, so the instance can be used as the key of caches and identity maps.
+ * </span>
+ * <span class="zh-CN">
+ * 实体记录的不可变主键值，按照数据表配置信息中主键列的顺序排列，哈希值仅计算一次，可以作为缓存和标识映射表的键使用。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 14:18:05 $
+ */
+public final class PrimaryKey {
+
+    /**
+     * <span class="en-US">Entity class</span>
+     * <span class="zh-CN">实体类</span>
+     */
+    private final Class<?> entityClass;
+    /**
+     * <span class="en-US">Primary key value array</span>
+     * <span class="zh-CN">主键值数组</span>
+     */
+    private final Object[] values;
+    /**
+     * <span class="en-US">Cached hash code</span>
+     * <span class="zh-CN">缓存的哈希值</span>
+     */
+    private final int hashCode;
+
+    /**
+     * <h4 class="en-US">Private constructor method for primary key value</h4>
+     * <h4 class="zh-CN">主键值的私有构造方法</h4>
+     *
+     * @param entityClass <span class="en-US">Entity class</span>
+     *                    <span class="zh-CN">实体类</span>
+     * @param values      <span class="en-US">Primary key value array</span>
+     *                    <span class="zh-CN">主键值数组</span>
+     */
+    private PrimaryKey(@Nonnull final Class<?> entityClass, @Nonnull final Object[] values) {
+        this.entityClass = entityClass;
+        this.values = values;
+        this.hashCode = 31 * entityClass.hashCode() + Arrays.deepHashCode(values);
+    }
+
+    /**
+     * <h4 class="en-US">Static method for generate primary key value by given entity object instance</h4>
+     * <h4 class="zh-CN">静态方法用于根据给定的实体对象实例生成主键值</h4>
+     *
+     * @param object <span class="en-US">Entity object instance</span>
+     *               <span class="zh-CN">实体对象实例</span>
+     * @return <span class="en-US">Generated primary key value or <code>null</code> if entity class not registered</span>
+     * <span class="zh-CN">生成的主键值，如果实体类未注册返回 <code>null</code></span>
+     */
+    public static PrimaryKey newInstance(final Object object) {
+        if (object == null) {
+            return null;
+        }
+        TableConfig tableConfig = EntityManager.tableConfig(object.getClass());
+        if (tableConfig == null) {
+            return null;
+        }
+        FieldAccessor fieldAccessor = FieldAccessor.accessor(object.getClass());
+        List<ColumnConfig> primaryKeys = tableConfig.primaryKeyColumns();
+        Object[] values = new Object[primaryKeys.size()];
+        for (int i = 0; i < values.length; i++) {
+            int ordinal = fieldAccessor.ordinal(primaryKeys.get(i).getFieldName());
+            values[i] = (ordinal < 0)
+                    ? FieldAccessor.getFieldValue(primaryKeys.get(i).getFieldName(), object)
+                    : fieldAccessor.get(object, ordinal);
+        }
+        return new PrimaryKey(tableConfig.getDefineClass(), values);
+    }
+
+    /**
+     * <h4 class="en-US">Static method for generate primary key value by given primary key data mapping table</h4>
+     * <h4 class="zh-CN">静态方法用于根据给定的主键数据映射表生成主键值</h4>
+     * <span class="en-US">The key of mapping table can be column name or field name, case-insensitive</span>
+     * <span class="zh-CN">映射表的键可以是列名或属性名，不区分大小写</span>
+     *
+     * @param entityClass   <span class="en-US">Entity class</span>
+     *                      <span class="zh-CN">实体类</span>
+     * @param primaryKeyMap <span class="en-US">Primary key data mapping table</span>
+     *                      <span class="zh-CN">主键数据映射表</span>
+     * @return <span class="en-US">Generated primary key value or <code>null</code> if entity class not registered</span>
+     * <span class="zh-CN">生成的主键值，如果实体类未注册返回 <code>null</code></span>
+     */
+    public static PrimaryKey newInstance(final Class<?> entityClass, final Map<String, ?> primaryKeyMap) {
+        if (entityClass == null || primaryKeyMap == null) {
+            return null;
+        }
+        TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+        if (tableConfig == null) {
+            return null;
+        }
+        List<ColumnConfig> primaryKeys = tableConfig.primaryKeyColumns();
+        Object[] values = new Object[primaryKeys.size()];
+        primaryKeyMap.forEach((key, value) ->
+                Optional.ofNullable(tableConfig.columnConfig(key))
+                        .map(primaryKeys::indexOf)
+                        .filter(index -> index >= 0)
+                        .ifPresent(index -> values[index] = value));
+        return new PrimaryKey(tableConfig.getDefineClass(), values);
+    }
+
+    /**
+     * <h4 class="en-US">Getter method for entity class</h4>
+     * <h4 class="zh-CN">实体类的Getter方法</h4>
+     *
+     * @return <span class="en-US">Entity class</span>
+     * <span class="zh-CN">实体类</span>
+     */
+    public Class<?> getEntityClass() {
+        return this.entityClass;
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the primary key value count</h4>
+     * <h4 class="zh-CN">获取主键值的数量</h4>
+     *
+     * @return <span class="en-US">Primary key value count</span>
+     * <span class="zh-CN">主键值的数量</span>
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * <h4 class="en-US">Check all primary key values are <code>null</code></h4>
+     * <h4 class="zh-CN">检查所有主键值是否均为 <code>null</code></h4>
+     * <span class="en-US">The primary key values are <code>null</code> when primary key columns were not queried</span>
+     * <span class="zh-CN">当主键列未被查询时主键值均为 <code>null</code></span>
+     *
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    public boolean isEmpty() {
+        return Arrays.stream(this.values).allMatch(Objects::isNull);
+    }
+
+    /**
+     * <h4 class="en-US">Retrieve the primary key value by given index</h4>
+     * <h4 class="zh-CN">根据给定的索引获取主键值</h4>
+     *
+     * @param index <span class="en-US">Index of primary key columns</span>
+     *              <span class="zh-CN">主键列的索引</span>
+     * @return <span class="en-US">Primary key value</span>
+     * <span class="zh-CN">主键值</span>
+     */
+    public Object value(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * <h4 class="en-US">Convert to primary key data mapping table</h4>
+     * <h4 class="zh-CN">转换为主键数据映射表</h4>
+     *
+     * @return <span class="en-US">Primary key data mapping table, key is upper case column name</span>
+     * <span class="zh-CN">主键数据映射表，键为大写的列名</span>
+     */
+    public SortedMap<String, Object> toMap() {
+        SortedMap<String, Object> primaryKeyMap = new TreeMap<>();
+        Optional.ofNullable(EntityManager.tableConfig(this.entityClass))
+                .map(TableConfig::primaryKeyNames)
+                .ifPresent(primaryKeyNames -> {
+                    for (int i = 0; i < this.values.length && i < primaryKeyNames.size(); i++) {
+                        primaryKeyMap.put(primaryKeyNames.get(i), this.values[i]);
+                    }
+                });
+        return primaryKeyMap;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return Boolean.TRUE;
+        }
+        if (!(o instanceof PrimaryKey primaryKey)) {
+            return Boolean.FALSE;
+        }
+        return this.hashCode == primaryKey.hashCode && this.entityClass.equals(primaryKey.entityClass)
+                && Arrays.deepEquals(this.values, primaryKey.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.entityClass.getName() + Arrays.deepToString(this.values);
+    }
+}
@@ -18,10 +18,16 @@
 package org.nervousync.database.interceptors;
 
 import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
 import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.utils.ReflectionUtils;
 
-import java.lang.reflect.Method;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 
 /**
  * <h2 class="en-US">Data field modified interceptor</h2>
@@ -35,24 +41,60 @@ public final class DataModifyInterceptor {
 	/**
 	 * <h4 class="en-US">Interceptor method</h4>
 	 * <h4 class="zh-CN">拦截方法</h4>
+	 * <span class="en-US">The field name was resolved at enhance time and written to the setter as a constant</span>
+	 * <span class="zh-CN">属性名在增强时解析，并作为常量写入Setter方法</span>
 	 *
-	 * @param method    <span class="en-US">Invoke method</span>
-	 *                  <span class="zh-CN">调用方法</span>
-	 * @param arguments <span class="en-US">Parameter array for method</span>
-	 *                  <span class="zh-CN">方法的参数</span>
+	 * @param fieldName <span class="en-US">Field name of the setter method</span>
+	 *                  <span class="zh-CN">Setter方法对应的属性名</span>
 	 * @param target    <span class="en-US">Invoke object instance</span>
 	 *                  <span class="zh-CN">调用对象实例</span>
 	 */
 	@Advice.OnMethodEnter
-	public static void onMethodEnter(@Advice.Origin Method method, @Advice.AllArguments Object[] arguments,
-	                                 @Advice.This Object target) {
+	public static void onMethodEnter(@FieldName String fieldName, @Advice.This Object target) {
 		if (target instanceof BaseObject) {
-			String fieldName = ReflectionUtils.fieldName(method.getName());
-			if (((BaseObject) target).loadedField(fieldName)) {
-				((BaseObject) target).modifyField(fieldName);
-			} else {
-				((BaseObject) target).loadField(fieldName);
-			}
+			((BaseObject) target).updateField(fieldName);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Field name of the intercepted setter or getter method</h2>
+	 * <h2 class="zh-CN">被拦截的Setter或Getter方法对应的属性名</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 15:04:26 $
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.PARAMETER)
+	public @interface FieldName {
+	}
+
+	/**
+	 * <h2 class="en-US">Offset mapping factory of annotation FieldName</h2>
+	 * <h2 class="zh-CN">注解FieldName的偏移映射工厂</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 15:04:26 $
+	 */
+	public enum FieldNameFactory implements Advice.OffsetMapping.Factory<FieldName> {
+
+		/**
+		 * <span class="en-US">Singleton instance</span>
+		 * <span class="zh-CN">单例实例</span>
+		 */
+		INSTANCE;
+
+		@Override
+		public Class<FieldName> getAnnotationType() {
+			return FieldName.class;
+		}
+
+		@Override
+		public Advice.OffsetMapping make(final ParameterDescription.InDefinedShape target,
+		                                 final AnnotationDescription.Loadable<FieldName> annotation,
+		                                 final AdviceType adviceType) {
+			return (instrumentedType, instrumentedMethod, assigner, argumentHandler, sort) ->
+					new Advice.OffsetMapping.Target.ForStackManipulation(
+							new TextConstant(ReflectionUtils.fieldName(instrumentedMethod.getName())));
 		}
 	}
 }
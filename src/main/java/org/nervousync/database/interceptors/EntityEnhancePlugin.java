@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.interceptors;
+
+import jakarta.persistence.*;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.annotation.AnnotationList;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.nervousync.database.annotations.table.Enhanced;
+
+import java.util.Optional;
+
+/**
+ * <h2 class="en-US">Build time entity enhance plugin</h2>
+ * <h2 class="zh-CN">构建时实体增强插件</h2>
+ * <span class="en-US">
+ * Weave the data modified interceptor and lazy load interceptor into entity classes at build time,
+ * and mark the enhanced classes by annotation <code>Enhanced</code>, the entity manager will not attach the agent
+ * to redefine the marked classes. Configure the plugin class name as the transformation of byte-buddy-maven-plugin.
+ * </span>
+ * <span class="zh-CN">
+ * 在构建时将属性修改拦截器和懒加载拦截器织入实体类，并使用注解<code>Enhanced</code>标记已增强的类，实体管理器将不再挂载代理重新定义标记的类。
+ * 在byte-buddy-maven-plugin的transformation中配置插件类名即可使用。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 10:31:52 $
+ */
+public final class EntityEnhancePlugin implements Plugin {
+
+	/**
+	 * <h4 class="en-US">Check the given type is an entity class which not enhanced</h4>
+	 * <h4 class="zh-CN">检查给定的类型是否为未增强的实体类</h4>
+	 *
+	 * @param target <span class="en-US">Type description</span>
+	 *               <span class="zh-CN">类型描述</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	@Override
+	public boolean matches(final TypeDescription target) {
+		AnnotationList annotationList = target.getDeclaredAnnotations();
+		return (annotationList.isAnnotationPresent(Table.class)
+				|| annotationList.isAnnotationPresent(MappedSuperclass.class))
+				&& !annotationList.isAnnotationPresent(Enhanced.class);
+	}
+
+	/**
+	 * <h4 class="en-US">Weave the interceptors into the given type</h4>
+	 * <h4 class="zh-CN">将拦截器织入给定的类型</h4>
+	 *
+	 * @param builder          <span class="en-US">Type builder</span>
+	 *                         <span class="zh-CN">类型构建器</span>
+	 * @param typeDescription  <span class="en-US">Type description</span>
+	 *                         <span class="zh-CN">类型描述</span>
+	 * @param classFileLocator <span class="en-US">Class file locator</span>
+	 *                         <span class="zh-CN">类文件定位器</span>
+	 * @return <span class="en-US">Enhanced type builder</span>
+	 * <span class="zh-CN">增强后的类型构建器</span>
+	 */
+	@Override
+	public DynamicType.Builder<?> apply(final DynamicType.Builder<?> builder, final TypeDescription typeDescription,
+	                                   final ClassFileLocator classFileLocator) {
+		return enhance(builder, containsLazyLoad(typeDescription))
+				.annotateType(AnnotationDescription.Builder.ofType(Enhanced.class).build());
+	}
+
+	/**
+	 * <h4 class="en-US">Close the plugin, nothing to release because the plugin holds no resources</h4>
+	 * <h4 class="zh-CN">关闭插件，插件未持有任何资源，无需释放</h4>
+	 */
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * <h4 class="en-US">Weave the data modified interceptor and lazy load interceptor into the given type builder</h4>
+	 * <h4 class="zh-CN">将属性修改拦截器和懒加载拦截器织入给定的类型构建器</h4>
+	 *
+	 * @param builder  <span class="en-US">Type builder</span>
+	 *                 <span class="zh-CN">类型构建器</span>
+	 * @param lazyLoad <span class="en-US">Weave lazy load interceptor</span>
+	 *                 <span class="zh-CN">织入懒加载拦截器</span>
+	 * @return <span class="en-US">Enhanced type builder</span>
+	 * <span class="zh-CN">增强后的类型构建器</span>
+	 */
+	public static DynamicType.Builder<?> enhance(final DynamicType.Builder<?> builder, final boolean lazyLoad) {
+		DynamicType.Builder<?> enhanced = builder.visit(Advice.withCustomMapping()
+				.bind(DataModifyInterceptor.FieldNameFactory.INSTANCE)
+				.to(DataModifyInterceptor.class)
+				.on(ElementMatchers.isSetter().and(ElementMatchers.not(ElementMatchers.isStatic()))));
+		if (lazyLoad) {
+			return enhanced.visit(Advice.withCustomMapping()
+					.bind(DataModifyInterceptor.FieldNameFactory.INSTANCE)
+					.to(LazyLoadInterceptor.class)
+					.on(ElementMatchers.isGetter().and(ElementMatchers.not(ElementMatchers.isStatic()))));
+		}
+		return enhanced;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given type or its mapped super classes contains annotation member</h4>
+	 * <h4 class="zh-CN">检查给定的类型或其映射父类是否包含标注成员</h4>
+	 *
+	 * @param typeDescription <span class="en-US">Type description</span>
+	 *                        <span class="zh-CN">类型描述</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean containsLazyLoad(final TypeDescription typeDescription) {
+		TypeDescription currentType = typeDescription;
+		while (currentType != null) {
+			if (currentType.getDeclaredFields().stream()
+					.anyMatch(fieldDescription -> annotationField(fieldDescription.getDeclaredAnnotations()))
+					|| currentType.getDeclaredMethods().stream()
+					.anyMatch(methodDescription -> annotationMethod(methodDescription.getDeclaredAnnotations()))) {
+				return Boolean.TRUE;
+			}
+			currentType = Optional.ofNullable(currentType.getSuperClass())
+					.map(TypeDefinition::asErasure)
+					.filter(superType -> superType.getDeclaredAnnotations().isAnnotationPresent(MappedSuperclass.class))
+					.orElse(null);
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given field annotations is column or reference</h4>
+	 * <h4 class="zh-CN">检查给定的属性注解是否为数据列或外键</h4>
+	 *
+	 * @param annotationList <span class="en-US">Field annotation list</span>
+	 *                       <span class="zh-CN">属性注解列表</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean annotationField(final AnnotationList annotationList) {
+		return annotationList.isAnnotationPresent(Column.class) || annotationList.isAnnotationPresent(EmbeddedId.class)
+				|| (annotationList.isAnnotationPresent(OneToMany.class)
+				|| annotationList.isAnnotationPresent(ManyToOne.class)
+				|| annotationList.isAnnotationPresent(OneToOne.class))
+				&& joinColumn(annotationList);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given method annotations is reference</h4>
+	 * <h4 class="zh-CN">检查给定的方法注解是否为外键</h4>
+	 *
+	 * @param annotationList <span class="en-US">Method annotation list</span>
+	 *                       <span class="zh-CN">方法注解列表</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean annotationMethod(final AnnotationList annotationList) {
+		return (annotationList.isAnnotationPresent(OneToMany.class)
+				|| annotationList.isAnnotationPresent(ManyToOne.class))
+				&& joinColumn(annotationList);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given annotations contains join column</h4>
+	 * <h4 class="zh-CN">检查给定的注解是否包含关联列</h4>
+	 *
+	 * @param annotationList <span class="en-US">Annotation list</span>
+	 *                       <span class="zh-CN">注解列表</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean joinColumn(final AnnotationList annotationList) {
+		return annotationList.isAnnotationPresent(JoinColumns.class)
+				|| annotationList.isAnnotationPresent(JoinColumn.class);
+	}
+}
@@ -25,7 +25,10 @@ import org.nervousync.database.beans.configs.reference.JoinConfig;
 import org.nervousync.database.beans.configs.reference.ReferenceConfig;
 import org.nervousync.database.commons.DatabaseUtils;
 import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
 import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.entity.core.LoadContext;
+import org.nervousync.database.entity.core.PrefetchPolicy;
 import org.nervousync.database.exceptions.operate.RetrieveException;
 import org.nervousync.database.exceptions.query.QueryException;
 import org.nervousync.database.query.QueryResult;
@@ -35,9 +38,7 @@ import org.nervousync.enumerations.core.ConnectionCode;
 import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
-import org.nervousync.utils.ReflectionUtils;
 
-import java.lang.reflect.Method;
 import java.util.*;
 
 /**
@@ -54,51 +55,99 @@ public final class LazyLoadInterceptor {
 	/**
 	 * <h4 class="en-US">Interceptor method</h4>
 	 * <h4 class="zh-CN">拦截方法</h4>
+	 * <span class="en-US">The field name was resolved at enhance time and written to the getter as a constant</span>
+	 * <span class="zh-CN">属性名在增强时解析，并作为常量写入Getter方法</span>
 	 *
-	 * @param method    <span class="en-US">Invoke method</span>
-	 *                  <span class="zh-CN">调用方法</span>
-	 * @param arguments <span class="en-US">Parameter array for method</span>
-	 *                  <span class="zh-CN">方法的参数</span>
+	 * @param fieldName <span class="en-US">Field name of the getter method</span>
+	 *                  <span class="zh-CN">Getter方法对应的属性名</span>
 	 * @param target    <span class="en-US">Invoke object instance</span>
 	 *                  <span class="zh-CN">调用对象实例</span>
 	 */
 	@Advice.OnMethodEnter
-	public static void onMethodEnter(@Advice.Origin Method method, @Advice.AllArguments Object[] arguments,
+	public static void onMethodEnter(@DataModifyInterceptor.FieldName String fieldName,
 	                                 @Advice.This Object target) {
-		String fieldName = ReflectionUtils.fieldName(method.getName());
 		if ((target instanceof BaseObject) && !((BaseObject) target).isNewObject()
 				&& !((BaseObject) target).loadedField(fieldName)) {
 			Optional.ofNullable(EntityManager.tableConfig(target.getClass()))
 					.ifPresent(tableConfig -> {
-						Object fieldValue = null;
+						if (tableConfig.isColumn(fieldName)
+								? !tableConfig.lazyLoad(fieldName)
+								: tableConfig.referenceConfig(fieldName) == null) {
+							return;
+						}
+						LoadContext loadContext = ((BaseObject) target).loadContext();
+						if (loadContext != null && loadContext.prefetched((BaseObject) target, fieldName)) {
+							return;
+						}
+						PrefetchPolicy.miss(tableConfig.getDefineClass(), fieldName);
+						Object fieldValue;
 						if (tableConfig.isColumn(fieldName)) {
-							if (tableConfig.lazyLoad(fieldName)) {
-								fieldValue = Optional.ofNullable(DatabaseUtils.readOnlyClient())
-										.map(databaseClient ->
-												databaseClient.lazyColumn(DatabaseUtils.primaryKeyMap(target),
-														target.getClass(), fieldName))
-										.orElse(null);
-							}
+							fieldValue = Optional.ofNullable(DatabaseUtils.readOnlyClient())
+									.map(databaseClient ->
+											databaseClient.lazyColumn(DatabaseUtils.primaryKeyMap(target),
+													target.getClass(), fieldName))
+									.orElse(null);
 						} else {
 							fieldValue =
 									Optional.ofNullable(tableConfig.referenceConfig(fieldName))
 											.map(referenceConfig ->
 													loadReference(referenceConfig, (BaseObject) target,
-															method.getReturnType().isArray()))
+															fieldName, arrayField(target, fieldName)))
 											.orElse(null);
 						}
-						ReflectionUtils.setField(fieldName, target, fieldValue);
+						FieldAccessor.setField(fieldName, target, fieldValue);
+						((BaseObject) target).loadField(fieldName);
 					});
 		}
 	}
 
+	/**
+	 * <h4 class="en-US">Check the type of given field is array</h4>
+	 * <h4 class="zh-CN">检查给定属性的类型是否为数组</h4>
+	 *
+	 * @param target    <span class="en-US">Invoke object instance</span>
+	 *                  <span class="zh-CN">调用对象实例</span>
+	 * @param fieldName <span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">属性名</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean arrayField(@Nonnull final Object target, @Nonnull final String fieldName) {
+		FieldAccessor fieldAccessor = FieldAccessor.accessor(target.getClass());
+		int ordinal = fieldAccessor.ordinal(fieldName);
+		return ordinal >= 0 && fieldAccessor.fieldType(ordinal).isArray();
+	}
+
+	/**
+	 * <h4 class="en-US">Load the reference field value of the given record</h4>
+	 * <h4 class="zh-CN">加载给定记录的外键属性值</h4>
+	 * <span class="en-US">
+	 * If the record shares the lazy load context with sibling records,
+	 * the field of the unloaded siblings will be loaded by the same query.
+	 * </span>
+	 * <span class="zh-CN">如果记录与同级记录共享懒加载上下文，未加载的同级记录的属性将使用同一查询加载</span>
+	 *
+	 * @param <T>             <span class="en-US">Reference entity class</span>
+	 *                        <span class="zh-CN">外键实体类</span>
+	 * @param referenceConfig <span class="en-US">Reference configure information</span>
+	 *                        <span class="zh-CN">外键配置信息</span>
+	 * @param record          <span class="en-US">Current record instance</span>
+	 *                        <span class="zh-CN">当前记录实例对象</span>
+	 * @param fieldName       <span class="en-US">Reference field name</span>
+	 *                        <span class="zh-CN">外键属性名</span>
+	 * @param returnArray     <span class="en-US">Field type is array</span>
+	 *                        <span class="zh-CN">属性类型为数组</span>
+	 * @return <span class="en-US">Loaded field value</span>
+	 * <span class="zh-CN">加载的属性值</span>
+	 */
 	private static <T> Object loadReference(@Nonnull final ReferenceConfig<T> referenceConfig,
-	                                        @Nonnull final BaseObject record, final boolean returnArray) {
+	                                        @Nonnull final BaseObject record, @Nonnull final String fieldName,
+	                                        final boolean returnArray) {
 		boolean forUpdate = record.getForUpdate();
-		long transactionalCode = record.getTransactionalCode();
 		DatabaseClient databaseClient;
 		if (forUpdate) {
-			if (transactionalCode != Globals.DEFAULT_VALUE_LONG) {
+			Long transactionalCode = record.getTransactionalCode();
+			if (transactionalCode != null && transactionalCode != Globals.DEFAULT_VALUE_LONG) {
 				databaseClient = DatabaseUtils.retrieveClient(transactionalCode);
 				if (databaseClient == null) {
 					LOGGER.error("Transactional_Not_Found", transactionalCode);
@@ -115,13 +164,17 @@ public final class LazyLoadInterceptor {
 		}
 
 		try {
+			LoadContext loadContext = record.loadContext();
+			if (loadContext != null && loadContext.batchable()) {
+				return loadContext.loadReference(databaseClient, referenceConfig, record, fieldName, returnArray);
+			}
 			Class<T> entityClass = referenceConfig.getReferenceClass();
 			if (referenceConfig.isReturnArray()) {
 				List<Condition> conditionList = new ArrayList<>();
 				for (JoinConfig joinConfig : referenceConfig.getJoinColumnList()) {
 					conditionList.add(Condition.equalTo(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
 							entityClass, joinConfig.getReferenceField(),
-							ReflectionUtils.getFieldValue(joinConfig.getCurrentField(), record)));
+							FieldAccessor.getFieldValue(joinConfig.getCurrentField(), record)));
 				}
 				QueryResult queryResult =
 						databaseClient.queryList(QueryBuilder.newQuery(entityClass, forUpdate, conditionList));
@@ -135,7 +188,7 @@ public final class LazyLoadInterceptor {
 				referenceConfig.getJoinColumnList()
 						.forEach(joinConfig ->
 								queryMap.put(joinConfig.getReferenceField(),
-										ReflectionUtils.getFieldValue(joinConfig.getCurrentField(), record)));
+										FieldAccessor.getFieldValue(joinConfig.getCurrentField(), record)));
 				return databaseClient.retrieve(queryMap, entityClass, forUpdate);
 			}
 		} catch (RetrieveException | BuilderException | QueryException e) {
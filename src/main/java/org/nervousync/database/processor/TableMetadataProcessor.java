@@ -0,0 +1,726 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * <h2 class="en-US">Table metadata annotation processor</h2>
+ * <h2 class="zh-CN">数据表元数据注解处理器</h2>
+ * <span class="en-US">
+ * Generate the table metadata provider for each entity class annotated with <code>jakarta.persistence.Table</code>
+ * at compile time, the entity manager will load the generated provider instead of parsing the entity class by reflection.
+ * The processor only depends on JDK, configure the processor class name in the annotation processor option of compiler,
+ * e.g. <code>-processor org.nervousync.database.processor.TableMetadataProcessor</code>
+ * </span>
+ * <span class="zh-CN">
+ * 在编译期为每个标注了<code>jakarta.persistence.Table</code>的实体类生成数据表元数据适配器，实体管理器将读取生成的适配器而不再通过反射解析实体类。
+ * 处理器仅依赖JDK，在编译器的注解处理器选项中配置处理器类名，例如：<code>-processor org.nervousync.database.processor.TableMetadataProcessor</code>
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 09:41:26 $
+ */
+@SupportedAnnotationTypes(TableMetadataProcessor.TABLE)
+public final class TableMetadataProcessor extends AbstractProcessor {
+
+	/**
+	 * <span class="en-US">Annotation class name of table</span>
+	 * <span class="zh-CN">数据表注解类名</span>
+	 */
+	static final String TABLE = "jakarta.persistence.Table";
+	/**
+	 * <span class="en-US">Class name suffix of generated metadata provider</span>
+	 * <span class="zh-CN">生成的元数据适配器类名后缀</span>
+	 */
+	private static final String CLASS_NAME_SUFFIX = "_Metadata";
+	/**
+	 * <span class="en-US">Annotation class name of mapped super class</span>
+	 * <span class="zh-CN">映射父类注解类名</span>
+	 */
+	private static final String MAPPED_SUPERCLASS = "jakarta.persistence.MappedSuperclass";
+	/**
+	 * <span class="en-US">Annotation class name of cacheable</span>
+	 * <span class="zh-CN">缓存注解类名</span>
+	 */
+	private static final String CACHEABLE = "jakarta.persistence.Cacheable";
+	/**
+	 * <span class="en-US">Annotation class name of column</span>
+	 * <span class="zh-CN">数据列注解类名</span>
+	 */
+	private static final String COLUMN = "jakarta.persistence.Column";
+	/**
+	 * <span class="en-US">Annotation class name of primary key</span>
+	 * <span class="zh-CN">主键注解类名</span>
+	 */
+	private static final String ID = "jakarta.persistence.Id";
+	/**
+	 * <span class="en-US">Annotation class name of version column</span>
+	 * <span class="zh-CN">版本列注解类名</span>
+	 */
+	private static final String VERSION = "jakarta.persistence.Version";
+	/**
+	 * <span class="en-US">Annotation class name of basic column</span>
+	 * <span class="zh-CN">基本列注解类名</span>
+	 */
+	private static final String BASIC = "jakarta.persistence.Basic";
+	/**
+	 * <span class="en-US">Annotation class name of large object column</span>
+	 * <span class="zh-CN">大对象列注解类名</span>
+	 */
+	private static final String LOB = "jakarta.persistence.Lob";
+	/**
+	 * <span class="en-US">Annotation class name of temporal column</span>
+	 * <span class="zh-CN">时间列注解类名</span>
+	 */
+	private static final String TEMPORAL = "jakarta.persistence.Temporal";
+	/**
+	 * <span class="en-US">Annotation class name of one to many reference</span>
+	 * <span class="zh-CN">一对多外键注解类名</span>
+	 */
+	private static final String ONE_TO_MANY = "jakarta.persistence.OneToMany";
+	/**
+	 * <span class="en-US">Annotation class name of many to one reference</span>
+	 * <span class="zh-CN">多对一外键注解类名</span>
+	 */
+	private static final String MANY_TO_ONE = "jakarta.persistence.ManyToOne";
+	/**
+	 * <span class="en-US">Annotation class name of one to one reference</span>
+	 * <span class="zh-CN">一对一外键注解类名</span>
+	 */
+	private static final String ONE_TO_ONE = "jakarta.persistence.OneToOne";
+	/**
+	 * <span class="en-US">Annotation class name of join column</span>
+	 * <span class="zh-CN">关联列注解类名</span>
+	 */
+	private static final String JOIN_COLUMN = "jakarta.persistence.JoinColumn";
+	/**
+	 * <span class="en-US">Annotation class name of join columns</span>
+	 * <span class="zh-CN">关联列组注解类名</span>
+	 */
+	private static final String JOIN_COLUMNS = "jakarta.persistence.JoinColumns";
+	/**
+	 * <span class="en-US">Annotation class name of table options</span>
+	 * <span class="zh-CN">数据表选项注解类名</span>
+	 */
+	private static final String OPTIONS = "org.nervousync.database.annotations.table.Options";
+	/**
+	 * <span class="en-US">Annotation class name of sensitive data</span>
+	 * <span class="zh-CN">敏感数据注解类名</span>
+	 */
+	private static final String SENSITIVE = "org.nervousync.database.annotations.data.Sensitive";
+	/**
+	 * <span class="en-US">Annotation class name of generated value</span>
+	 * <span class="zh-CN">生成值注解类名</span>
+	 */
+	private static final String GENERATED_VALUE = "org.nervousync.database.annotations.table.GeneratedValue";
+	/**
+	 * <span class="en-US">Annotation class name of sequence generator</span>
+	 * <span class="zh-CN">序列生成器注解类名</span>
+	 */
+	private static final String SEQUENCE_GENERATOR = "org.nervousync.database.annotations.sequence.SequenceGenerator";
+	/**
+	 * <span class="en-US">Generated provider class names</span>
+	 * <span class="zh-CN">已生成的适配器类名</span>
+	 */
+	private final Set<String> generatedClasses = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		TypeElement tableElement = this.processingEnv.getElementUtils().getTypeElement(TABLE);
+		if (tableElement == null) {
+			return Boolean.FALSE;
+		}
+		ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(tableElement))
+				.stream()
+				.filter(typeElement -> typeElement.getKind() == ElementKind.CLASS)
+				.forEach(typeElement -> {
+					String packageName =
+							this.processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+					String binaryName = this.processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+					String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+							+ CLASS_NAME_SUFFIX;
+					String generatedName = packageName.isEmpty() ? className : packageName + "." + className;
+					if (this.generatedClasses.add(generatedName)) {
+						try (PrintWriter printWriter = new PrintWriter(
+								this.processingEnv.getFiler().createSourceFile(generatedName, typeElement).openWriter())) {
+							printWriter.print(this.generateSource(typeElement, packageName, className));
+						} catch (IOException e) {
+							this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+									"Generate table metadata failed: " + e.getMessage(), typeElement);
+						}
+					}
+				});
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate source code of metadata provider</h4>
+	 * <h4 class="zh-CN">生成元数据适配器的源代码</h4>
+	 *
+	 * @param typeElement <span class="en-US">Entity type element</span>
+	 *                    <span class="zh-CN">实体类型元素</span>
+	 * @param packageName <span class="en-US">Package name</span>
+	 *                    <span class="zh-CN">包名</span>
+	 * @param className   <span class="en-US">Generated class name</span>
+	 *                    <span class="zh-CN">生成的类名</span>
+	 * @return <span class="en-US">Generated source code</span>
+	 * <span class="zh-CN">生成的源代码</span>
+	 */
+	private String generateSource(final TypeElement typeElement, final String packageName, final String className) {
+		String entityName = typeElement.getQualifiedName().toString();
+		Map<String, AnnotationValue> tableValues = this.annotationValues(typeElement, TABLE);
+		Map<String, AnnotationValue> optionValues = this.annotationValues(typeElement, OPTIONS);
+		String lockOption = (optionValues == null) ? "NONE" : this.enumValue(optionValues.get("lockOption"));
+		String dropOption = (optionValues == null) ? "NONE" : this.enumValue(optionValues.get("dropOption"));
+		boolean snapshot = Optional.ofNullable(optionValues)
+				.map(values -> values.get("snapshot"))
+				.map(value -> (Boolean) value.getValue())
+				.orElse(Boolean.FALSE);
+		boolean readOnly = Optional.ofNullable(optionValues)
+				.map(values -> values.get("readOnly"))
+				.map(value -> (Boolean) value.getValue())
+				.orElse(Boolean.FALSE);
+		boolean cacheable = Optional.ofNullable(this.annotationValues(typeElement, CACHEABLE))
+				.map(values -> (Boolean) values.get("value").getValue())
+				.orElse(Boolean.FALSE);
+		boolean instance = this.instantiable(typeElement);
+
+		List<VariableElement> columnFields = new ArrayList<>();
+		List<Element> referenceElements = new ArrayList<>();
+		TypeElement currentElement = typeElement;
+		while (currentElement != null) {
+			ElementFilter.fieldsIn(currentElement.getEnclosedElements())
+					.stream()
+					.filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+					.forEach(field -> {
+						if (this.annotationValues(field, COLUMN) != null) {
+							columnFields.add(field);
+						} else if (this.joinColumns(field).length > 0
+								&& (this.annotationValues(field, ONE_TO_MANY) != null
+								|| this.annotationValues(field, MANY_TO_ONE) != null
+								|| this.annotationValues(field, ONE_TO_ONE) != null)) {
+							referenceElements.add(field);
+						}
+					});
+			currentElement = Optional.ofNullable(this.superElement(currentElement))
+					.filter(superElement -> this.annotationValues(superElement, MAPPED_SUPERCLASS) != null)
+					.orElse(null);
+		}
+		currentElement = typeElement;
+		while (currentElement != null) {
+			ElementFilter.methodsIn(currentElement.getEnclosedElements())
+					.stream()
+					.filter(method -> this.joinColumns(method).length > 0
+							&& (this.annotationValues(method, ONE_TO_MANY) != null
+							|| this.annotationValues(method, MANY_TO_ONE) != null))
+					.forEach(referenceElements::add);
+			currentElement = this.superElement(currentElement);
+		}
+
+		StringBuilder stringBuilder = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			stringBuilder.append("package ").append(packageName).append(";\n\n");
+		}
+		stringBuilder.append("import org.nervousync.commons.Globals;\n")
+				.append("import org.nervousync.database.beans.configs.column.ColumnConfig;\n")
+				.append("import org.nervousync.database.beans.configs.column.ColumnInfo;\n")
+				.append("import org.nervousync.database.beans.configs.generator.GeneratorConfig;\n")
+				.append("import org.nervousync.database.beans.configs.index.IndexInfo;\n")
+				.append("import org.nervousync.database.beans.configs.reference.JoinConfig;\n")
+				.append("import org.nervousync.database.beans.configs.reference.ReferenceConfig;\n")
+				.append("import org.nervousync.database.beans.configs.sequence.SequenceConfig;\n")
+				.append("import org.nervousync.database.beans.configs.table.TableConfig;\n")
+				.append("import org.nervousync.database.commons.DatabaseCommons;\n")
+				.append("import org.nervousync.database.commons.DatabaseUtils;\n")
+				.append("import org.nervousync.database.entity.FieldAccessor;\n")
+				.append("import org.nervousync.database.providers.metadata.TableMetadataProvider;\n\n")
+				.append("import java.util.ArrayList;\n")
+				.append("import java.util.List;\n\n")
+				.append("@javax.annotation.processing.Generated(\"").append(TableMetadataProcessor.class.getName())
+				.append("\")\n")
+				.append("public final class ").append(className).append(" implements TableMetadataProvider {\n\n")
+				.append("\t@Override\n")
+				.append("\tpublic TableConfig tableConfig() {\n");
+		if (instance) {
+			stringBuilder.append("\t\tfinal ").append(entityName).append(" instance = new ").append(entityName)
+					.append("();\n")
+					.append("\t\tfinal FieldAccessor fieldAccessor = FieldAccessor.accessor(").append(entityName)
+					.append(".class);\n");
+		}
+		stringBuilder.append("\t\tfinal List<ColumnConfig> columnConfigs = new ArrayList<>();\n")
+				.append("\t\tfinal List<ReferenceConfig<?>> referenceConfigs = new ArrayList<>();\n")
+				.append("\t\tfinal List<IndexInfo> indexInfos = new ArrayList<>();\n");
+
+		int primaryKeyCount = 0;
+		for (VariableElement field : columnFields) {
+			if (this.annotationValues(field, ID) != null) {
+				primaryKeyCount++;
+			}
+			this.appendColumn(stringBuilder, field, lockOption, instance);
+		}
+		referenceElements.forEach(element -> this.appendReference(stringBuilder, element));
+
+		List<? extends AnnotationValue> indexes = this.arrayValue(tableValues.get("indexes"));
+		for (AnnotationValue annotationValue : indexes) {
+			Map<String, AnnotationValue> indexValues = this.mirrorValues((AnnotationMirror) annotationValue.getValue());
+			stringBuilder.append("\t\tjava.util.Optional.ofNullable(IndexInfo.newInstance(")
+					.append(this.literal((String) indexValues.get("name").getValue())).append(", ")
+					.append(this.literal((String) indexValues.get("columnList").getValue())).append(", ")
+					.append(indexValues.get("unique").getValue()).append(", columnConfigs))")
+					.append(".ifPresent(indexInfos::add);\n");
+		}
+
+		String schemaName = (String) tableValues.get("schema").getValue();
+		String tableName = (String) tableValues.get("name").getValue();
+		stringBuilder.append("\t\tfinal TableConfig tableConfig = new TableConfig();\n")
+				.append("\t\ttableConfig.setSchemaName(")
+				.append(schemaName.isEmpty() ? "DatabaseCommons.DEFAULT_DATABASE_ALIAS" : this.literal(schemaName))
+				.append(");\n")
+				.append("\t\ttableConfig.setCacheable(").append(cacheable).append(");\n")
+				.append("\t\ttableConfig.setSnapshot(").append(snapshot).append(");\n")
+				.append("\t\ttableConfig.setReadOnly(").append(readOnly).append(");\n")
+				.append("\t\ttableConfig.setLockOption(org.nervousync.database.enumerations.lock.LockOption.")
+				.append(lockOption).append(");\n")
+				.append("\t\ttableConfig.setDropOption(org.nervousync.database.enumerations.drop.DropOption.")
+				.append(dropOption).append(");\n")
+				.append("\t\ttableConfig.setTableName(")
+				.append(this.literal(tableName.isBlank() ? typeElement.getSimpleName().toString() : tableName))
+				.append(");\n")
+				.append("\t\ttableConfig.setDefineClass(").append(entityName).append(".class);\n")
+				.append("\t\ttableConfig.setColumnConfigs(columnConfigs);\n")
+				.append("\t\ttableConfig.setIndexInfos(indexInfos);\n")
+				.append("\t\ttableConfig.setReferenceConfigs(referenceConfigs);\n")
+				.append("\t\ttableConfig.setCompositeId(").append(primaryKeyCount > 1).append(");\n")
+				.append("\t\treturn tableConfig;\n")
+				.append("\t}\n")
+				.append("}\n");
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * <h4 class="en-US">Append source code of column configure information</h4>
+	 * <h4 class="zh-CN">追加列配置信息的源代码</h4>
+	 *
+	 * @param stringBuilder <span class="en-US">Source code builder</span>
+	 *                      <span class="zh-CN">源代码构建器</span>
+	 * @param field         <span class="en-US">Column field element</span>
+	 *                      <span class="zh-CN">列属性元素</span>
+	 * @param lockOption    <span class="en-US">Record lock option name</span>
+	 *                      <span class="zh-CN">数据记录锁定选项名称</span>
+	 * @param instance      <span class="en-US">Entity instance was created</span>
+	 *                      <span class="zh-CN">已创建实体实例对象</span>
+	 */
+	private void appendColumn(final StringBuilder stringBuilder, final VariableElement field,
+	                          final String lockOption, final boolean instance) {
+		String fieldName = field.getSimpleName().toString();
+		String fieldType = this.typeName(field.asType());
+		Map<String, AnnotationValue> columnValues = this.annotationValues(field, COLUMN);
+		boolean primaryKey = this.annotationValues(field, ID) != null;
+
+		String columnName = (String) columnValues.get("name").getValue();
+		String jdbcType;
+		Map<String, AnnotationValue> temporalValues = this.annotationValues(field, TEMPORAL);
+		if ("java.util.Date".equals(fieldType) && temporalValues != null) {
+			jdbcType = switch (this.enumValue(temporalValues.get("value"))) {
+				case "DATE" -> "java.sql.Types.DATE";
+				case "TIME" -> "java.sql.Types.TIME";
+				default -> "java.sql.Types.TIMESTAMP";
+			};
+		} else if (this.annotationValues(field, LOB) != null) {
+			jdbcType = switch (fieldType) {
+				case "java.lang.String", "char[]", "java.lang.Character[]" -> "java.sql.Types.CLOB";
+				default -> "java.sql.Types.BLOB";
+			};
+		} else {
+			jdbcType = "DatabaseUtils.jdbcType(" + fieldType + ".class)";
+		}
+		String defaultValue = instance
+				? "fieldAccessor.fieldValue(instance, fieldAccessor.ordinal(" + this.literal(fieldName) + "))"
+				: "null";
+
+		boolean updatable = !primaryKey && (Boolean) columnValues.get("updatable").getValue();
+		boolean identifyVersion = !primaryKey && "OPTIMISTIC_UPGRADE".equals(lockOption)
+				&& this.annotationValues(field, VERSION) != null;
+		boolean lazyLoad = Optional.ofNullable(this.annotationValues(field, BASIC))
+				.map(values -> "LAZY".equals(this.enumValue(values.get("fetch"))))
+				.orElse(Boolean.FALSE);
+
+		stringBuilder.append("\t\t{\n")
+				.append("\t\t\tColumnConfig columnConfig = new ColumnConfig();\n")
+				.append("\t\t\tcolumnConfig.setColumnInfo(ColumnInfo.newInstance(")
+				.append(this.literal(columnName.isEmpty() ? fieldName : columnName)).append(", ")
+				.append(jdbcType).append(", ")
+				.append(!primaryKey && (Boolean) columnValues.get("nullable").getValue()).append(", ")
+				.append(columnValues.get("length").getValue()).append(", ")
+				.append(columnValues.get("precision").getValue()).append(", ")
+				.append(columnValues.get("scale").getValue()).append(", ")
+				.append(defaultValue).append("));\n")
+				.append("\t\t\tcolumnConfig.setFieldName(").append(this.literal(fieldName)).append(");\n")
+				.append("\t\t\tcolumnConfig.setFieldType(").append(fieldType).append(".class);\n")
+				.append("\t\t\tcolumnConfig.setPrimaryKey(").append(primaryKey).append(");\n")
+				.append("\t\t\tcolumnConfig.setUnique(").append(columnValues.get("unique").getValue()).append(");\n")
+				.append("\t\t\tcolumnConfig.setUpdatable(").append(updatable).append(");\n")
+				.append("\t\t\tcolumnConfig.setIdentifyVersion(").append(identifyVersion).append(");\n")
+				.append("\t\t\tcolumnConfig.setLazyLoad(").append(lazyLoad).append(");\n");
+
+		Map<String, AnnotationValue> sensitiveValues = this.annotationValues(field, SENSITIVE);
+		if (sensitiveValues == null) {
+			stringBuilder.append("\t\t\tcolumnConfig.setSensitiveData(false);\n")
+					.append("\t\t\tcolumnConfig.setSensitiveType(Globals.DEFAULT_VALUE_STRING);\n")
+					.append("\t\t\tcolumnConfig.setEncField(Globals.DEFAULT_VALUE_STRING);\n")
+					.append("\t\t\tcolumnConfig.setSecureName(Globals.DEFAULT_VALUE_STRING);\n");
+		} else {
+			stringBuilder.append("\t\t\tcolumnConfig.setSensitiveData(true);\n")
+					.append("\t\t\tcolumnConfig.setSensitiveType(")
+					.append("org.nervousync.database.enumerations.sensitive.SensitiveType.")
+					.append(this.enumValue(sensitiveValues.get("type"))).append(".toString());\n")
+					.append("\t\t\tcolumnConfig.setEncField(")
+					.append(this.literal((String) sensitiveValues.get("encField").getValue())).append(");\n")
+					.append("\t\t\tcolumnConfig.setSecureName(")
+					.append(this.literal((String) sensitiveValues.get("secureName").getValue())).append(");\n");
+		}
+
+		Map<String, AnnotationValue> generatedValues = this.annotationValues(field, GENERATED_VALUE);
+		Map<String, AnnotationValue> sequenceValues = this.annotationValues(field, SEQUENCE_GENERATOR);
+		String generationType = (generatedValues == null) ? "ASSIGNED" : this.enumValue(generatedValues.get("type"));
+		String generatorName;
+		if (generatedValues == null) {
+			generatorName = "Globals.DEFAULT_VALUE_STRING";
+		} else {
+			generatorName = switch (generationType) {
+				case "SEQUENCE" -> (sequenceValues == null)
+						? this.literal((String) generatedValues.get("generator").getValue())
+						: this.literal((String) sequenceValues.get("name").getValue());
+				case "GENERATE" -> this.literal((String) generatedValues.get("generator").getValue());
+				default -> "Globals.DEFAULT_VALUE_STRING";
+			};
+		}
+		stringBuilder.append("\t\t\tGeneratorConfig generatorConfig = new GeneratorConfig();\n")
+				.append("\t\t\tgeneratorConfig.setGenerationType(")
+				.append("org.nervousync.database.enumerations.table.GenerationType.")
+				.append(generationType).append(");\n")
+				.append("\t\t\tgeneratorConfig.setGeneratorName(").append(generatorName).append(");\n");
+		if (generatedValues != null && "SEQUENCE".equals(generationType) && sequenceValues != null) {
+			stringBuilder.append("\t\t\tSequenceConfig sequenceConfig = new SequenceConfig();\n")
+					.append("\t\t\tsequenceConfig.setMinValue(").append(sequenceValues.get("min").getValue())
+					.append(");\n")
+					.append("\t\t\tsequenceConfig.setMaxValue(").append(sequenceValues.get("max").getValue())
+					.append(");\n")
+					.append("\t\t\tsequenceConfig.setCurrent(").append(sequenceValues.get("init").getValue())
+					.append(");\n")
+					.append("\t\t\tsequenceConfig.setStep(").append(sequenceValues.get("step").getValue())
+					.append(");\n")
+					.append("\t\t\tsequenceConfig.setSequenceName(")
+					.append(this.literal((String) sequenceValues.get("name").getValue())).append(");\n")
+					.append("\t\t\tsequenceConfig.setCycle(").append(sequenceValues.get("cycle").getValue())
+					.append(");\n")
+					.append("\t\t\tgeneratorConfig.setSequenceConfig(sequenceConfig);\n");
+		}
+		stringBuilder.append("\t\t\tcolumnConfig.setGeneratorConfig(generatorConfig);\n")
+				.append("\t\t\tcolumnConfigs.add(columnConfig);\n")
+				.append("\t\t}\n");
+	}
+
+	/**
+	 * <h4 class="en-US">Append source code of reference configure information</h4>
+	 * <h4 class="zh-CN">追加外键配置信息的源代码</h4>
+	 *
+	 * @param stringBuilder <span class="en-US">Source code builder</span>
+	 *                      <span class="zh-CN">源代码构建器</span>
+	 * @param element       <span class="en-US">Reference field or method element</span>
+	 *                      <span class="zh-CN">外键属性或方法元素</span>
+	 */
+	private void appendReference(final StringBuilder stringBuilder, final Element element) {
+		String fieldName;
+		TypeMirror elementType;
+		if (element instanceof ExecutableElement executableElement) {
+			fieldName = this.fieldName(executableElement.getSimpleName().toString());
+			elementType = executableElement.getReturnType();
+		} else {
+			fieldName = element.getSimpleName().toString();
+			elementType = element.asType();
+		}
+		Map<String, AnnotationValue> referenceValues =
+				Optional.ofNullable(this.annotationValues(element, ONE_TO_MANY))
+						.orElseGet(() -> Optional.ofNullable(this.annotationValues(element, MANY_TO_ONE))
+								.orElseGet(() -> this.annotationValues(element, ONE_TO_ONE)));
+
+		TypeMirror listType = this.processingEnv.getTypeUtils().erasure(
+				this.processingEnv.getElementUtils().getTypeElement("java.util.List").asType());
+		boolean returnArray = elementType.getKind() == TypeKind.ARRAY
+				|| this.processingEnv.getTypeUtils().isAssignable(
+				this.processingEnv.getTypeUtils().erasure(elementType), listType);
+		TypeMirror referenceType = (TypeMirror) referenceValues.get("targetEntity").getValue();
+		String referenceClass;
+		if (referenceType.getKind() != TypeKind.VOID) {
+			referenceClass = this.typeName(referenceType);
+		} else if (!returnArray) {
+			referenceClass = this.typeName(elementType);
+		} else if (elementType.getKind() == TypeKind.ARRAY) {
+			referenceClass = this.typeName(((javax.lang.model.type.ArrayType) elementType).getComponentType());
+		} else if (elementType instanceof DeclaredType declaredType && declaredType.getTypeArguments().size() == 1) {
+			referenceClass = this.typeName(declaredType.getTypeArguments().get(0));
+		} else {
+			return;
+		}
+		boolean lazyLoad = "LAZY".equals(this.enumValue(referenceValues.get("fetch")));
+
+		StringJoiner cascadeTypes = new StringJoiner(", ", "new jakarta.persistence.CascadeType[]{", "}");
+		this.arrayValue(referenceValues.get("cascade"))
+				.forEach(annotationValue ->
+						cascadeTypes.add("jakarta.persistence.CascadeType." + this.enumValue(annotationValue)));
+
+		stringBuilder.append("\t\t{\n")
+				.append("\t\t\tReferenceConfig<").append(referenceClass).append("> referenceConfig = ")
+				.append("new ReferenceConfig<>();\n")
+				.append("\t\t\treferenceConfig.setReferenceClass(").append(referenceClass).append(".class);\n")
+				.append("\t\t\treferenceConfig.setFieldName(").append(this.literal(fieldName)).append(");\n")
+				.append("\t\t\treferenceConfig.setLazyLoad(").append(lazyLoad).append(");\n")
+				.append("\t\t\treferenceConfig.setReturnArray(").append(returnArray).append(");\n")
+				.append("\t\t\treferenceConfig.setCascadeTypes(").append(cascadeTypes).append(");\n")
+				.append("\t\t\tList<JoinConfig> joinConfigs = new ArrayList<>();\n");
+		for (AnnotationMirror joinColumn : this.joinColumns(element)) {
+			Map<String, AnnotationValue> joinValues = this.mirrorValues(joinColumn);
+			stringBuilder.append("\t\t\t{\n")
+					.append("\t\t\t\tJoinConfig joinConfig = new JoinConfig();\n")
+					.append("\t\t\t\tjoinConfig.setCurrentField(")
+					.append(this.literal((String) joinValues.get("columnDefinition").getValue())).append(");\n")
+					.append("\t\t\t\tjoinConfig.setReferenceField(")
+					.append(this.literal((String) joinValues.get("referencedColumnName").getValue())).append(");\n")
+					.append("\t\t\t\tjoinConfigs.add(joinConfig);\n")
+					.append("\t\t\t}\n");
+		}
+		stringBuilder.append("\t\t\treferenceConfig.setJoinColumnList(joinConfigs);\n")
+				.append("\t\t\treferenceConfigs.add(referenceConfig);\n")
+				.append("\t\t}\n");
+	}
+
+	/**
+	 * <h4 class="en-US">Read annotation values (include default values) of given annotation class name</h4>
+	 * <h4 class="zh-CN">读取给定注解类名的注解值（包含默认值）</h4>
+	 *
+	 * @param element        <span class="en-US">Annotated element</span>
+	 *                       <span class="zh-CN">被标注的元素</span>
+	 * @param annotationName <span class="en-US">Annotation class name</span>
+	 *                       <span class="zh-CN">注解类名</span>
+	 * @return <span class="en-US">Annotation values mapping or <code>null</code> if annotation not present</span>
+	 * <span class="zh-CN">注解值映射，如果未标注则返回<code>null</code></span>
+	 */
+	private Map<String, AnnotationValue> annotationValues(final Element element, final String annotationName) {
+		return element.getAnnotationMirrors()
+				.stream()
+				.filter(annotationMirror ->
+						((TypeElement) annotationMirror.getAnnotationType().asElement())
+								.getQualifiedName().contentEquals(annotationName))
+				.findFirst()
+				.map(this::mirrorValues)
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Read annotation values (include default values) of given annotation mirror</h4>
+	 * <h4 class="zh-CN">读取给定注解镜像的注解值（包含默认值）</h4>
+	 *
+	 * @param annotationMirror <span class="en-US">Annotation mirror</span>
+	 *                         <span class="zh-CN">注解镜像</span>
+	 * @return <span class="en-US">Annotation values mapping</span>
+	 * <span class="zh-CN">注解值映射</span>
+	 */
+	private Map<String, AnnotationValue> mirrorValues(final AnnotationMirror annotationMirror) {
+		Map<String, AnnotationValue> annotationValues = new HashMap<>();
+		this.processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror)
+				.forEach((executableElement, annotationValue) ->
+						annotationValues.put(executableElement.getSimpleName().toString(), annotationValue));
+		return annotationValues;
+	}
+
+	/**
+	 * <h4 class="en-US">Read join column annotation mirrors of given element</h4>
+	 * <h4 class="zh-CN">读取给定元素的关联列注解镜像</h4>
+	 *
+	 * @param element <span class="en-US">Annotated element</span>
+	 *                <span class="zh-CN">被标注的元素</span>
+	 * @return <span class="en-US">Join column annotation mirror array</span>
+	 * <span class="zh-CN">关联列注解镜像数组</span>
+	 */
+	private AnnotationMirror[] joinColumns(final Element element) {
+		Map<String, AnnotationValue> joinValues = this.annotationValues(element, JOIN_COLUMNS);
+		if (joinValues != null) {
+			return this.arrayValue(joinValues.get("value"))
+					.stream()
+					.map(annotationValue -> (AnnotationMirror) annotationValue.getValue())
+					.toArray(AnnotationMirror[]::new);
+		}
+		return element.getAnnotationMirrors()
+				.stream()
+				.filter(annotationMirror ->
+						((TypeElement) annotationMirror.getAnnotationType().asElement())
+								.getQualifiedName().contentEquals(JOIN_COLUMN))
+				.toArray(AnnotationMirror[]::new);
+	}
+
+	/**
+	 * <h4 class="en-US">Read array value of given annotation value</h4>
+	 * <h4 class="zh-CN">读取给定注解值的数组值</h4>
+	 *
+	 * @param annotationValue <span class="en-US">Annotation value</span>
+	 *                        <span class="zh-CN">注解值</span>
+	 * @return <span class="en-US">Annotation value list</span>
+	 * <span class="zh-CN">注解值列表</span>
+	 */
+	@SuppressWarnings("unchecked")
+	private List<? extends AnnotationValue> arrayValue(final AnnotationValue annotationValue) {
+		if (annotationValue == null || !(annotationValue.getValue() instanceof List)) {
+			return Collections.emptyList();
+		}
+		return (List<? extends AnnotationValue>) annotationValue.getValue();
+	}
+
+	/**
+	 * <h4 class="en-US">Read enumeration constant name of given annotation value</h4>
+	 * <h4 class="zh-CN">读取给定注解值的枚举常量名称</h4>
+	 *
+	 * @param annotationValue <span class="en-US">Annotation value</span>
+	 *                        <span class="zh-CN">注解值</span>
+	 * @return <span class="en-US">Enumeration constant name</span>
+	 * <span class="zh-CN">枚举常量名称</span>
+	 */
+	private String enumValue(final AnnotationValue annotationValue) {
+		return ((VariableElement) annotationValue.getValue()).getSimpleName().toString();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the super class element of given type element</h4>
+	 * <h4 class="zh-CN">获取给定类型元素的父类元素</h4>
+	 *
+	 * @param typeElement <span class="en-US">Type element</span>
+	 *                    <span class="zh-CN">类型元素</span>
+	 * @return <span class="en-US">Super class element or <code>null</code> if not exists</span>
+	 * <span class="zh-CN">父类元素，如果不存在则返回<code>null</code></span>
+	 */
+	private TypeElement superElement(final TypeElement typeElement) {
+		TypeMirror superClass = typeElement.getSuperclass();
+		if (superClass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement superElement = (TypeElement) ((DeclaredType) superClass).asElement();
+		return superElement.getQualifiedName().contentEquals(Object.class.getName()) ? null : superElement;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the entity class could be instantiated by generated code</h4>
+	 * <h4 class="zh-CN">检查实体类是否可以被生成的代码实例化</h4>
+	 *
+	 * @param typeElement <span class="en-US">Entity type element</span>
+	 *                    <span class="zh-CN">实体类型元素</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean instantiable(final TypeElement typeElement) {
+		if (typeElement.getModifiers().contains(Modifier.ABSTRACT)
+				|| (typeElement.getNestingKind() != NestingKind.TOP_LEVEL
+				&& !typeElement.getModifiers().contains(Modifier.STATIC))) {
+			return Boolean.FALSE;
+		}
+		return ElementFilter.constructorsIn(typeElement.getEnclosedElements())
+				.stream()
+				.anyMatch(constructor -> constructor.getParameters().isEmpty()
+						&& !constructor.getModifiers().contains(Modifier.PRIVATE));
+	}
+
+	/**
+	 * <h4 class="en-US">Parse field name from given getter/setter method name</h4>
+	 * <h4 class="zh-CN">从给定的Getter/Setter方法名解析属性名</h4>
+	 *
+	 * @param methodName <span class="en-US">Method name</span>
+	 *                   <span class="zh-CN">方法名</span>
+	 * @return <span class="en-US">Field name</span>
+	 * <span class="zh-CN">属性名</span>
+	 */
+	private String fieldName(final String methodName) {
+		String fieldName;
+		if ((methodName.startsWith("get") || methodName.startsWith("set")) && methodName.length() > 3) {
+			fieldName = methodName.substring(3);
+		} else if (methodName.startsWith("is") && methodName.length() > 2) {
+			fieldName = methodName.substring(2);
+		} else {
+			return methodName;
+		}
+		return Character.toLowerCase(fieldName.charAt(0)) + fieldName.substring(1);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the erased type name of given type mirror</h4>
+	 * <h4 class="zh-CN">获取给定类型镜像擦除泛型后的类型名</h4>
+	 *
+	 * @param typeMirror <span class="en-US">Type mirror</span>
+	 *                   <span class="zh-CN">类型镜像</span>
+	 * @return <span class="en-US">Type name</span>
+	 * <span class="zh-CN">类型名</span>
+	 */
+	private String typeName(final TypeMirror typeMirror) {
+		return this.processingEnv.getTypeUtils().erasure(typeMirror).toString();
+	}
+
+	/**
+	 * <h4 class="en-US">Convert given string to Java string literal</h4>
+	 * <h4 class="zh-CN">将给定字符串转换为Java字符串字面量</h4>
+	 *
+	 * @param value <span class="en-US">String value</span>
+	 *              <span class="zh-CN">字符串值</span>
+	 * @return <span class="en-US">Java string literal</span>
+	 * <span class="zh-CN">Java字符串字面量</span>
+	 */
+	private String literal(final String value) {
+		StringBuilder stringBuilder = new StringBuilder("\"");
+		for (char character : value.toCharArray()) {
+			switch (character) {
+				case '"' -> stringBuilder.append("\\\"");
+				case '\\' -> stringBuilder.append("\\\\");
+				case '\n' -> stringBuilder.append("\\n");
+				case '\r' -> stringBuilder.append("\\r");
+				case '\t' -> stringBuilder.append("\\t");
+				default -> {
+					if (character < 0x20 || character > 0x7E) {
+						stringBuilder.append(String.format("\\u%04x", (int) character));
+					} else {
+						stringBuilder.append(character);
+					}
+				}
+			}
+		}
+		return stringBuilder.append("\"").toString();
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.providers.metadata;
+
+import org.nervousync.database.beans.configs.table.TableConfig;
+
+/**
+ * <h2 class="en-US">Generated table metadata provider</h2>
+ * <h2 class="zh-CN">编译期生成的数据表元数据适配器</h2>
+ * <span class="en-US">
+ * Implementations are generated by the table metadata annotation processor,
+ * the class name is the binary name of the entity class append suffix "_Metadata".
+ * </span>
+ * <span class="zh-CN">实现类由数据表元数据注解处理器生成，类名为实体类的二进制名称追加后缀"_Metadata"</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 09:27:14 $
+ */
+public interface TableMetadataProvider {
+
+	/**
+	 * <span class="en-US">Class name suffix of generated metadata provider</span>
+	 * <span class="zh-CN">生成的元数据适配器类名后缀</span>
+	 */
+	String CLASS_NAME_SUFFIX = "_Metadata";
+
+	/**
+	 * <h4 class="en-US">Generate table configure information instance</h4>
+	 * <h4 class="zh-CN">生成数据表配置信息实例对象</h4>
+	 *
+	 * @return <span class="en-US">Generated table configure information instance</span>
+	 * <span class="zh-CN">生成的数据表配置信息实例对象</span>
+	 */
+	TableConfig tableConfig();
+}
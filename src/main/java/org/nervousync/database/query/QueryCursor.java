@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.exceptions.query.QueryException;
+
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2 class="en-US">Query cursor define</h2>
+ * <h2 class="zh-CN">查询游标定义</h2>
+ * <span class="en-US">
+ * The query cursor reads the query result by chunks, only the current chunk is kept in memory.
+ * Closing the cursor will release the underlying database cursor.
+ * </span>
+ * <span class="zh-CN">查询游标分块读取查询结果，内存中仅保留当前数据块。关闭游标将释放底层的数据库游标。</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 19:12:08 $
+ */
+public abstract class QueryCursor implements AutoCloseable {
+
+	/**
+	 * <span class="en-US">Default fetch size</span>
+	 * <span class="zh-CN">默认的读取大小</span>
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	/**
+	 * <span class="en-US">Fetch size of each chunk</span>
+	 * <span class="zh-CN">每个数据块的读取大小</span>
+	 */
+	protected final int fetchSize;
+
+	/**
+	 * <h4 class="en-US">Constructor method for query cursor</h4>
+	 * <h4 class="zh-CN">查询游标的构造方法</h4>
+	 *
+	 * @param fetchSize <span class="en-US">Fetch size of each chunk, invalid value will reset to default fetch size</span>
+	 *                  <span class="zh-CN">每个数据块的读取大小，无效的值将重置为默认的读取大小</span>
+	 */
+	protected QueryCursor(final int fetchSize) {
+		this.fetchSize = (fetchSize > 0) ? fetchSize : DEFAULT_FETCH_SIZE;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate query cursor which reads the query result page by page</h4>
+	 * <h4 class="zh-CN">生成逐页读取查询结果的查询游标</h4>
+	 * <span class="en-US">
+	 * If the given query information configured pager, only the configured page will be read.
+	 * The query information should contain order by information to ensure stable paging.
+	 * </span>
+	 * <span class="zh-CN">如果给定的查询信息已配置分页，仅读取配置的页。查询信息应包含排序信息以确保分页稳定。</span>
+	 *
+	 * @param databaseClient <span class="en-US">Database client instance</span>
+	 *                       <span class="zh-CN">数据库客户端实例对象</span>
+	 * @param queryInfo      <span class="en-US">Query information instance object</span>
+	 *                       <span class="zh-CN">查询信息实例对象</span>
+	 * @param fetchSize      <span class="en-US">Fetch size of each chunk</span>
+	 *                       <span class="zh-CN">每个数据块的读取大小</span>
+	 * @return <span class="en-US">Generated query cursor</span>
+	 * <span class="zh-CN">生成的查询游标</span>
+	 */
+	public static QueryCursor paging(@Nonnull final DatabaseClient databaseClient,
+	                                 @Nonnull final QueryInfo queryInfo, final int fetchSize) {
+		return new PagingCursor(databaseClient, queryInfo, fetchSize);
+	}
+
+	/**
+	 * <h4 class="en-US">Read the next chunk of query result</h4>
+	 * <h4 class="zh-CN">读取查询结果的下一个数据块</h4>
+	 *
+	 * @return <span class="en-US">Query results of next chunk, empty result if the cursor was exhausted</span>
+	 * <span class="zh-CN">下一个数据块的查询结果，如果游标已读取完毕返回空结果</span>
+	 * @throws QueryException <span class="en-US">If an error occurs when query record from database</span>
+	 *                        <span class="zh-CN">如果从数据库中查询记录出现异常</span>
+	 */
+	public abstract QueryResult fetch() throws QueryException;
+
+	/**
+	 * <h4 class="en-US">Release the underlying database cursor</h4>
+	 * <h4 class="zh-CN">释放底层的数据库游标</h4>
+	 */
+	@Override
+	public abstract void close();
+
+	/**
+	 * <h4 class="en-US">Convert current cursor to the given target entity class instance stream</h4>
+	 * <h4 class="zh-CN">转换当前游标为给定实体类实例的流</h4>
+	 * <span class="en-US">
+	 * The chunks are read when the stream was consumed, closing the stream will close current cursor.
+	 * If read chunk failed, an IllegalStateException which caused by QueryException will be thrown.
+	 * </span>
+	 * <span class="zh-CN">数据块在流被消费时读取，关闭流将关闭当前游标。如果读取数据块失败，将抛出由 QueryException 引起的 IllegalStateException。</span>
+	 *
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param targetClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Entity instance stream</span>
+	 * <span class="zh-CN">实体实例的流</span>
+	 */
+	public final <T> Stream<T> stream(@Nonnull final Class<T> targetClass) {
+		Iterator<T> iterator = new Iterator<>() {
+			private Iterator<T> current = Collections.emptyIterator();
+			private boolean exhausted = Boolean.FALSE;
+
+			@Override
+			public boolean hasNext() {
+				while (!this.current.hasNext() && !this.exhausted) {
+					QueryResult queryResult;
+					try {
+						queryResult = fetch();
+					} catch (QueryException e) {
+						throw new IllegalStateException(e);
+					}
+					if (queryResult == null || queryResult.size() == 0) {
+						this.exhausted = Boolean.TRUE;
+					} else {
+						this.current = queryResult.asList(targetClass).iterator();
+					}
+				}
+				return this.current.hasNext();
+			}
+
+			@Override
+			public T next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return this.current.next();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), Boolean.FALSE)
+				.filter(Objects::nonNull)
+				.onClose(this::close);
+	}
+
+	/**
+	 * <h2 class="en-US">Query cursor which reads the query result page by page</h2>
+	 * <h2 class="zh-CN">逐页读取查询结果的查询游标</h2>
+	 */
+	private static final class PagingCursor extends QueryCursor {
+
+		/**
+		 * <span class="en-US">Database client instance</span>
+		 * <span class="zh-CN">数据库客户端实例对象</span>
+		 */
+		private final DatabaseClient databaseClient;
+		/**
+		 * <span class="en-US">Query information of current page</span>
+		 * <span class="zh-CN">当前页的查询信息</span>
+		 */
+		private final QueryInfo queryInfo;
+		/**
+		 * <span class="en-US">Only read the configured page</span>
+		 * <span class="zh-CN">仅读取配置的页</span>
+		 */
+		private final boolean singlePage;
+		/**
+		 * <span class="en-US">Cursor was exhausted or closed</span>
+		 * <span class="zh-CN">游标已读取完毕或已关闭</span>
+		 */
+		private boolean exhausted = Boolean.FALSE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for paging query cursor</h4>
+		 * <h4 class="zh-CN">分页查询游标的构造方法</h4>
+		 *
+		 * @param databaseClient <span class="en-US">Database client instance</span>
+		 *                       <span class="zh-CN">数据库客户端实例对象</span>
+		 * @param queryInfo      <span class="en-US">Query information instance object</span>
+		 *                       <span class="zh-CN">查询信息实例对象</span>
+		 * @param fetchSize      <span class="en-US">Fetch size of each chunk</span>
+		 *                       <span class="zh-CN">每个数据块的读取大小</span>
+		 */
+		PagingCursor(@Nonnull final DatabaseClient databaseClient, @Nonnull final QueryInfo queryInfo,
+		             final int fetchSize) {
+			super(fetchSize);
+			this.databaseClient = databaseClient;
+			this.singlePage = queryInfo.getPageNo() > 0 && queryInfo.getPageLimit() > 0;
+			this.queryInfo = new QueryInfo();
+			this.queryInfo.setIdentifyName(queryInfo.getIdentifyName());
+			this.queryInfo.setMainEntity(queryInfo.getMainEntity());
+			this.queryInfo.setQueryJoins(queryInfo.getQueryJoins());
+			this.queryInfo.setItemList(queryInfo.getItemList());
+			this.queryInfo.setConditionList(queryInfo.getConditionList());
+			this.queryInfo.setOrderByList(queryInfo.getOrderByList());
+			this.queryInfo.setGroupByList(queryInfo.getGroupByList());
+			this.queryInfo.setForUpdate(queryInfo.isForUpdate());
+			this.queryInfo.setLockOption(queryInfo.getLockOption());
+			this.queryInfo.setFetchFields(queryInfo.getFetchFields());
+			this.queryInfo.setCacheables(Boolean.FALSE);
+			if (this.singlePage) {
+				this.queryInfo.setPageNo(queryInfo.getPageNo());
+				this.queryInfo.setPageLimit(queryInfo.getPageLimit());
+			} else {
+				this.queryInfo.setPageNo(1);
+				this.queryInfo.setPageLimit(this.fetchSize);
+			}
+		}
+
+		@Override
+		public QueryResult fetch() throws QueryException {
+			if (this.exhausted) {
+				return new QueryResult();
+			}
+			QueryResult queryResult = this.databaseClient.queryList(this.queryInfo);
+			if (this.singlePage || queryResult == null || queryResult.size() < this.queryInfo.getPageLimit()) {
+				this.exhausted = Boolean.TRUE;
+			} else {
+				this.queryInfo.setPageNo(this.queryInfo.getPageNo() + 1);
+			}
+			return (queryResult == null) ? new QueryResult() : queryResult;
+		}
+
+		@Override
+		public void close() {
+			this.exhausted = Boolean.TRUE;
+		}
+	}
+}
@@ -0,0 +1,817 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.query.condition.Condition;
+import org.nervousync.database.query.condition.impl.ColumnCondition;
+import org.nervousync.database.query.condition.impl.GroupCondition;
+import org.nervousync.database.query.core.AbstractItem;
+import org.nervousync.database.query.data.ArrayData;
+import org.nervousync.database.query.data.RangesData;
+import org.nervousync.database.query.filter.GroupBy;
+import org.nervousync.database.query.filter.OrderBy;
+import org.nervousync.database.query.item.ColumnItem;
+import org.nervousync.database.query.item.FunctionItem;
+import org.nervousync.database.query.item.QueryItem;
+import org.nervousync.database.query.join.JoinInfo;
+import org.nervousync.database.query.join.QueryJoin;
+import org.nervousync.database.query.param.AbstractParameter;
+import org.nervousync.database.query.param.impl.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Query information fingerprint</h2>
+ * <h2 class="zh-CN">查询信息指纹</h2>
+ * <span class="en-US">
+ * The 128-bit fingerprint is computed by walking the joins, query items, query conditions, order by columns,
+ * group by columns, lock option and paging of query information. The shape fingerprint excludes the constant
+ * values and the page number, the query information which generate the same statement have the same shape
+ * fingerprint. The full fingerprint includes the constant values and the page number.
+ * The query name, cacheables and fetch plan fields are excluded because they do not change the query result.
+ * The fingerprint is stable across processes, the entity classes are identified by class name and
+ * the enumerations are identified by constant name.
+ * </span>
+ * <span class="zh-CN">
+ * 128位的指纹通过遍历查询信息的关联查询、查询项目、查询条件、排序数据列、分组数据列、锁定选项和分页信息计算。形状指纹不包含常量值和页码，
+ * 生成相同语句的查询信息具有相同的形状指纹。完整指纹包含常量值和页码。查询名称、缓存标记和预加载属性不会改变查询结果，因此不参与计算。
+ * 指纹在不同进程间是稳定的，实体类通过类名识别，枚举通过常量名识别。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 22:41:09 $
+ */
+public final class QueryFingerprint implements Serializable {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = -2674915836419051736L;
+
+	/**
+	 * <span class="en-US">High 64 bits of fingerprint</span>
+	 * <span class="zh-CN">指纹的高64位</span>
+	 */
+	private final long highBits;
+	/**
+	 * <span class="en-US">Low 64 bits of fingerprint</span>
+	 * <span class="zh-CN">指纹的低64位</span>
+	 */
+	private final long lowBits;
+
+	/**
+	 * <h4 class="en-US">Constructor method for query information fingerprint</h4>
+	 * <h4 class="zh-CN">查询信息指纹的构造方法</h4>
+	 *
+	 * @param highBits <span class="en-US">High 64 bits of fingerprint</span>
+	 *                 <span class="zh-CN">指纹的高64位</span>
+	 * @param lowBits  <span class="en-US">Low 64 bits of fingerprint</span>
+	 *                 <span class="zh-CN">指纹的低64位</span>
+	 */
+	public QueryFingerprint(final long highBits, final long lowBits) {
+		this.highBits = highBits;
+		this.lowBits = lowBits;
+	}
+
+	/**
+	 * <h4 class="en-US">Compute the fingerprint of given query information</h4>
+	 * <h4 class="zh-CN">计算给定查询信息的指纹</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query information instance object</span>
+	 *                  <span class="zh-CN">查询信息实例对象</span>
+	 * @param constants <span class="en-US">Include the constant values and page number</span>
+	 *                  <span class="zh-CN">包含常量值和页码</span>
+	 * @return <span class="en-US">Computed fingerprint</span>
+	 * <span class="zh-CN">计算的指纹</span>
+	 */
+	static QueryFingerprint compute(@Nonnull final QueryInfo queryInfo, final boolean constants) {
+		return new Hasher(constants).query(queryInfo).finish();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the high 64 bits of fingerprint</h4>
+	 * <h4 class="zh-CN">获取指纹的高64位</h4>
+	 *
+	 * @return <span class="en-US">High 64 bits</span>
+	 * <span class="zh-CN">高64位</span>
+	 */
+	public long highBits() {
+		return this.highBits;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the low 64 bits of fingerprint</h4>
+	 * <h4 class="zh-CN">获取指纹的低64位</h4>
+	 *
+	 * @return <span class="en-US">Low 64 bits</span>
+	 * <span class="zh-CN">低64位</span>
+	 */
+	public long lowBits() {
+		return this.lowBits;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return Boolean.TRUE;
+		}
+		if (!(o instanceof QueryFingerprint)) {
+			return Boolean.FALSE;
+		}
+		QueryFingerprint that = (QueryFingerprint) o;
+		return this.highBits == that.highBits && this.lowBits == that.lowBits;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (this.lowBits ^ (this.lowBits >>> 32));
+	}
+
+	/**
+	 * <h4 class="en-US">Convert fingerprint to 32 characters hex string</h4>
+	 * <h4 class="zh-CN">转换指纹为32个字符的十六进制字符串</h4>
+	 *
+	 * @return <span class="en-US">Hex string</span>
+	 * <span class="zh-CN">十六进制字符串</span>
+	 */
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", this.highBits, this.lowBits);
+	}
+
+	/**
+	 * <h2 class="en-US">Streaming fingerprint hasher</h2>
+	 * <h2 class="zh-CN">流式指纹哈希计算器</h2>
+	 * <span class="en-US">
+	 * Two 64-bit lanes mixed by the MurmurHash3 x64 128-bit rounds, each appended value is a 64-bit block.
+	 * Every node is prefixed by a tag and every string or list is prefixed by its length, so the different
+	 * structures will not generate the same block sequence.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 使用MurmurHash3 x64 128位轮函数混合的两个64位通道，每个追加的值为一个64位数据块。每个节点以标签为前缀，每个字符串或列表以其长度为前缀，
+	 * 因此不同的结构不会生成相同的数据块序列。
+	 * </span>
+	 */
+	private static final class Hasher {
+
+		/**
+		 * <span class="en-US">First mixing constant</span>
+		 * <span class="zh-CN">第一个混合常量</span>
+		 */
+		private static final long C1 = 0x87C37B91114253D5L;
+		/**
+		 * <span class="en-US">Second mixing constant</span>
+		 * <span class="zh-CN">第二个混合常量</span>
+		 */
+		private static final long C2 = 0x4CF5AD432745937FL;
+		/**
+		 * <span class="en-US">Tag of null or unknown node</span>
+		 * <span class="zh-CN">空值或未知节点的标签</span>
+		 */
+		private static final int TAG_NULL = 0;
+		/**
+		 * <span class="en-US">Tag of query information</span>
+		 * <span class="zh-CN">查询信息的标签</span>
+		 */
+		private static final int TAG_QUERY = 1;
+		/**
+		 * <span class="en-US">Tag of join information</span>
+		 * <span class="zh-CN">关联查询信息的标签</span>
+		 */
+		private static final int TAG_JOIN = 2;
+		/**
+		 * <span class="en-US">Tag of join column information</span>
+		 * <span class="zh-CN">关联数据列信息的标签</span>
+		 */
+		private static final int TAG_JOIN_INFO = 3;
+		/**
+		 * <span class="en-US">Tag of column item</span>
+		 * <span class="zh-CN">数据列项目的标签</span>
+		 */
+		private static final int TAG_COLUMN = 4;
+		/**
+		 * <span class="en-US">Tag of function item</span>
+		 * <span class="zh-CN">函数项目的标签</span>
+		 */
+		private static final int TAG_FUNCTION = 5;
+		/**
+		 * <span class="en-US">Tag of sub query</span>
+		 * <span class="zh-CN">子查询的标签</span>
+		 */
+		private static final int TAG_SUB_QUERY = 6;
+		/**
+		 * <span class="en-US">Tag of column condition</span>
+		 * <span class="zh-CN">数据列条件的标签</span>
+		 */
+		private static final int TAG_COLUMN_CONDITION = 7;
+		/**
+		 * <span class="en-US">Tag of group condition</span>
+		 * <span class="zh-CN">分组条件的标签</span>
+		 */
+		private static final int TAG_GROUP_CONDITION = 8;
+		/**
+		 * <span class="en-US">Tag of order by column</span>
+		 * <span class="zh-CN">排序数据列的标签</span>
+		 */
+		private static final int TAG_ORDER_BY = 9;
+		/**
+		 * <span class="en-US">Tag of group by column</span>
+		 * <span class="zh-CN">分组数据列的标签</span>
+		 */
+		private static final int TAG_GROUP_BY = 10;
+		/**
+		 * <span class="en-US">Tag of constant parameter</span>
+		 * <span class="zh-CN">常量参数的标签</span>
+		 */
+		private static final int TAG_CONSTANT = 11;
+		/**
+		 * <span class="en-US">Tag of ranges parameter</span>
+		 * <span class="zh-CN">区间参数的标签</span>
+		 */
+		private static final int TAG_RANGES = 12;
+		/**
+		 * <span class="en-US">Tag of arrays parameter</span>
+		 * <span class="zh-CN">数组参数的标签</span>
+		 */
+		private static final int TAG_ARRAYS = 13;
+		/**
+		 * <span class="en-US">Tag of string value</span>
+		 * <span class="zh-CN">字符串值的标签</span>
+		 */
+		private static final int TAG_STRING = 14;
+		/**
+		 * <span class="en-US">Tag of integral number value</span>
+		 * <span class="zh-CN">整数值的标签</span>
+		 */
+		private static final int TAG_INTEGER = 15;
+		/**
+		 * <span class="en-US">Tag of floating number value</span>
+		 * <span class="zh-CN">浮点数值的标签</span>
+		 */
+		private static final int TAG_DECIMAL = 16;
+		/**
+		 * <span class="en-US">Tag of boolean value</span>
+		 * <span class="zh-CN">布尔值的标签</span>
+		 */
+		private static final int TAG_BOOLEAN = 17;
+		/**
+		 * <span class="en-US">Tag of character value</span>
+		 * <span class="zh-CN">字符值的标签</span>
+		 */
+		private static final int TAG_CHARACTER = 18;
+		/**
+		 * <span class="en-US">Tag of date value</span>
+		 * <span class="zh-CN">日期值的标签</span>
+		 */
+		private static final int TAG_DATE = 19;
+		/**
+		 * <span class="en-US">Tag of enumeration value</span>
+		 * <span class="zh-CN">枚举值的标签</span>
+		 */
+		private static final int TAG_ENUM = 20;
+		/**
+		 * <span class="en-US">Tag of byte array value</span>
+		 * <span class="zh-CN">字节数组值的标签</span>
+		 */
+		private static final int TAG_BYTES = 21;
+		/**
+		 * <span class="en-US">Tag of value in other type</span>
+		 * <span class="zh-CN">其他类型值的标签</span>
+		 */
+		private static final int TAG_OBJECT = 22;
+		/**
+		 * <span class="en-US">Tag of local date, time or date time value without time zone</span>
+		 * <span class="zh-CN">不含时区的本地日期、时间或日期时间值的标签</span>
+		 */
+		private static final int TAG_LOCAL_DATE = 23;
+
+		/**
+		 * <span class="en-US">Include the constant values and page number</span>
+		 * <span class="zh-CN">包含常量值和页码</span>
+		 */
+		private final boolean constants;
+		/**
+		 * <span class="en-US">High lane</span>
+		 * <span class="zh-CN">高位通道</span>
+		 */
+		private long highBits = 0x6A09E667F3BCC908L;
+		/**
+		 * <span class="en-US">Low lane</span>
+		 * <span class="zh-CN">低位通道</span>
+		 */
+		private long lowBits = 0xBB67AE8584CAA73BL;
+		/**
+		 * <span class="en-US">Appended block count</span>
+		 * <span class="zh-CN">已追加的数据块数</span>
+		 */
+		private long length = 0L;
+
+		/**
+		 * <h4 class="en-US">Constructor method for streaming fingerprint hasher</h4>
+		 * <h4 class="zh-CN">流式指纹哈希计算器的构造方法</h4>
+		 *
+		 * @param constants <span class="en-US">Include the constant values and page number</span>
+		 *                  <span class="zh-CN">包含常量值和页码</span>
+		 */
+		Hasher(final boolean constants) {
+			this.constants = constants;
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given query information</h4>
+		 * <h4 class="zh-CN">追加给定的查询信息</h4>
+		 *
+		 * @param queryInfo <span class="en-US">Query information instance object</span>
+		 *                  <span class="zh-CN">查询信息实例对象</span>
+		 * @return <span class="en-US">Current hasher</span>
+		 * <span class="zh-CN">当前哈希计算器</span>
+		 */
+		Hasher query(final QueryInfo queryInfo) {
+			this.append(TAG_QUERY);
+			this.append(queryInfo.getMainEntity());
+			List<QueryJoin> queryJoins = queryInfo.getQueryJoins();
+			this.size(queryJoins);
+			if (queryJoins != null) {
+				for (QueryJoin queryJoin : queryJoins) {
+					this.join(queryJoin);
+				}
+			}
+			List<AbstractItem> itemList = queryInfo.getItemList();
+			this.size(itemList);
+			if (itemList != null) {
+				for (AbstractItem queryItem : itemList) {
+					this.item(queryItem);
+				}
+			}
+			this.conditions(queryInfo.getConditionList());
+			List<OrderBy> orderByList = queryInfo.getOrderByList();
+			this.size(orderByList);
+			if (orderByList != null) {
+				for (OrderBy orderBy : orderByList) {
+					this.append(TAG_ORDER_BY);
+					this.append(orderBy.getEntityClass());
+					this.append(orderBy.getIdentifyKey());
+					this.append(orderBy.getOrderType());
+				}
+			}
+			List<GroupBy> groupByList = queryInfo.getGroupByList();
+			this.size(groupByList);
+			if (groupByList != null) {
+				for (GroupBy groupBy : groupByList) {
+					this.append(TAG_GROUP_BY);
+					this.append(groupBy.getEntityClass());
+					this.append(groupBy.getIdentifyKey());
+				}
+			}
+			this.append(queryInfo.isForUpdate());
+			this.append(queryInfo.getLockOption());
+			this.append(queryInfo.getPageLimit());
+			if (this.constants) {
+				this.append(queryInfo.getPageNo());
+			}
+			return this;
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given join information</h4>
+		 * <h4 class="zh-CN">追加给定的关联查询信息</h4>
+		 *
+		 * @param queryJoin <span class="en-US">Join information instance object</span>
+		 *                  <span class="zh-CN">关联查询信息实例对象</span>
+		 */
+		private void join(final QueryJoin queryJoin) {
+			if (queryJoin == null) {
+				this.append(TAG_NULL);
+				return;
+			}
+			this.append(TAG_JOIN);
+			this.append(queryJoin.getMainEntity());
+			this.append(queryJoin.getJoinEntity());
+			this.append(queryJoin.getJoinType());
+			List<JoinInfo> joinInfos = queryJoin.getJoinInfos();
+			this.size(joinInfos);
+			if (joinInfos != null) {
+				for (JoinInfo joinInfo : joinInfos) {
+					this.append(TAG_JOIN_INFO);
+					this.append(joinInfo.getConnectionCode());
+					this.append(joinInfo.getJoinKey());
+					this.append(joinInfo.getReferenceKey());
+				}
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given query item</h4>
+		 * <h4 class="zh-CN">追加给定的查询项目</h4>
+		 *
+		 * @param queryItem <span class="en-US">Query item instance object</span>
+		 *                  <span class="zh-CN">查询项目实例对象</span>
+		 */
+		private void item(final AbstractItem queryItem) {
+			if (queryItem instanceof ColumnItem) {
+				this.column((ColumnItem) queryItem);
+			} else if (queryItem instanceof FunctionItem) {
+				this.function((FunctionItem) queryItem);
+			} else if (queryItem instanceof QueryItem) {
+				this.append(TAG_SUB_QUERY);
+				this.subQuery(((QueryItem) queryItem).getQueryInfo());
+			} else {
+				this.append(TAG_NULL);
+				return;
+			}
+			this.append(queryItem.getAliasName());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given column item</h4>
+		 * <h4 class="zh-CN">追加给定的数据列项目</h4>
+		 *
+		 * @param columnItem <span class="en-US">Column item instance object</span>
+		 *                   <span class="zh-CN">数据列项目实例对象</span>
+		 */
+		private void column(final ColumnItem columnItem) {
+			this.append(TAG_COLUMN);
+			this.append(columnItem.getEntityClass());
+			this.append(columnItem.getIdentifyKey());
+			this.append(columnItem.isDistinct());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given function item</h4>
+		 * <h4 class="zh-CN">追加给定的函数项目</h4>
+		 *
+		 * @param functionItem <span class="en-US">Function item instance object</span>
+		 *                     <span class="zh-CN">函数项目实例对象</span>
+		 */
+		private void function(final FunctionItem functionItem) {
+			this.append(TAG_FUNCTION);
+			this.append(functionItem.getSqlFunction());
+			List<AbstractParameter<?>> functionParams = functionItem.getFunctionParams();
+			this.size(functionParams);
+			if (functionParams != null) {
+				for (AbstractParameter<?> functionParam : functionParams) {
+					this.parameter(functionParam);
+				}
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the memoized fingerprint of given sub query</h4>
+		 * <h4 class="zh-CN">追加给定子查询已缓存的指纹</h4>
+		 *
+		 * @param queryInfo <span class="en-US">Sub query information instance object</span>
+		 *                  <span class="zh-CN">子查询信息实例对象</span>
+		 */
+		private void subQuery(final QueryInfo queryInfo) {
+			if (queryInfo == null) {
+				this.append(TAG_NULL);
+				return;
+			}
+			QueryFingerprint fingerprint = this.constants ? queryInfo.fingerprint() : queryInfo.shapeFingerprint();
+			this.append(fingerprint.highBits());
+			this.append(fingerprint.lowBits());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given query condition list</h4>
+		 * <h4 class="zh-CN">追加给定的查询条件列表</h4>
+		 *
+		 * @param conditionList <span class="en-US">Query condition instance list</span>
+		 *                      <span class="zh-CN">查询条件实例对象列表</span>
+		 */
+		private void conditions(final List<Condition> conditionList) {
+			this.size(conditionList);
+			if (conditionList == null) {
+				return;
+			}
+			for (Condition condition : conditionList) {
+				if (condition instanceof ColumnCondition) {
+					ColumnCondition columnCondition = (ColumnCondition) condition;
+					this.append(TAG_COLUMN_CONDITION);
+					this.append(columnCondition.getEntityClass());
+					this.append(columnCondition.getIdentifyKey());
+					this.parameter(columnCondition.getConditionParameter());
+				} else if (condition instanceof GroupCondition) {
+					this.append(TAG_GROUP_CONDITION);
+					this.conditions(((GroupCondition) condition).getConditionList());
+				} else {
+					this.append(TAG_NULL);
+					continue;
+				}
+				this.append(condition.getConditionCode());
+				this.append(condition.getConnectionCode());
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given query parameter</h4>
+		 * <h4 class="zh-CN">追加给定的查询参数</h4>
+		 * <span class="en-US">
+		 * The constant values are appended only for full fingerprint, the element count of array parameter is
+		 * always appended because it changes the statement.
+		 * </span>
+		 * <span class="zh-CN">常量值仅在完整指纹中追加，数组参数的元素数量总是被追加，因为它会改变语句。</span>
+		 *
+		 * @param parameter <span class="en-US">Query parameter instance object</span>
+		 *                  <span class="zh-CN">查询参数实例对象</span>
+		 */
+		private void parameter(final AbstractParameter<?> parameter) {
+			if (parameter instanceof ColumnParameter) {
+				ColumnItem columnItem = ((ColumnParameter) parameter).getItemValue();
+				if (columnItem == null) {
+					this.append(TAG_NULL);
+				} else {
+					this.column(columnItem);
+				}
+			} else if (parameter instanceof FunctionParameter) {
+				FunctionItem functionItem = ((FunctionParameter) parameter).getItemValue();
+				if (functionItem == null) {
+					this.append(TAG_NULL);
+				} else {
+					this.function(functionItem);
+				}
+			} else if (parameter instanceof QueryParameter) {
+				this.append(TAG_SUB_QUERY);
+				this.subQuery(((QueryParameter) parameter).getItemValue());
+			} else if (parameter instanceof ConstantParameter) {
+				this.append(TAG_CONSTANT);
+				if (this.constants) {
+					this.value(((ConstantParameter) parameter).getItemValue());
+				}
+			} else if (parameter instanceof RangesParameter) {
+				this.append(TAG_RANGES);
+				RangesData rangesData = ((RangesParameter) parameter).getItemValue();
+				if (this.constants && rangesData != null) {
+					this.value(rangesData.getBeginValue());
+					this.value(rangesData.getEndValue());
+				}
+			} else if (parameter instanceof ArraysParameter) {
+				this.append(TAG_ARRAYS);
+				ArrayData arrayData = ((ArraysParameter) parameter).getItemValue();
+				Object[] arrayObject = (arrayData == null) ? null : arrayData.getArrayObject();
+				this.append((arrayObject == null) ? 0 : arrayObject.length);
+				if (this.constants && arrayObject != null) {
+					for (Object object : arrayObject) {
+						this.value(object);
+					}
+				}
+			} else {
+				this.append(TAG_NULL);
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given constant value</h4>
+		 * <h4 class="zh-CN">追加给定的常量值</h4>
+		 * <span class="en-US">
+		 * The integral numbers are appended as long value, the floating numbers are appended as double value.
+		 * The date, timestamp, instant, offset and zoned date time values are appended as epoch nanos, split into
+		 * epoch seconds and nanosecond adjustment to avoid overflow, so the equal instants in different types have
+		 * the same fingerprint. The local date, time and date time values have no time zone, and are appended by
+		 * their class name, epoch day and nano of day, so they never equal to an instant.
+		 * The value of unknown type is appended by its class name and string value.
+		 * </span>
+		 * <span class="zh-CN">
+		 * 整数以长整型值追加，浮点数以双精度值追加。日期、时间戳、瞬时、偏移和时区日期时间值以纪元纳秒追加，为避免溢出拆分为纪元秒数和纳秒调整值，
+		 * 所以不同类型的相同瞬时具有相同的指纹。本地日期、时间和日期时间值不含时区，通过其类名、纪元日数和当日纳秒数追加，因此不会等同于任何瞬时。
+		 * 未知类型的值通过其类名和字符串值追加。
+		 * </span>
+		 *
+		 * @param value <span class="en-US">Constant value</span>
+		 *              <span class="zh-CN">常量值</span>
+		 */
+		private void value(final Object value) {
+			if (value == null) {
+				this.append(TAG_NULL);
+			} else if (value instanceof String) {
+				this.append(TAG_STRING);
+				this.append((String) value);
+			} else if (value instanceof Long || value instanceof Integer
+					|| value instanceof Short || value instanceof Byte) {
+				this.append(TAG_INTEGER);
+				this.append(((Number) value).longValue());
+			} else if (value instanceof Double || value instanceof Float) {
+				this.append(TAG_DECIMAL);
+				this.append(Double.doubleToLongBits(((Number) value).doubleValue()));
+			} else if (value instanceof Boolean) {
+				this.append(TAG_BOOLEAN);
+				this.append(((Boolean) value).booleanValue());
+			} else if (value instanceof Character) {
+				this.append(TAG_CHARACTER);
+				this.append(((Character) value).charValue());
+			} else if (value instanceof Timestamp) {
+				this.append(((Timestamp) value).toInstant());
+			} else if (value instanceof Date) {
+				this.append(Instant.ofEpochMilli(((Date) value).getTime()));
+			} else if (value instanceof Instant) {
+				this.append((Instant) value);
+			} else if (value instanceof OffsetDateTime) {
+				this.append(((OffsetDateTime) value).toInstant());
+			} else if (value instanceof ZonedDateTime) {
+				this.append(((ZonedDateTime) value).toInstant());
+			} else if (value instanceof LocalDateTime) {
+				this.append(TAG_LOCAL_DATE);
+				this.append(value.getClass());
+				this.append(((LocalDateTime) value).toLocalDate().toEpochDay());
+				this.append(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+			} else if (value instanceof LocalDate) {
+				this.append(TAG_LOCAL_DATE);
+				this.append(value.getClass());
+				this.append(((LocalDate) value).toEpochDay());
+			} else if (value instanceof LocalTime) {
+				this.append(TAG_LOCAL_DATE);
+				this.append(value.getClass());
+				this.append(((LocalTime) value).toNanoOfDay());
+			} else if (value instanceof Enum) {
+				this.append(TAG_ENUM);
+				this.append(((Enum<?>) value).getDeclaringClass());
+				this.append((Enum<?>) value);
+			} else if (value instanceof byte[]) {
+				this.append(TAG_BYTES);
+				this.append((byte[]) value);
+			} else {
+				this.append(TAG_OBJECT);
+				this.append(value.getClass());
+				this.append(value.toString());
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the size of given list, <code>-1</code> for <code>null</code></h4>
+		 * <h4 class="zh-CN">追加给定列表的大小，<code>null</code> 追加 <code>-1</code></h4>
+		 *
+		 * @param list <span class="en-US">List instance</span>
+		 *             <span class="zh-CN">列表实例对象</span>
+		 */
+		private void size(final List<?> list) {
+			this.append((list == null) ? -1L : list.size());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given instant as epoch seconds and nanosecond adjustment</h4>
+		 * <h4 class="zh-CN">以纪元秒数和纳秒调整值追加给定的瞬时</h4>
+		 *
+		 * @param instant <span class="en-US">Instant value</span>
+		 *                <span class="zh-CN">瞬时值</span>
+		 */
+		private void append(final Instant instant) {
+			this.append(TAG_DATE);
+			this.append(instant.getEpochSecond());
+			this.append(instant.getNano());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given class by its name</h4>
+		 * <h4 class="zh-CN">通过类名追加给定的类</h4>
+		 *
+		 * @param clazz <span class="en-US">Class instance</span>
+		 *              <span class="zh-CN">类实例对象</span>
+		 */
+		private void append(final Class<?> clazz) {
+			this.append((clazz == null) ? null : clazz.getName());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given enumeration by its constant name</h4>
+		 * <h4 class="zh-CN">通过常量名追加给定的枚举</h4>
+		 *
+		 * @param enumeration <span class="en-US">Enumeration instance</span>
+		 *                    <span class="zh-CN">枚举实例对象</span>
+		 */
+		private void append(final Enum<?> enumeration) {
+			this.append((enumeration == null) ? null : enumeration.name());
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given string, four characters are packed into one block</h4>
+		 * <h4 class="zh-CN">追加给定的字符串，每四个字符打包为一个数据块</h4>
+		 *
+		 * @param string <span class="en-US">String value</span>
+		 *               <span class="zh-CN">字符串值</span>
+		 */
+		private void append(final String string) {
+			if (string == null) {
+				this.append(-1L);
+				return;
+			}
+			int length = string.length();
+			this.append(length);
+			for (int i = 0; i < length; i += 4) {
+				long block = 0L;
+				for (int j = i; j < Math.min(i + 4, length); j++) {
+					block = (block << 16) | string.charAt(j);
+				}
+				this.append(block);
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given byte array, eight bytes are packed into one block</h4>
+		 * <h4 class="zh-CN">追加给定的字节数组，每八个字节打包为一个数据块</h4>
+		 *
+		 * @param bytes <span class="en-US">Byte array</span>
+		 *              <span class="zh-CN">字节数组</span>
+		 */
+		private void append(final byte[] bytes) {
+			this.append(bytes.length);
+			for (int i = 0; i < bytes.length; i += 8) {
+				long block = 0L;
+				for (int j = i; j < Math.min(i + 8, bytes.length); j++) {
+					block = (block << 8) | (bytes[j] & 0xFFL);
+				}
+				this.append(block);
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given boolean value</h4>
+		 * <h4 class="zh-CN">追加给定的布尔值</h4>
+		 *
+		 * @param value <span class="en-US">Boolean value</span>
+		 *              <span class="zh-CN">布尔值</span>
+		 */
+		private void append(final boolean value) {
+			this.append(value ? 1L : 0L);
+		}
+
+		/**
+		 * <h4 class="en-US">Append the given 64-bit block and mix both lanes</h4>
+		 * <h4 class="zh-CN">追加给定的64位数据块并混合两个通道</h4>
+		 *
+		 * @param block <span class="en-US">64-bit block</span>
+		 *              <span class="zh-CN">64位数据块</span>
+		 */
+		private void append(final long block) {
+			this.highBits ^= Long.rotateLeft(block * C1, 31) * C2;
+			this.highBits = Long.rotateLeft(this.highBits, 27) + this.lowBits;
+			this.highBits = this.highBits * 5L + 0x52DCE729L;
+			this.lowBits ^= Long.rotateLeft(block * C2, 33) * C1;
+			this.lowBits = Long.rotateLeft(this.lowBits, 31) + this.highBits;
+			this.lowBits = this.lowBits * 5L + 0x38495AB5L;
+			this.length++;
+		}
+
+		/**
+		 * <h4 class="en-US">Finalize both lanes and generate the fingerprint</h4>
+		 * <h4 class="zh-CN">完成两个通道的计算并生成指纹</h4>
+		 *
+		 * @return <span class="en-US">Generated fingerprint</span>
+		 * <span class="zh-CN">生成的指纹</span>
+		 */
+		QueryFingerprint finish() {
+			long high = this.highBits ^ this.length;
+			long low = this.lowBits ^ this.length;
+			high += low;
+			low += high;
+			high = mix(high);
+			low = mix(low);
+			high += low;
+			low += high;
+			return new QueryFingerprint(high, low);
+		}
+
+		/**
+		 * <h4 class="en-US">Final avalanche mix of 64-bit value</h4>
+		 * <h4 class="zh-CN">64位值的最终雪崩混合</h4>
+		 *
+		 * @param value <span class="en-US">Lane value</span>
+		 *              <span class="zh-CN">通道值</span>
+		 * @return <span class="en-US">Mixed value</span>
+		 * <span class="zh-CN">混合后的值</span>
+		 */
+		private static long mix(final long value) {
+			long mixed = value ^ (value >>> 33);
+			mixed *= 0xFF51AFD7ED558CCDL;
+			mixed ^= (mixed >>> 33);
+			mixed *= 0xC4CEB9FE1A85EC53L;
+			return mixed ^ (mixed >>> 33);
+		}
+	}
+}
@@ -143,6 +143,23 @@ public final class QueryInfo extends BeanObject {
      */
 	@XmlElement(name = "page_limit")
     private int pageLimit;
+	/**
+	 * <span class="en-US">Fetch plan field name list of driven table entity</span>
+	 * <span class="zh-CN">驱动表实体的预加载属性名列表</span>
+	 */
+	@XmlElement(name = "fetch_field")
+	@XmlElementWrapper(name = "fetch_list")
+	private List<String> fetchFields;
+	/**
+	 * <span class="en-US">Memoized shape fingerprint</span>
+	 * <span class="zh-CN">已缓存的形状指纹</span>
+	 */
+	private transient QueryFingerprint shapeFingerprint = null;
+	/**
+	 * <span class="en-US">Memoized full fingerprint</span>
+	 * <span class="zh-CN">已缓存的完整指纹</span>
+	 */
+	private transient QueryFingerprint fingerprint = null;
 
 	/**
 	 * <h4 class="en-US">Constructor method for query information define</h4>
@@ -152,6 +169,7 @@ public final class QueryInfo extends BeanObject {
 		this.queryJoins = new ArrayList<>();
 		this.itemList = new ArrayList<>();
 		this.conditionList = new ArrayList<>();
+		this.fetchFields = new ArrayList<>();
 	}
 
 	/**
@@ -196,6 +214,7 @@ public final class QueryInfo extends BeanObject {
 	 */
 	public void setMainEntity(Class<?> mainEntity) {
 		this.mainEntity = mainEntity;
+		this.resetFingerprint();
 	}
 
 	/**
@@ -218,6 +237,7 @@ public final class QueryInfo extends BeanObject {
 	 */
 	public void setQueryJoins(List<QueryJoin> queryJoins) {
 		this.queryJoins = queryJoins;
+		this.resetFingerprint();
 	}
 
 	/**
@@ -241,7 +261,7 @@ public final class QueryInfo extends BeanObject {
 	public void setItemList(List<AbstractItem> itemList) {
 		this.itemList = itemList;
 		this.itemList.sort(SortedItem.desc());
-
+		this.resetFingerprint();
 	}
 
 	/**
@@ -265,6 +285,7 @@ public final class QueryInfo extends BeanObject {
 	public void setConditionList(List<Condition> conditionList) {
 		this.conditionList = conditionList;
 		this.conditionList.sort(SortedItem.desc());
+		this.resetFingerprint();
 	}
 
 	/**
@@ -288,6 +309,7 @@ public final class QueryInfo extends BeanObject {
 	public void setOrderByList(List<OrderBy> orderByList) {
 		this.orderByList = orderByList;
 		this.orderByList.sort(SortedItem.desc());
+		this.resetFingerprint();
 	}
 
 	/**
@@ -311,6 +333,7 @@ public final class QueryInfo extends BeanObject {
 	public void setGroupByList(List<GroupBy> groupByList) {
 		this.groupByList = groupByList;
 		this.groupByList.sort(SortedItem.desc());
+		this.resetFingerprint();
 	}
 
 	/**
@@ -355,6 +378,7 @@ public final class QueryInfo extends BeanObject {
 	 */
 	public void setForUpdate(boolean forUpdate) {
 		this.forUpdate = forUpdate;
+		this.resetFingerprint();
 	}
 
 	/**
@@ -377,6 +401,7 @@ public final class QueryInfo extends BeanObject {
 	 */
 	public void setLockOption(LockOption lockOption) {
 		this.lockOption = lockOption;
+		this.resetFingerprint();
 	}
 
     /**
@@ -399,6 +424,7 @@ public final class QueryInfo extends BeanObject {
      */
     public void setPageNo(int pageNo) {
         this.pageNo = pageNo;
+        this.resetFingerprint();
     }
 
     /**
@@ -421,5 +447,85 @@ public final class QueryInfo extends BeanObject {
      */
     public void setPageLimit(int pageLimit) {
         this.pageLimit = pageLimit;
+        this.resetFingerprint();
     }
+
+	/**
+	 * <h4 class="en-US">Getter method for fetch plan field name list</h4>
+	 * <h4 class="zh-CN">预加载属性名列表的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Fetch plan field name list</span>
+	 * <span class="zh-CN">预加载属性名列表</span>
+	 */
+	public List<String> getFetchFields() {
+		return fetchFields;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for fetch plan field name list</h4>
+	 * <h4 class="zh-CN">预加载属性名列表的Setter方法</h4>
+	 *
+	 * @param fetchFields <span class="en-US">Fetch plan field name list</span>
+	 *                    <span class="zh-CN">预加载属性名列表</span>
+	 */
+	public void setFetchFields(List<String> fetchFields) {
+		this.fetchFields = fetchFields;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the shape fingerprint of current query information</h4>
+	 * <h4 class="zh-CN">获取当前查询信息的形状指纹</h4>
+	 * <span class="en-US">
+	 * The shape fingerprint excludes the constant values and page number, using for aggregating the slow queries
+	 * and reusing the statements. The fingerprint is memoized and reset when any setter was invoked,
+	 * the nested items should not be modified after the fingerprint was computed.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 形状指纹不包含常量值和页码，用于汇总慢查询和重用语句。指纹计算后将被缓存，调用任意Setter方法时重置，计算指纹之后不应修改嵌套的项目。
+	 * </span>
+	 *
+	 * @return <span class="en-US">Shape fingerprint</span>
+	 * <span class="zh-CN">形状指纹</span>
+	 */
+	public QueryFingerprint shapeFingerprint() {
+		QueryFingerprint current = this.shapeFingerprint;
+		if (current == null) {
+			current = QueryFingerprint.compute(this, Boolean.FALSE);
+			this.shapeFingerprint = current;
+		}
+		return current;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the full fingerprint of current query information</h4>
+	 * <h4 class="zh-CN">获取当前查询信息的完整指纹</h4>
+	 * <span class="en-US">
+	 * The full fingerprint includes the constant values and page number, using as the key of query result cache.
+	 * The fingerprint is memoized and reset when any setter was invoked,
+	 * the nested items should not be modified after the fingerprint was computed.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 完整指纹包含常量值和页码，用作查询结果缓存的键。指纹计算后将被缓存，调用任意Setter方法时重置，计算指纹之后不应修改嵌套的项目。
+	 * </span>
+	 *
+	 * @return <span class="en-US">Full fingerprint</span>
+	 * <span class="zh-CN">完整指纹</span>
+	 */
+	public QueryFingerprint fingerprint() {
+		QueryFingerprint current = this.fingerprint;
+		if (current == null) {
+			current = QueryFingerprint.compute(this, Boolean.TRUE);
+			this.fingerprint = current;
+		}
+		return current;
+	}
+
+	/**
+	 * <h4 class="en-US">Reset the memoized fingerprints</h4>
+	 * <h4 class="zh-CN">重置已缓存的指纹</h4>
+	 */
+	private void resetFingerprint() {
+		this.shapeFingerprint = null;
+		this.fingerprint = null;
+	}
 }
@@ -17,19 +17,37 @@
 package org.nervousync.database.query;
 
 import jakarta.annotation.Nonnull;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
 import jakarta.xml.bind.annotation.*;
 import org.nervousync.beans.core.BeanObject;
 import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.reference.ReferenceConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
 import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
 import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.entity.core.LoadContext;
+import org.nervousync.database.entity.core.PrefetchPolicy;
+import org.nervousync.database.entity.core.PrimaryKey;
+import org.nervousync.database.query.data.ColumnarData;
+import org.nervousync.database.query.data.EncodedRecords;
+import org.nervousync.database.query.data.LazyRecordList;
 import org.nervousync.utils.BeanUtils;
 import org.nervousync.utils.ConvertUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * <h2 class="en-US">Query result partial collection define</h2>
@@ -49,7 +67,6 @@ public final class QueryResult extends BeanObject {
 	 */
 	@Serial
 	private static final long serialVersionUID = 2086690645677391624L;
-	private static final String RECORD_SPLIT_CHARACTER = "|";
 
 	/**
 	 * <span class="en-US">Character encoding for record information</span>
@@ -58,12 +75,27 @@ public final class QueryResult extends BeanObject {
 	@XmlElement
 	private String encoding = Globals.DEFAULT_ENCODING;
 	/**
-	 * <span class="en-US">Record list</span>
-	 * <span class="zh-CN">数据记录列表</span>
+	 * <span class="en-US">Record list, only used for XML marshalling</span>
+	 * <span class="zh-CN">数据记录列表，仅用于XML序列化</span>
 	 */
 	@XmlElement(name = "record")
 	@XmlElementWrapper(name = "record_list")
 	private List<String> resultList = new ArrayList<>();
+	/**
+	 * <span class="en-US">Columnar record data</span>
+	 * <span class="zh-CN">列式记录数据</span>
+	 */
+	private ColumnarData columnarData = new ColumnarData();
+	/**
+	 * <span class="en-US">Encoded record data parsed from cache payload, records are decoded on first access</span>
+	 * <span class="zh-CN">从缓存数据解析的编码记录数据，记录在首次访问时解码</span>
+	 */
+	private transient EncodedRecords encodedRecords = null;
+	/**
+	 * <span class="en-US">Entity class of all records, <code>null</code> if records belong to different entity classes</span>
+	 * <span class="zh-CN">所有记录的实体类，如果记录属于不同的实体类则为 <code>null</code></span>
+	 */
+	private Class<?> entityClass = null;
 	/**
 	 * <span class="en-US">Total record count</span>
 	 * <span class="zh-CN">总记录数</span>
@@ -105,23 +137,54 @@ public final class QueryResult extends BeanObject {
 	/**
 	 * <h4 class="en-US">Getter method for record list</h4>
 	 * <h4 class="zh-CN">数据记录列表的Getter方法</h4>
+	 * <span class="en-US">Compatibility method, the record strings are generated from the columnar record data</span>
+	 * <span class="zh-CN">兼容方法，记录字符串由列式记录数据生成</span>
 	 *
 	 * @return <span class="en-US">Record list</span>
 	 * <span class="zh-CN">数据记录列表</span>
 	 */
 	public List<String> getResultList() {
+		List<String> resultList = new ArrayList<>(this.size());
+		for (int i = 0; i < this.size(); i++) {
+			Optional.ofNullable(this.row(i))
+					.map(this::marshalMap)
+					.filter(StringUtils::notBlank)
+					.ifPresent(resultList::add);
+		}
 		return resultList;
 	}
 
 	/**
 	 * <h4 class="en-US">Setter method for record list</h4>
 	 * <h4 class="zh-CN">数据记录列表的Setter方法</h4>
+	 * <span class="en-US">Compatibility method, the record strings are parsed into the columnar record data</span>
+	 * <span class="zh-CN">兼容方法，记录字符串将被解析为列式记录数据</span>
 	 *
 	 * @param resultList <span class="en-US">Record list</span>
 	 *                   <span class="zh-CN">数据记录列表</span>
 	 */
 	public void setResultList(final List<String> resultList) {
-		this.resultList = resultList;
+		this.columnarData = new ColumnarData();
+		this.encodedRecords = null;
+		this.entityClass = null;
+		if (resultList != null) {
+			resultList.stream()
+					.map(this::unmarshalMap)
+					.filter(Objects::nonNull)
+					.forEach(dataMap -> this.columnarData.appendRow(dataMap, null));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the columnar record data</h4>
+	 * <h4 class="zh-CN">获取列式记录数据</h4>
+	 *
+	 * @return <span class="en-US">Columnar record data</span>
+	 * <span class="zh-CN">列式记录数据</span>
+	 */
+	public ColumnarData columnarData() {
+		this.materialize();
+		return this.columnarData;
 	}
 
 	/**
@@ -154,7 +217,7 @@ public final class QueryResult extends BeanObject {
 	 * <span class="zh-CN">当前结果集记录数</span>
 	 */
 	public int size() {
-		return this.resultList.size();
+		return (this.encodedRecords == null) ? this.columnarData.rowCount() : this.encodedRecords.rowCount();
 	}
 
 	/**
@@ -169,30 +232,167 @@ public final class QueryResult extends BeanObject {
 	 * <span class="zh-CN">转换后的结果集列表</span>
 	 */
 	public <T> List<T> asList(final Class<T> targetClass) {
-		return this.resultList.stream()
-				.map(string -> this.unmarshalRecord(targetClass, string))
-				.collect(Collectors.toList());
+		return this.asList(targetClass, Optional.ofNullable(EntityManager.tableConfig(targetClass))
+				.map(TableConfig::isReadOnly)
+				.orElse(Boolean.FALSE));
+	}
+
+	/**
+	 * <h4 class="en-US">Convert current data list to the given target entity class instance list</h4>
+	 * <h4 class="zh-CN">转换当前记录集为给定实体类实例数组</h4>
+	 * <span class="en-US">
+	 * The read only records will not allocate any tracking status and never be reported as modified,
+	 * suitable for large listings which will not be updated.
+	 * </span>
+	 * <span class="zh-CN">只读记录不分配任何跟踪状态，也不会被报告为已修改，适用于不需要更新的大量数据列表</span>
+	 * <span class="en-US">
+	 * The records of entity class which contains references will share a lazy load context,
+	 * the reference fields will be loaded by batch when first accessed.
+	 * </span>
+	 * <span class="zh-CN">包含外键的实体类记录将共享懒加载上下文，外键属性将在首次访问时批量加载</span>
+	 * <span class="en-US">
+	 * If the entity class registered prefetch fields, the prefetch tasks will be submitted after records were materialized.
+	 * </span>
+	 * <span class="zh-CN">如果实体类注册了预取属性，记录实例化后将提交预取任务</span>
+	 * <span class="en-US">
+	 * If the query contains fetch plan of references, the records will be de-duplicated by primary key
+	 * and the fetched references will be assembled from the joined records.
+	 * </span>
+	 * <span class="zh-CN">如果查询包含外键的预加载计划，记录将按照主键去重，并从关联后的记录中组装预加载的外键数据</span>
+	 *
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param targetClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param readOnly    <span class="en-US">Materialize records as read only</span>
+	 *                    <span class="zh-CN">以只读方式实例化记录</span>
+	 * @return <span class="en-US">Converted record list</span>
+	 * <span class="zh-CN">转换后的结果集列表</span>
+	 */
+	public <T> List<T> asList(final Class<T> targetClass, final boolean readOnly) {
+		return this.asList(targetClass, readOnly, Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Convert current data list to the given target entity class instance list</h4>
+	 * <h4 class="zh-CN">转换当前记录集为给定实体类实例数组</h4>
+	 * <span class="en-US">
+	 * The returned list is a random-access view, each record is decoded on first access and memoized.
+	 * If parallel is <code>true</code>, all records are decoded at once on the common fork-join pool
+	 * and the order of records is preserved, suitable for full scans of large results.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 返回的列表为随机访问视图，每条记录在首次访问时解码并缓存。如果并行为 <code>true</code>，所有记录将在公共ForkJoin线程池中一次性解码，
+	 * 并保持记录的顺序，适用于全量扫描大量结果。
+	 * </span>
+	 * <span class="en-US">
+	 * The records of entity class which contains references will share a lazy load context bound to the returned list,
+	 * the reference fields will be loaded by batch when first accessed, the undecoded sibling records in the batch
+	 * are decoded on demand. If the entity class registered prefetch fields or the query contains fetch plan
+	 * of references, all records are decoded before returning.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 包含外键的实体类记录将共享绑定到返回列表的懒加载上下文，外键属性将在首次访问时批量加载，批量中尚未解码的同级记录将按需解码。
+	 * 如果实体类注册了预取属性或查询包含外键的预加载计划，所有记录将在返回之前解码。
+	 * </span>
+	 *
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param targetClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param readOnly    <span class="en-US">Materialize records as read only</span>
+	 *                    <span class="zh-CN">以只读方式实例化记录</span>
+	 * @param parallel    <span class="en-US">Decode all records in parallel</span>
+	 *                    <span class="zh-CN">并行解码所有记录</span>
+	 * @return <span class="en-US">Converted record list</span>
+	 * <span class="zh-CN">转换后的结果集列表</span>
+	 */
+	public <T> List<T> asList(final Class<T> targetClass, final boolean readOnly, final boolean parallel) {
+		TableConfig tableConfig = EntityManager.tableConfig(targetClass);
+		List<String> fetchFields = fetchFields(tableConfig, this.firstRow());
+		boolean bindContext = tableConfig != null && BaseObject.class.isAssignableFrom(targetClass);
+		boolean prefetch = bindContext && !PrefetchPolicy.fieldNames(tableConfig.getDefineClass()).isEmpty();
+		if (!fetchFields.isEmpty()) {
+			List<Map<String, Object>> recordMaps = IntStream.range(0, this.size())
+					.mapToObj(this::row)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toList());
+			List<T> recordList = this.assembleRecords(tableConfig, targetClass, recordMaps, fetchFields, readOnly);
+			if (prefetch || (bindContext && recordList.size() > 1)) {
+				LoadContext loadContext = new LoadContext(recordList.stream()
+						.filter(Objects::nonNull)
+						.map(BaseObject.class::cast)
+						.collect(Collectors.toList()));
+				if (prefetch) {
+					loadContext.prefetch(tableConfig.getDefineClass());
+				}
+			}
+			return recordList;
+		}
+		LoadContext loadContext =
+				(prefetch || (bindContext && this.size() > 1 && !tableConfig.getReferenceConfigs().isEmpty()))
+						? new LoadContext()
+						: null;
+		EncodedRecords records = this.encodedRecords;
+		IntFunction<Map<String, Object>> rows = (records == null) ? this.columnarData::row : records::row;
+		LazyRecordList<T> recordList = new LazyRecordList<>(this.size(), index -> {
+			T record = this.unmarshalRecord(targetClass, rows.apply(index), readOnly);
+			if (loadContext != null && record != null) {
+				((BaseObject) record).bindContext(loadContext);
+			}
+			return record;
+		});
+		if (loadContext != null) {
+			loadContext.bindRecords(recordList);
+		}
+		if (parallel || prefetch) {
+			recordList.decodeAll(parallel);
+		}
+		if (prefetch) {
+			loadContext.prefetch(tableConfig.getDefineClass());
+		}
+		return recordList;
 	}
 
 	/**
 	 * <h4 class="en-US">Generate cache data</h4>
 	 * <h4 class="zh-CN">生成缓存数据</h4>
+	 * <span class="en-US">The string is the Base64 encoded cache payload, using for cache provider which only stores strings</span>
+	 * <span class="zh-CN">字符串为Base64编码的缓存数据，用于仅能存储字符串的缓存适配器</span>
 	 *
 	 * @return <span class="en-US">Generated cache data string</span>
 	 * <span class="zh-CN">生成的缓存数据字符串</span>
 	 */
 	public String cacheData() {
-		StringBuilder stringBuilder = new StringBuilder();
-		this.resultList.stream()
-				.map(recordObject -> StringUtils.objectToString(recordObject, StringUtils.StringType.JSON, Boolean.FALSE))
-				.filter(StringUtils::notBlank)
-				.map(record -> StringUtils.base64Encode(ConvertUtils.toByteArray(record)))
-				.forEach(string -> stringBuilder.append(RECORD_SPLIT_CHARACTER).append(string));
-		Map<String, String> convertMap = new HashMap<>();
-		convertMap.put(DatabaseCommons.TOTAL_COUNT_KEY, Long.toHexString(this.totalCount));
-		convertMap.put(DatabaseCommons.RESULT_LIST_KEY,
-				stringBuilder.isEmpty() ? Globals.DEFAULT_VALUE_STRING : stringBuilder.substring(1));
-		return StringUtils.objectToString(convertMap, StringUtils.StringType.JSON, Boolean.TRUE);
+		ByteBuffer buffer = this.cacheBuffer();
+		byte[] dataBytes = new byte[buffer.remaining()];
+		buffer.get(dataBytes);
+		return StringUtils.base64Encode(dataBytes);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate cache payload</h4>
+	 * <h4 class="zh-CN">生成缓存数据</h4>
+	 * <span class="en-US">
+	 * The payload contains total count and the length-prefixed records. If all records belong to the same registered
+	 * entity class, the records will be encoded by entity binary codec, otherwise the records will be encoded as
+	 * JSON string. If current result was parsed from cache payload and not modified, the parsed payload is returned.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 缓存数据包含总记录数和带长度前缀的记录。如果所有记录属于同一个已注册的实体类，记录将使用实体二进制编解码器编码，
+	 * 否则记录将编码为JSON字符串。如果当前结果从缓存数据解析且未被修改，则返回解析的缓存数据。
+	 * </span>
+	 *
+	 * @return <span class="en-US">Cache payload buffer, position is zero</span>
+	 * <span class="zh-CN">缓存数据缓冲区，读取位置为零</span>
+	 */
+	public ByteBuffer cacheBuffer() {
+		if (this.encodedRecords != null && this.encodedRecords.totalCount() == this.totalCount) {
+			return this.encodedRecords.buffer();
+		}
+		this.materialize();
+		return EncodedRecords.encode(this.totalCount, this.columnarData.rowCount(), this.columnarData::row,
+				this.entityClass);
 	}
 
 	/**
@@ -203,9 +403,154 @@ public final class QueryResult extends BeanObject {
 	 *                     <span class="zh-CN">数据记录实例对象</span>
 	 */
 	public void addResult(@Nonnull final BaseObject recordObject) {
-		Optional.of(this.marshalRecord(recordObject))
-				.filter(StringUtils::notBlank)
-				.ifPresent(this.resultList::add);
+		this.materialize();
+		TableConfig tableConfig = EntityManager.tableConfig(recordObject.getClass());
+		this.recordEntity(tableConfig);
+		if (tableConfig == null) {
+			Optional.ofNullable(this.unmarshalMap(this.marshalRecord(recordObject)))
+					.ifPresent(dataMap -> this.columnarData.appendRow(dataMap, null));
+		} else {
+			Map<String, Object> dataMap = new LinkedHashMap<>();
+			tableConfig.getColumnConfigs()
+					.forEach(columnConfig ->
+							dataMap.put(columnConfig.getFieldName(),
+									FieldAccessor.getFieldValue(columnConfig.getFieldName(), recordObject)));
+			this.columnarData.appendRow(dataMap, tableConfig);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Add record data mapping table to current list</h4>
+	 * <h4 class="zh-CN">添加数据记录映射表到当前列表</h4>
+	 * <span class="en-US">The database client can add the record data without instantiate entity object</span>
+	 * <span class="zh-CN">数据库客户端可以在不实例化实体对象的情况下添加记录数据</span>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param dataMap     <span class="en-US">Record data mapping table, key is field name or item alias name</span>
+	 *                    <span class="zh-CN">数据记录映射表，键为属性名或查询项别名</span>
+	 */
+	public void addResult(@Nonnull final Class<?> entityClass, @Nonnull final Map<String, Object> dataMap) {
+		this.materialize();
+		TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+		this.recordEntity(tableConfig);
+		this.columnarData.appendRow(dataMap, tableConfig);
+	}
+
+	/**
+	 * <h4 class="en-US">Record the entity class of appending record</h4>
+	 * <h4 class="zh-CN">记录追加记录的实体类</h4>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information of appending record</span>
+	 *                    <span class="zh-CN">追加记录的数据表配置信息</span>
+	 */
+	private void recordEntity(final TableConfig tableConfig) {
+		Class<?> defineClass = Optional.ofNullable(tableConfig).map(TableConfig::getDefineClass).orElse(null);
+		if (this.columnarData.rowCount() == 0 || Objects.equals(this.entityClass, defineClass)) {
+			this.entityClass = defineClass;
+		} else {
+			this.entityClass = null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the record data mapping table of given row</h4>
+	 * <h4 class="zh-CN">获取给定行的记录数据映射表</h4>
+	 *
+	 * @param rowIndex <span class="en-US">Row index</span>
+	 *                 <span class="zh-CN">行索引</span>
+	 * @return <span class="en-US">Record data mapping table or <code>null</code> if encoded record data invalid</span>
+	 * <span class="zh-CN">记录数据映射表，如果编码的记录数据非法返回 <code>null</code></span>
+	 */
+	public Map<String, Object> row(final int rowIndex) {
+		return (this.encodedRecords == null) ? this.columnarData.row(rowIndex) : this.encodedRecords.row(rowIndex);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the first valid record data mapping table</h4>
+	 * <h4 class="zh-CN">获取第一条有效的记录数据映射表</h4>
+	 *
+	 * @return <span class="en-US">Record data mapping table or <code>null</code> if no valid record</span>
+	 * <span class="zh-CN">记录数据映射表，如果没有有效记录返回 <code>null</code></span>
+	 */
+	private Map<String, Object> firstRow() {
+		for (int i = 0; i < this.size(); i++) {
+			Map<String, Object> dataMap = this.row(i);
+			if (dataMap != null) {
+				return dataMap;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <h4 class="en-US">Decode all encoded records into the columnar record data before modifying</h4>
+	 * <h4 class="zh-CN">修改之前将所有编码的记录解码为列式记录数据</h4>
+	 */
+	private void materialize() {
+		if (this.encodedRecords == null) {
+			return;
+		}
+		EncodedRecords records = this.encodedRecords;
+		TableConfig tableConfig = EntityManager.tableConfig(records.entityClass());
+		this.encodedRecords = null;
+		this.columnarData = new ColumnarData();
+		this.entityClass = records.entityClass();
+		for (int i = 0; i < records.rowCount(); i++) {
+			Optional.ofNullable(records.row(i))
+					.ifPresent(dataMap -> this.columnarData.appendRow(dataMap, tableConfig));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Decode all encoded records before serializing</h4>
+	 * <h4 class="zh-CN">序列化之前解码所有编码的记录</h4>
+	 *
+	 * @param objectOutputStream <span class="en-US">Object output stream</span>
+	 *                           <span class="zh-CN">对象输出流</span>
+	 * @throws IOException <span class="en-US">If an I/O error occurs</span>
+	 *                     <span class="zh-CN">如果出现I/O异常</span>
+	 */
+	@Serial
+	private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+		this.materialize();
+		objectOutputStream.defaultWriteObject();
+	}
+
+	/**
+	 * <h4 class="en-US">Generate record list before marshalling to XML</h4>
+	 * <h4 class="zh-CN">序列化为XML之前生成记录列表</h4>
+	 *
+	 * @param marshaller <span class="en-US">Marshaller instance</span>
+	 *                   <span class="zh-CN">序列化器实例对象</span>
+	 */
+	private void beforeMarshal(final Marshaller marshaller) {
+		this.resultList = this.getResultList();
+	}
+
+	/**
+	 * <h4 class="en-US">Release record list after marshalling to XML</h4>
+	 * <h4 class="zh-CN">序列化为XML之后释放记录列表</h4>
+	 *
+	 * @param marshaller <span class="en-US">Marshaller instance</span>
+	 *                   <span class="zh-CN">序列化器实例对象</span>
+	 */
+	private void afterMarshal(final Marshaller marshaller) {
+		this.resultList = new ArrayList<>();
+	}
+
+	/**
+	 * <h4 class="en-US">Parse record list into columnar record data after unmarshalling from XML</h4>
+	 * <h4 class="zh-CN">从XML反序列化之后解析记录列表为列式记录数据</h4>
+	 *
+	 * @param unmarshaller <span class="en-US">Unmarshaller instance</span>
+	 *                     <span class="zh-CN">反序列化器实例对象</span>
+	 * @param parent       <span class="en-US">Parent object instance</span>
+	 *                     <span class="zh-CN">父对象实例</span>
+	 */
+	private void afterUnmarshal(final Unmarshaller unmarshaller, final Object parent) {
+		this.setResultList(this.resultList);
+		this.resultList = new ArrayList<>();
 	}
 
 	/**
@@ -225,19 +570,31 @@ public final class QueryResult extends BeanObject {
 	}
 
 	/**
-	 * <h4 class="en-US">Convert string to record data instance</h4>
-	 * <h4 class="zh-CN">转换字符串为数据记录实例对象</h4>
+	 * <h4 class="en-US">Convert record data mapping table to string</h4>
+	 * <h4 class="zh-CN">转换数据记录映射表为字符串</h4>
 	 *
-	 * @param <T>         <span class="en-US">Target entity class</span>
-	 *                    <span class="zh-CN">目标实体类</span>
-	 * @param targetClass <span class="en-US">Target entity class</span>
-	 *                    <span class="zh-CN">目标实体类</span>
-	 * @param string      <span class="en-US">Data record string</span>
-	 *                    <span class="zh-CN">数据记录字符串</span>
+	 * @param dataMap <span class="en-US">Data record mapping table</span>
+	 *                <span class="zh-CN">数据记录映射表</span>
 	 * @return <span class="en-US">Converted string</span>
 	 * <span class="zh-CN">转换后的字符串</span>
 	 */
-	private <T> T unmarshalRecord(@Nonnull Class<T> targetClass, @Nonnull final String string) {
+	private String marshalMap(@Nonnull final Map<String, Object> dataMap) {
+		return Optional.of(StringUtils.objectToString(dataMap, StringUtils.StringType.JSON, Boolean.FALSE))
+				.filter(StringUtils::notBlank)
+				.map(string -> StringUtils.base64Encode(ConvertUtils.toByteArray(string)))
+				.orElse(Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/**
+	 * <h4 class="en-US">Convert string to record data mapping table</h4>
+	 * <h4 class="zh-CN">转换字符串为数据记录映射表</h4>
+	 *
+	 * @param string <span class="en-US">Data record string</span>
+	 *               <span class="zh-CN">数据记录字符串</span>
+	 * @return <span class="en-US">Converted data mapping table or <code>null</code> if string is empty</span>
+	 * <span class="zh-CN">转换后的数据映射表，如果字符串为空返回 <code>null</code></span>
+	 */
+	private Map<String, Object> unmarshalMap(final String string) {
 		if (StringUtils.isEmpty(string)) {
 			return null;
 		}
@@ -245,45 +602,248 @@ public final class QueryResult extends BeanObject {
 				.filter(dataBytes -> dataBytes.length > 0)
 				.map(ConvertUtils::toString)
 				.map(content -> StringUtils.dataToMap(content, StringUtils.StringType.JSON))
-				.map(resultMap -> {
-					T record = ObjectUtils.newInstance(targetClass);
-					BeanUtils.copyData(resultMap, record);
-					return record;
-				})
 				.orElse(null);
 	}
 
+	/**
+	 * <h4 class="en-US">Convert record data mapping table to record data instance</h4>
+	 * <h4 class="zh-CN">转换数据记录映射表为数据记录实例对象</h4>
+	 * <span class="en-US">
+	 * The columns in mapping table will be marked as loaded even if the record is read only, including the columns
+	 * which value is <code>null</code>. The <code>null</code> values of lazy load columns are skipped, so the lazy
+	 * load columns which not fetched keep lazy loading.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 即使记录为只读，映射表中的数据列也将被标记为已加载，包括值为<code>null</code>的数据列。懒加载列的<code>null</code>值将被忽略，
+	 * 所以未获取的懒加载列保持懒加载。
+	 * </span>
+	 *
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param targetClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param resultMap   <span class="en-US">Data record mapping table</span>
+	 *                    <span class="zh-CN">数据记录映射表</span>
+	 * @param readOnly    <span class="en-US">Materialize record as read only</span>
+	 *                    <span class="zh-CN">以只读方式实例化记录</span>
+	 * @return <span class="en-US">Converted record instance or <code>null</code> if mapping table is null</span>
+	 * <span class="zh-CN">转换后的记录实例对象，如果映射表为 <code>null</code> 返回 <code>null</code></span>
+	 */
+	private <T> T unmarshalRecord(@Nonnull final Class<T> targetClass, final Map<String, Object> resultMap,
+	                              final boolean readOnly) {
+		if (resultMap == null) {
+			return null;
+		}
+		T record = ObjectUtils.newInstance(targetClass);
+		if (readOnly && record instanceof BaseObject) {
+			((BaseObject) record).markReadOnly();
+		}
+		TableConfig tableConfig = EntityManager.tableConfig(targetClass);
+		Map<String, Object> dataMap = new HashMap<>();
+		resultMap.forEach((key, value) -> {
+			if (value != null || !lazyColumn(tableConfig, key)) {
+				dataMap.put(key, value);
+			}
+		});
+		BeanUtils.copyData(dataMap, record);
+		if (record instanceof BaseObject) {
+			dataMap.keySet().forEach(((BaseObject) record)::loadField);
+		}
+		return record;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given column is lazy load column</h4>
+	 * <h4 class="zh-CN">检查给定的数据列是否为懒加载列</h4>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @param columnName  <span class="en-US">Column name</span>
+	 *                    <span class="zh-CN">数据列名</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean lazyColumn(final TableConfig tableConfig, final String columnName) {
+		return Optional.ofNullable(tableConfig)
+				.map(config -> config.columnConfig(columnName))
+				.map(ColumnConfig::isLazyLoad)
+				.orElse(Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the fetched reference field names from the item alias names of record</h4>
+	 * <h4 class="zh-CN">从记录的查询项别名中获取预加载的外键属性名</h4>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @param recordMap   <span class="en-US">First data record mapping table</span>
+	 *                    <span class="zh-CN">第一条数据记录映射表</span>
+	 * @return <span class="en-US">Fetched reference field name list</span>
+	 * <span class="zh-CN">预加载的外键属性名列表</span>
+	 */
+	private static List<String> fetchFields(final TableConfig tableConfig, final Map<String, Object> recordMap) {
+		List<String> fetchFields = new ArrayList<>();
+		if (tableConfig != null && !tableConfig.getReferenceConfigs().isEmpty()) {
+			Optional.ofNullable(recordMap)
+					.ifPresent(dataMap -> dataMap.keySet().forEach(key -> {
+						int index = key.indexOf(DatabaseCommons.FETCH_ALIAS_SEPARATOR);
+						if (index > 0) {
+							String fieldName = key.substring(0, index);
+							if (!fetchFields.contains(fieldName) && tableConfig.referenceConfig(fieldName) != null) {
+								fetchFields.add(fieldName);
+							}
+						}
+					}));
+		}
+		return fetchFields;
+	}
+
+	/**
+	 * <h4 class="en-US">Assemble the records and fetched references from joined record list</h4>
+	 * <h4 class="zh-CN">从关联后的记录列表中组装记录和预加载的外键数据</h4>
+	 * <span class="en-US">The records will be de-duplicated by primary key, the order of first occurrence is kept</span>
+	 * <span class="zh-CN">记录将按照主键去重，保持首次出现的顺序</span>
+	 *
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @param targetClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param recordMaps  <span class="en-US">Data record mapping table list</span>
+	 *                    <span class="zh-CN">数据记录映射表列表</span>
+	 * @param fetchFields <span class="en-US">Fetched reference field name list</span>
+	 *                    <span class="zh-CN">预加载的外键属性名列表</span>
+	 * @param readOnly    <span class="en-US">Materialize records as read only</span>
+	 *                    <span class="zh-CN">以只读方式实例化记录</span>
+	 * @return <span class="en-US">Assembled record list</span>
+	 * <span class="zh-CN">组装后的记录列表</span>
+	 */
+	private <T> List<T> assembleRecords(@Nonnull final TableConfig tableConfig, @Nonnull final Class<T> targetClass,
+	                                    @Nonnull final List<Map<String, Object>> recordMaps,
+	                                    @Nonnull final List<String> fetchFields, final boolean readOnly) {
+		Map<Object, T> records = new LinkedHashMap<>();
+		Map<Object, Map<String, Map<Object, Object>>> references = new HashMap<>();
+		for (int i = 0; i < recordMaps.size(); i++) {
+			Map<String, Object> recordMap = recordMaps.get(i);
+			if (recordMap == null) {
+				continue;
+			}
+			Map<String, Object> dataMap = new HashMap<>();
+			Map<String, Map<String, Object>> fetchMaps = new HashMap<>();
+			recordMap.forEach((key, value) -> {
+				int index = key.indexOf(DatabaseCommons.FETCH_ALIAS_SEPARATOR);
+				if (index > 0 && fetchFields.contains(key.substring(0, index))) {
+					fetchMaps.computeIfAbsent(key.substring(0, index), fieldName -> new HashMap<>())
+							.put(key.substring(index + DatabaseCommons.FETCH_ALIAS_SEPARATOR.length()), value);
+				} else {
+					dataMap.put(key, value);
+				}
+			});
+			T record = this.unmarshalRecord(targetClass, dataMap, readOnly);
+			Object recordKey = recordKey(record, i);
+			records.putIfAbsent(recordKey, record);
+			Map<String, Map<Object, Object>> referenceMap =
+					references.computeIfAbsent(recordKey, key -> new HashMap<>());
+			for (String fieldName : fetchFields) {
+				Map<Object, Object> referenceRecords =
+						referenceMap.computeIfAbsent(fieldName, key -> new LinkedHashMap<>());
+				Map<String, Object> fetchMap = fetchMaps.get(fieldName);
+				if (fetchMap != null && fetchMap.values().stream().anyMatch(Objects::nonNull)) {
+					Object referenceRecord = this.unmarshalRecord(
+							tableConfig.referenceConfig(fieldName).getReferenceClass(), fetchMap, readOnly);
+					referenceRecords.putIfAbsent(recordKey(referenceRecord, referenceRecords.size()),
+							referenceRecord);
+				}
+			}
+		}
+
+		FieldAccessor fieldAccessor = FieldAccessor.accessor(targetClass);
+		records.forEach((recordKey, record) -> {
+			Map<String, Map<Object, Object>> referenceMap = references.get(recordKey);
+			for (String fieldName : fetchFields) {
+				ReferenceConfig<?> referenceConfig = tableConfig.referenceConfig(fieldName);
+				List<Object> referenceList = new ArrayList<>(referenceMap.get(fieldName).values());
+				Object fieldValue;
+				if (referenceConfig.isReturnArray()) {
+					int ordinal = fieldAccessor.ordinal(fieldName);
+					fieldValue = (ordinal >= 0 && fieldAccessor.fieldType(ordinal).isArray())
+							? referenceList.toArray(ObjectUtils.newArray(referenceConfig.getReferenceClass()))
+							: referenceList;
+				} else {
+					fieldValue = referenceList.isEmpty() ? null : referenceList.get(0);
+				}
+				FieldAccessor.setField(fieldName, record, fieldValue);
+				if (record instanceof BaseObject) {
+					((BaseObject) record).loadField(fieldName);
+				}
+			}
+		});
+		return new ArrayList<>(records.values());
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the de-duplicate key of record</h4>
+	 * <h4 class="zh-CN">生成记录的去重键值</h4>
+	 * <span class="en-US">
+	 * If the entity class not registered or primary key columns were not queried, the given index will be used,
+	 * so the records without primary key values will not be merged
+	 * </span>
+	 * <span class="zh-CN">如果实体类未注册或主键列未被查询，将使用给定的索引值，所以没有主键值的记录不会被合并</span>
+	 *
+	 * @param record <span class="en-US">Record instance</span>
+	 *               <span class="zh-CN">记录实例对象</span>
+	 * @param index  <span class="en-US">Record index</span>
+	 *               <span class="zh-CN">记录索引</span>
+	 * @return <span class="en-US">Primary key value or record index</span>
+	 * <span class="zh-CN">主键值或记录索引</span>
+	 */
+	private static Object recordKey(final Object record, final int index) {
+		return Optional.ofNullable(PrimaryKey.newInstance(record))
+				.filter(primaryKey -> !primaryKey.isEmpty())
+				.map(Object.class::cast)
+				.orElse(index);
+	}
+
 	/**
 	 * <h4 class="en-US">Static method for parse cache data string and generate PartialCollection instance</h4>
 	 * <h4 class="zh-CN">静态方法用于解析缓存数据字符串并生成查询结果部分集合实例对象</h4>
 	 *
 	 * @param cacheData <span class="en-US">Cache data string</span>
 	 *                  <span class="zh-CN">缓存数据字符串</span>
-	 * @return <span class="en-US">Generated PartialCollection instance</span>
-	 * <span class="zh-CN">生成的查询结果部分集合实例对象</span>
+	 * @return <span class="en-US">Generated PartialCollection instance or <code>null</code> if cache data invalid</span>
+	 * <span class="zh-CN">生成的查询结果部分集合实例对象，如果缓存数据非法返回 <code>null</code></span>
 	 */
 	public static QueryResult parse(final String cacheData) {
 		if (StringUtils.isEmpty(cacheData)) {
 			return null;
 		}
+		return parse(ByteBuffer.wrap(StringUtils.base64Decode(cacheData)));
+	}
 
-		Map<String, Object> convertMap = StringUtils.dataToMap(cacheData, StringUtils.StringType.JSON);
-		if (convertMap.isEmpty()) {
-			return null;
-		}
-		String totalCount = (String) convertMap.get(DatabaseCommons.TOTAL_COUNT_KEY);
-		String dataList = (String) convertMap.get(DatabaseCommons.RESULT_LIST_KEY);
-
-		List<String> resultList = new ArrayList<>();
-		Arrays.stream(StringUtils.tokenizeToStringArray(dataList, RECORD_SPLIT_CHARACTER))
-				.map(record -> ConvertUtils.toString(StringUtils.base64Decode(record)))
-				.filter(StringUtils::notBlank)
-				.forEach(resultList::add);
-
-		QueryResult queryResult = new QueryResult();
-		queryResult.setTotalCount(Long.parseLong(totalCount, 16));
-		queryResult.setResultList(resultList);
-
-		return queryResult;
+	/**
+	 * <h4 class="en-US">Static method for parse cache payload and generate PartialCollection instance</h4>
+	 * <h4 class="zh-CN">静态方法用于解析缓存数据并生成查询结果部分集合实例对象</h4>
+	 * <span class="en-US">
+	 * The payload buffer is shared without copying, the records are decoded on first access.
+	 * Payload which written by other format or of unregistered entity class is treated as cache miss.
+	 * </span>
+	 * <span class="zh-CN">缓存数据缓冲区不经复制直接共享，记录在首次访问时解码。其他格式或未注册实体类的缓存数据视为缓存未命中。</span>
+	 *
+	 * @param buffer <span class="en-US">Cache payload buffer</span>
+	 *               <span class="zh-CN">缓存数据缓冲区</span>
+	 * @return <span class="en-US">Generated PartialCollection instance or <code>null</code> if cache payload invalid</span>
+	 * <span class="zh-CN">生成的查询结果部分集合实例对象，如果缓存数据非法返回 <code>null</code></span>
+	 */
+	public static QueryResult parse(final ByteBuffer buffer) {
+		return Optional.ofNullable(EncodedRecords.parse(buffer))
+				.map(encodedRecords -> {
+					QueryResult queryResult = new QueryResult();
+					queryResult.setTotalCount(encodedRecords.totalCount());
+					queryResult.entityClass = encodedRecords.entityClass();
+					queryResult.encodedRecords = encodedRecords;
+					return queryResult;
+				})
+				.orElse(null);
 	}
 }
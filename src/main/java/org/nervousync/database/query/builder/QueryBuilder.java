@@ -24,7 +24,9 @@ import org.nervousync.database.annotations.query.ResultData;
 import org.nervousync.database.annotations.query.ResultSet;
 import org.nervousync.database.annotations.query.join.JoinEntities;
 import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.reference.ReferenceConfig;
 import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.commons.DatabaseCommons;
 import org.nervousync.database.entity.EntityManager;
 import org.nervousync.database.enumerations.join.JoinType;
 import org.nervousync.database.enumerations.lock.LockOption;
@@ -35,6 +37,7 @@ import org.nervousync.database.query.core.AbstractItem;
 import org.nervousync.database.query.core.SortedItem;
 import org.nervousync.database.query.filter.GroupBy;
 import org.nervousync.database.query.filter.OrderBy;
+import org.nervousync.database.query.item.ColumnItem;
 import org.nervousync.database.query.join.JoinInfo;
 import org.nervousync.database.query.join.QueryJoin;
 import org.nervousync.database.query.param.AbstractParameter;
@@ -116,6 +119,16 @@ public final class QueryBuilder implements Builder<QueryInfo> {
 	 * <span class="zh-CN">查询记录锁定选项</span>
 	 */
 	private LockOption lockOption = LockOption.NONE;
+	/**
+	 * <span class="en-US">Fetch plan field name list of driven table entity</span>
+	 * <span class="zh-CN">驱动表实体的预加载属性名列表</span>
+	 */
+	private final List<String> fetchFields;
+	/**
+	 * <span class="en-US">Field name list of fetch plan which query items and join tables were added</span>
+	 * <span class="zh-CN">已添加查询项和关联表的预加载属性名列表</span>
+	 */
+	private final List<String> appliedFields;
 
 	/**
 	 * <h4 class="en-US">Private constructor method for querying information builder</h4>
@@ -131,6 +144,8 @@ public final class QueryBuilder implements Builder<QueryInfo> {
 		this.conditionList = new ArrayList<>();
 		this.orderByList = new ArrayList<>();
 		this.groupByList = new ArrayList<>();
+		this.fetchFields = new ArrayList<>();
+		this.appliedFields = new ArrayList<>();
 	}
 
 	/**
@@ -391,6 +406,7 @@ public final class QueryBuilder implements Builder<QueryInfo> {
 				this.addColumn(this.mainEntity, columnConfig.columnName(), columnConfig.getFieldName());
 			}
 		}
+		this.applyFetchPlan();
 
 		queryInfo.setIdentifyName(this.identifyName);
 		queryInfo.setMainEntity(this.mainEntity);
@@ -406,6 +422,7 @@ public final class QueryBuilder implements Builder<QueryInfo> {
 
 		queryInfo.setPageNo(this.pageNo);
 		queryInfo.setPageLimit(this.pageLimit);
+		queryInfo.setFetchFields(this.fetchFields);
 
 		return queryInfo;
 	}
@@ -700,6 +717,99 @@ public final class QueryBuilder implements Builder<QueryInfo> {
 		return this;
 	}
 
+	/**
+	 * <h4 class="en-US">Add fields of driven table entity to the fetch plan</h4>
+	 * <h4 class="zh-CN">添加驱动表实体的属性到预加载计划</h4>
+	 * <span class="en-US">
+	 * The lazy load columns will be added to the query items, the references will be joined by left join,
+	 * and the columns of reference entity will be added to the query items with alias name
+	 * "field name" + "__" + "reference field name", the query result will assemble the references
+	 * and de-duplicate the records by primary key. Self references will keep lazy loading.
+	 * Notice: the page limit applies to the joined rows when fetching one-to-many references.
+	 * </span>
+	 * <span class="zh-CN">
+	 * 懒加载的数据列将被添加到查询项中，外键将使用左连接进行关联，外键实体的数据列将以别名“属性名” + “__” + “外键属性名”添加到查询项中，
+	 * 查询结果将组装外键数据并按照主键对记录进行去重。自关联的外键将保持懒加载。
+	 * 注意：预加载一对多外键时，分页限制作用于关联后的数据行。
+	 * </span>
+	 *
+	 * @param fieldNames <span class="en-US">Field name array</span>
+	 *                   <span class="zh-CN">属性名数组</span>
+	 * @return <span class="en-US">Current builder instance</span>
+	 * <span class="zh-CN">当前构建器实例对象</span>
+	 * @throws BuilderException <span class="en-US">If the driver table entity class is not registered or field not found</span>
+	 *                          <span class="zh-CN">如果驱动表实体类未注册或属性未找到</span>
+	 */
+	public QueryBuilder fetch(final String... fieldNames) throws BuilderException {
+		TableConfig tableConfig = Optional.ofNullable(EntityManager.tableConfig(this.mainEntity))
+				.orElseThrow(() -> new BuilderException(0x00DB00000001L));
+		for (String fieldName : fieldNames) {
+			if (tableConfig.isColumn(fieldName)) {
+				if (!tableConfig.lazyLoad(fieldName)) {
+					continue;
+				}
+			} else if (Optional.ofNullable(tableConfig.referenceConfig(fieldName))
+					.map(referenceConfig -> this.mainEntity.equals(referenceConfig.getReferenceClass()))
+					.orElseThrow(() -> new BuilderException(0x00DB00000002L))) {
+				continue;
+			}
+			if (!this.fetchFields.contains(fieldName)) {
+				this.fetchFields.add(fieldName);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * <h4 class="en-US">Add the query items and join tables of fetch plan</h4>
+	 * <h4 class="zh-CN">添加预加载计划的查询项和关联表</h4>
+	 * <span class="en-US">
+	 * The primary key columns of driven table will be added to the query items for de-duplicate the records,
+	 * each field of fetch plan only applied once, so the method can be invoked repeatedly.
+	 * </span>
+	 * <span class="zh-CN">驱动表的主键列将被添加到查询项中用于记录去重，预加载计划的每个属性只应用一次，所以此方法可以重复调用。</span>
+	 *
+	 * @throws BuilderException <span class="en-US">If the driver table entity class is not registered or column not found</span>
+	 *                          <span class="zh-CN">如果驱动表实体类未注册或数据列未找到</span>
+	 */
+	private void applyFetchPlan() throws BuilderException {
+		if (this.fetchFields.isEmpty()) {
+			return;
+		}
+		TableConfig tableConfig = Optional.ofNullable(EntityManager.tableConfig(this.mainEntity))
+				.orElseThrow(() -> new BuilderException(0x00DB00000001L));
+		for (ColumnConfig columnConfig : tableConfig.primaryKeyColumns()) {
+			if (!this.containsColumn(tableConfig, columnConfig)) {
+				this.addItem(AbstractItem.column(this.mainEntity, columnConfig));
+			}
+		}
+		for (String fieldName : this.fetchFields) {
+			if (this.appliedFields.contains(fieldName)) {
+				continue;
+			}
+			this.appliedFields.add(fieldName);
+			if (tableConfig.isColumn(fieldName)) {
+				ColumnConfig columnConfig = tableConfig.columnConfig(fieldName);
+				if (!this.containsColumn(tableConfig, columnConfig)) {
+					this.addItem(AbstractItem.column(this.mainEntity, columnConfig));
+				}
+				continue;
+			}
+			ReferenceConfig<?> referenceConfig = tableConfig.referenceConfig(fieldName);
+			Class<?> referenceClass = referenceConfig.getReferenceClass();
+			List<JoinInfo> joinInfos = new ArrayList<>();
+			referenceConfig.getJoinColumnList()
+					.forEach(joinConfig -> joinInfos.add(JoinInfo.newInstance(joinConfig)));
+			this.joinTable(this.mainEntity, JoinType.LEFT, referenceClass, joinInfos);
+			for (ColumnConfig columnConfig : columnConfigs(referenceClass)) {
+				if (!columnConfig.isLazyLoad()) {
+					this.addItem(AbstractItem.column(referenceClass, columnConfig.columnName(),
+							fieldName + DatabaseCommons.FETCH_ALIAS_SEPARATOR + columnConfig.getFieldName()));
+				}
+			}
+		}
+	}
+
 	/**
 	 * <h4 class="en-US">Add a query condition greater than a certain value</h4>
 	 * <h4 class="zh-CN">添加大于某值的查询条件</h4>
@@ -3491,6 +3601,16 @@ public final class QueryBuilder implements Builder<QueryInfo> {
 				.orElseThrow(() -> new BuilderException(0x00DB00000001L));
 	}
 
+	private boolean containsColumn(final TableConfig tableConfig, final ColumnConfig columnConfig) {
+		return this.itemList.stream()
+				.filter(abstractItem -> abstractItem instanceof ColumnItem)
+				.map(ColumnItem.class::cast)
+				.filter(columnItem -> ObjectUtils.nullSafeEquals(this.mainEntity, columnItem.getEntityClass()))
+				.map(columnItem -> tableConfig.columnConfig(columnItem.getIdentifyKey()))
+				.anyMatch(existConfig -> existConfig != null
+						&& ObjectUtils.nullSafeEquals(existConfig.getFieldName(), columnConfig.getFieldName()));
+	}
+
 	private void addItem(final AbstractItem abstractItem) {
 		if (abstractItem == null) {
 			return;
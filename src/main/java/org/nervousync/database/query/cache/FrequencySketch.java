@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query.cache;
+
+/**
+ * <h2 class="en-US">Access frequency sketch</h2>
+ * <h2 class="zh-CN">访问频率草图</h2>
+ * <span class="en-US">
+ * Count-min sketch with four 4-bit counters of each item, the frequency is the minimum value of counters,
+ * so the maximum frequency is 15. All counters are halved when the increment count reaches the sample size,
+ * the old frequencies will be aged. The sketch is not thread safe, the caller must guard it.
+ * </span>
+ * <span class="zh-CN">
+ * 每个元素使用四个4位计数器的Count-Min草图，频率为计数器中的最小值，因此最大频率为15。当递增次数达到采样大小时所有计数器减半，
+ * 使旧的频率老化。草图不是线程安全的，调用者必须进行保护。
+ * </span>
+ * <span class="en-US">
+ * Derived from the FrequencySketch of Caffeine (https://github.com/ben-manes/caffeine), Copyright 2015 Ben Manes,
+ * licensed under the Apache License, Version 2.0. The hash seeds, the reset mask and the aging arithmetic are kept,
+ * see the NOTICE file for attribution.
+ * </span>
+ * <span class="zh-CN">
+ * 派生自Caffeine（https://github.com/ben-manes/caffeine）的FrequencySketch，版权所有 2015 Ben Manes，
+ * 基于Apache License 2.0许可。保留了哈希种子、重置掩码和老化算法，署名信息参见NOTICE文件。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 21:41:27 $
+ */
+final class FrequencySketch {
+
+	/**
+	 * <span class="en-US">Hash seeds of each counter</span>
+	 * <span class="zh-CN">每个计数器的哈希种子</span>
+	 */
+	private static final long[] SEEDS =
+			{0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+	/**
+	 * <span class="en-US">Mask for halving all counters in a slot</span>
+	 * <span class="zh-CN">将槽中所有计数器减半的掩码</span>
+	 */
+	private static final long RESET_MASK = 0x7777777777777777L;
+	/**
+	 * <span class="en-US">Mask of the lowest bit of all counters in a slot</span>
+	 * <span class="zh-CN">槽中所有计数器最低位的掩码</span>
+	 */
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	/**
+	 * <span class="en-US">Counter slots, each slot contains sixteen 4-bit counters</span>
+	 * <span class="zh-CN">计数器槽，每个槽包含十六个4位计数器</span>
+	 */
+	private final long[] table;
+	/**
+	 * <span class="en-US">Mask of slot index</span>
+	 * <span class="zh-CN">槽索引掩码</span>
+	 */
+	private final int tableMask;
+	/**
+	 * <span class="en-US">Increment count which triggers counters aging</span>
+	 * <span class="zh-CN">触发计数器老化的递增次数</span>
+	 */
+	private final int sampleSize;
+	/**
+	 * <span class="en-US">Current increment count</span>
+	 * <span class="zh-CN">当前递增次数</span>
+	 */
+	private int size = 0;
+
+	/**
+	 * <h4 class="en-US">Constructor method for access frequency sketch</h4>
+	 * <h4 class="zh-CN">访问频率草图的构造方法</h4>
+	 *
+	 * @param expectedSize <span class="en-US">Expected item count</span>
+	 *                     <span class="zh-CN">预期的元素数</span>
+	 */
+	FrequencySketch(final int expectedSize) {
+		int length = Integer.highestOneBit(Math.max(expectedSize, 16) - 1) << 1;
+		this.table = new long[length];
+		this.tableMask = length - 1;
+		this.sampleSize = 10 * length;
+	}
+
+	/**
+	 * <h4 class="en-US">Estimate the access frequency of given hash code</h4>
+	 * <h4 class="zh-CN">估算给定哈希值的访问频率</h4>
+	 *
+	 * @param hashCode <span class="en-US">Item hash code</span>
+	 *                 <span class="zh-CN">元素哈希值</span>
+	 * @return <span class="en-US">Estimated frequency, range from 0 to 15</span>
+	 * <span class="zh-CN">估算的频率，范围从0到15</span>
+	 */
+	int frequency(final int hashCode) {
+		int hash = spread(hashCode);
+		int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			long value = this.table[this.indexOf(hash, i)] >>> ((start + i) << 2);
+			frequency = Math.min(frequency, (int) (value & 0xFL));
+		}
+		return frequency;
+	}
+
+	/**
+	 * <h4 class="en-US">Increase the access frequency of given hash code</h4>
+	 * <h4 class="zh-CN">增加给定哈希值的访问频率</h4>
+	 *
+	 * @param hashCode <span class="en-US">Item hash code</span>
+	 *                 <span class="zh-CN">元素哈希值</span>
+	 */
+	void increment(final int hashCode) {
+		int hash = spread(hashCode);
+		int start = (hash & 3) << 2;
+		boolean added = Boolean.FALSE;
+		for (int i = 0; i < 4; i++) {
+			added |= this.incrementAt(this.indexOf(hash, i), start + i);
+		}
+		if (added && ++this.size >= this.sampleSize) {
+			this.reset();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Increase the counter in given slot, the counter will not overflow</h4>
+	 * <h4 class="zh-CN">增加给定槽中的计数器，计数器不会溢出</h4>
+	 *
+	 * @param index   <span class="en-US">Slot index</span>
+	 *                <span class="zh-CN">槽索引</span>
+	 * @param counter <span class="en-US">Counter index in slot, range from 0 to 15</span>
+	 *                <span class="zh-CN">槽中的计数器索引，范围从0到15</span>
+	 * @return <span class="en-US"><code>true</code> if the counter was increased</span>
+	 * <span class="zh-CN">如果计数器已增加返回 <code>true</code></span>
+	 */
+	private boolean incrementAt(final int index, final int counter) {
+		int offset = counter << 2;
+		long mask = 0xFL << offset;
+		if ((this.table[index] & mask) != mask) {
+			this.table[index] += 1L << offset;
+			return Boolean.TRUE;
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Halve all counters for aging the frequencies</h4>
+	 * <h4 class="zh-CN">将所有计数器减半以老化频率</h4>
+	 */
+	private void reset() {
+		int count = 0;
+		for (int i = 0; i < this.table.length; i++) {
+			count += Long.bitCount(this.table[i] & ONE_MASK);
+			this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+		}
+		this.size = (this.size >>> 1) - (count >>> 2);
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the slot index of given counter</h4>
+	 * <h4 class="zh-CN">计算给定计数器的槽索引</h4>
+	 *
+	 * @param hash  <span class="en-US">Spread hash code</span>
+	 *              <span class="zh-CN">扩散后的哈希值</span>
+	 * @param index <span class="en-US">Counter index, range from 0 to 3</span>
+	 *              <span class="zh-CN">计数器索引，范围从0到3</span>
+	 * @return <span class="en-US">Slot index</span>
+	 * <span class="zh-CN">槽索引</span>
+	 */
+	private int indexOf(final int hash, final int index) {
+		long hashCode = (hash + SEEDS[index]) * SEEDS[index];
+		hashCode += (hashCode >>> 32);
+		return ((int) hashCode) & this.tableMask;
+	}
+
+	/**
+	 * <h4 class="en-US">Spread the hash code to protect against the poor quality hash</h4>
+	 * <h4 class="zh-CN">扩散哈希值以避免低质量的哈希</h4>
+	 *
+	 * @param hashCode <span class="en-US">Original hash code</span>
+	 *                 <span class="zh-CN">原始哈希值</span>
+	 * @return <span class="en-US">Spread hash code</span>
+	 * <span class="zh-CN">扩散后的哈希值</span>
+	 */
+	private static int spread(final int hashCode) {
+		int hash = ((hashCode >>> 16) ^ hashCode) * 0x45D9F3B;
+		hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+		return (hash >>> 16) ^ hash;
+	}
+}
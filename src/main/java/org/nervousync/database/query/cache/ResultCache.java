@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query.cache;
+
+import jakarta.annotation.Nonnull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <h2 class="en-US">Query result cache define</h2>
+ * <h2 class="zh-CN">查询结果缓存定义</h2>
+ * <span class="en-US">
+ * The cache stores the binary payload generated by QueryResult.cacheBuffer(), each cached entry belongs to the
+ * data tables which the query reads. Modifying any data table will invalidate all entries belong to it.
+ * Each data table maintains a version which increased when invalidating, the payload queried before the
+ * invalidation will be discarded when storing.
+ * </span>
+ * <span class="zh-CN">
+ * 缓存存储 QueryResult.cacheBuffer() 生成的二进制数据，每个缓存条目归属于查询所读取的数据表。修改任意数据表将使归属于该数据表的所有条目失效。
+ * 每个数据表维护一个在失效时递增的版本号，在失效之前查询的数据将在存储时被丢弃。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 21:36:52 $
+ */
+public interface ResultCache {
+
+	/**
+	 * <h4 class="en-US">Retrieve the cached payload by given cache key</h4>
+	 * <h4 class="zh-CN">根据给定的缓存键读取缓存的数据</h4>
+	 * <span class="en-US">The returned buffer shares the cached content, the content must not be modified.</span>
+	 * <span class="zh-CN">返回的缓冲区共享缓存的内容，不能修改其内容。</span>
+	 *
+	 * @param cacheKey <span class="en-US">Cache key</span>
+	 *                 <span class="zh-CN">缓存键</span>
+	 * @return <span class="en-US">Cached payload or <code>null</code> if not found</span>
+	 * <span class="zh-CN">缓存的数据，如果未找到返回 <code>null</code></span>
+	 */
+	ByteBuffer retrieve(@Nonnull final Object cacheKey);
+
+	/**
+	 * <h4 class="en-US">Read the current version of given data tables</h4>
+	 * <h4 class="zh-CN">读取给定数据表的当前版本号</h4>
+	 * <span class="en-US">The version must be read before querying the records from database</span>
+	 * <span class="zh-CN">必须在从数据库中查询记录之前读取版本号</span>
+	 *
+	 * @param tableKeys <span class="en-US">Data table keys</span>
+	 *                  <span class="zh-CN">数据表键</span>
+	 * @return <span class="en-US">Current version</span>
+	 * <span class="zh-CN">当前版本号</span>
+	 */
+	long version(final String... tableKeys);
+
+	/**
+	 * <h4 class="en-US">Store the payload by given cache key</h4>
+	 * <h4 class="zh-CN">根据给定的缓存键存储数据</h4>
+	 * <span class="en-US">
+	 * The payload will be discarded if the version of given data tables was changed,
+	 * or rejected by the admission policy.
+	 * </span>
+	 * <span class="zh-CN">如果给定数据表的版本号已改变，或被准入策略拒绝，数据将被丢弃。</span>
+	 * <span class="en-US">The content of payload buffer must not be modified after storing.</span>
+	 * <span class="zh-CN">存储之后不能修改数据缓冲区的内容。</span>
+	 *
+	 * @param cacheKey    <span class="en-US">Cache key</span>
+	 *                    <span class="zh-CN">缓存键</span>
+	 * @param cacheBuffer <span class="en-US">Payload buffer</span>
+	 *                    <span class="zh-CN">数据缓冲区</span>
+	 * @param version     <span class="en-US">Version which read before querying</span>
+	 *                    <span class="zh-CN">查询之前读取的版本号</span>
+	 * @param tableKeys   <span class="en-US">Data table keys which the query reads</span>
+	 *                    <span class="zh-CN">查询读取的数据表键</span>
+	 */
+	void store(@Nonnull final Object cacheKey, @Nonnull final ByteBuffer cacheBuffer, final long version,
+	           final String... tableKeys);
+
+	/**
+	 * <h4 class="en-US">Invalidate all entries belong to the given data tables</h4>
+	 * <h4 class="zh-CN">使归属于给定数据表的所有条目失效</h4>
+	 *
+	 * @param tableKeys <span class="en-US">Data table keys</span>
+	 *                  <span class="zh-CN">数据表键</span>
+	 */
+	void invalidate(final String... tableKeys);
+
+	/**
+	 * <h4 class="en-US">Remove all cached entries</h4>
+	 * <h4 class="zh-CN">移除所有缓存的条目</h4>
+	 */
+	void clear();
+
+	/**
+	 * <h4 class="en-US">Retrieve the cached entry count</h4>
+	 * <h4 class="zh-CN">获取缓存的条目数</h4>
+	 *
+	 * @return <span class="en-US">Cached entry count</span>
+	 * <span class="zh-CN">缓存的条目数</span>
+	 */
+	int size();
+
+	/**
+	 * <h4 class="en-US">Retrieve the weighted size in bytes of cached entries</h4>
+	 * <h4 class="zh-CN">获取缓存条目的加权大小（字节）</h4>
+	 *
+	 * @return <span class="en-US">Weighted size</span>
+	 * <span class="zh-CN">加权大小</span>
+	 */
+	long weightedSize();
+
+	/**
+	 * <h4 class="en-US">Retrieve the cache hit count</h4>
+	 * <h4 class="zh-CN">获取缓存命中次数</h4>
+	 *
+	 * @return <span class="en-US">Cache hit count</span>
+	 * <span class="zh-CN">缓存命中次数</span>
+	 */
+	long hitCount();
+
+	/**
+	 * <h4 class="en-US">Retrieve the cache miss count</h4>
+	 * <h4 class="zh-CN">获取缓存未命中次数</h4>
+	 *
+	 * @return <span class="en-US">Cache miss count</span>
+	 * <span class="zh-CN">缓存未命中次数</span>
+	 */
+	long missCount();
+
+	/**
+	 * <h4 class="en-US">Retrieve the count of entries evicted by size limit</h4>
+	 * <h4 class="zh-CN">获取因容量限制被淘汰的条目数</h4>
+	 *
+	 * @return <span class="en-US">Eviction count</span>
+	 * <span class="zh-CN">淘汰的条目数</span>
+	 */
+	long evictionCount();
+}
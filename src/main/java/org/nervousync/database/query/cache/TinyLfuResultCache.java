@@ -0,0 +1,554 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query.cache;
+
+import jakarta.annotation.Nonnull;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2 class="en-US">W-TinyLFU query result cache</h2>
+ * <h2 class="zh-CN">W-TinyLFU查询结果缓存</h2>
+ * <span class="en-US">
+ * The cache is bounded by the weighted size in bytes. New entries are added to an LRU admission window which
+ * takes 1% of the maximum weight, the entries overflowed from the window become candidates of the segmented LRU
+ * main space, which contains a probation segment and a protected segment takes 80% of the main space.
+ * When the cache exceeds the maximum weight, the candidate is admitted only if its access frequency estimated by
+ * the count-min sketch is greater than the frequency of the probation victim.
+ * Reading is lock free, the access is recorded only if the policy lock is not contended.
+ * </span>
+ * <span class="zh-CN">
+ * 缓存以字节为单位的加权大小为上限。新条目加入占最大权重1%的LRU准入窗口，从窗口溢出的条目成为分段LRU主空间的候选条目，
+ * 主空间包含考察段和占主空间80%的保护段。当缓存超过最大权重时，只有通过Count-Min草图估算的访问频率大于考察段淘汰条目的频率时，
+ * 候选条目才会被准入。读取操作是无锁的，只有在策略锁未被争用时才会记录访问。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 21:48:05 $
+ */
+public final class TinyLfuResultCache implements ResultCache {
+
+	/**
+	 * <span class="en-US">Default maximum weight, 64MB</span>
+	 * <span class="zh-CN">默认的最大权重，64MB</span>
+	 */
+	public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024L * 1024L;
+	/**
+	 * <span class="en-US">Estimated memory overhead in bytes of each entry</span>
+	 * <span class="zh-CN">每个条目估算的内存开销（字节）</span>
+	 */
+	private static final int ENTRY_OVERHEAD = 128;
+	/**
+	 * <span class="en-US">Estimated average weight of entries, using for sizing the frequency sketch</span>
+	 * <span class="zh-CN">估算的条目平均权重，用于确定频率草图的大小</span>
+	 */
+	private static final int AVERAGE_WEIGHT = 4096;
+	/**
+	 * <span class="en-US">Maximum item count of frequency sketch</span>
+	 * <span class="zh-CN">频率草图的最大元素数</span>
+	 */
+	private static final int MAXIMUM_SKETCH_SIZE = 1 << 22;
+
+	/**
+	 * <span class="en-US">Maximum weight of cache</span>
+	 * <span class="zh-CN">缓存的最大权重</span>
+	 */
+	private final long maximumWeight;
+	/**
+	 * <span class="en-US">Maximum weight of admission window</span>
+	 * <span class="zh-CN">准入窗口的最大权重</span>
+	 */
+	private final long windowMaximum;
+	/**
+	 * <span class="en-US">Maximum weight of protected segment</span>
+	 * <span class="zh-CN">保护段的最大权重</span>
+	 */
+	private final long protectedMaximum;
+	/**
+	 * <span class="en-US">Cached entries, key is cache key</span>
+	 * <span class="zh-CN">缓存的条目，键为缓存键</span>
+	 */
+	private final Map<Object, CacheNode> cacheNodes = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Data table versions</span>
+	 * <span class="zh-CN">数据表版本号</span>
+	 */
+	private final Map<String, Long> tableVersions = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Cached entries of data tables, guarded by policy lock</span>
+	 * <span class="zh-CN">数据表的缓存条目，由策略锁保护</span>
+	 */
+	private final Map<String, Set<CacheNode>> tableNodes = new HashMap<>();
+	/**
+	 * <span class="en-US">Access frequency sketch, guarded by policy lock</span>
+	 * <span class="zh-CN">访问频率草图，由策略锁保护</span>
+	 */
+	private final FrequencySketch frequencySketch;
+	/**
+	 * <span class="en-US">Policy lock</span>
+	 * <span class="zh-CN">策略锁</span>
+	 */
+	private final ReentrantLock policyLock = new ReentrantLock();
+	/**
+	 * <span class="en-US">Admission window queue</span>
+	 * <span class="zh-CN">准入窗口队列</span>
+	 */
+	private final AccessQueue windowQueue = new AccessQueue();
+	/**
+	 * <span class="en-US">Probation segment queue</span>
+	 * <span class="zh-CN">考察段队列</span>
+	 */
+	private final AccessQueue probationQueue = new AccessQueue();
+	/**
+	 * <span class="en-US">Protected segment queue</span>
+	 * <span class="zh-CN">保护段队列</span>
+	 */
+	private final AccessQueue protectedQueue = new AccessQueue();
+	/**
+	 * <span class="en-US">Cache hit count</span>
+	 * <span class="zh-CN">缓存命中次数</span>
+	 */
+	private final LongAdder hitCount = new LongAdder();
+	/**
+	 * <span class="en-US">Cache miss count</span>
+	 * <span class="zh-CN">缓存未命中次数</span>
+	 */
+	private final LongAdder missCount = new LongAdder();
+	/**
+	 * <span class="en-US">Evicted entry count</span>
+	 * <span class="zh-CN">淘汰的条目数</span>
+	 */
+	private final LongAdder evictionCount = new LongAdder();
+	/**
+	 * <span class="en-US">Cache generation, increased when clearing the cache</span>
+	 * <span class="zh-CN">缓存代数，清空缓存时递增</span>
+	 */
+	private volatile long generation = 0L;
+	/**
+	 * <span class="en-US">Current weighted size</span>
+	 * <span class="zh-CN">当前加权大小</span>
+	 */
+	private volatile long weightedSize = 0L;
+
+	/**
+	 * <h4 class="en-US">Constructor method for W-TinyLFU query result cache using default maximum weight</h4>
+	 * <h4 class="zh-CN">使用默认最大权重的W-TinyLFU查询结果缓存的构造方法</h4>
+	 */
+	public TinyLfuResultCache() {
+		this(DEFAULT_MAXIMUM_WEIGHT);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for W-TinyLFU query result cache</h4>
+	 * <h4 class="zh-CN">W-TinyLFU查询结果缓存的构造方法</h4>
+	 *
+	 * @param maximumWeight <span class="en-US">Maximum weight in bytes, invalid value will reset to default</span>
+	 *                      <span class="zh-CN">以字节为单位的最大权重，无效的值将重置为默认值</span>
+	 */
+	public TinyLfuResultCache(final long maximumWeight) {
+		this.maximumWeight = (maximumWeight > 0L) ? maximumWeight : DEFAULT_MAXIMUM_WEIGHT;
+		this.windowMaximum = Math.max(this.maximumWeight / 100L, 1L);
+		this.protectedMaximum = (this.maximumWeight - this.windowMaximum) * 4L / 5L;
+		this.frequencySketch = new FrequencySketch(
+				(int) Math.min(this.maximumWeight / AVERAGE_WEIGHT, MAXIMUM_SKETCH_SIZE));
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the maximum weight in bytes</h4>
+	 * <h4 class="zh-CN">获取以字节为单位的最大权重</h4>
+	 *
+	 * @return <span class="en-US">Maximum weight</span>
+	 * <span class="zh-CN">最大权重</span>
+	 */
+	public long maximumWeight() {
+		return this.maximumWeight;
+	}
+
+	@Override
+	public ByteBuffer retrieve(@Nonnull final Object cacheKey) {
+		CacheNode cacheNode = this.cacheNodes.get(cacheKey);
+		if (cacheNode == null) {
+			this.missCount.increment();
+		} else {
+			this.hitCount.increment();
+		}
+		if (this.policyLock.tryLock()) {
+			try {
+				this.frequencySketch.increment(cacheKey.hashCode());
+				if (cacheNode != null && cacheNode.queueType != null) {
+					this.onAccess(cacheNode);
+				}
+			} finally {
+				this.policyLock.unlock();
+			}
+		}
+		return (cacheNode == null) ? null : cacheNode.cacheBuffer.duplicate();
+	}
+
+	@Override
+	public long version(final String... tableKeys) {
+		long version = this.generation;
+		for (String tableKey : tableKeys) {
+			version += this.tableVersions.getOrDefault(tableKey, 0L);
+		}
+		return version;
+	}
+
+	@Override
+	public void store(@Nonnull final Object cacheKey, @Nonnull final ByteBuffer cacheBuffer, final long version,
+	                  final String... tableKeys) {
+		long weight = (long) cacheBuffer.remaining() + ENTRY_OVERHEAD;
+		if (weight > this.maximumWeight - this.windowMaximum) {
+			return;
+		}
+		this.policyLock.lock();
+		try {
+			if (this.version(tableKeys) != version) {
+				return;
+			}
+			Optional.ofNullable(this.cacheNodes.get(cacheKey)).ifPresent(this::removeNode);
+			CacheNode cacheNode = new CacheNode(cacheKey, cacheBuffer.slice(), tableKeys, weight);
+			this.cacheNodes.put(cacheKey, cacheNode);
+			for (String tableKey : tableKeys) {
+				this.tableNodes.computeIfAbsent(tableKey, key -> new HashSet<>()).add(cacheNode);
+			}
+			this.windowQueue.addLast(cacheNode, QueueType.WINDOW);
+			this.weightedSize += weight;
+			this.evict();
+		} finally {
+			this.policyLock.unlock();
+		}
+	}
+
+	@Override
+	public void invalidate(final String... tableKeys) {
+		this.policyLock.lock();
+		try {
+			for (String tableKey : tableKeys) {
+				this.tableVersions.merge(tableKey, 1L, Long::sum);
+				Optional.ofNullable(this.tableNodes.remove(tableKey))
+						.ifPresent(cacheNodes -> cacheNodes.forEach(this::removeNode));
+			}
+		} finally {
+			this.policyLock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.policyLock.lock();
+		try {
+			this.generation++;
+			this.cacheNodes.clear();
+			this.tableNodes.clear();
+			this.windowQueue.clear();
+			this.probationQueue.clear();
+			this.protectedQueue.clear();
+			this.weightedSize = 0L;
+		} finally {
+			this.policyLock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		return this.cacheNodes.size();
+	}
+
+	@Override
+	public long weightedSize() {
+		return this.weightedSize;
+	}
+
+	@Override
+	public long hitCount() {
+		return this.hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return this.missCount.sum();
+	}
+
+	@Override
+	public long evictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Update the queue position of accessed entry</h4>
+	 * <h4 class="zh-CN">更新被访问条目的队列位置</h4>
+	 * <span class="en-US">
+	 * The entry in probation segment will be promoted to the protected segment, the least recently used entries
+	 * of protected segment will be demoted to the probation segment when the protected segment overflowed.
+	 * </span>
+	 * <span class="zh-CN">考察段中的条目将被提升到保护段，保护段溢出时其中最近最少使用的条目将被降级到考察段。</span>
+	 *
+	 * @param cacheNode <span class="en-US">Accessed entry</span>
+	 *                  <span class="zh-CN">被访问的条目</span>
+	 */
+	private void onAccess(final CacheNode cacheNode) {
+		switch (cacheNode.queueType) {
+			case WINDOW -> this.windowQueue.moveToLast(cacheNode);
+			case PROTECTED -> this.protectedQueue.moveToLast(cacheNode);
+			case PROBATION -> {
+				this.probationQueue.remove(cacheNode);
+				this.protectedQueue.addLast(cacheNode, QueueType.PROTECTED);
+				while (this.protectedQueue.weight > this.protectedMaximum) {
+					CacheNode demoted = this.protectedQueue.first;
+					this.protectedQueue.remove(demoted);
+					this.probationQueue.addLast(demoted, QueueType.PROBATION);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Move the overflowed window entries to probation segment and evict entries by policy</h4>
+	 * <h4 class="zh-CN">将溢出的窗口条目移动到考察段并按照策略淘汰条目</h4>
+	 * <span class="en-US">
+	 * The candidate is the most recently moved entry of probation segment, the victim is the least recently used
+	 * entry of probation segment, the entry with lower frequency will be evicted.
+	 * </span>
+	 * <span class="zh-CN">候选条目为考察段中最近移入的条目，淘汰条目为考察段中最近最少使用的条目，频率较低的条目将被淘汰。</span>
+	 */
+	private void evict() {
+		while (this.windowQueue.weight > this.windowMaximum) {
+			CacheNode candidate = this.windowQueue.first;
+			this.windowQueue.remove(candidate);
+			this.probationQueue.addLast(candidate, QueueType.PROBATION);
+		}
+		while (this.weightedSize > this.maximumWeight) {
+			CacheNode victim = this.probationQueue.first;
+			CacheNode candidate = this.probationQueue.last;
+			if (victim == null) {
+				victim = Optional.ofNullable(this.protectedQueue.first).orElse(this.windowQueue.first);
+			} else if (victim != candidate
+					&& this.frequencySketch.frequency(candidate.cacheKey.hashCode())
+					<= this.frequencySketch.frequency(victim.cacheKey.hashCode())) {
+				victim = candidate;
+			}
+			this.removeNode(victim);
+			this.evictionCount.increment();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the given entry from cache</h4>
+	 * <h4 class="zh-CN">从缓存中移除给定的条目</h4>
+	 *
+	 * @param cacheNode <span class="en-US">Cached entry</span>
+	 *                  <span class="zh-CN">缓存的条目</span>
+	 */
+	private void removeNode(final CacheNode cacheNode) {
+		if (cacheNode.queueType == null) {
+			return;
+		}
+		this.cacheNodes.remove(cacheNode.cacheKey, cacheNode);
+		for (String tableKey : cacheNode.tableKeys) {
+			Optional.ofNullable(this.tableNodes.get(tableKey)).ifPresent(cacheNodes -> {
+				cacheNodes.remove(cacheNode);
+				if (cacheNodes.isEmpty()) {
+					this.tableNodes.remove(tableKey);
+				}
+			});
+		}
+		switch (cacheNode.queueType) {
+			case WINDOW -> this.windowQueue.remove(cacheNode);
+			case PROBATION -> this.probationQueue.remove(cacheNode);
+			case PROTECTED -> this.protectedQueue.remove(cacheNode);
+		}
+		this.weightedSize -= cacheNode.weight;
+	}
+
+	/**
+	 * <h2 class="en-US">Queue type of cached entry</h2>
+	 * <h2 class="zh-CN">缓存条目的队列类型</h2>
+	 */
+	private enum QueueType {
+		WINDOW, PROBATION, PROTECTED
+	}
+
+	/**
+	 * <h2 class="en-US">Cached entry</h2>
+	 * <h2 class="zh-CN">缓存的条目</h2>
+	 */
+	private static final class CacheNode {
+
+		/**
+		 * <span class="en-US">Cache key</span>
+		 * <span class="zh-CN">缓存键</span>
+		 */
+		private final Object cacheKey;
+		/**
+		 * <span class="en-US">Payload buffer</span>
+		 * <span class="zh-CN">数据缓冲区</span>
+		 */
+		private final ByteBuffer cacheBuffer;
+		/**
+		 * <span class="en-US">Data table keys which the entry belongs to</span>
+		 * <span class="zh-CN">条目归属的数据表键</span>
+		 */
+		private final String[] tableKeys;
+		/**
+		 * <span class="en-US">Entry weight</span>
+		 * <span class="zh-CN">条目权重</span>
+		 */
+		private final long weight;
+		/**
+		 * <span class="en-US">Current queue type, <code>null</code> if the entry was removed</span>
+		 * <span class="zh-CN">当前所在的队列类型，如果条目已被移除则为 <code>null</code></span>
+		 */
+		private QueueType queueType = null;
+		/**
+		 * <span class="en-US">Previous entry in queue</span>
+		 * <span class="zh-CN">队列中的上一个条目</span>
+		 */
+		private CacheNode previous = null;
+		/**
+		 * <span class="en-US">Next entry in queue</span>
+		 * <span class="zh-CN">队列中的下一个条目</span>
+		 */
+		private CacheNode next = null;
+
+		/**
+		 * <h4 class="en-US">Constructor method for cached entry</h4>
+		 * <h4 class="zh-CN">缓存条目的构造方法</h4>
+		 *
+		 * @param cacheKey    <span class="en-US">Cache key</span>
+		 *                    <span class="zh-CN">缓存键</span>
+		 * @param cacheBuffer <span class="en-US">Payload buffer</span>
+		 *                    <span class="zh-CN">数据缓冲区</span>
+		 * @param tableKeys   <span class="en-US">Data table keys which the entry belongs to</span>
+		 *                    <span class="zh-CN">条目归属的数据表键</span>
+		 * @param weight      <span class="en-US">Entry weight</span>
+		 *                    <span class="zh-CN">条目权重</span>
+		 */
+		CacheNode(final Object cacheKey, final ByteBuffer cacheBuffer, final String[] tableKeys, final long weight) {
+			this.cacheKey = cacheKey;
+			this.cacheBuffer = cacheBuffer;
+			this.tableKeys = tableKeys;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Access ordered queue of cached entries, the first entry is the least recently used</h2>
+	 * <h2 class="zh-CN">缓存条目的访问顺序队列，第一个条目为最近最少使用的条目</h2>
+	 */
+	private static final class AccessQueue {
+
+		/**
+		 * <span class="en-US">First entry</span>
+		 * <span class="zh-CN">第一个条目</span>
+		 */
+		private CacheNode first = null;
+		/**
+		 * <span class="en-US">Last entry</span>
+		 * <span class="zh-CN">最后一个条目</span>
+		 */
+		private CacheNode last = null;
+		/**
+		 * <span class="en-US">Total weight of entries</span>
+		 * <span class="zh-CN">条目的总权重</span>
+		 */
+		private long weight = 0L;
+
+		/**
+		 * <h4 class="en-US">Append the entry to the end of queue</h4>
+		 * <h4 class="zh-CN">将条目追加到队列末尾</h4>
+		 *
+		 * @param cacheNode <span class="en-US">Cached entry</span>
+		 *                  <span class="zh-CN">缓存的条目</span>
+		 * @param queueType <span class="en-US">Queue type</span>
+		 *                  <span class="zh-CN">队列类型</span>
+		 */
+		void addLast(final CacheNode cacheNode, final QueueType queueType) {
+			cacheNode.queueType = queueType;
+			cacheNode.previous = this.last;
+			cacheNode.next = null;
+			if (this.last == null) {
+				this.first = cacheNode;
+			} else {
+				this.last.next = cacheNode;
+			}
+			this.last = cacheNode;
+			this.weight += cacheNode.weight;
+		}
+
+		/**
+		 * <h4 class="en-US">Move the entry to the end of queue</h4>
+		 * <h4 class="zh-CN">将条目移动到队列末尾</h4>
+		 *
+		 * @param cacheNode <span class="en-US">Cached entry</span>
+		 *                  <span class="zh-CN">缓存的条目</span>
+		 */
+		void moveToLast(final CacheNode cacheNode) {
+			if (this.last != cacheNode) {
+				QueueType queueType = cacheNode.queueType;
+				this.remove(cacheNode);
+				this.addLast(cacheNode, queueType);
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Remove the entry from queue</h4>
+		 * <h4 class="zh-CN">从队列中移除条目</h4>
+		 *
+		 * @param cacheNode <span class="en-US">Cached entry</span>
+		 *                  <span class="zh-CN">缓存的条目</span>
+		 */
+		void remove(final CacheNode cacheNode) {
+			if (cacheNode.previous == null) {
+				this.first = cacheNode.next;
+			} else {
+				cacheNode.previous.next = cacheNode.next;
+			}
+			if (cacheNode.next == null) {
+				this.last = cacheNode.previous;
+			} else {
+				cacheNode.next.previous = cacheNode.previous;
+			}
+			cacheNode.previous = null;
+			cacheNode.next = null;
+			cacheNode.queueType = null;
+			this.weight -= cacheNode.weight;
+		}
+
+		/**
+		 * <h4 class="en-US">Remove all entries from queue</h4>
+		 * <h4 class="zh-CN">从队列中移除所有条目</h4>
+		 */
+		void clear() {
+			CacheNode cacheNode = this.first;
+			while (cacheNode != null) {
+				CacheNode next = cacheNode.next;
+				cacheNode.previous = null;
+				cacheNode.next = null;
+				cacheNode.queueType = null;
+				cacheNode = next;
+			}
+			this.first = null;
+			this.last = null;
+			this.weight = 0L;
+		}
+	}
+}
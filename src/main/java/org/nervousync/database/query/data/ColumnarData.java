@@ -0,0 +1,672 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query.data;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * <h2 class="en-US">Columnar record data define</h2>
+ * <h2 class="zh-CN">列式记录数据定义</h2>
+ * <span class="en-US">
+ * The record values are stored in typed column vectors, the vector type is decided by the JDBC type of column config,
+ * repeated string values are dictionary encoded, and the high cardinality string columns fall back to plain arrays.
+ * If a value does not match the vector type, the vector will be converted to object vector.
+ * Each row can be accessed by random-access mapping table view.
+ * </span>
+ * <span class="zh-CN">
+ * 记录值存储在按类型划分的列向量中，向量类型由列配置的JDBC类型决定，重复的字符串值使用字典编码，高基数的字符串列回退为普通数组。
+ * 如果值与向量类型不匹配，向量将转换为对象向量。每一行都可以通过随机访问的映射表视图进行访问。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 18:26:35 $
+ */
+public final class ColumnarData implements Serializable {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = -3268805372957140916L;
+	/**
+	 * <span class="en-US">Initialize capacity of column vector</span>
+	 * <span class="zh-CN">列向量的初始容量</span>
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+	/**
+	 * <span class="en-US">Minimum value count before checking the cardinality of dictionary encoded column</span>
+	 * <span class="zh-CN">检查字典编码列基数之前的最小值数量</span>
+	 */
+	private static final int DICTIONARY_SAMPLE_SIZE = 64;
+	/**
+	 * <span class="en-US">
+	 * Dictionary cardinality ratio, the dictionary encoded column falls back to plain array when the dictionary size
+	 * multiplied by the ratio exceeds the value count
+	 * </span>
+	 * <span class="zh-CN">字典基数比例，当字典大小乘以该比例超过值数量时，字典编码列回退为普通数组</span>
+	 */
+	private static final int DICTIONARY_RATIO = 2;
+
+	/**
+	 * <span class="en-US">Column vectors, key is column name</span>
+	 * <span class="zh-CN">列向量，键为列名</span>
+	 */
+	private final Map<String, ColumnVector> columnVectors = new LinkedHashMap<>();
+	/**
+	 * <span class="en-US">Row count</span>
+	 * <span class="zh-CN">行数</span>
+	 */
+	private int rowCount = 0;
+	/**
+	 * <span class="en-US">Column vectors were compacted after the last appended row</span>
+	 * <span class="zh-CN">列向量在最后追加的行之后已压缩</span>
+	 */
+	private transient boolean compacted = Boolean.FALSE;
+
+	/**
+	 * <h4 class="en-US">Retrieve row count</h4>
+	 * <h4 class="zh-CN">获取行数</h4>
+	 *
+	 * @return <span class="en-US">Row count</span>
+	 * <span class="zh-CN">行数</span>
+	 */
+	public int rowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve column names</h4>
+	 * <h4 class="zh-CN">获取列名</h4>
+	 *
+	 * @return <span class="en-US">Column name set</span>
+	 * <span class="zh-CN">列名集合</span>
+	 */
+	public Set<String> columnNames() {
+		return Collections.unmodifiableSet(this.columnVectors.keySet());
+	}
+
+	/**
+	 * <h4 class="en-US">Append row data</h4>
+	 * <h4 class="zh-CN">追加行数据</h4>
+	 * <span class="en-US">The columns which not exists in given data mapping table will be appended as null</span>
+	 * <span class="zh-CN">给定数据映射表中不存在的列将追加为空值</span>
+	 *
+	 * @param dataMap     <span class="en-US">Row data mapping table, key is column name</span>
+	 *                    <span class="zh-CN">行数据映射表，键为列名</span>
+	 * @param tableConfig <span class="en-US">Table configure information, using for decide vector type</span>
+	 *                    <span class="zh-CN">数据表配置信息，用于决定向量类型</span>
+	 */
+	public void appendRow(@Nonnull final Map<String, Object> dataMap, final TableConfig tableConfig) {
+		dataMap.keySet()
+				.stream()
+				.filter(columnName -> !this.columnVectors.containsKey(columnName))
+				.forEach(columnName -> {
+					int jdbcType = Optional.ofNullable(tableConfig)
+							.map(config -> config.columnConfig(columnName))
+							.map(ColumnConfig::jdbcType)
+							.orElse(Types.JAVA_OBJECT);
+					ColumnVector columnVector = ColumnVector.newInstance(jdbcType);
+					for (int i = 0; i < this.rowCount; i++) {
+						columnVector.append(null);
+					}
+					this.columnVectors.put(columnName, columnVector);
+				});
+		for (Map.Entry<String, ColumnVector> entry : this.columnVectors.entrySet()) {
+			Object value = dataMap.get(entry.getKey());
+			if (!entry.getValue().append(value)) {
+				ObjectVector objectVector = new ObjectVector(entry.getValue());
+				objectVector.append(value);
+				entry.setValue(objectVector);
+			}
+		}
+		this.rowCount++;
+		this.compacted = Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Read column value of given row</h4>
+	 * <h4 class="zh-CN">读取给定行的列值</h4>
+	 *
+	 * @param rowIndex   <span class="en-US">Row index</span>
+	 *                   <span class="zh-CN">行索引</span>
+	 * @param columnName <span class="en-US">Column name</span>
+	 *                   <span class="zh-CN">列名</span>
+	 * @return <span class="en-US">Column value or <code>null</code> if column not found</span>
+	 * <span class="zh-CN">列值，如果列不存在返回 <code>null</code></span>
+	 */
+	public Object value(final int rowIndex, final String columnName) {
+		Objects.checkIndex(rowIndex, this.rowCount);
+		this.compact();
+		return Optional.ofNullable(this.columnVectors.get(columnName))
+				.map(columnVector -> columnVector.value(rowIndex))
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the mapping table view of given row</h4>
+	 * <h4 class="zh-CN">获取给定行的映射表视图</h4>
+	 * <span class="en-US">The view is read only and reads the values from column vectors</span>
+	 * <span class="zh-CN">视图为只读，并从列向量中读取值</span>
+	 *
+	 * @param rowIndex <span class="en-US">Row index</span>
+	 *                 <span class="zh-CN">行索引</span>
+	 * @return <span class="en-US">Row mapping table view, key is column name</span>
+	 * <span class="zh-CN">行映射表视图，键为列名</span>
+	 */
+	public Map<String, Object> row(final int rowIndex) {
+		Objects.checkIndex(rowIndex, this.rowCount);
+		this.compact();
+		return new RowView(rowIndex);
+	}
+
+	/**
+	 * <h4 class="en-US">Release the building state of column vectors before reading</h4>
+	 * <h4 class="zh-CN">读取之前释放列向量的构建状态</h4>
+	 */
+	private void compact() {
+		if (!this.compacted) {
+			this.columnVectors.values().forEach(ColumnVector::compact);
+			this.compacted = Boolean.TRUE;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Row mapping table view</h2>
+	 * <h2 class="zh-CN">行映射表视图</h2>
+	 */
+	private final class RowView extends AbstractMap<String, Object> {
+
+		/**
+		 * <span class="en-US">Row index</span>
+		 * <span class="zh-CN">行索引</span>
+		 */
+		private final int rowIndex;
+
+		/**
+		 * <h4 class="en-US">Constructor method for row mapping table view</h4>
+		 * <h4 class="zh-CN">行映射表视图的构造方法</h4>
+		 *
+		 * @param rowIndex <span class="en-US">Row index</span>
+		 *                 <span class="zh-CN">行索引</span>
+		 */
+		RowView(final int rowIndex) {
+			this.rowIndex = rowIndex;
+		}
+
+		@Override
+		public Object get(final Object key) {
+			return Optional.ofNullable(columnVectors.get(key))
+					.map(columnVector -> columnVector.value(this.rowIndex))
+					.orElse(null);
+		}
+
+		@Override
+		public boolean containsKey(final Object key) {
+			return columnVectors.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return columnVectors.size();
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					Iterator<Entry<String, ColumnVector>> iterator = columnVectors.entrySet().iterator();
+					return new Iterator<>() {
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							Entry<String, ColumnVector> entry = iterator.next();
+							return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().value(rowIndex));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return columnVectors.size();
+				}
+			};
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Abstract column vector</h2>
+	 * <h2 class="zh-CN">抽象列向量</h2>
+	 */
+	private abstract static class ColumnVector implements Serializable {
+
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = 4137203953387104531L;
+		/**
+		 * <span class="en-US">Value count</span>
+		 * <span class="zh-CN">值的数量</span>
+		 */
+		int size = 0;
+
+		/**
+		 * <h4 class="en-US">Generate column vector by given JDBC type</h4>
+		 * <h4 class="zh-CN">根据给定的JDBC类型生成列向量</h4>
+		 *
+		 * @param jdbcType <span class="en-US">JDBC type code</span>
+		 *                 <span class="zh-CN">JDBC类型代码</span>
+		 * @return <span class="en-US">Generated column vector</span>
+		 * <span class="zh-CN">生成的列向量</span>
+		 */
+		static ColumnVector newInstance(final int jdbcType) {
+			return switch (jdbcType) {
+				case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> new LongVector();
+				case Types.REAL, Types.FLOAT, Types.DOUBLE -> new DoubleVector();
+				case Types.BIT, Types.BOOLEAN -> new BooleanVector();
+				case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR,
+						Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR -> new StringVector();
+				default -> new ObjectVector();
+			};
+		}
+
+		/**
+		 * <h4 class="en-US">Append value to current vector</h4>
+		 * <h4 class="zh-CN">追加值到当前向量</h4>
+		 *
+		 * @param value <span class="en-US">Column value</span>
+		 *              <span class="zh-CN">列值</span>
+		 * @return <span class="en-US"><code>false</code> if the value type is not supported by current vector</span>
+		 * <span class="zh-CN">如果当前向量不支持值的类型返回 <code>false</code></span>
+		 */
+		abstract boolean append(final Object value);
+
+		/**
+		 * <h4 class="en-US">Read value by given index</h4>
+		 * <h4 class="zh-CN">根据给定的索引读取值</h4>
+		 *
+		 * @param index <span class="en-US">Value index</span>
+		 *              <span class="zh-CN">值的索引</span>
+		 * @return <span class="en-US">Column value</span>
+		 * <span class="zh-CN">列值</span>
+		 */
+		abstract Object value(final int index);
+
+		/**
+		 * <h4 class="en-US">Release the state which only used for appending values</h4>
+		 * <h4 class="zh-CN">释放仅用于追加值的状态</h4>
+		 */
+		void compact() {
+		}
+
+		/**
+		 * <h4 class="en-US">Calculate the new capacity when the value array is full</h4>
+		 * <h4 class="zh-CN">计算值数组已满时的新容量</h4>
+		 *
+		 * @param capacity <span class="en-US">Current capacity</span>
+		 *                 <span class="zh-CN">当前容量</span>
+		 * @return <span class="en-US">New capacity</span>
+		 * <span class="zh-CN">新容量</span>
+		 */
+		static int growCapacity(final int capacity) {
+			return Math.max(DEFAULT_CAPACITY, capacity << 1);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Integral number column vector</h2>
+	 * <h2 class="zh-CN">整数列向量</h2>
+	 */
+	private static final class LongVector extends ColumnVector {
+
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = -4468389740541376052L;
+		/**
+		 * <span class="en-US">Value array</span>
+		 * <span class="zh-CN">值数组</span>
+		 */
+		private long[] values = new long[0];
+		/**
+		 * <span class="en-US">Null value flags</span>
+		 * <span class="zh-CN">空值标记</span>
+		 */
+		private final BitSet nulls = new BitSet();
+		/**
+		 * <span class="en-US">Value class, decided by the first non-null value</span>
+		 * <span class="zh-CN">值的类型，由第一个非空值决定</span>
+		 */
+		private Class<?> valueClass = null;
+
+		@Override
+		boolean append(final Object value) {
+			if (value != null) {
+				if (!(value instanceof Long || value instanceof Integer
+						|| value instanceof Short || value instanceof Byte)) {
+					return Boolean.FALSE;
+				}
+				if (this.valueClass == null) {
+					this.valueClass = value.getClass();
+				} else if (!this.valueClass.equals(value.getClass())) {
+					return Boolean.FALSE;
+				}
+			}
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, growCapacity(this.values.length));
+			}
+			if (value == null) {
+				this.nulls.set(this.size);
+			} else {
+				this.values[this.size] = ((Number) value).longValue();
+			}
+			this.size++;
+			return Boolean.TRUE;
+		}
+
+		@Override
+		Object value(final int index) {
+			if (this.nulls.get(index)) {
+				return null;
+			}
+			long value = this.values[index];
+			if (Integer.class.equals(this.valueClass)) {
+				return (int) value;
+			} else if (Short.class.equals(this.valueClass)) {
+				return (short) value;
+			} else if (Byte.class.equals(this.valueClass)) {
+				return (byte) value;
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Floating point number column vector</h2>
+	 * <h2 class="zh-CN">浮点数列向量</h2>
+	 */
+	private static final class DoubleVector extends ColumnVector {
+
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = 6839617012963357285L;
+		/**
+		 * <span class="en-US">Value array</span>
+		 * <span class="zh-CN">值数组</span>
+		 */
+		private double[] values = new double[0];
+		/**
+		 * <span class="en-US">Null value flags</span>
+		 * <span class="zh-CN">空值标记</span>
+		 */
+		private final BitSet nulls = new BitSet();
+		/**
+		 * <span class="en-US">Value class, decided by the first non-null value</span>
+		 * <span class="zh-CN">值的类型，由第一个非空值决定</span>
+		 */
+		private Class<?> valueClass = null;
+
+		@Override
+		boolean append(final Object value) {
+			if (value != null) {
+				if (!(value instanceof Double || value instanceof Float)) {
+					return Boolean.FALSE;
+				}
+				if (this.valueClass == null) {
+					this.valueClass = value.getClass();
+				} else if (!this.valueClass.equals(value.getClass())) {
+					return Boolean.FALSE;
+				}
+			}
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, growCapacity(this.values.length));
+			}
+			if (value == null) {
+				this.nulls.set(this.size);
+			} else {
+				this.values[this.size] = ((Number) value).doubleValue();
+			}
+			this.size++;
+			return Boolean.TRUE;
+		}
+
+		@Override
+		Object value(final int index) {
+			if (this.nulls.get(index)) {
+				return null;
+			}
+			return Float.class.equals(this.valueClass) ? (float) this.values[index] : this.values[index];
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Boolean column vector</h2>
+	 * <h2 class="zh-CN">布尔值列向量</h2>
+	 */
+	private static final class BooleanVector extends ColumnVector {
+
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = -1915385630270717432L;
+		/**
+		 * <span class="en-US">Value flags</span>
+		 * <span class="zh-CN">值标记</span>
+		 */
+		private final BitSet values = new BitSet();
+		/**
+		 * <span class="en-US">Null value flags</span>
+		 * <span class="zh-CN">空值标记</span>
+		 */
+		private final BitSet nulls = new BitSet();
+
+		@Override
+		boolean append(final Object value) {
+			if (value == null) {
+				this.nulls.set(this.size);
+			} else if (value instanceof Boolean) {
+				this.values.set(this.size, (Boolean) value);
+			} else {
+				return Boolean.FALSE;
+			}
+			this.size++;
+			return Boolean.TRUE;
+		}
+
+		@Override
+		Object value(final int index) {
+			return this.nulls.get(index) ? null : this.values.get(index);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Dictionary encoded string column vector</h2>
+	 * <h2 class="zh-CN">字典编码的字符串列向量</h2>
+	 * <span class="en-US">
+	 * The vector falls back to plain string array when the column cardinality is high,
+	 * the dictionary code mapping table is released when the vector is read and rebuilt when appending again.
+	 * </span>
+	 * <span class="zh-CN">当列的基数较高时，向量回退为普通字符串数组，读取向量时释放字典代码映射表，再次追加时重新构建</span>
+	 */
+	private static final class StringVector extends ColumnVector {
+
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = 2254700963181327368L;
+		/**
+		 * <span class="en-US">Dictionary values, <code>null</code> if the vector falls back to plain array</span>
+		 * <span class="zh-CN">字典值，如果向量已回退为普通数组则为 <code>null</code></span>
+		 */
+		private List<String> dictionary = new ArrayList<>();
+		/**
+		 * <span class="en-US">Dictionary code mapping table, key is string value, <code>null</code> if released</span>
+		 * <span class="zh-CN">字典代码映射表，键为字符串值，如果已释放则为 <code>null</code></span>
+		 */
+		private transient Map<String, Integer> dictionaryCodes = new HashMap<>();
+		/**
+		 * <span class="en-US">
+		 * Dictionary code array, -1 means null value, <code>null</code> if the vector falls back to plain array
+		 * </span>
+		 * <span class="zh-CN">字典代码数组，-1 表示空值，如果向量已回退为普通数组则为 <code>null</code></span>
+		 */
+		private int[] codes = new int[0];
+		/**
+		 * <span class="en-US">Plain value array, <code>null</code> if the vector is dictionary encoded</span>
+		 * <span class="zh-CN">普通值数组，如果向量为字典编码则为 <code>null</code></span>
+		 */
+		private String[] values = null;
+
+		@Override
+		boolean append(final Object value) {
+			if (value != null && !(value instanceof String)) {
+				return Boolean.FALSE;
+			}
+			if (this.values != null) {
+				if (this.size == this.values.length) {
+					this.values = Arrays.copyOf(this.values, growCapacity(this.values.length));
+				}
+				this.values[this.size++] = (String) value;
+				return Boolean.TRUE;
+			}
+			if (this.size == this.codes.length) {
+				this.codes = Arrays.copyOf(this.codes, growCapacity(this.codes.length));
+			}
+			if (value == null) {
+				this.codes[this.size] = Globals.DEFAULT_VALUE_INT;
+			} else {
+				if (this.dictionaryCodes == null) {
+					this.dictionaryCodes = new HashMap<>();
+					for (int i = 0; i < this.dictionary.size(); i++) {
+						this.dictionaryCodes.put(this.dictionary.get(i), i);
+					}
+				}
+				this.codes[this.size] = this.dictionaryCodes.computeIfAbsent((String) value, key -> {
+					this.dictionary.add(key);
+					return this.dictionary.size() - 1;
+				});
+			}
+			this.size++;
+			if (this.size >= DICTIONARY_SAMPLE_SIZE && this.dictionary.size() * DICTIONARY_RATIO > this.size) {
+				String[] plainValues = new String[this.codes.length];
+				for (int i = 0; i < this.size; i++) {
+					plainValues[i] = (String) this.value(i);
+				}
+				this.values = plainValues;
+				this.dictionary = null;
+				this.dictionaryCodes = null;
+				this.codes = null;
+			}
+			return Boolean.TRUE;
+		}
+
+		@Override
+		Object value(final int index) {
+			if (this.values != null) {
+				return this.values[index];
+			}
+			int code = this.codes[index];
+			return (code == Globals.DEFAULT_VALUE_INT) ? null : this.dictionary.get(code);
+		}
+
+		@Override
+		void compact() {
+			this.dictionaryCodes = null;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Object column vector</h2>
+	 * <h2 class="zh-CN">对象列向量</h2>
+	 */
+	private static final class ObjectVector extends ColumnVector {
+
+		/**
+		 * <span class="en-US">Serial version UID</span>
+		 * <span class="zh-CN">序列化UID</span>
+		 */
+		@Serial
+		private static final long serialVersionUID = 7713398478315283410L;
+		/**
+		 * <span class="en-US">Value array</span>
+		 * <span class="zh-CN">值数组</span>
+		 */
+		private Object[] values = new Object[0];
+
+		/**
+		 * <h4 class="en-US">Constructor method for object column vector</h4>
+		 * <h4 class="zh-CN">对象列向量的构造方法</h4>
+		 */
+		ObjectVector() {
+		}
+
+		/**
+		 * <h4 class="en-US">Constructor method for object column vector</h4>
+		 * <h4 class="zh-CN">对象列向量的构造方法</h4>
+		 * <span class="en-US">Copy the values of given column vector</span>
+		 * <span class="zh-CN">复制给定列向量的值</span>
+		 *
+		 * @param columnVector <span class="en-US">Column vector</span>
+		 *                     <span class="zh-CN">列向量</span>
+		 */
+		ObjectVector(@Nonnull final ColumnVector columnVector) {
+			this.values = new Object[Math.max(DEFAULT_CAPACITY, columnVector.size + 1)];
+			for (int i = 0; i < columnVector.size; i++) {
+				this.values[i] = columnVector.value(i);
+			}
+			this.size = columnVector.size;
+		}
+
+		@Override
+		boolean append(final Object value) {
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, growCapacity(this.values.length));
+			}
+			this.values[this.size++] = value;
+			return Boolean.TRUE;
+		}
+
+		@Override
+		Object value(final int index) {
+			return this.values[index];
+		}
+	}
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query.data;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityCodec;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * <h2 class="en-US">Encoded record data define</h2>
+ * <h2 class="zh-CN">编码记录数据定义</h2>
+ * <span class="en-US">
+ * The binary cache payload of query result, the header contains total count, record format and record count,
+ * followed by the length-prefixed records. If all records belong to the same registered entity class,
+ * the records are encoded by entity binary codec, otherwise the records are encoded as UTF-8 JSON string.
+ * The parsed instance keeps the payload buffer without copying, the records are decoded on first access
+ * and memoized.
+ * </span>
+ * <span class="zh-CN">
+ * 查询结果的二进制缓存数据，头部包含总记录数、记录格式和记录数，随后是带长度前缀的记录。如果所有记录属于同一个已注册的实体类，
+ * 记录使用实体二进制编解码器编码，否则记录编码为UTF-8的JSON字符串。解析后的实例不复制并直接保留缓存数据缓冲区，
+ * 记录在首次访问时解码并缓存解码结果。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 20:17:42 $
+ */
+public final class EncodedRecords {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(EncodedRecords.class);
+	/**
+	 * <span class="en-US">Magic number of cache payload</span>
+	 * <span class="zh-CN">缓存数据的魔数</span>
+	 */
+	private static final int MAGIC_NUMBER = 0x4E535152;
+	/**
+	 * <span class="en-US">Version of cache payload format</span>
+	 * <span class="zh-CN">缓存数据格式的版本</span>
+	 */
+	private static final byte FORMAT_VERSION = 1;
+	/**
+	 * <span class="en-US">Record format: UTF-8 JSON string</span>
+	 * <span class="zh-CN">记录格式：UTF-8的JSON字符串</span>
+	 */
+	private static final byte FORMAT_JSON = 0;
+	/**
+	 * <span class="en-US">Record format: entity binary codec</span>
+	 * <span class="zh-CN">记录格式：实体二进制编解码器</span>
+	 */
+	private static final byte FORMAT_CODEC = 1;
+
+	/**
+	 * <span class="en-US">Cache payload buffer</span>
+	 * <span class="zh-CN">缓存数据缓冲区</span>
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * <span class="en-US">Total record count</span>
+	 * <span class="zh-CN">总记录数</span>
+	 */
+	private final long totalCount;
+	/**
+	 * <span class="en-US">Entity class of records, <code>null</code> if records encoded as JSON string</span>
+	 * <span class="zh-CN">记录的实体类，如果记录编码为JSON字符串则为 <code>null</code></span>
+	 */
+	private final Class<?> entityClass;
+	/**
+	 * <span class="en-US">Entity binary codec, <code>null</code> if records encoded as JSON string</span>
+	 * <span class="zh-CN">实体二进制编解码器，如果记录编码为JSON字符串则为 <code>null</code></span>
+	 */
+	private final EntityCodec entityCodec;
+	/**
+	 * <span class="en-US">Begin offset of each record in buffer</span>
+	 * <span class="zh-CN">每条记录在缓冲区中的起始偏移量</span>
+	 */
+	private final int[] offsets;
+	/**
+	 * <span class="en-US">Length of each record</span>
+	 * <span class="zh-CN">每条记录的长度</span>
+	 */
+	private final int[] lengths;
+	/**
+	 * <span class="en-US">Decoded records</span>
+	 * <span class="zh-CN">已解码的记录</span>
+	 */
+	private final AtomicReferenceArray<Map<String, Object>> decodedRecords;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for encoded record data define</h4>
+	 * <h4 class="zh-CN">编码记录数据定义的私有构造方法</h4>
+	 *
+	 * @param buffer      <span class="en-US">Cache payload buffer</span>
+	 *                    <span class="zh-CN">缓存数据缓冲区</span>
+	 * @param totalCount  <span class="en-US">Total record count</span>
+	 *                    <span class="zh-CN">总记录数</span>
+	 * @param entityClass <span class="en-US">Entity class of records</span>
+	 *                    <span class="zh-CN">记录的实体类</span>
+	 * @param entityCodec <span class="en-US">Entity binary codec</span>
+	 *                    <span class="zh-CN">实体二进制编解码器</span>
+	 * @param offsets     <span class="en-US">Begin offset of each record in buffer</span>
+	 *                    <span class="zh-CN">每条记录在缓冲区中的起始偏移量</span>
+	 * @param lengths     <span class="en-US">Length of each record</span>
+	 *                    <span class="zh-CN">每条记录的长度</span>
+	 */
+	private EncodedRecords(@Nonnull final ByteBuffer buffer, final long totalCount, final Class<?> entityClass,
+	                       final EntityCodec entityCodec, @Nonnull final int[] offsets, @Nonnull final int[] lengths) {
+		this.buffer = buffer;
+		this.totalCount = totalCount;
+		this.entityClass = entityClass;
+		this.entityCodec = entityCodec;
+		this.offsets = offsets;
+		this.lengths = lengths;
+		this.decodedRecords = new AtomicReferenceArray<>(offsets.length);
+	}
+
+	/**
+	 * <h4 class="en-US">Encode the given records to cache payload</h4>
+	 * <h4 class="zh-CN">编码给定的记录为缓存数据</h4>
+	 *
+	 * @param totalCount  <span class="en-US">Total record count</span>
+	 *                    <span class="zh-CN">总记录数</span>
+	 * @param recordCount <span class="en-US">Record count</span>
+	 *                    <span class="zh-CN">记录数</span>
+	 * @param records     <span class="en-US">Record data mapping table function, parameter is record index</span>
+	 *                    <span class="zh-CN">记录数据映射表函数，参数为记录索引</span>
+	 * @param entityClass <span class="en-US">Entity class of all records, <code>null</code> for mixed records</span>
+	 *                    <span class="zh-CN">所有记录的实体类，记录混合时为 <code>null</code></span>
+	 * @return <span class="en-US">Cache payload buffer, position is zero</span>
+	 * <span class="zh-CN">缓存数据缓冲区，读取位置为零</span>
+	 */
+	public static ByteBuffer encode(final long totalCount, final int recordCount,
+	                                @Nonnull final IntFunction<Map<String, Object>> records,
+	                                final Class<?> entityClass) {
+		byte[][] encodedRecords = Optional.ofNullable(entityClass)
+				.map(EntityCodec::codec)
+				.map(entityCodec -> encodeRecords(entityCodec, recordCount, records))
+				.orElse(null);
+		byte[] tableName = new byte[0];
+		byte recordFormat = FORMAT_CODEC;
+		if (encodedRecords == null) {
+			recordFormat = FORMAT_JSON;
+			encodedRecords = new byte[recordCount][];
+			for (int i = 0; i < recordCount; i++) {
+				encodedRecords[i] = StringUtils.objectToString(records.apply(i), StringUtils.StringType.JSON,
+						Boolean.FALSE).getBytes(StandardCharsets.UTF_8);
+			}
+		} else {
+			tableName = EntityManager.tableConfig(entityClass).getTableName().getBytes(StandardCharsets.UTF_8);
+		}
+		int bufferSize = Integer.BYTES + 1 + Long.BYTES + 1 + Integer.BYTES + tableName.length + Integer.BYTES;
+		for (byte[] encodedRecord : encodedRecords) {
+			bufferSize += Integer.BYTES + encodedRecord.length;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+		buffer.putInt(MAGIC_NUMBER)
+				.put(FORMAT_VERSION)
+				.putLong(totalCount)
+				.put(recordFormat)
+				.putInt(tableName.length)
+				.put(tableName)
+				.putInt(recordCount);
+		for (byte[] encodedRecord : encodedRecords) {
+			buffer.putInt(encodedRecord.length).put(encodedRecord);
+		}
+		return buffer.flip();
+	}
+
+	/**
+	 * <h4 class="en-US">Parse the given cache payload</h4>
+	 * <h4 class="zh-CN">解析给定的缓存数据</h4>
+	 * <span class="en-US">
+	 * Only the record offsets are read, the records are not decoded. The content of given buffer is shared
+	 * without copying and should not be modified, the position of given buffer will not be changed.
+	 * </span>
+	 * <span class="zh-CN">仅读取记录的偏移量，不解码记录。给定缓冲区的内容不经复制直接共享，不应再被修改，给定缓冲区的读取位置不会改变。</span>
+	 *
+	 * @param buffer <span class="en-US">Cache payload buffer</span>
+	 *               <span class="zh-CN">缓存数据缓冲区</span>
+	 * @return <span class="en-US">Parsed instance or <code>null</code> if payload invalid or entity class not registered</span>
+	 * <span class="zh-CN">解析后的实例对象，如果缓存数据非法或实体类未注册返回 <code>null</code></span>
+	 */
+	public static EncodedRecords parse(final ByteBuffer buffer) {
+		if (buffer == null || !buffer.hasRemaining()) {
+			return null;
+		}
+		ByteBuffer readBuffer = buffer.slice();
+		try {
+			if (readBuffer.getInt() != MAGIC_NUMBER || readBuffer.get() != FORMAT_VERSION) {
+				return null;
+			}
+			long totalCount = readBuffer.getLong();
+			byte recordFormat = readBuffer.get();
+			byte[] tableName = new byte[readBuffer.getInt()];
+			readBuffer.get(tableName);
+			Class<?> entityClass = null;
+			EntityCodec entityCodec = null;
+			if (recordFormat == FORMAT_CODEC) {
+				entityClass = Optional.ofNullable(EntityManager.tableConfig(new String(tableName, StandardCharsets.UTF_8)))
+						.map(TableConfig::getDefineClass)
+						.orElse(null);
+				entityCodec = EntityCodec.codec(entityClass);
+				if (entityCodec == null) {
+					return null;
+				}
+			} else if (recordFormat != FORMAT_JSON) {
+				return null;
+			}
+			int recordCount = readBuffer.getInt();
+			if (recordCount < 0 || recordCount > readBuffer.remaining() / Integer.BYTES) {
+				return null;
+			}
+			int[] offsets = new int[recordCount];
+			int[] lengths = new int[recordCount];
+			for (int i = 0; i < recordCount; i++) {
+				lengths[i] = readBuffer.getInt();
+				offsets[i] = readBuffer.position();
+				readBuffer.position(Math.addExact(offsets[i], lengths[i]));
+			}
+			return new EncodedRecords(readBuffer, totalCount, entityClass, entityCodec, offsets, lengths);
+		} catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException
+		         | NegativeArraySizeException e) {
+			LOGGER.error("Cache_Payload_Invalid");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the cache payload buffer</h4>
+	 * <h4 class="zh-CN">获取缓存数据缓冲区</h4>
+	 *
+	 * @return <span class="en-US">Read only cache payload buffer, position is zero</span>
+	 * <span class="zh-CN">只读的缓存数据缓冲区，读取位置为零</span>
+	 */
+	public ByteBuffer buffer() {
+		return this.buffer.asReadOnlyBuffer().rewind();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve total record count</h4>
+	 * <h4 class="zh-CN">获取总记录数</h4>
+	 *
+	 * @return <span class="en-US">Total record count</span>
+	 * <span class="zh-CN">总记录数</span>
+	 */
+	public long totalCount() {
+		return this.totalCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve entity class of records</h4>
+	 * <h4 class="zh-CN">获取记录的实体类</h4>
+	 *
+	 * @return <span class="en-US">Entity class or <code>null</code> if records encoded as JSON string</span>
+	 * <span class="zh-CN">实体类，如果记录编码为JSON字符串返回 <code>null</code></span>
+	 */
+	public Class<?> entityClass() {
+		return this.entityClass;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve record count</h4>
+	 * <h4 class="zh-CN">获取记录数</h4>
+	 *
+	 * @return <span class="en-US">Record count</span>
+	 * <span class="zh-CN">记录数</span>
+	 */
+	public int rowCount() {
+		return this.offsets.length;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the record data mapping table of given row</h4>
+	 * <h4 class="zh-CN">获取给定行的记录数据映射表</h4>
+	 * <span class="en-US">The record is decoded on first access, the decoded mapping table is read only</span>
+	 * <span class="zh-CN">记录在首次访问时解码，解码后的映射表为只读</span>
+	 *
+	 * @param rowIndex <span class="en-US">Row index</span>
+	 *                 <span class="zh-CN">行索引</span>
+	 * @return <span class="en-US">Record data mapping table or <code>null</code> if record data invalid</span>
+	 * <span class="zh-CN">记录数据映射表，如果记录数据非法返回 <code>null</code></span>
+	 */
+	public Map<String, Object> row(final int rowIndex) {
+		Objects.checkIndex(rowIndex, this.offsets.length);
+		Map<String, Object> dataMap = this.decodedRecords.get(rowIndex);
+		if (dataMap == null) {
+			dataMap = Optional.ofNullable(this.decode(rowIndex))
+					.map(Collections::unmodifiableMap)
+					.orElse(null);
+			if (dataMap != null && !this.decodedRecords.compareAndSet(rowIndex, null, dataMap)) {
+				dataMap = this.decodedRecords.get(rowIndex);
+			}
+		}
+		return dataMap;
+	}
+
+	/**
+	 * <h4 class="en-US">Decode the record of given row</h4>
+	 * <h4 class="zh-CN">解码给定行的记录</h4>
+	 *
+	 * @param rowIndex <span class="en-US">Row index</span>
+	 *                 <span class="zh-CN">行索引</span>
+	 * @return <span class="en-US">Decoded data mapping table or <code>null</code> if record data invalid</span>
+	 * <span class="zh-CN">解码后的数据映射表，如果记录数据非法返回 <code>null</code></span>
+	 */
+	private Map<String, Object> decode(final int rowIndex) {
+		byte[] dataBytes;
+		int offset;
+		if (this.buffer.hasArray()) {
+			dataBytes = this.buffer.array();
+			offset = this.buffer.arrayOffset() + this.offsets[rowIndex];
+		} else {
+			dataBytes = new byte[this.lengths[rowIndex]];
+			this.buffer.get(this.offsets[rowIndex], dataBytes);
+			offset = 0;
+		}
+		if (this.entityCodec == null) {
+			return StringUtils.dataToMap(new String(dataBytes, offset, this.lengths[rowIndex], StandardCharsets.UTF_8),
+					StringUtils.StringType.JSON);
+		}
+		return this.entityCodec.decodeMap(dataBytes, offset, this.lengths[rowIndex]);
+	}
+
+	/**
+	 * <h4 class="en-US">Encode the given records by entity binary codec</h4>
+	 * <h4 class="zh-CN">使用实体二进制编解码器编码给定的记录</h4>
+	 *
+	 * @param entityCodec <span class="en-US">Entity binary codec</span>
+	 *                    <span class="zh-CN">实体二进制编解码器</span>
+	 * @param recordCount <span class="en-US">Record count</span>
+	 *                    <span class="zh-CN">记录数</span>
+	 * @param records     <span class="en-US">Record data mapping table function, parameter is record index</span>
+	 *                    <span class="zh-CN">记录数据映射表函数，参数为记录索引</span>
+	 * @return <span class="en-US">Encoded records or <code>null</code> if any record cannot be encoded</span>
+	 * <span class="zh-CN">编码后的记录，如果任意记录无法编码返回 <code>null</code></span>
+	 */
+	private static byte[][] encodeRecords(@Nonnull final EntityCodec entityCodec, final int recordCount,
+	                                      @Nonnull final IntFunction<Map<String, Object>> records) {
+		byte[][] encodedRecords = new byte[recordCount][];
+		for (int i = 0; i < recordCount; i++) {
+			encodedRecords[i] = entityCodec.encodeMap(records.apply(i));
+			if (encodedRecords[i] == null) {
+				return null;
+			}
+		}
+		return encodedRecords;
+	}
+}
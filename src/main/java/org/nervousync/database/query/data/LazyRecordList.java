@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.query.data;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * <h2 class="en-US">Lazy record list define</h2>
+ * <h2 class="zh-CN">懒加载记录列表定义</h2>
+ * <span class="en-US">
+ * Random-access list view of query result, each record is decoded on first access and memoized.
+ * All records can be decoded in parallel on the common fork-join pool, the order of records is preserved.
+ * The first structural modification will decode all records into a backing array list.
+ * </span>
+ * <span class="zh-CN">
+ * 查询结果的随机访问列表视图，每条记录在首次访问时解码并缓存。可以在公共ForkJoin线程池中并行解码所有记录，记录的顺序保持不变。
+ * 第一次结构性修改将解码所有记录到内部的数组列表中。
+ * </span>
+ *
+ * @param <T> <span class="en-US">Record type</span>
+ *            <span class="zh-CN">记录类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 16, 2026 20:58:13 $
+ */
+public final class LazyRecordList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = 4530316952281638417L;
+	/**
+	 * <span class="en-US">Minimum record count to decode in parallel</span>
+	 * <span class="zh-CN">并行解码的最小记录数</span>
+	 */
+	public static final int PARALLEL_THRESHOLD = 512;
+	/**
+	 * <span class="en-US">Placeholder of decoded <code>null</code> record</span>
+	 * <span class="zh-CN">解码结果为 <code>null</code> 的记录占位符</span>
+	 */
+	private static final Object NULL_RECORD = new Object();
+
+	/**
+	 * <span class="en-US">Record count</span>
+	 * <span class="zh-CN">记录数</span>
+	 */
+	private final int recordCount;
+	/**
+	 * <span class="en-US">Record decoder, parameter is record index</span>
+	 * <span class="zh-CN">记录解码器，参数为记录索引</span>
+	 */
+	private final transient IntFunction<T> decoder;
+	/**
+	 * <span class="en-US">Decoded records</span>
+	 * <span class="zh-CN">已解码的记录</span>
+	 */
+	private final transient AtomicReferenceArray<Object> decodedRecords;
+	/**
+	 * <span class="en-US">Backing record list after structural modification</span>
+	 * <span class="zh-CN">结构性修改之后的内部记录列表</span>
+	 */
+	private volatile List<T> modifiedList = null;
+
+	/**
+	 * <h4 class="en-US">Constructor method for lazy record list</h4>
+	 * <h4 class="zh-CN">懒加载记录列表的构造方法</h4>
+	 *
+	 * @param recordCount <span class="en-US">Record count</span>
+	 *                    <span class="zh-CN">记录数</span>
+	 * @param decoder     <span class="en-US">Record decoder, parameter is record index, must be thread safe</span>
+	 *                    <span class="zh-CN">记录解码器，参数为记录索引，必须是线程安全的</span>
+	 */
+	public LazyRecordList(final int recordCount, @Nonnull final IntFunction<T> decoder) {
+		this.recordCount = Math.max(recordCount, 0);
+		this.decoder = decoder;
+		this.decodedRecords = new AtomicReferenceArray<>(this.recordCount);
+	}
+
+	/**
+	 * <h4 class="en-US">Decode all records which not decoded yet</h4>
+	 * <h4 class="zh-CN">解码所有尚未解码的记录</h4>
+	 * <span class="en-US">
+	 * If parallel is <code>true</code> and record count reaches the parallel threshold,
+	 * the records will be split and decoded on the common fork-join pool.
+	 * </span>
+	 * <span class="zh-CN">如果并行为 <code>true</code> 且记录数达到并行阈值，记录将被拆分并在公共ForkJoin线程池中解码。</span>
+	 *
+	 * @param parallel <span class="en-US">Decode records in parallel</span>
+	 *                 <span class="zh-CN">并行解码记录</span>
+	 * @return <span class="en-US">Current list instance</span>
+	 * <span class="zh-CN">当前列表实例</span>
+	 */
+	public LazyRecordList<T> decodeAll(final boolean parallel) {
+		if (this.modifiedList == null) {
+			IntStream indexes = IntStream.range(0, this.recordCount);
+			if (parallel && this.recordCount >= PARALLEL_THRESHOLD) {
+				indexes = indexes.parallel();
+			}
+			indexes.forEach(this::decoded);
+		}
+		return this;
+	}
+
+	@Override
+	public T get(final int index) {
+		List<T> currentList = this.modifiedList;
+		if (currentList != null) {
+			return currentList.get(index);
+		}
+		Objects.checkIndex(index, this.recordCount);
+		return this.decoded(index);
+	}
+
+	@Override
+	public int size() {
+		List<T> currentList = this.modifiedList;
+		return (currentList == null) ? this.recordCount : currentList.size();
+	}
+
+	@Override
+	public T set(final int index, final T element) {
+		return this.modifiable().set(index, element);
+	}
+
+	@Override
+	public void add(final int index, final T element) {
+		this.modifiable().add(index, element);
+		this.modCount++;
+	}
+
+	@Override
+	public T remove(final int index) {
+		T element = this.modifiable().remove(index);
+		this.modCount++;
+		return element;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the decoded record of given index, decode the record if not decoded yet</h4>
+	 * <h4 class="zh-CN">获取给定索引的已解码记录，如果尚未解码则解码记录</h4>
+	 *
+	 * @param index <span class="en-US">Record index</span>
+	 *              <span class="zh-CN">记录索引</span>
+	 * @return <span class="en-US">Decoded record</span>
+	 * <span class="zh-CN">已解码的记录</span>
+	 */
+	@SuppressWarnings("unchecked")
+	private T decoded(final int index) {
+		Object record = this.decodedRecords.get(index);
+		if (record == null) {
+			record = Optional.ofNullable((Object) this.decoder.apply(index)).orElse(NULL_RECORD);
+			if (!this.decodedRecords.compareAndSet(index, null, record)) {
+				record = this.decodedRecords.get(index);
+			}
+		}
+		return (record == NULL_RECORD) ? null : (T) record;
+	}
+
+	/**
+	 * <h4 class="en-US">Decode all records into the backing record list for modifying</h4>
+	 * <h4 class="zh-CN">解码所有记录到内部记录列表以便修改</h4>
+	 *
+	 * @return <span class="en-US">Backing record list</span>
+	 * <span class="zh-CN">内部记录列表</span>
+	 */
+	private synchronized List<T> modifiable() {
+		if (this.modifiedList == null) {
+			List<T> recordList = new ArrayList<>(this.recordCount);
+			for (int i = 0; i < this.recordCount; i++) {
+				recordList.add(this.decoded(i));
+			}
+			this.modifiedList = recordList;
+		}
+		return this.modifiedList;
+	}
+
+	/**
+	 * <h4 class="en-US">Replace current list by an array list when serializing</h4>
+	 * <h4 class="zh-CN">序列化时使用数组列表替换当前列表</h4>
+	 *
+	 * @return <span class="en-US">Array list contains all records</span>
+	 * <span class="zh-CN">包含所有记录的数组列表</span>
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new ArrayList<>(this);
+	}
+}
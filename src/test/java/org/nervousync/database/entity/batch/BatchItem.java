@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2003 Nervousync® Studio, Inc. All rights reserved.
+ * This software is the confidential and proprietary information of
+ * Nervousync Studio, Inc. You shall not disclose such Confidential
+ * Information and shall use it only in accordance with the terms of the
+ * license agreement you entered into with Nervousync Studio.
+ */
+
+package org.nervousync.database.entity.batch;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.nervousync.annotations.beans.OutputConfig;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.utils.StringUtils;
+
+import java.io.Serial;
+
+/**
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0 $ $Date: 10/16/2026 06:12 PM $
+ */
+@XmlRootElement(name = "batch_item")
+@XmlAccessorType(XmlAccessType.NONE)
+@OutputConfig(type = StringUtils.StringType.JSON)
+@Table(name = "Batch_Item", catalog = DatabaseCommons.DEFAULT_DATABASE_ALIAS)
+public class BatchItem extends BaseObject {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+    private static final long serialVersionUID = -5093628174402716839L;
+
+    /**
+     * The Item code.
+     */
+    @Id
+    @Column(nullable = false)
+    @XmlElement(name = "item_code")
+    private String itemCode;
+    /**
+     * The Owner code.
+     */
+    @Column(nullable = false)
+    @XmlElement(name = "owner_code")
+    private String ownerCode;
+    /**
+     * The Item value.
+     */
+    @Column(nullable = false)
+    @XmlElement(name = "item_value")
+    private int itemValue;
+
+    /**
+     * Instantiates a new Batch item.
+     */
+    public BatchItem() {
+    }
+
+    public String getItemCode() {
+        return itemCode;
+    }
+
+    public void setItemCode(String itemCode) {
+        this.itemCode = itemCode;
+    }
+
+    public String getOwnerCode() {
+        return ownerCode;
+    }
+
+    public void setOwnerCode(String ownerCode) {
+        this.ownerCode = ownerCode;
+    }
+
+    /**
+     * Gets item value.
+     *
+     * @return the item value
+     */
+    public int getItemValue() {
+        return itemValue;
+    }
+
+    /**
+     * Sets item value.
+     *
+     * @param itemValue the item value
+     */
+    public void setItemValue(int itemValue) {
+        this.itemValue = itemValue;
+    }
+}
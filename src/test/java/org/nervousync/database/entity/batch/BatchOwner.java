@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2003 Nervousync® Studio, Inc. All rights reserved.
+ * This software is the confidential and proprietary information of
+ * Nervousync Studio, Inc. You shall not disclose such Confidential
+ * Information and shall use it only in accordance with the terms of the
+ * license agreement you entered into with Nervousync Studio.
+ */
+
+package org.nervousync.database.entity.batch;
+
+import jakarta.persistence.*;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.nervousync.annotations.beans.OutputConfig;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.utils.StringUtils;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0 $ $Date: 10/16/2026 06:12 PM $
+ */
+@XmlRootElement(name = "batch_owner")
+@XmlAccessorType(XmlAccessType.NONE)
+@OutputConfig(type = StringUtils.StringType.JSON)
+@Table(name = "Batch_Owner", catalog = DatabaseCommons.DEFAULT_DATABASE_ALIAS)
+public class BatchOwner extends BaseObject {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+    private static final long serialVersionUID = 2871409526639184305L;
+
+    /**
+     * The Owner code.
+     */
+    @Id
+    @Column(nullable = false)
+    @XmlElement(name = "owner_code")
+    private String ownerCode;
+    /**
+     * The Owner name.
+     */
+    @Column(nullable = false)
+    @XmlElement(name = "owner_name")
+    private String ownerName;
+    /**
+     * The Batch items.
+     */
+    @OneToMany(targetEntity = BatchItem.class, fetch = FetchType.LAZY)
+    @JoinColumn(columnDefinition = "ownerCode", referencedColumnName = "ownerCode")
+    private List<BatchItem> batchItems;
+
+    /**
+     * Instantiates a new Batch owner.
+     */
+    public BatchOwner() {
+    }
+
+    public String getOwnerCode() {
+        return ownerCode;
+    }
+
+    public void setOwnerCode(String ownerCode) {
+        this.ownerCode = ownerCode;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    /**
+     * Gets batch items.
+     *
+     * @return the batch items
+     */
+    public List<BatchItem> getBatchItems() {
+        return batchItems;
+    }
+
+    /**
+     * Sets batch items.
+     *
+     * @param batchItems the batch items
+     */
+    public void setBatchItems(List<BatchItem> batchItems) {
+        this.batchItems = batchItems;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2003 Nervousync® Studio, Inc. All rights reserved.
+ * This software is the confidential and proprietary information of
+ * Nervousync Studio, Inc. You shall not disclose such Confidential
+ * Information and shall use it only in accordance with the terms of the
+ * license agreement you entered into with Nervousync Studio.
+ */
+
+package org.nervousync.database.entity.cache;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.nervousync.annotations.beans.OutputConfig;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.utils.StringUtils;
+
+import java.io.Serial;
+
+/**
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0 $ $Date: 10/16/2026 04:21 PM $
+ */
+@Cacheable
+@XmlRootElement(name = "cached_record")
+@XmlAccessorType(XmlAccessType.NONE)
+@OutputConfig(type = StringUtils.StringType.JSON)
+@Table(name = "Cached_Record", catalog = DatabaseCommons.DEFAULT_DATABASE_ALIAS)
+public class CachedRecord extends BaseObject {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+    private static final long serialVersionUID = -3620145857130584427L;
+
+    /**
+     * The Identify code.
+     */
+    @Id
+    @Column(nullable = false)
+    @XmlElement(name = "identify_code")
+    private String identifyCode;
+    /**
+     * The Record value.
+     */
+    @Column(nullable = false)
+    @XmlElement(name = "record_value")
+    private int recordValue;
+
+    /**
+     * Instantiates a new Cached record.
+     */
+    public CachedRecord() {
+    }
+
+    public String getIdentifyCode() {
+        return identifyCode;
+    }
+
+    public void setIdentifyCode(String identifyCode) {
+        this.identifyCode = identifyCode;
+    }
+
+    /**
+     * Gets record value.
+     *
+     * @return the record value
+     */
+    public int getRecordValue() {
+        return recordValue;
+    }
+
+    /**
+     * Sets record value.
+     *
+     * @param recordValue the record value
+     */
+    public void setRecordValue(int recordValue) {
+        this.recordValue = recordValue;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.cache;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.commons.IdentityMapClient;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.cache.CachedRecord;
+import org.nervousync.database.enumerations.transactional.Isolation;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.database.test.memory.MemoryDatabaseClient;
+import org.nervousync.database.test.memory.MemoryDatabaseManager;
+
+public final class IdentityMapClientTest extends AbstractTest {
+
+    private static final int RECORD_COUNT = 10;
+
+    private final MemoryDatabaseManager databaseManager = new MemoryDatabaseManager();
+
+    @BeforeAll
+    public void initDatabase() throws Exception {
+        MemoryDatabaseClient.reset();
+        EntityManager.registerTable(CachedRecord.class);
+        DatabaseClient databaseClient = this.databaseManager.generateClient();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            databaseClient.saveRecords(cachedRecord("Identity_" + i, i));
+        }
+    }
+
+    @AfterAll
+    public void clearDatabase() {
+        EntityManager.removeTable(CachedRecord.class);
+        MemoryDatabaseClient.reset();
+    }
+
+    @Test
+    @Order(0)
+    public void hitAndMiss() throws Exception {
+        IdentityMapClient identityMapClient = this.transactionalClient();
+        MemoryDatabaseClient.resetCount();
+        CachedRecord cachedRecord = identityMapClient.retrieve("Identity_0", CachedRecord.class, Boolean.FALSE);
+        Assertions.assertNotNull(cachedRecord);
+        Assertions.assertSame(cachedRecord,
+                identityMapClient.retrieve("Identity_0", CachedRecord.class, Boolean.FALSE));
+        Assertions.assertNull(identityMapClient.retrieve("Identity_Missing", CachedRecord.class, Boolean.FALSE));
+
+        Assertions.assertEquals(1L, identityMapClient.hitCount());
+        Assertions.assertEquals(2L, identityMapClient.missCount());
+        Assertions.assertEquals(1, identityMapClient.size());
+        Assertions.assertEquals(2, MemoryDatabaseClient.retrieveCount());
+        identityMapClient.endTransactional();
+    }
+
+    @Test
+    @Order(10)
+    public void sharedCache() throws Exception {
+        TransactionalConfig txConfig = transactionalConfig();
+        DatabaseClient databaseClient = this.databaseManager.generateClient(txConfig, Boolean.FALSE);
+        IdentityMapClient identityMapClient = (IdentityMapClient) IdentityMapClient.wrap(databaseClient);
+        IdentityMapClient otherClient = (IdentityMapClient) IdentityMapClient.wrap(databaseClient);
+        Assertions.assertEquals(identityMapClient, otherClient);
+        Assertions.assertEquals(identityMapClient.hashCode(), otherClient.hashCode());
+
+        CachedRecord cachedRecord = identityMapClient.retrieve("Identity_1", CachedRecord.class, Boolean.FALSE);
+        Assertions.assertSame(cachedRecord, otherClient.retrieve("Identity_1", CachedRecord.class, Boolean.FALSE));
+        Assertions.assertEquals(1, otherClient.size());
+        identityMapClient.endTransactional();
+    }
+
+    @Test
+    @Order(20)
+    public void evictOnWrite() throws Exception {
+        IdentityMapClient identityMapClient = this.transactionalClient();
+        CachedRecord cachedRecord = identityMapClient.retrieve("Identity_2", CachedRecord.class, Boolean.FALSE);
+        Assertions.assertNotNull(cachedRecord);
+
+        cachedRecord.setRecordValue(20);
+        identityMapClient.updateRecords(cachedRecord);
+        Assertions.assertSame(cachedRecord,
+                identityMapClient.retrieve("Identity_2", CachedRecord.class, Boolean.FALSE));
+
+        identityMapClient.updateRecords(cachedRecord("Identity_2", 200));
+        Assertions.assertEquals(0, identityMapClient.size());
+        CachedRecord updatedRecord = identityMapClient.retrieve("Identity_2", CachedRecord.class, Boolean.FALSE);
+        Assertions.assertNotSame(cachedRecord, updatedRecord);
+        Assertions.assertEquals(200, updatedRecord.getRecordValue());
+
+        identityMapClient.saveRecords(cachedRecord("Identity_2", 2));
+        Assertions.assertEquals(0, identityMapClient.size());
+        Assertions.assertEquals(2,
+                identityMapClient.retrieve("Identity_2", CachedRecord.class, Boolean.FALSE).getRecordValue());
+
+        identityMapClient.dropRecords(cachedRecord("Identity_2", 2));
+        Assertions.assertEquals(0, identityMapClient.size());
+        identityMapClient.saveRecords(cachedRecord("Identity_2", 2));
+        identityMapClient.endTransactional();
+    }
+
+    @Test
+    @Order(30)
+    public void clearOnRollback() throws Exception {
+        TransactionalConfig txConfig = transactionalConfig();
+        DatabaseClient databaseClient = this.databaseManager.generateClient(txConfig, Boolean.FALSE);
+        IdentityMapClient identityMapClient = (IdentityMapClient) IdentityMapClient.wrap(databaseClient);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Assertions.assertNotNull(identityMapClient.retrieve("Identity_" + i, CachedRecord.class, Boolean.FALSE));
+        }
+        Assertions.assertEquals(RECORD_COUNT, identityMapClient.size());
+
+        identityMapClient.rollbackTransactional();
+        Assertions.assertEquals(0, identityMapClient.size());
+        Assertions.assertNull(this.databaseManager.retrieveClient(txConfig.getTransactionalCode()));
+        Assertions.assertEquals(0, ((IdentityMapClient) IdentityMapClient.wrap(databaseClient)).size());
+    }
+
+    private IdentityMapClient transactionalClient() {
+        return (IdentityMapClient) IdentityMapClient.wrap(
+                this.databaseManager.generateClient(transactionalConfig(), Boolean.FALSE));
+    }
+
+    private static TransactionalConfig transactionalConfig() {
+        return TransactionalConfig.newInstance(0, Isolation.DEFAULT, new Class<?>[]{Exception.class});
+    }
+
+    private static CachedRecord cachedRecord(final String identifyCode, final int recordValue) {
+        CachedRecord cachedRecord = new CachedRecord();
+        cachedRecord.setIdentifyCode(identifyCode);
+        cachedRecord.setRecordValue(recordValue);
+        return cachedRecord;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.cache;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.commons.IdentityMapClient;
+import org.nervousync.database.commons.ResultCacheClient;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.cache.CachedRecord;
+import org.nervousync.database.enumerations.transactional.Isolation;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.builder.QueryBuilder;
+import org.nervousync.database.query.cache.TinyLfuResultCache;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.database.test.memory.MemoryDatabaseClient;
+import org.nervousync.database.test.memory.MemoryDatabaseManager;
+
+import java.nio.ByteBuffer;
+
+public final class ResultCacheTest extends AbstractTest {
+
+    private static final int ENTRY_WEIGHT = 4096;
+    private static final int ENTRY_COUNT = 64;
+    private static final String TABLE_KEY = "Cached_Table";
+
+    @BeforeAll
+    public void initDatabase() throws Exception {
+        DatabaseUtils.initialize(MemoryDatabaseManager.PROVIDER_NAME);
+        MemoryDatabaseClient.reset();
+        EntityManager.registerTable(CachedRecord.class);
+    }
+
+    @AfterAll
+    public void clearDatabase() {
+        DatabaseUtils.registerResultCache(new TinyLfuResultCache());
+        EntityManager.removeTable(CachedRecord.class);
+        MemoryDatabaseClient.reset();
+    }
+
+    @Test
+    @Order(0)
+    public void eviction() {
+        TinyLfuResultCache resultCache = new TinyLfuResultCache((long) ENTRY_WEIGHT * ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT * 3 / 2; i++) {
+            resultCache.store("Key_" + i, cacheBuffer(), resultCache.version(TABLE_KEY), TABLE_KEY);
+        }
+        Assertions.assertEquals(ENTRY_COUNT, resultCache.size());
+        Assertions.assertEquals(ENTRY_COUNT / 2, resultCache.evictionCount());
+        Assertions.assertTrue(resultCache.weightedSize() <= resultCache.maximumWeight());
+    }
+
+    @Test
+    @Order(10)
+    public void admission() {
+        TinyLfuResultCache resultCache = new TinyLfuResultCache((long) ENTRY_WEIGHT * ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            resultCache.store("Hot_" + i, cacheBuffer(), resultCache.version(TABLE_KEY), TABLE_KEY);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                Assertions.assertNotNull(resultCache.retrieve("Hot_" + i));
+            }
+        }
+        for (int i = 0; i < ENTRY_COUNT / 2; i++) {
+            resultCache.store("Cold_" + i, cacheBuffer(), resultCache.version(TABLE_KEY), TABLE_KEY);
+        }
+        Assertions.assertEquals(ENTRY_COUNT / 2, resultCache.evictionCount());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            Assertions.assertNotNull(resultCache.retrieve("Hot_" + i));
+        }
+        for (int i = 0; i < ENTRY_COUNT / 2; i++) {
+            Assertions.assertNull(resultCache.retrieve("Cold_" + i));
+        }
+    }
+
+    @Test
+    @Order(20)
+    public void staleVersion() {
+        TinyLfuResultCache resultCache = new TinyLfuResultCache();
+        long version = resultCache.version(TABLE_KEY);
+        resultCache.invalidate(TABLE_KEY);
+        resultCache.store("Key", cacheBuffer(), version, TABLE_KEY);
+        Assertions.assertNull(resultCache.retrieve("Key"));
+
+        resultCache.store("Key", cacheBuffer(), resultCache.version(TABLE_KEY), TABLE_KEY);
+        Assertions.assertNotNull(resultCache.retrieve("Key"));
+        resultCache.invalidate("Other_Table");
+        Assertions.assertNotNull(resultCache.retrieve("Key"));
+        resultCache.invalidate(TABLE_KEY);
+        Assertions.assertNull(resultCache.retrieve("Key"));
+
+        version = resultCache.version(TABLE_KEY);
+        resultCache.clear();
+        resultCache.store("Key", cacheBuffer(), version, TABLE_KEY);
+        Assertions.assertNull(resultCache.retrieve("Key"));
+    }
+
+    @Test
+    @Order(30)
+    public void invalidateOnWrite() throws Exception {
+        DatabaseUtils.registerResultCache(new TinyLfuResultCache());
+        DatabaseClient databaseClient = DatabaseUtils.retrieveClient();
+        Assertions.assertNotNull(databaseClient);
+        for (int i = 0; i < 10; i++) {
+            databaseClient.saveRecords(cachedRecord("Cached_" + i, i));
+        }
+        QueryInfo queryInfo = QueryBuilder.newBuilder(CachedRecord.class).useCache(Boolean.TRUE).confirm();
+
+        MemoryDatabaseClient.resetCount();
+        Assertions.assertEquals(10, databaseClient.queryList(queryInfo).size());
+        Assertions.assertEquals(10, databaseClient.queryList(queryInfo).size());
+        Assertions.assertEquals(1, MemoryDatabaseClient.queryCount());
+
+        databaseClient.saveRecords(cachedRecord("Cached_10", 10));
+        Assertions.assertEquals(11, databaseClient.queryList(queryInfo).size());
+        Assertions.assertEquals(2, MemoryDatabaseClient.queryCount());
+
+        DatabaseClient otherClient = DatabaseUtils.retrieveClient();
+        Assertions.assertNotNull(otherClient);
+        otherClient.dropRecords(cachedRecord("Cached_10", 10));
+        Assertions.assertEquals(10, databaseClient.queryList(queryInfo).size());
+        Assertions.assertEquals(3, MemoryDatabaseClient.queryCount());
+        Assertions.assertEquals(10, databaseClient.queryList(queryInfo).size());
+        Assertions.assertEquals(3, MemoryDatabaseClient.queryCount());
+    }
+
+    @Test
+    @Order(40)
+    public void transactionalBypass() throws Exception {
+        DatabaseUtils.registerResultCache(new TinyLfuResultCache());
+        DatabaseClient databaseClient = new MemoryDatabaseManager().generateClient(
+                TransactionalConfig.newInstance(0, Isolation.DEFAULT, new Class<?>[]{Exception.class}), Boolean.FALSE);
+        DatabaseClient transactionalClient =
+                ResultCacheClient.wrap(IdentityMapClient.wrap(databaseClient), Boolean.TRUE);
+        DatabaseClient otherClient = ResultCacheClient.wrap(IdentityMapClient.wrap(databaseClient), Boolean.TRUE);
+        Assertions.assertEquals(transactionalClient, otherClient);
+        Assertions.assertEquals(transactionalClient.hashCode(), otherClient.hashCode());
+        QueryInfo queryInfo = QueryBuilder.newBuilder(CachedRecord.class).useCache(Boolean.TRUE).confirm();
+
+        MemoryDatabaseClient.resetCount();
+        Assertions.assertEquals(10, transactionalClient.queryList(queryInfo).size());
+        Assertions.assertEquals(10, otherClient.queryList(queryInfo).size());
+        Assertions.assertEquals(1, MemoryDatabaseClient.queryCount());
+
+        transactionalClient.updateRecords(cachedRecord("Cached_0", 100));
+        Assertions.assertEquals(10, otherClient.queryList(queryInfo).size());
+        Assertions.assertEquals(10, otherClient.queryList(queryInfo).size());
+        Assertions.assertEquals(3, MemoryDatabaseClient.queryCount());
+
+        otherClient.endTransactional();
+        DatabaseClient cacheClient = DatabaseUtils.retrieveClient();
+        Assertions.assertNotNull(cacheClient);
+        Assertions.assertEquals(10, cacheClient.queryList(queryInfo).size());
+        Assertions.assertEquals(10, cacheClient.queryList(queryInfo).size());
+        Assertions.assertEquals(4, MemoryDatabaseClient.queryCount());
+    }
+
+    private static ByteBuffer cacheBuffer() {
+        return ByteBuffer.allocate(ENTRY_WEIGHT - 128);
+    }
+
+    private static CachedRecord cachedRecord(final String identifyCode, final int recordValue) {
+        CachedRecord cachedRecord = new CachedRecord();
+        cachedRecord.setIdentifyCode(identifyCode);
+        cachedRecord.setRecordValue(recordValue);
+        return cachedRecord;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.entity.EntityCodec;
+import org.nervousync.database.entity.relational.RelationalReference;
+import org.nervousync.database.entity.relational.TestRelational;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.utils.IDUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+public final class EntityCodecTest extends AbstractTest {
+
+    private static final int RECORD_COUNT = 10000;
+    private static final long SPEED_FACTOR = 2L;
+
+    @Test
+    @Order(0)
+    public void roundTrip() {
+        EntityCodec entityCodec = EntityCodec.codec(TestRelational.class);
+        Assertions.assertNotNull(entityCodec);
+        TestRelational testRelational = generateRecord(1);
+        byte[] dataBytes = entityCodec.encode(testRelational);
+        assertRecord(testRelational, entityCodec.decode(dataBytes, TestRelational.class));
+
+        Assertions.assertNull(entityCodec.decode(new byte[]{1, 2, 3}, TestRelational.class));
+        String jsonData = StringUtils.objectToString(testRelational, StringUtils.StringType.JSON, Boolean.FALSE);
+        this.logger.info("Codec_Size", dataBytes.length, jsonData.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @Order(5)
+    public void boundaryValues() {
+        EntityCodec entityCodec = EntityCodec.codec(TestRelational.class);
+        Assertions.assertNotNull(entityCodec);
+        TestRelational minRecord = new TestRelational();
+        minRecord.setIdentifyCode(IDUtils.nano());
+        minRecord.setTestInt(Integer.MIN_VALUE);
+        minRecord.setTestShort(Short.MIN_VALUE);
+        minRecord.setTestByte(Byte.MIN_VALUE);
+        minRecord.setTestDouble(-Double.MAX_VALUE);
+        minRecord.setTestFloat(-Float.MAX_VALUE);
+        minRecord.setTestDate(new Date(-1L));
+        minRecord.setTestBigDecimal(new BigDecimal("-1E+10"));
+        byte[] dataBytes = entityCodec.encode(minRecord);
+        TestRelational decoded = entityCodec.decode(dataBytes, TestRelational.class);
+        assertRecord(minRecord, decoded);
+        Assertions.assertNull(decoded.getMsgTitle());
+        Assertions.assertNull(decoded.getMsgBytes());
+        Assertions.assertNull(decoded.getChnId());
+
+        Map<String, Object> dataMap = entityCodec.decodeMap(dataBytes);
+        Assertions.assertNotNull(dataMap);
+        Assertions.assertFalse(dataMap.containsKey("msgTitle"));
+        Assertions.assertFalse(dataMap.containsKey("msgBytes"));
+        Assertions.assertEquals(Integer.MIN_VALUE, dataMap.get("testInt"));
+
+        TestRelational maxRecord = new TestRelational();
+        maxRecord.setIdentifyCode(IDUtils.nano());
+        maxRecord.setMsgTitle("");
+        maxRecord.setMsgBytes(new byte[0]);
+        maxRecord.setTestInt(Integer.MAX_VALUE);
+        maxRecord.setTestShort(Short.MAX_VALUE);
+        maxRecord.setTestByte(Byte.MAX_VALUE);
+        maxRecord.setTestDouble(Double.MAX_VALUE);
+        maxRecord.setTestFloat(Float.MAX_VALUE);
+        maxRecord.setTestBoolean(Boolean.TRUE);
+        maxRecord.setTestDate(new Date(0L));
+        maxRecord.setTestBigDecimal(BigDecimal.ZERO);
+        assertRecord(maxRecord, entityCodec.decode(entityCodec.encode(maxRecord), TestRelational.class));
+
+        TestRelational zeroRecord = new TestRelational();
+        zeroRecord.setIdentifyCode(IDUtils.nano());
+        zeroRecord.setTestInt(0);
+        zeroRecord.setTestShort((short) 0);
+        zeroRecord.setTestDouble(0d);
+        zeroRecord.setTestFloat(0f);
+        assertRecord(zeroRecord, entityCodec.decode(entityCodec.encode(zeroRecord), TestRelational.class));
+
+        EntityCodec referenceCodec = EntityCodec.codec(RelationalReference.class);
+        Assertions.assertNotNull(referenceCodec);
+        for (long value : new long[]{Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE}) {
+            RelationalReference relationalReference = new RelationalReference();
+            relationalReference.setIdentifyCode(IDUtils.nano());
+            relationalReference.setCurrentTime(value);
+            relationalReference.setRefStatue((int) (value >> 32));
+            RelationalReference decodedReference =
+                    referenceCodec.decode(referenceCodec.encode(relationalReference), RelationalReference.class);
+            Assertions.assertNotNull(decodedReference);
+            Assertions.assertEquals(relationalReference.getIdentifyCode(), decodedReference.getIdentifyCode());
+            Assertions.assertEquals(value, decodedReference.getCurrentTime());
+            Assertions.assertEquals(relationalReference.getRefStatue(), decodedReference.getRefStatue());
+        }
+    }
+
+    @Test
+    @Order(10)
+    public void cacheData() {
+        QueryResult queryResult = new QueryResult();
+        for (int i = 0; i < 10; i++) {
+            queryResult.addResult(generateRecord(i));
+        }
+        queryResult.setTotalCount(10L);
+        String cacheData = queryResult.cacheData();
+        this.logger.info("Cache_Data", cacheData);
+        QueryResult parsed = QueryResult.parse(cacheData);
+        Assertions.assertNotNull(parsed);
+        Assertions.assertEquals(queryResult.size(), parsed.size());
+        QueryResult buffered = QueryResult.parse(queryResult.cacheBuffer());
+        Assertions.assertNotNull(buffered);
+        Assertions.assertEquals(queryResult.getTotalCount(), buffered.getTotalCount());
+        Assertions.assertEquals(queryResult.size(), buffered.size());
+        List<TestRelational> originals = queryResult.asList(TestRelational.class);
+        List<TestRelational> records = parsed.asList(TestRelational.class);
+        for (int i = 0; i < originals.size(); i++) {
+            Assertions.assertEquals(originals.get(i).getIdentifyCode(), records.get(i).getIdentifyCode());
+            Assertions.assertEquals(originals.get(i).getTestBigDecimal(), records.get(i).getTestBigDecimal());
+        }
+    }
+
+    @Test
+    @Order(20)
+    public void throughput() {
+        EntityCodec entityCodec = EntityCodec.codec(TestRelational.class);
+        Assertions.assertNotNull(entityCodec);
+        List<TestRelational> records = new ArrayList<>(RECORD_COUNT);
+        long codecSize = 0L;
+        long jsonSize = 0L;
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            TestRelational testRelational = generateRecord(i);
+            records.add(testRelational);
+            codecSize += entityCodec.encode(testRelational).length;
+            jsonSize += StringUtils.objectToString(testRelational, StringUtils.StringType.JSON, Boolean.FALSE)
+                    .getBytes(StandardCharsets.UTF_8).length;
+        }
+        Assertions.assertTrue(codecSize < jsonSize);
+
+        codecTime(entityCodec, records);
+        jsonTime(records);
+        long codecTime = codecTime(entityCodec, records);
+        long jsonTime = jsonTime(records);
+        this.logger.info("Codec_Throughput", RECORD_COUNT, codecTime / 1_000_000L, jsonTime / 1_000_000L);
+        Assertions.assertTrue(codecTime < jsonTime * SPEED_FACTOR);
+    }
+
+    private static long codecTime(final EntityCodec entityCodec, final List<TestRelational> records) {
+        long beginTime = System.nanoTime();
+        for (TestRelational record : records) {
+            Assertions.assertNotNull(entityCodec.decode(entityCodec.encode(record), TestRelational.class));
+        }
+        return System.nanoTime() - beginTime;
+    }
+
+    private static long jsonTime(final List<TestRelational> records) {
+        long beginTime = System.nanoTime();
+        for (TestRelational record : records) {
+            String jsonData = StringUtils.objectToString(record, StringUtils.StringType.JSON, Boolean.FALSE);
+            Assertions.assertNotNull(StringUtils.stringToObject(jsonData, TestRelational.class));
+        }
+        return System.nanoTime() - beginTime;
+    }
+
+    private static void assertRecord(final TestRelational expected, final TestRelational decoded) {
+        Assertions.assertNotNull(decoded);
+        Assertions.assertEquals(expected.getIdentifyCode(), decoded.getIdentifyCode());
+        Assertions.assertEquals(expected.getMsgTitle(), decoded.getMsgTitle());
+        Assertions.assertArrayEquals(expected.getMsgBytes(), decoded.getMsgBytes());
+        Assertions.assertEquals(expected.getChnId(), decoded.getChnId());
+        Assertions.assertEquals(expected.getTestInt(), decoded.getTestInt());
+        Assertions.assertEquals(expected.getTestShort(), decoded.getTestShort());
+        Assertions.assertEquals(expected.getTestDouble(), decoded.getTestDouble());
+        Assertions.assertEquals(expected.getTestFloat(), decoded.getTestFloat());
+        Assertions.assertEquals(expected.getTestByte(), decoded.getTestByte());
+        Assertions.assertEquals(expected.isTestBoolean(), decoded.isTestBoolean());
+        Assertions.assertEquals(expected.getTestDate(), decoded.getTestDate());
+        Assertions.assertEquals(expected.getTestBigDecimal(), decoded.getTestBigDecimal());
+    }
+
+    private static TestRelational generateRecord(final int index) {
+        TestRelational testRelational = new TestRelational();
+        testRelational.setIdentifyCode(IDUtils.nano());
+        testRelational.setMsgTitle("Title " + index);
+        testRelational.setMsgBytes(("Message " + index).getBytes(StandardCharsets.UTF_8));
+        testRelational.setChnId("CHN" + index);
+        testRelational.setTestInt(-index);
+        testRelational.setTestShort((short) index);
+        testRelational.setTestDouble(index * 1.5d);
+        testRelational.setTestFloat(index * 0.5f);
+        testRelational.setTestByte((byte) index);
+        testRelational.setTestBoolean(index % 2 == 0);
+        testRelational.setTestDate(new Date());
+        testRelational.setTestBigDecimal(new BigDecimal("-12345.6789").add(BigDecimal.valueOf(index)));
+        return testRelational;
+    }
+}
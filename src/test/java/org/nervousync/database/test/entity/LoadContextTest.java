@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.entity;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.batch.BatchItem;
+import org.nervousync.database.entity.batch.BatchOwner;
+import org.nervousync.database.entity.core.LoadContext;
+import org.nervousync.database.entity.core.PrefetchPolicy;
+import org.nervousync.database.entity.relational.RelationalReference;
+import org.nervousync.database.entity.relational.TestRelational;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.query.builder.QueryBuilder;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.database.test.memory.MemoryDatabaseClient;
+import org.nervousync.database.test.memory.MemoryDatabaseManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public final class LoadContextTest extends AbstractTest {
+
+    private static final int RECORD_COUNT = 250;
+    private static final int OWNER_COUNT = 150;
+    private static final int ITEM_COUNT = 3;
+
+    @BeforeAll
+    public void initDatabase() throws Exception {
+        DatabaseUtils.initialize(MemoryDatabaseManager.PROVIDER_NAME);
+        MemoryDatabaseClient.reset();
+        DatabaseClient databaseClient = DatabaseUtils.retrieveClient();
+        Assertions.assertNotNull(databaseClient);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            TestRelational testRelational = new TestRelational();
+            testRelational.setIdentifyCode("Relational_" + i);
+            testRelational.setMsgTitle("Title " + i);
+            testRelational.setMsgContent("Content " + i);
+            RelationalReference relationalReference = new RelationalReference();
+            relationalReference.setIdentifyCode(testRelational.getIdentifyCode());
+            relationalReference.setRefStatue(i);
+            databaseClient.saveRecords(testRelational, relationalReference);
+        }
+        EntityManager.registerTable(BatchItem.class, BatchOwner.class);
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            BatchOwner batchOwner = new BatchOwner();
+            batchOwner.setOwnerCode("Owner_" + i);
+            batchOwner.setOwnerName("Owner " + i);
+            databaseClient.saveRecords(batchOwner);
+            for (int j = 0; j < itemCount(i); j++) {
+                BatchItem batchItem = new BatchItem();
+                batchItem.setItemCode("Item_" + i + "_" + j);
+                batchItem.setOwnerCode(batchOwner.getOwnerCode());
+                batchItem.setItemValue(j);
+                databaseClient.saveRecords(batchItem);
+            }
+        }
+    }
+
+    @AfterAll
+    public void clearDatabase() {
+        EntityManager.removeTable(BatchItem.class, BatchOwner.class);
+        MemoryDatabaseClient.reset();
+        LoadContext.batchSize(LoadContext.DEFAULT_BATCH_SIZE);
+    }
+
+    @Test
+    @Order(0)
+    public void lazyListReference() throws Exception {
+        DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+        Assertions.assertNotNull(databaseClient);
+        QueryResult queryResult = databaseClient.queryList(QueryBuilder.newQuery(TestRelational.class));
+        List<TestRelational> recordList = queryResult.asList(TestRelational.class, Boolean.TRUE);
+        Assertions.assertEquals(RECORD_COUNT, recordList.size());
+
+        MemoryDatabaseClient.resetCount();
+        for (TestRelational testRelational : recordList) {
+            RelationalReference relationalReference = testRelational.getRelationalReference();
+            Assertions.assertNotNull(relationalReference);
+            Assertions.assertEquals(testRelational.getIdentifyCode(), relationalReference.getIdentifyCode());
+        }
+        int batchSize = LoadContext.batchSize();
+        Assertions.assertEquals((RECORD_COUNT + batchSize - 1) / batchSize, MemoryDatabaseClient.queryCount());
+    }
+
+    @Test
+    @Order(5)
+    public void lazyReferenceBatchSize() throws Exception {
+        LoadContext.batchSize(7);
+        try {
+            DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+            Assertions.assertNotNull(databaseClient);
+            QueryResult queryResult = databaseClient.queryList(QueryBuilder.newQuery(TestRelational.class));
+            List<TestRelational> recordList = queryResult.asList(TestRelational.class, Boolean.TRUE);
+
+            MemoryDatabaseClient.resetCount();
+            for (TestRelational testRelational : recordList) {
+                Assertions.assertEquals(testRelational.getIdentifyCode(),
+                        testRelational.getRelationalReference().getIdentifyCode());
+            }
+            Assertions.assertEquals((RECORD_COUNT + 6) / 7, MemoryDatabaseClient.queryCount());
+            Assertions.assertEquals(0, MemoryDatabaseClient.retrieveCount());
+        } finally {
+            LoadContext.batchSize(LoadContext.DEFAULT_BATCH_SIZE);
+        }
+    }
+
+    @Test
+    @Order(10)
+    public void prefetchLazyColumn() throws Exception {
+        PrefetchPolicy.register(TestRelational.class, "msgContent");
+        try {
+            PrefetchPolicy.FieldStatistics statistics = PrefetchPolicy.statistics(TestRelational.class, "msgContent");
+            long hitCount = statistics.hitCount();
+            long missCount = statistics.missCount();
+            DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+            Assertions.assertNotNull(databaseClient);
+
+            MemoryDatabaseClient.resetCount();
+            QueryResult queryResult = databaseClient.queryList(QueryBuilder.newQuery(TestRelational.class));
+            List<TestRelational> recordList = queryResult.asList(TestRelational.class, Boolean.TRUE);
+            Assertions.assertEquals(RECORD_COUNT, recordList.size());
+            for (TestRelational testRelational : recordList) {
+                Assertions.assertEquals(testRelational.getIdentifyCode().replace("Relational_", "Content "),
+                        testRelational.getMsgContent());
+            }
+            int batchSize = LoadContext.batchSize();
+            Assertions.assertEquals(1 + (RECORD_COUNT + batchSize - 1) / batchSize, MemoryDatabaseClient.queryCount());
+            Assertions.assertEquals(0, MemoryDatabaseClient.lazyCount());
+            Assertions.assertEquals(hitCount + RECORD_COUNT, statistics.hitCount());
+            Assertions.assertEquals(missCount, statistics.missCount());
+        } finally {
+            PrefetchPolicy.unregister(TestRelational.class);
+        }
+    }
+
+    @Test
+    @Order(20)
+    public void lazyCollectionReference() throws Exception {
+        DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+        Assertions.assertNotNull(databaseClient);
+        QueryResult queryResult = databaseClient.queryList(QueryBuilder.newQuery(BatchOwner.class));
+        List<BatchOwner> ownerList = queryResult.asList(BatchOwner.class, Boolean.TRUE);
+        Assertions.assertEquals(OWNER_COUNT, ownerList.size());
+
+        MemoryDatabaseClient.resetCount();
+        checkItems(ownerList);
+        int batchSize = LoadContext.batchSize();
+        Assertions.assertEquals((OWNER_COUNT + batchSize - 1) / batchSize, MemoryDatabaseClient.queryCount());
+    }
+
+    @Test
+    @Order(30)
+    public void lazyCollectionWithoutBatch() throws Exception {
+        LoadContext.batchSize(1);
+        try {
+            DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+            Assertions.assertNotNull(databaseClient);
+            QueryResult queryResult = databaseClient.queryList(QueryBuilder.newQuery(BatchOwner.class));
+            List<BatchOwner> ownerList = queryResult.asList(BatchOwner.class, Boolean.TRUE);
+
+            MemoryDatabaseClient.resetCount();
+            checkItems(ownerList);
+            Assertions.assertEquals(OWNER_COUNT, MemoryDatabaseClient.queryCount());
+        } finally {
+            LoadContext.batchSize(LoadContext.DEFAULT_BATCH_SIZE);
+        }
+    }
+
+    @Test
+    @Order(40)
+    public void updateNullColumn() throws Exception {
+        DatabaseClient databaseClient = DatabaseUtils.retrieveClient();
+        Assertions.assertNotNull(databaseClient);
+        TestRelational testRelational = databaseClient.retrieve("Relational_0", TestRelational.class, Boolean.TRUE);
+        Assertions.assertNotNull(testRelational);
+        Assertions.assertNull(testRelational.getTestBigDecimal());
+        Assertions.assertTrue(testRelational.loadedField("testBigDecimal"));
+        Assertions.assertFalse(testRelational.loadedField("msgBytes"));
+        Assertions.assertFalse(testRelational.dataModified());
+
+        testRelational.setTestBigDecimal(BigDecimal.TEN);
+        Assertions.assertTrue(testRelational.dataModified());
+        Assertions.assertEquals(List.of("testBigDecimal"), testRelational.modifiedColumns());
+
+        MemoryDatabaseClient.resetCount();
+        if (testRelational.dataModified()) {
+            databaseClient.updateRecords(testRelational);
+        }
+        Assertions.assertEquals(1, MemoryDatabaseClient.updateCount());
+        Assertions.assertEquals(BigDecimal.TEN,
+                databaseClient.retrieve("Relational_0", TestRelational.class, Boolean.FALSE).getTestBigDecimal());
+    }
+
+    private static void checkItems(final List<BatchOwner> ownerList) {
+        for (BatchOwner batchOwner : ownerList) {
+            int index = Integer.parseInt(batchOwner.getOwnerCode().substring("Owner_".length()));
+            List<BatchItem> batchItems = batchOwner.getBatchItems();
+            Assertions.assertNotNull(batchItems);
+            Assertions.assertEquals(itemCount(index), batchItems.size());
+            batchItems.forEach(batchItem ->
+                    Assertions.assertEquals(batchOwner.getOwnerCode(), batchItem.getOwnerCode()));
+        }
+    }
+
+    private static int itemCount(final int index) {
+        return (index % 5 == 0) ? 0 : ITEM_COUNT;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.memory;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.FieldAccessor;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.query.condition.Condition;
+import org.nervousync.database.query.condition.impl.ColumnCondition;
+import org.nervousync.database.query.condition.impl.GroupCondition;
+import org.nervousync.database.query.data.ArrayData;
+import org.nervousync.enumerations.core.ConnectionCode;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-memory database client for unit tests.
+ * Records are stored as column value maps, query conditions support equal and in only.
+ * Lazy load columns are only returned by queries which fetch them.
+ */
+public final class MemoryDatabaseClient implements DatabaseClient {
+
+    private static final Map<Class<?>, Map<List<Object>, Map<String, Object>>> TABLES = new ConcurrentHashMap<>();
+    private static final AtomicInteger QUERY_COUNT = new AtomicInteger(0);
+    private static final AtomicInteger RETRIEVE_COUNT = new AtomicInteger(0);
+    private static final AtomicInteger LAZY_COUNT = new AtomicInteger(0);
+    private static final AtomicInteger UPDATE_COUNT = new AtomicInteger(0);
+
+    private final long transactionalCode;
+    private final Consumer<Long> closeCallback;
+
+    MemoryDatabaseClient(final long transactionalCode, final Consumer<Long> closeCallback) {
+        this.transactionalCode = transactionalCode;
+        this.closeCallback = closeCallback;
+    }
+
+    public static void reset() {
+        TABLES.clear();
+        resetCount();
+    }
+
+    public static void resetCount() {
+        QUERY_COUNT.set(0);
+        RETRIEVE_COUNT.set(0);
+        LAZY_COUNT.set(0);
+        UPDATE_COUNT.set(0);
+    }
+
+    public static int queryCount() {
+        return QUERY_COUNT.get();
+    }
+
+    public static int retrieveCount() {
+        return RETRIEVE_COUNT.get();
+    }
+
+    public static int lazyCount() {
+        return LAZY_COUNT.get();
+    }
+
+    public static int updateCount() {
+        return UPDATE_COUNT.get();
+    }
+
+    static void truncate(final Class<?>... entityClasses) {
+        Arrays.stream(entityClasses).forEach(TABLES::remove);
+    }
+
+    @Override
+    public void rollbackTransactional() {
+        this.close();
+    }
+
+    @Override
+    public void endTransactional() {
+        this.close();
+    }
+
+    @Override
+    public boolean rollbackException(final Exception e) {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public void saveRecords(final BaseObject... recordObjects) {
+        this.writeRecords(recordObjects);
+    }
+
+    @Override
+    public void updateRecords(final BaseObject... recordObjects) {
+        UPDATE_COUNT.incrementAndGet();
+        this.writeRecords(recordObjects);
+    }
+
+    @Override
+    public void dropRecords(final BaseObject... recordObjects) {
+        for (BaseObject recordObject : recordObjects) {
+            TableConfig tableConfig = EntityManager.tableConfig(recordObject.getClass());
+            List<Object> recordKey = recordKey(tableConfig, columnValues(tableConfig, recordObject));
+            Optional.ofNullable(TABLES.get(tableConfig.getDefineClass())).ifPresent(table -> table.remove(recordKey));
+        }
+    }
+
+    @Override
+    public Object lazyColumn(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+                             final String identifyKey) {
+        LAZY_COUNT.incrementAndGet();
+        return Optional.ofNullable(this.readRecord(primaryKeyMap, entityClass))
+                .map(dataMap -> dataMap.get(identifyKey))
+                .orElse(null);
+    }
+
+    @Override
+    public <T> T retrieve(final Object primaryKey, final Class<T> entityClass, final boolean forUpdate) {
+        TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+        return this.retrieve(Collections.singletonMap(tableConfig.primaryKeyNames().get(0), primaryKey),
+                entityClass, forUpdate);
+    }
+
+    @Override
+    public <T> T retrieve(final Map<String, Object> primaryKeyMap, final Class<T> entityClass,
+                          final boolean forUpdate) {
+        RETRIEVE_COUNT.incrementAndGet();
+        return Optional.ofNullable(this.readRecord(primaryKeyMap, entityClass))
+                .map(dataMap -> {
+                    QueryResult queryResult = new QueryResult();
+                    queryResult.addResult(entityClass, dataMap);
+                    T record = queryResult.asList(entityClass).get(0);
+                    if (record instanceof BaseObject) {
+                        ((BaseObject) record).setForUpdate(forUpdate);
+                        ((BaseObject) record).setTransactionalCode(this.transactionalCode);
+                    }
+                    return record;
+                })
+                .orElse(null);
+    }
+
+    @Override
+    public long queryTotal(@Nonnull final QueryInfo queryInfo) {
+        QUERY_COUNT.incrementAndGet();
+        return this.matchRecords(queryInfo).size();
+    }
+
+    @Override
+    public QueryResult queryList(final QueryInfo queryInfo) {
+        QUERY_COUNT.incrementAndGet();
+        QueryResult queryResult = new QueryResult();
+        List<Map<String, Object>> matchRecords = this.matchRecords(queryInfo);
+        matchRecords.forEach(dataMap -> queryResult.addResult(queryInfo.getMainEntity(), dataMap));
+        queryResult.setTotalCount(matchRecords.size());
+        return queryResult;
+    }
+
+    private void close() {
+        if (this.closeCallback != null) {
+            this.closeCallback.accept(this.transactionalCode);
+        }
+    }
+
+    private void writeRecords(final BaseObject... recordObjects) {
+        for (BaseObject recordObject : recordObjects) {
+            TableConfig tableConfig = EntityManager.tableConfig(recordObject.getClass());
+            Map<String, Object> dataMap = columnValues(tableConfig, recordObject);
+            TABLES.computeIfAbsent(tableConfig.getDefineClass(),
+                            key -> Collections.synchronizedMap(new LinkedHashMap<>()))
+                    .put(recordKey(tableConfig, dataMap), dataMap);
+        }
+    }
+
+    private Map<String, Object> readRecord(final Map<String, Object> primaryKeyMap, final Class<?> entityClass) {
+        TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+        Map<String, Object> dataMap = new HashMap<>();
+        primaryKeyMap.forEach((key, value) ->
+                Optional.ofNullable(tableConfig.columnConfig(key))
+                        .ifPresent(columnConfig -> dataMap.put(columnConfig.getFieldName(), value)));
+        return Optional.ofNullable(TABLES.get(tableConfig.getDefineClass()))
+                .map(table -> table.get(recordKey(tableConfig, dataMap)))
+                .map(HashMap::new)
+                .orElse(null);
+    }
+
+    private List<Map<String, Object>> matchRecords(final QueryInfo queryInfo) {
+        List<Map<String, Object>> matchRecords = new ArrayList<>();
+        List<String> lazyFields = new ArrayList<>();
+        Optional.ofNullable(EntityManager.tableConfig(queryInfo.getMainEntity()))
+                .ifPresent(tableConfig -> tableConfig.getColumnConfigs()
+                        .stream()
+                        .filter(ColumnConfig::isLazyLoad)
+                        .map(ColumnConfig::getFieldName)
+                        .filter(fieldName -> queryInfo.getFetchFields() == null
+                                || !queryInfo.getFetchFields().contains(fieldName))
+                        .forEach(lazyFields::add));
+        Optional.ofNullable(TABLES.get(queryInfo.getMainEntity()))
+                .ifPresent(table -> {
+                    synchronized (table) {
+                        table.values()
+                                .stream()
+                                .filter(dataMap -> matches(queryInfo.getConditionList(), dataMap))
+                                .map(HashMap::new)
+                                .forEach(dataMap -> {
+                                    lazyFields.forEach(dataMap::remove);
+                                    matchRecords.add(dataMap);
+                                });
+                    }
+                });
+        return matchRecords;
+    }
+
+    private static boolean matches(final List<Condition> conditionList, final Map<String, Object> dataMap) {
+        boolean result = Boolean.TRUE;
+        boolean first = Boolean.TRUE;
+        for (Condition condition : conditionList) {
+            boolean matched = matches(condition, dataMap);
+            if (first) {
+                result = matched;
+                first = Boolean.FALSE;
+            } else if (ConnectionCode.OR.equals(condition.getConnectionCode())) {
+                result = result || matched;
+            } else {
+                result = result && matched;
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(final Condition condition, final Map<String, Object> dataMap) {
+        if (condition instanceof GroupCondition) {
+            return matches(((GroupCondition) condition).getConditionList(), dataMap);
+        }
+        ColumnCondition columnCondition = (ColumnCondition) condition;
+        Object fieldValue = dataMap.get(columnCondition.getIdentifyKey());
+        Object itemValue = columnCondition.getConditionParameter().getItemValue();
+        return switch (columnCondition.getConditionCode()) {
+            case EQUAL -> Objects.equals(fieldValue, itemValue);
+            case IN -> Arrays.asList(((ArrayData) itemValue).getArrayObject()).contains(fieldValue);
+            default -> throw new UnsupportedOperationException(columnCondition.getConditionCode().name());
+        };
+    }
+
+    private static Map<String, Object> columnValues(final TableConfig tableConfig, final Object recordObject) {
+        Map<String, Object> dataMap = new HashMap<>();
+        for (ColumnConfig columnConfig : tableConfig.getColumnConfigs()) {
+            dataMap.put(columnConfig.getFieldName(),
+                    FieldAccessor.getFieldValue(columnConfig.getFieldName(), recordObject));
+        }
+        return dataMap;
+    }
+
+    private static List<Object> recordKey(final TableConfig tableConfig, final Map<String, Object> dataMap) {
+        List<Object> recordKey = new ArrayList<>();
+        tableConfig.primaryKeyColumns()
+                .forEach(columnConfig -> recordKey.add(dataMap.get(columnConfig.getFieldName())));
+        return recordKey;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.memory;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.api.DatabaseManager;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory database manager for unit tests, the clients count the executed queries.
+ */
+@Provider(name = MemoryDatabaseManager.PROVIDER_NAME, titleKey = "memory.name.database.manager")
+public final class MemoryDatabaseManager implements DatabaseManager {
+
+    public static final String PROVIDER_NAME = "MemoryDatabase";
+
+    private final Map<Long, DatabaseClient> transactionalClients = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean initialize() {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public void initTable(final List<TableConfig> tableConfigs) {
+    }
+
+    @Override
+    public void truncateTable(final Class<?>... entityClasses) {
+        MemoryDatabaseClient.truncate(entityClasses);
+    }
+
+    @Override
+    public void dropTable(final List<TableConfig> tableConfigs) {
+        MemoryDatabaseClient.truncate(tableConfigs.stream().map(TableConfig::getDefineClass).toArray(Class[]::new));
+    }
+
+    @Override
+    public DatabaseClient restoreClient() {
+        return new MemoryDatabaseClient(Globals.DEFAULT_VALUE_LONG, null);
+    }
+
+    @Override
+    public DatabaseClient readOnlyClient() {
+        return new MemoryDatabaseClient(Globals.DEFAULT_VALUE_LONG, null);
+    }
+
+    @Override
+    public DatabaseClient generateClient() {
+        return new MemoryDatabaseClient(Globals.DEFAULT_VALUE_LONG, null);
+    }
+
+    @Override
+    public DatabaseClient generateClient(final TransactionalConfig txConfig, final boolean restoreMode) {
+        if (txConfig == null) {
+            return this.generateClient();
+        }
+        return this.transactionalClients.computeIfAbsent(txConfig.getTransactionalCode(),
+                transactionalCode -> new MemoryDatabaseClient(transactionalCode, this.transactionalClients::remove));
+    }
+
+    @Override
+    public DatabaseClient retrieveClient(final long transactionalCode) {
+        return this.transactionalClients.get(transactionalCode);
+    }
+
+    @Override
+    public void destroy() {
+        this.transactionalClients.clear();
+    }
+}
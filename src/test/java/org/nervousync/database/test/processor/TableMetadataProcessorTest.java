@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.processor;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.beans.core.BeanObject;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.distribute.DistributeReference;
+import org.nervousync.database.entity.distribute.TestDistribute;
+import org.nervousync.database.entity.relational.RelationalReference;
+import org.nervousync.database.entity.relational.TestRelational;
+import org.nervousync.database.processor.TableMetadataProcessor;
+import org.nervousync.database.providers.metadata.TableMetadataProvider;
+import org.nervousync.database.test.AbstractTest;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class TableMetadataProcessorTest extends AbstractTest {
+
+    private static final Path SOURCE_PATH = Path.of("src", "test", "java");
+
+    private Path outputPath;
+    private ClassLoader classLoader;
+
+    @BeforeAll
+    public void generateProviders() throws IOException {
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        Assumptions.assumeTrue(javaCompiler != null);
+        this.outputPath = Files.createTempDirectory("TableMetadata");
+        List<Path> sourceFiles = new ArrayList<>();
+        for (Class<?> entityClass : List.of(DistributeReference.class, TestDistribute.class,
+                RelationalReference.class, TestRelational.class)) {
+            sourceFiles.add(SOURCE_PATH.resolve(entityClass.getName().replace('.', '/') + ".java"));
+        }
+        try (StandardJavaFileManager fileManager = javaCompiler.getStandardFileManager(null, null, null)) {
+            JavaCompiler.CompilationTask compilationTask = javaCompiler.getTask(null, fileManager, null,
+                    List.of("-classpath", System.getProperty("java.class.path"),
+                            "-d", this.outputPath.toString(), "-s", this.outputPath.toString()),
+                    null, fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            compilationTask.setProcessors(List.of(new TableMetadataProcessor()));
+            Assertions.assertTrue(compilationTask.call());
+        }
+        this.classLoader = new URLClassLoader(new URL[]{this.outputPath.toUri().toURL()},
+                TableMetadataProcessorTest.class.getClassLoader());
+    }
+
+    @AfterAll
+    public void removeProviders() throws IOException {
+        if (this.classLoader instanceof URLClassLoader) {
+            ((URLClassLoader) this.classLoader).close();
+        }
+        if (this.outputPath != null) {
+            try (var paths = Files.walk(this.outputPath)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    @Order(0)
+    public void relational() throws Exception {
+        this.compare(TestRelational.class);
+        this.compare(RelationalReference.class);
+    }
+
+    @Test
+    @Order(10)
+    public void distribute() throws Exception {
+        this.compare(TestDistribute.class);
+        this.compare(DistributeReference.class);
+    }
+
+    private void compare(final Class<?> entityClass) throws Exception {
+        Class<?> providerClass = Class.forName(entityClass.getName() + TableMetadataProvider.CLASS_NAME_SUFFIX,
+                Boolean.TRUE, this.classLoader);
+        TableConfig generated =
+                ((TableMetadataProvider) providerClass.getDeclaredConstructor().newInstance()).tableConfig();
+        TableConfig reflective = TableConfig.newInstance(entityClass);
+        Assertions.assertNotNull(generated);
+        Assertions.assertNotNull(reflective);
+
+        Assertions.assertEquals(reflective.getDefineClass(), generated.getDefineClass());
+        Assertions.assertEquals(reflective.getSchemaName(), generated.getSchemaName());
+        Assertions.assertEquals(reflective.getTableName(), generated.getTableName());
+        Assertions.assertEquals(reflective.isCacheable(), generated.isCacheable());
+        Assertions.assertEquals(reflective.isSnapshot(), generated.isSnapshot());
+        Assertions.assertEquals(reflective.isReadOnly(), generated.isReadOnly());
+        Assertions.assertEquals(reflective.isCompositeId(), generated.isCompositeId());
+        Assertions.assertEquals(reflective.getLockOption(), generated.getLockOption());
+        Assertions.assertEquals(reflective.getDropOption(), generated.getDropOption());
+
+        Assertions.assertEquals(describe(reflective.getColumnConfigs(), columnConfig -> columnConfig.getFieldName()),
+                describe(generated.getColumnConfigs(), columnConfig -> columnConfig.getFieldName()));
+        Assertions.assertEquals(
+                describe(reflective.getReferenceConfigs(), referenceConfig -> referenceConfig.getFieldName()),
+                describe(generated.getReferenceConfigs(), referenceConfig -> referenceConfig.getFieldName()));
+        Assertions.assertEquals(describe(reflective.getIndexInfos(), indexInfo -> indexInfo.getIndexName()),
+                describe(generated.getIndexInfos(), indexInfo -> indexInfo.getIndexName()));
+    }
+
+    private static <T extends BeanObject> Map<String, String> describe(final List<T> configList,
+                                                                       final Function<T, String> keyFunction) {
+        return configList.stream()
+                .collect(Collectors.toMap(keyFunction, BeanObject::toFormattedJson, (first, second) -> first,
+                        TreeMap::new));
+    }
+}
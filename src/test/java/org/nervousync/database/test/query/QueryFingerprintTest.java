@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.query;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.entity.relational.RelationalReference;
+import org.nervousync.database.entity.relational.TestRelational;
+import org.nervousync.database.enumerations.lock.LockOption;
+import org.nervousync.database.query.QueryFingerprint;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.builder.QueryBuilder;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.exceptions.builder.BuilderException;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.function.Consumer;
+
+public final class QueryFingerprintTest extends AbstractTest {
+
+	@Test
+	public void equalShape() throws BuilderException {
+		QueryInfo queryInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		QueryInfo otherInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		Assertions.assertNotSame(queryInfo, otherInfo);
+		Assertions.assertEquals(queryInfo.fingerprint(), otherInfo.fingerprint());
+		Assertions.assertEquals(queryInfo.fingerprint().hashCode(), otherInfo.fingerprint().hashCode());
+		Assertions.assertEquals(queryInfo.fingerprint().toString(), otherInfo.fingerprint().toString());
+		Assertions.assertEquals(queryInfo.shapeFingerprint(), otherInfo.shapeFingerprint());
+		Assertions.assertNotEquals(queryInfo.fingerprint(), queryInfo.shapeFingerprint());
+		Assertions.assertSame(queryInfo.fingerprint(), queryInfo.fingerprint());
+	}
+
+	@Test
+	public void constantValues() throws BuilderException {
+		QueryInfo queryInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		QueryInfo otherInfo = query("Other_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		Assertions.assertNotEquals(queryInfo.fingerprint(), otherInfo.fingerprint());
+		Assertions.assertEquals(queryInfo.shapeFingerprint(), otherInfo.shapeFingerprint());
+
+		QueryInfo pageInfo = query("Identify_Code", 2, 20, Boolean.FALSE, LockOption.NONE);
+		Assertions.assertNotEquals(queryInfo.fingerprint(), pageInfo.fingerprint());
+		Assertions.assertEquals(queryInfo.shapeFingerprint(), pageInfo.shapeFingerprint());
+	}
+
+	@Test
+	public void queryOptions() throws BuilderException {
+		QueryInfo queryInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		QueryInfo limitInfo = query("Identify_Code", 1, 50, Boolean.FALSE, LockOption.NONE);
+		Assertions.assertNotEquals(queryInfo.fingerprint(), limitInfo.fingerprint());
+		Assertions.assertNotEquals(queryInfo.shapeFingerprint(), limitInfo.shapeFingerprint());
+
+		QueryInfo updateInfo = query("Identify_Code", 1, 20, Boolean.TRUE, LockOption.NONE);
+		Assertions.assertNotEquals(queryInfo.fingerprint(), updateInfo.fingerprint());
+		Assertions.assertNotEquals(queryInfo.shapeFingerprint(), updateInfo.shapeFingerprint());
+
+		QueryInfo lockInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.PESSIMISTIC_UPGRADE);
+		Assertions.assertNotEquals(queryInfo.fingerprint(), lockInfo.fingerprint());
+		Assertions.assertNotEquals(queryInfo.shapeFingerprint(), lockInfo.shapeFingerprint());
+	}
+
+	@Test
+	public void temporalValues() throws BuilderException {
+		Instant instant = Instant.ofEpochMilli(1_700_000_000_123L);
+		QueryFingerprint fingerprint = temporal(instant).fingerprint();
+		Assertions.assertEquals(fingerprint, temporal(new Date(instant.toEpochMilli())).fingerprint());
+		Assertions.assertEquals(fingerprint, temporal(Timestamp.from(instant)).fingerprint());
+		Assertions.assertEquals(fingerprint, temporal(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC)).fingerprint());
+		Assertions.assertEquals(fingerprint,
+				temporal(ZonedDateTime.ofInstant(instant, ZoneId.of("Asia/Shanghai"))).fingerprint());
+
+		Timestamp timestamp = Timestamp.from(instant);
+		timestamp.setNanos(timestamp.getNanos() + 1);
+		Assertions.assertNotEquals(fingerprint, temporal(timestamp).fingerprint());
+		Assertions.assertNotEquals(fingerprint,
+				temporal(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)).fingerprint());
+		Assertions.assertEquals(temporal(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)).fingerprint(),
+				temporal(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)).fingerprint());
+	}
+
+	@Test
+	public void resetFingerprint() throws BuilderException {
+		QueryInfo groupInfo = QueryBuilder.newBuilder(TestRelational.class)
+				.addColumn(TestRelational.class, "testShort")
+				.groupBy(TestRelational.class, "testShort")
+				.confirm();
+		assertReset(queryInfo -> queryInfo.setMainEntity(RelationalReference.class));
+		assertReset(queryInfo -> queryInfo.setQueryJoins(new ArrayList<>()));
+		assertReset(queryInfo -> queryInfo.setItemList(new ArrayList<>(queryInfo.getItemList().subList(0, 1))));
+		assertReset(queryInfo -> queryInfo.setConditionList(new ArrayList<>()));
+		assertReset(queryInfo -> queryInfo.setOrderByList(new ArrayList<>()));
+		assertReset(queryInfo -> queryInfo.setGroupByList(new ArrayList<>(groupInfo.getGroupByList())));
+		assertReset(queryInfo -> queryInfo.setForUpdate(Boolean.TRUE));
+		assertReset(queryInfo -> queryInfo.setLockOption(LockOption.PESSIMISTIC_UPGRADE));
+		assertReset(queryInfo -> queryInfo.setPageNo(3));
+		assertReset(queryInfo -> queryInfo.setPageLimit(50));
+	}
+
+	private static void assertReset(final Consumer<QueryInfo> setter) throws BuilderException {
+		QueryInfo expectedInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		setter.accept(expectedInfo);
+
+		QueryInfo queryInfo = query("Identify_Code", 1, 20, Boolean.FALSE, LockOption.NONE);
+		QueryFingerprint fingerprint = queryInfo.fingerprint();
+		Assertions.assertNotNull(queryInfo.shapeFingerprint());
+		setter.accept(queryInfo);
+		Assertions.assertNotEquals(fingerprint, queryInfo.fingerprint());
+		Assertions.assertEquals(expectedInfo.fingerprint(), queryInfo.fingerprint());
+		Assertions.assertEquals(expectedInfo.shapeFingerprint(), queryInfo.shapeFingerprint());
+	}
+
+	private static QueryInfo temporal(final Object matchValue) throws BuilderException {
+		return QueryBuilder.newBuilder(TestRelational.class)
+				.addColumn(TestRelational.class, "identifyCode")
+				.equalTo(TestRelational.class, "testTimestamp", matchValue)
+				.confirm();
+	}
+
+	private static QueryInfo query(final String identifyCode, final int pageNo, final int pageLimit,
+	                               final boolean forUpdate, final LockOption lockOption) throws BuilderException {
+		return QueryBuilder.newBuilder(TestRelational.class)
+				.joinTable(TestRelational.class, RelationalReference.class)
+				.addColumn(TestRelational.class, "identifyCode")
+				.addColumn(TestRelational.class, "msgTitle")
+				.orderBy(TestRelational.class, "testTime")
+				.equalTo(TestRelational.class, "identifyCode", identifyCode)
+				.configPager(pageNo, pageLimit)
+				.forUpdate(forUpdate)
+				.lockOption(lockOption)
+				.confirm();
+	}
+}